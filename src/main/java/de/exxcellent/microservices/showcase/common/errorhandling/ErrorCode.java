@@ -20,6 +20,8 @@ public enum ErrorCode implements IErrorCode {
     NOT_FOUND_ERROR(ErrorCategory.BUSINESS, "Not Found Error"),
     ALREADY_EXISTING_ERROR(ErrorCategory.BUSINESS, "Already Existing Error"),
     EMPTY_LIST_ERROR(ErrorCategory.BUSINESS, "Empty List Error"),
+    READ_ONLY_ERROR(ErrorCategory.BUSINESS, "Read Only Error"),
+    CAPACITY_EXCEEDED_ERROR(ErrorCategory.BUSINESS, "Capacity Exceeded Error"),
     /**
      * Undefined errors.
      */
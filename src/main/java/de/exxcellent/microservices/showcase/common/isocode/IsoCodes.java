@@ -0,0 +1,78 @@
+package de.exxcellent.microservices.showcase.common.isocode;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+
+/**
+ * Encodes three letter ISO codes (e.g. ISO 4217 currency codes or ISO 3166 alpha-3 country codes) to integers and vice versa.
+ * A code consisting of the letters A-Z (ignoring the case) is mapped to a value in {@code [0, CODE_SPACE)}, so it can be used
+ * directly as index of a flat array.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class IsoCodes {
+    /**
+     * The length of an ISO code.
+     */
+    public static final int CODE_LENGTH = 3;
+    /**
+     * The number of possible codes (26^3).
+     */
+    public static final int CODE_SPACE = 26 * 26 * 26;
+    /**
+     * The value returned by {@link #encode(String)} if a code cannot be encoded.
+     */
+    public static final int INVALID_CODE = -1;
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private IsoCodes() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "IsoCodes is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Encodes the given code ignoring the case.
+     *
+     * @param code the three letter code to encode (not {@code null}).
+     * @return the encoded code in {@code [0, CODE_SPACE)} or {@link #INVALID_CODE} if the code does not consist of three letters A-Z.
+     */
+    public static int encode(final String code) {
+        if(code.length() != CODE_LENGTH) {
+            return INVALID_CODE;
+        } // else: encode each letter.
+        final int first = letter(code.charAt(0));
+        final int second = letter(code.charAt(1));
+        final int third = letter(code.charAt(2));
+        if((first | second | third) < 0) {
+            return INVALID_CODE;
+        } // else: all characters are letters.
+        return (first * 26 + second) * 26 + third;
+    }
+
+    /**
+     * Decodes the given encoded code to its upper case representation.
+     *
+     * @param code the encoded code in {@code [0, CODE_SPACE)}.
+     * @return the three letter code in upper case.
+     */
+    public static String decode(final int code) {
+        final char[] letters = new char[CODE_LENGTH];
+        letters[0] = (char) ('A' + code / (26 * 26));
+        letters[1] = (char) ('A' + code / 26 % 26);
+        letters[2] = (char) ('A' + code % 26);
+        return new String(letters);
+    }
+
+    private static int letter(final char c) {
+        if(c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if(c >= 'a' && c <= 'z') {
+            return c - 'a';
+        } else {
+            return INVALID_CODE;
+        }
+    }
+}
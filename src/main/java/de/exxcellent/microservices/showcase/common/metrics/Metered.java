@@ -0,0 +1,28 @@
+package de.exxcellent.microservices.showcase.common.metrics;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the {@link MeteredInterceptor} to all business methods of a bean, which counts their calls and errors and measures
+ * their latency in the {@link Metrics}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Metered {
+    /**
+     * Get the name of the component the metrics of the bean are reported for, usually the interface it implements.
+     *
+     * @return the name of the component, the simple name of the bean class if empty.
+     */
+    @Nonbinding
+    String value() default "";
+}
@@ -0,0 +1,64 @@
+package de.exxcellent.microservices.showcase.common.metrics;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Records every call of a business method of a {@link Metered} bean in the {@link Metrics}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Metered
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class MeteredInterceptor {
+    private final Metrics metrics;
+    private final Map<Method, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+    @Inject
+    MeteredInterceptor(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Call the intercepted method and record the call.
+     *
+     * @param context the {@link InvocationContext}.
+     * @return the result of the method.
+     * @throws Exception the exception of the method.
+     */
+    @AroundInvoke
+    Object measure(final InvocationContext context) throws Exception {
+        final MethodMetrics method = this.methodMetrics.computeIfAbsent(context.getMethod(), this::register);
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            method.record(start, failed);
+        }
+    }
+
+    private MethodMetrics register(final Method method) {
+        final Class<?> beanClass = method.getDeclaringClass();
+        final Metered metered = beanClass.getAnnotation(Metered.class);
+        final String component = metered == null || metered.value().isEmpty() ? beanClass.getSimpleName() : metered.value();
+        final boolean overloaded = Arrays.stream(beanClass.getMethods()).filter(m -> m.getName().equals(method.getName())).count() > 1;
+        // overloaded methods are told apart by their parameter types.
+        final String name = overloaded ? Arrays.stream(method.getParameterTypes())
+                                               .map(Class::getSimpleName)
+                                               .collect(Collectors.joining(",", method.getName() + "(", ")")) : method.getName();
+        return this.metrics.getMethodMetrics(component, name);
+    }
+}
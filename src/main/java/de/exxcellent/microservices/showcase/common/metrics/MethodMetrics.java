@@ -0,0 +1,136 @@
+package de.exxcellent.microservices.showcase.common.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The metrics of a method: the number of calls, the number of calls ending with an exception and a histogram of the
+ * latency. Recording a call does not allocate and does not contend with concurrent calls.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class MethodMetrics {
+    /**
+     * The upper bounds of the latency buckets in nanoseconds, from 1 microsecond to 5 seconds.
+     */
+    private static final long[] BUCKET_NANOS = {
+                    1_000L, 5_000L, 10_000L, 50_000L, 100_000L, 500_000L, 1_000_000L, 5_000_000L, 10_000_000L, 50_000_000L,
+                    100_000_000L, 500_000_000L, 1_000_000_000L, 5_000_000_000L};
+    /**
+     * The upper bounds of the latency buckets in seconds as reported.
+     */
+    static final String[] BUCKET_LABELS = new String[BUCKET_NANOS.length];
+
+    static {
+        for(int bucket = 0; bucket < BUCKET_NANOS.length; bucket++) {
+            BUCKET_LABELS[bucket] = BigDecimal.valueOf(BUCKET_NANOS[bucket], 9).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final String component;
+    private final String method;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    /**
+     * The number of calls per latency bucket, the last bucket counts the calls slower than all bounds.
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_NANOS.length + 1];
+
+    MethodMetrics(final String component, final String method) {
+        this.component = component;
+        this.method = method;
+        for(int bucket = 0; bucket < this.buckets.length; bucket++) {
+            this.buckets[bucket] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a call.
+     *
+     * @param startNanos the {@link System#nanoTime()} the call started at.
+     * @param failed {@code true} if the call ended with an exception.
+     */
+    public void record(final long startNanos, final boolean failed) {
+        final long nanos = System.nanoTime() - startNanos;
+        int bucket = 0;
+        while(bucket < BUCKET_NANOS.length && nanos > BUCKET_NANOS[bucket]) {
+            bucket++;
+        }
+        this.buckets[bucket].increment();
+        this.totalNanos.add(nanos);
+        this.calls.increment();
+        if(failed) {
+            this.errors.increment();
+        } // else: a successful call.
+    }
+
+    /**
+     * Call the given method and record the call.
+     *
+     * @param call the call of the method.
+     * @param <T> the type of the result.
+     * @return the result of the call.
+     */
+    public <T> T measure(final Supplier<T> call) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            record(start, failed);
+        }
+    }
+
+    /**
+     * Call the given method without result and record the call.
+     *
+     * @param call the call of the method.
+     */
+    public void measure(final Runnable call) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            call.run();
+            failed = false;
+        } finally {
+            record(start, failed);
+        }
+    }
+
+    String getComponent() {
+        return this.component;
+    }
+
+    String getMethod() {
+        return this.method;
+    }
+
+    long getCalls() {
+        return this.calls.sum();
+    }
+
+    long getErrors() {
+        return this.errors.sum();
+    }
+
+    double getTotalSeconds() {
+        return this.totalNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the number of calls per latency bucket, the last element counts the calls slower than all bounds.
+     */
+    long[] getBucketCounts() {
+        final long[] counts = new long[this.buckets.length];
+        for(int bucket = 0; bucket < counts.length; bucket++) {
+            counts[bucket] = this.buckets[bucket].sum();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,116 @@
+package de.exxcellent.microservices.showcase.common.metrics;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The registry of the metrics of this instance: the {@link MethodMetrics} of the components and gauges, e.g. the size of
+ * a storage. The metrics are reported in the Prometheus text format, see {@link #scrape()}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class Metrics {
+    /**
+     * The prefix of the names of all metrics.
+     */
+    private static final String PREFIX = "currency_service_";
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+
+    /**
+     * Get the metrics of a method, registering them on the first call.
+     *
+     * @param component the name of the component, e.g. {@code CurrencyBCI} (not {@code null}).
+     * @param method the name of the method (not {@code null}).
+     * @return the {@link MethodMetrics}.
+     */
+    public MethodMetrics getMethodMetrics(final String component, final String method) {
+        Preconditions.checkNotNull(component, "Component must not be null");
+        Preconditions.checkNotNull(method, "Method must not be null");
+        return this.methods.computeIfAbsent(component + '.' + method, key -> new MethodMetrics(component, method));
+    }
+
+    /**
+     * Register a gauge, replacing a gauge of the same name. The value is read whenever the metrics are scraped.
+     *
+     * @param name the name of the gauge without prefix, lower case with underscores (not {@code null}).
+     * @param help the description of the gauge (not {@code null}).
+     * @param value the function returning the current value (not {@code null}).
+     */
+    public void registerGauge(final String name, final String help, final LongSupplier value) {
+        Preconditions.checkNotNull(name, "Gauge name must not be null");
+        Preconditions.checkNotNull(help, "Gauge description must not be null");
+        Preconditions.checkNotNull(value, "Gauge value must not be null");
+        this.gauges.put(name, new Gauge(help, value));
+    }
+
+    /**
+     * Report all metrics in the Prometheus text format (version 0.0.4).
+     *
+     * @return the metrics.
+     */
+    public String scrape() {
+        final StringBuilder out = new StringBuilder(4096);
+        family(out, "calls_total", "counter", "Number of calls of a component method.");
+        for(final MethodMetrics method : this.methods.values()) {
+            sample(out, "calls_total", method, null).append(method.getCalls()).append('\n');
+        }
+        family(out, "errors_total", "counter", "Number of calls of a component method ending with an exception.");
+        for(final MethodMetrics method : this.methods.values()) {
+            sample(out, "errors_total", method, null).append(method.getErrors()).append('\n');
+        }
+        family(out, "call_duration_seconds", "histogram", "Latency of the calls of a component method.");
+        for(final MethodMetrics method : this.methods.values()) {
+            final long[] counts = method.getBucketCounts();
+            long cumulative = 0;
+            for(int bucket = 0; bucket < counts.length; bucket++) {
+                cumulative += counts[bucket];
+                final String bound = bucket < MethodMetrics.BUCKET_LABELS.length ? MethodMetrics.BUCKET_LABELS[bucket] : "+Inf";
+                sample(out, "call_duration_seconds_bucket", method, bound).append(cumulative).append('\n');
+            }
+            sample(out, "call_duration_seconds_sum", method, null).append(method.getTotalSeconds()).append('\n');
+            // the count is taken from the buckets, so it is consistent with them while calls are recorded.
+            sample(out, "call_duration_seconds_count", method, null).append(cumulative).append('\n');
+        }
+        for(final Map.Entry<String, Gauge> gauge : this.gauges.entrySet()) {
+            family(out, gauge.getKey(), "gauge", gauge.getValue().help);
+            out.append(PREFIX).append(gauge.getKey()).append(' ').append(gauge.getValue().value.getAsLong()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void family(final StringBuilder out, final String name, final String type, final String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static StringBuilder sample(final StringBuilder out, final String name, final MethodMetrics method, final String bound) {
+        out.append(PREFIX).append(name)
+           .append("{component=\"").append(method.getComponent())
+           .append("\",method=\"").append(method.getMethod()).append('"');
+        if(bound != null) {
+            out.append(",le=\"").append(bound).append('"');
+        } // else: not a bucket of a histogram.
+        return out.append("} ");
+    }
+
+    /**
+     * A registered gauge.
+     */
+    private static final class Gauge {
+        private final String help;
+        private final LongSupplier value;
+
+        private Gauge(final String help, final LongSupplier value) {
+            this.help = help;
+            this.value = value;
+        }
+    }
+}
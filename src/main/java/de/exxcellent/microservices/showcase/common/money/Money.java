@@ -0,0 +1,233 @@
+package de.exxcellent.microservices.showcase.common.money;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Currency;
+
+/**
+ * Fixed-point arithmetic on amounts of money represented as {@code long} minor units of their currency, e.g. cents for EUR.
+ * The number of minor units of a currency (its exponent, e.g. 0 for JPY, 2 for EUR, 3 for KWD) is taken from ISO 4217.
+ * <p>
+ * Conversions multiply the minor units with the exchange rate as scaled integer and round the result to the minor units of
+ * the target currency with an explicit {@link RoundingMode}. They do not allocate unless an intermediate product exceeds
+ * the range of {@code long}, then {@link BigDecimal} is used.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class Money {
+    /**
+     * The number of minor units of currencies which have none defined in ISO 4217, e.g. unknown codes or precious metals.
+     */
+    public static final int DEFAULT_MINOR_UNITS = 2;
+    /**
+     * The number of decimal places of an exchange rate applied in a conversion.
+     */
+    public static final int RATE_SCALE = 10;
+    /**
+     * The largest absolute amount of minor units a {@code double} represents exactly (2^53).
+     */
+    private static final double MAX_EXACT_UNITS = 9007199254740992.0;
+    /**
+     * The largest exchange rate that can be scaled exactly with {@code double} arithmetic.
+     */
+    private static final double MAX_SCALED_RATE = MAX_EXACT_UNITS / 1e10;
+    /**
+     * The powers of ten representable as {@code long}.
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+    /**
+     * The number of minor units of every encoded ISO code.
+     */
+    private static final byte[] MINOR_UNITS = new byte[IsoCodes.CODE_SPACE];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for(int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+        Arrays.fill(MINOR_UNITS, (byte) DEFAULT_MINOR_UNITS);
+        for(final Currency currency : Currency.getAvailableCurrencies()) {
+            final int code = IsoCodes.encode(currency.getCurrencyCode());
+            if(code != IsoCodes.INVALID_CODE && currency.getDefaultFractionDigits() >= 0) {
+                MINOR_UNITS[code] = (byte) currency.getDefaultFractionDigits();
+            } // else: a pseudo currency without minor units keeps the default.
+        }
+    }
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private Money() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "Money is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Get the number of minor units of a currency.
+     *
+     * @param shortName the short name (ISO Code) of the currency (not {@code null}).
+     * @return the number of decimal places of the minor unit, {@link #DEFAULT_MINOR_UNITS} if not defined in ISO 4217.
+     */
+    public static int minorUnitsOf(final String shortName) {
+        return minorUnitsOf(IsoCodes.encode(shortName));
+    }
+
+    /**
+     * Get the number of minor units of a currency.
+     *
+     * @param code the encoded short name of the currency, see {@link IsoCodes#encode(String)}.
+     * @return the number of decimal places of the minor unit, {@link #DEFAULT_MINOR_UNITS} if not defined in ISO 4217.
+     */
+    public static int minorUnitsOf(final int code) {
+        return code == IsoCodes.INVALID_CODE ? DEFAULT_MINOR_UNITS : MINOR_UNITS[code];
+    }
+
+    /**
+     * Convert an amount to minor units, rounded to the nearest minor unit.
+     *
+     * @param amount the amount (finite).
+     * @param minorUnits the number of minor units of the currency.
+     * @return the amount in minor units.
+     * @exception BusinessException with {@link ErrorCode#INVALID_ARGUMENT_ERROR} if the amount cannot be represented exactly in minor units.
+     */
+    public static long toMinorUnits(final double amount, final int minorUnits) {
+        final double units = Math.rint(amount * POWERS_OF_TEN[minorUnits]);
+        if(!(Math.abs(units) < MAX_EXACT_UNITS)) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Amount " + amount + " exceeds the range of minor units");
+        } // else: the units are exact.
+        return (long) units;
+    }
+
+    /**
+     * Convert minor units to an amount. The result is the {@code double} nearest to the exact amount.
+     *
+     * @param units the amount in minor units.
+     * @param minorUnits the number of minor units of the currency.
+     * @return the amount.
+     */
+    public static double toAmount(final long units, final int minorUnits) {
+        return units / (double) POWERS_OF_TEN[minorUnits];
+    }
+
+    /**
+     * Convert an amount of minor units from one currency to another. The rate is applied with {@link #RATE_SCALE} decimal
+     * places, rates above 900,000 have less decimal places than that anyway and are applied as they are.
+     *
+     * @param units the amount in minor units of the source currency.
+     * @param fromMinorUnits the number of minor units of the source currency.
+     * @param rate the number of target currency units one source currency unit is worth (positive, finite).
+     * @param toMinorUnits the number of minor units of the target currency.
+     * @param rounding the {@link RoundingMode} to round the result to the minor units of the target currency.
+     * @return the amount in minor units of the target currency.
+     * @exception BusinessException with {@link ErrorCode#INVALID_ARGUMENT_ERROR} if the result exceeds the range of {@code long}
+     * or rounding is necessary for {@link RoundingMode#UNNECESSARY}.
+     */
+    public static long convert(final long units, final int fromMinorUnits, final double rate, final int toMinorUnits,
+                               final RoundingMode rounding) {
+        if(rate >= MAX_SCALED_RATE) {
+            return convertExactly(units, BigDecimal.valueOf(rate), fromMinorUnits - toMinorUnits, rounding);
+        } // else: the rate can be scaled exactly.
+        long scaledRate = Math.round(rate * POWERS_OF_TEN[RATE_SCALE]);
+        if(scaledRate == 0L) {
+            return 0L;
+        } // else: the rate is not below the precision of a rate.
+        int scale = RATE_SCALE;
+        if(bitLength(units) + bitLength(scaledRate) > Long.SIZE - 2) {
+            // strip the trailing zeros of the scaled rate, so rates with few decimal places leave more room for the amount.
+            while(scale > 0 && scaledRate % 10L == 0L) {
+                scaledRate /= 10L;
+                scale--;
+            }
+            if(units == Long.MIN_VALUE || Math.abs(units) > Long.MAX_VALUE / scaledRate) {
+                return convertExactly(units, BigDecimal.valueOf(scaledRate, scale), fromMinorUnits - toMinorUnits, rounding);
+            } // else: the product fits into a long.
+        } // else: the product fits into a long.
+        final int shift = scale + fromMinorUnits - toMinorUnits;
+        final long product = units * scaledRate;
+        if(shift >= 0) {
+            return divide(product, POWERS_OF_TEN[shift], rounding);
+        } // else: the target currency has more minor units than the scaled rate has decimal places.
+        final long factor = POWERS_OF_TEN[-shift];
+        if(Math.abs(product) > Long.MAX_VALUE / factor) {
+            return convertExactly(units, BigDecimal.valueOf(scaledRate, scale), fromMinorUnits - toMinorUnits, rounding);
+        } // else: the result fits into a long.
+        return product * factor;
+    }
+
+    /**
+     * Divide with an explicit {@link RoundingMode}, e.g. to round an amount of minor units to a power of ten.
+     *
+     * @param dividend the dividend.
+     * @param divisor the divisor (positive).
+     * @param rounding the {@link RoundingMode} of the quotient.
+     * @return the rounded quotient.
+     * @exception BusinessException with {@link ErrorCode#INVALID_ARGUMENT_ERROR} if rounding is necessary for {@link RoundingMode#UNNECESSARY}.
+     */
+    public static long divide(final long dividend, final long divisor, final RoundingMode rounding) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend - quotient * divisor;
+        if(remainder == 0L) {
+            return quotient;
+        } // else: the quotient is truncated towards zero and may have to be rounded away from zero.
+        final long signum = dividend < 0L ? -1L : 1L;
+        // the remainder is smaller than the divisor, so twice its absolute value cannot overflow for divisors up to 2^62.
+        final long twiceRemainder = Math.abs(remainder) * 2L;
+        final boolean awayFromZero;
+        switch(rounding) {
+            case UP:
+                awayFromZero = true;
+                break;
+            case DOWN:
+                awayFromZero = false;
+                break;
+            case CEILING:
+                awayFromZero = signum > 0L;
+                break;
+            case FLOOR:
+                awayFromZero = signum < 0L;
+                break;
+            case HALF_UP:
+                awayFromZero = twiceRemainder >= divisor;
+                break;
+            case HALF_DOWN:
+                awayFromZero = twiceRemainder > divisor;
+                break;
+            case HALF_EVEN:
+                awayFromZero = twiceRemainder > divisor || twiceRemainder == divisor && (quotient & 1L) != 0L;
+                break;
+            default:
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Rounding of " + dividend + " / " + divisor + " is necessary");
+        }
+        return awayFromZero ? quotient + signum : quotient;
+    }
+
+    /**
+     * Get the number of bits of the absolute value, an upper bound of the bits of a product is the sum of those of its factors.
+     */
+    private static int bitLength(final long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value < 0L ? -value : value);
+    }
+
+    /**
+     * Convert with {@link BigDecimal} if an intermediate product exceeds the range of {@code long}.
+     */
+    private static long convertExactly(final long units, final BigDecimal rate, final int shift, final RoundingMode rounding) {
+        try {
+            return BigDecimal.valueOf(units)
+                             .multiply(rate)
+                             .scaleByPowerOfTen(-shift)
+                             .setScale(0, rounding)
+                             .longValueExact();
+        } catch(final ArithmeticException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Converting " + units + " minor units with rate " + rate
+                            + " is not possible with rounding mode " + rounding, e);
+        }
+    }
+}
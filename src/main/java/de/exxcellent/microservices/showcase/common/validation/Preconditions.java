@@ -47,6 +47,18 @@ public final class Preconditions {
         }
     }
 
+    /**
+     * Check if the given condition holds. Call {@link #fail(String)} with the provided message if it does not.
+     *
+     * @param condition the condition to hold.
+     * @param errorMessage the error message to use if the condition does not hold.
+     */
+    public static void checkArgument(final boolean condition, final String errorMessage) {
+        if(!condition) {
+            fail(errorMessage);
+        }
+    }
+
     /**
      * Fail with the provided message.
      *
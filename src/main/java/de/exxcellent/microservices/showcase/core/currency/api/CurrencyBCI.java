@@ -1,9 +1,16 @@
 package de.exxcellent.microservices.showcase.core.currency.api;
 
 import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangesCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyLookupCTO;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.ReplicationStatusTO;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Business component interface (BCI) for the currency component
@@ -12,10 +19,16 @@ import java.util.Set;
  * @since 21.01.2020
  */
 public interface CurrencyBCI {
+    /**
+     * The maximum number of distinct keys of a single lookup.
+     */
+    int MAX_LOOKUP_KEYS = 1000;
+
     /**
      * Get all available currencies.
      *
-     * @return a {@link Set} with all currencies as {@link CurrencyTO}.
+     * @return an unmodifiable {@link Set} with all currencies as unmodifiable {@link CurrencyTO}s, see
+     * {@link CurrencyTO#unmodifiable(CurrencyTO)}. The set is shared by all callers until the next change.
      */
     Set<CurrencyTO> getCurrencies();
 
@@ -28,6 +41,17 @@ public interface CurrencyBCI {
      */
     CurrencyTO getCurrency(final String shortName);
 
+    /**
+     * Look up several currencies by their short names (ISO Codes) at once. All short names are resolved against the same
+     * state of the storage, unknown short names do not cause an error but are returned as missing.
+     *
+     * @param shortNames the short names (ISO Codes) of the currencies to be returned (not {@code null}, at most
+     * {@value #MAX_LOOKUP_KEYS} distinct). Duplicates, {@code null} and empty short names are ignored.
+     * @return the found currencies and the missing short names as {@link CurrencyLookupCTO}, both in the order of the request.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#INVALID_ARGUMENT_ERROR} if too many short names are provided.
+     */
+    CurrencyLookupCTO lookupCurrencies(final Collection<String> shortNames);
+
     /**
      * Add a currency.
      * Does not generate duplicates.
@@ -40,7 +64,8 @@ public interface CurrencyBCI {
     /**
      * Get all available countries with their currencies.
      *
-     * @return a {@link Set} with all countries and their currencies as {@link CountryWithCurrencyCTO}.
+     * @return an unmodifiable {@link Set} with all countries and their currencies as unmodifiable {@link CountryWithCurrencyCTO}s,
+     * see {@link CountryWithCurrencyCTO#unmodifiable(String, CurrencyTO)}. The set is shared by all callers until the next change.
      */
     Set<CountryWithCurrencyCTO> getCountriesWithCurrency();
 
@@ -53,6 +78,27 @@ public interface CurrencyBCI {
      */
     CountryWithCurrencyCTO getCountryWithCurrency(final String countryShortName);
 
+    /**
+     * Get all countries using the currency with the given short name (ISO Code).
+     *
+     * @param currencyShortName the short name (ISO Code) of the currency (3 characters, not {@code null}).
+     * @return a {@link Set} with all countries using the currency as {@link CountryWithCurrencyCTO}. Empty if no country uses the currency.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no currency with the provided short name is existing.
+     */
+    Set<CountryWithCurrencyCTO> getCountriesByCurrency(final String currencyShortName);
+
+    /**
+     * Look up the currencies of several countries by their short names at once. All short names are resolved against the
+     * same state of the storage, unknown countries do not cause an error but are returned as missing.
+     *
+     * @param countryShortNames the short names of the countries to be returned (not {@code null}, at most
+     * {@value #MAX_LOOKUP_KEYS} distinct). Duplicates, {@code null} and empty short names are ignored.
+     * @return the found countries with their currency and the missing country short names as
+     * {@link CountryWithCurrencyLookupCTO}, both in the order of the request.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#INVALID_ARGUMENT_ERROR} if too many short names are provided.
+     */
+    CountryWithCurrencyLookupCTO lookupCountriesWithCurrency(final Collection<String> countryShortNames);
+
     /**
      * Add a country and its currency.
      *
@@ -60,4 +106,35 @@ public interface CurrencyBCI {
      * @return all countries with their currency as {@link Set} of {@link CountryWithCurrencyCTO}s.
      */
     Set<CountryWithCurrencyCTO> addCountryWithCurrency(final CountryWithCurrencyCTO countryWithCurrency);
+
+    /**
+     * Get the current version of the currencies and countries with their currency, increased by every change.
+     *
+     * @return the version.
+     */
+    long getVersion();
+
+    /**
+     * Get the changes of currencies and countries with their currency after the given version.
+     *
+     * @param version the version after which the changes are requested (not negative).
+     * @return the changes as {@link CurrencyChangesCTO}. If the changes are not available anymore, {@link CurrencyChangesCTO#isResync()}
+     * is {@code true} and the client has to read all data again.
+     */
+    CurrencyChangesCTO getChangesSince(final long version);
+
+    /**
+     * Register a listener called with every change of currencies or countries with their currency.
+     * The listener is called in the order of the versions by the writing thread and must not block.
+     *
+     * @param listener the listener consuming the changes as {@link CurrencyChangeTO}s (not {@code null}).
+     */
+    void addChangeListener(final Consumer<CurrencyChangeTO> listener);
+
+    /**
+     * Get the replication state of this instance, including the replication lag of a follower.
+     *
+     * @return the replication state as {@link ReplicationStatusTO}.
+     */
+    ReplicationStatusTO getReplicationStatus();
 }
@@ -39,9 +39,17 @@ public class CountryWithCurrencyCTO implements Serializable {
      * @param currency the currency of the country as {@link CurrencyTO} (must be valid, see {@link CurrencyValidation#validateCurrencyTO(CurrencyTO)})
      */
     public CountryWithCurrencyCTO(final String countryShortName, final CurrencyTO currency) {
+        this(countryShortName, currency, true);
+    }
+
+    private CountryWithCurrencyCTO(final String countryShortName, final CurrencyTO currency, final boolean validateCurrency) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
         Preconditions.checkStringLength(countryShortName, 3, "Country short name must have 3 characters");
-        CurrencyValidation.validateCurrencyTO(currency);
+        if(validateCurrency) {
+            CurrencyValidation.validateCurrencyTO(currency);
+        } else {
+            Preconditions.checkNotNull(currency, CurrencyValidation.CURRENCY_NOT_NULL);
+        }
         this.countryShortName = countryShortName;
         this.currency = currency;
     }
@@ -72,4 +80,50 @@ public class CountryWithCurrencyCTO implements Serializable {
                         ", currency=" + this.currency +
                         '}';
     }
+
+    /**
+     * Get a country with a currency which was validated when it was created, used by the codecs reading request bodies
+     * to validate the currency only once.
+     *
+     * @param countryShortName the short name of the country (3 characters, not {@code null}).
+     * @param currency the currency of the country created by {@link CurrencyTO#CurrencyTO(String, String, int)}, which validates it
+     * (not {@code null}).
+     * @return the {@link CountryWithCurrencyCTO}.
+     */
+    public static CountryWithCurrencyCTO withValidatedCurrency(final String countryShortName, final CurrencyTO currency) {
+        return new CountryWithCurrencyCTO(countryShortName, currency, false);
+    }
+
+    /**
+     * Get a country with its currency which cannot be modified, to be shared by several callers.
+     *
+     * @param countryShortName the short name of the country (3 characters, not {@code null}).
+     * @param currency the currency of the country as {@link CurrencyTO} (must be valid, see {@link CurrencyValidation#validateCurrencyTO(CurrencyTO)})
+     * @return the country as unmodifiable {@link CountryWithCurrencyCTO} with an unmodifiable currency, see {@link CurrencyTO#unmodifiable(CurrencyTO)}.
+     * Its setters throw an {@link UnsupportedOperationException}.
+     */
+    public static CountryWithCurrencyCTO unmodifiable(final String countryShortName, final CurrencyTO currency) {
+        return new Unmodifiable(countryShortName, CurrencyTO.unmodifiable(currency));
+    }
+
+    /**
+     * A {@link CountryWithCurrencyCTO} which cannot be modified.
+     */
+    private static final class Unmodifiable extends CountryWithCurrencyCTO {
+        private static final long serialVersionUID = 5102871658398213374L;
+
+        private Unmodifiable(final String countryShortName, final CurrencyTO currency) {
+            super(countryShortName, currency);
+        }
+
+        @Override
+        public void setCountryShortName(final String countryShortName) {
+            throw new UnsupportedOperationException("Shared country must not be modified");
+        }
+
+        @Override
+        public void setCurrency(final CurrencyTO currency) {
+            throw new UnsupportedOperationException("Shared country must not be modified");
+        }
+    }
 }
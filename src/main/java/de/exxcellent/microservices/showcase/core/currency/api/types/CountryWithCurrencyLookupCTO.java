@@ -0,0 +1,75 @@
+package de.exxcellent.microservices.showcase.core.currency.api.types;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combined transport object (CTO) representing the result of looking up the currencies of several countries at once:
+ * the found countries with their currency and the country short names without a currency, both in the order of the request.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CountryWithCurrencyLookupCTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = 5542089127734601923L;
+    /**
+     * the found countries with their currency as {@link CountryWithCurrencyCTO}s.
+     */
+    private List<CountryWithCurrencyCTO> countriesWithCurrency = new ArrayList<>();
+    /**
+     * the requested country short names without a currency.
+     */
+    private List<String> missing = new ArrayList<>();
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public CountryWithCurrencyLookupCTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param countriesWithCurrency the found countries with their currency as {@link List} of {@link CountryWithCurrencyCTO}s (not {@code null}).
+     * @param missing the requested country short names without a currency (not {@code null}).
+     */
+    public CountryWithCurrencyLookupCTO(final List<CountryWithCurrencyCTO> countriesWithCurrency, final List<String> missing) {
+        Preconditions.checkNotNull(countriesWithCurrency, "Countries with currency must not be null");
+        Preconditions.checkNotNull(missing, "Missing country short names must not be null");
+        this.countriesWithCurrency = countriesWithCurrency;
+        this.missing = missing;
+    }
+
+    public List<CountryWithCurrencyCTO> getCountriesWithCurrency() {
+        return this.countriesWithCurrency;
+    }
+
+    public void setCountriesWithCurrency(final List<CountryWithCurrencyCTO> countriesWithCurrency) {
+        Preconditions.checkNotNull(countriesWithCurrency, "Countries with currency must not be null");
+        this.countriesWithCurrency = countriesWithCurrency;
+    }
+
+    public List<String> getMissing() {
+        return this.missing;
+    }
+
+    public void setMissing(final List<String> missing) {
+        Preconditions.checkNotNull(missing, "Missing country short names must not be null");
+        this.missing = missing;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryWithCurrencyLookupCTO{" +
+                        "countriesWithCurrency=" + this.countriesWithCurrency +
+                        ", missing=" + this.missing +
+                        '}';
+    }
+}
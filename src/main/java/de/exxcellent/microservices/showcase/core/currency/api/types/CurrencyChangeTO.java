@@ -0,0 +1,111 @@
+package de.exxcellent.microservices.showcase.core.currency.api.types;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+
+import java.io.Serializable;
+
+/**
+ * A transport object representing a single change of the currencies or countries with their currency.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyChangeTO implements Serializable {
+    /**
+     * The type of a change adding a currency.
+     */
+    public static final String CURRENCY_ADDED = "CURRENCY_ADDED";
+    /**
+     * The type of a change adding a country with its currency.
+     */
+    public static final String COUNTRY_WITH_CURRENCY_ADDED = "COUNTRY_WITH_CURRENCY_ADDED";
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = -4329468745317462409L;
+    /**
+     * the version of the data after this change.
+     */
+    private long version;
+    /**
+     * the type of the change, {@link CurrencyChangeTO#CURRENCY_ADDED} or {@link CurrencyChangeTO#COUNTRY_WITH_CURRENCY_ADDED}.
+     */
+    private String type;
+    /**
+     * the short name of the added country, {@code null} if a currency is added.
+     */
+    private String countryShortName;
+    /**
+     * the added currency or the currency of the added country as {@link CurrencyTO}.
+     */
+    private CurrencyTO currency;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public CurrencyChangeTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param version the version of the data after this change.
+     * @param type the type of the change (not {@code null}).
+     * @param countryShortName the short name of the added country, {@code null} if a currency is added.
+     * @param currency the added currency or the currency of the added country as {@link CurrencyTO} (must be valid, see {@link CurrencyValidation#validateCurrencyTO(CurrencyTO)}).
+     */
+    public CurrencyChangeTO(final long version, final String type, final String countryShortName, final CurrencyTO currency) {
+        Preconditions.checkNotNull(type, "Change type must not be null");
+        CurrencyValidation.validateCurrencyTO(currency);
+        this.version = version;
+        this.type = type;
+        this.countryShortName = countryShortName;
+        this.currency = currency;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
+    public String getType() {
+        return this.type;
+    }
+
+    public void setType(final String type) {
+        Preconditions.checkNotNull(type, "Change type must not be null");
+        this.type = type;
+    }
+
+    public String getCountryShortName() {
+        return this.countryShortName;
+    }
+
+    public void setCountryShortName(final String countryShortName) {
+        this.countryShortName = countryShortName;
+    }
+
+    public CurrencyTO getCurrency() {
+        return this.currency;
+    }
+
+    public void setCurrency(final CurrencyTO currency) {
+        CurrencyValidation.validateCurrencyTO(currency);
+        this.currency = currency;
+    }
+
+    @Override
+    public String toString() {
+        return "CurrencyChangeTO{" +
+                        "version=" + this.version +
+                        ", type='" + this.type + '\'' +
+                        ", countryShortName='" + this.countryShortName + '\'' +
+                        ", currency=" + this.currency +
+                        '}';
+    }
+}
@@ -0,0 +1,100 @@
+package de.exxcellent.microservices.showcase.core.currency.api.types;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Combined transport object (CTO) representing the changes after a version requested by a client.
+ * If the changes are not available anymore, {@link CurrencyChangesCTO#isResync()} is {@code true} and the client has to
+ * read all currencies and countries with their currency again. It continues with {@link CurrencyChangesCTO#getVersion()} then.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyChangesCTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = 6408723542215498715L;
+    /**
+     * the version the client is up to date with after applying the changes.
+     */
+    private long version;
+    /**
+     * {@code true} if the changes are not available and the client has to read all data again.
+     */
+    private boolean resync;
+    /**
+     * the changes ordered by version as {@link CurrencyChangeTO}s.
+     */
+    private List<CurrencyChangeTO> changes = new ArrayList<>();
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public CurrencyChangesCTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param version the version the client is up to date with after applying the changes.
+     * @param resync {@code true} if the changes are not available and the client has to read all data again.
+     * @param changes the changes ordered by version as {@link List} of {@link CurrencyChangeTO}s (not {@code null}).
+     */
+    public CurrencyChangesCTO(final long version, final boolean resync, final List<CurrencyChangeTO> changes) {
+        Preconditions.checkNotNull(changes, "Changes must not be null");
+        this.version = version;
+        this.resync = resync;
+        this.changes = changes;
+    }
+
+    /**
+     * Create a {@link CurrencyChangesCTO} telling the client to read all data again.
+     *
+     * @param version the current version the client continues with after reading all data.
+     * @return the {@link CurrencyChangesCTO} without changes.
+     */
+    public static CurrencyChangesCTO resync(final long version) {
+        return new CurrencyChangesCTO(version, true, Collections.emptyList());
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
+    public boolean isResync() {
+        return this.resync;
+    }
+
+    public void setResync(final boolean resync) {
+        this.resync = resync;
+    }
+
+    public List<CurrencyChangeTO> getChanges() {
+        return this.changes;
+    }
+
+    public void setChanges(final List<CurrencyChangeTO> changes) {
+        Preconditions.checkNotNull(changes, "Changes must not be null");
+        this.changes = changes;
+    }
+
+    @Override
+    public String toString() {
+        return "CurrencyChangesCTO{" +
+                        "version=" + this.version +
+                        ", resync=" + this.resync +
+                        ", changes=" + this.changes +
+                        '}';
+    }
+}
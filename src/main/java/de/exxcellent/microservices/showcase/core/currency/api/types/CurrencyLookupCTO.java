@@ -0,0 +1,75 @@
+package de.exxcellent.microservices.showcase.core.currency.api.types;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combined transport object (CTO) representing the result of looking up several currencies by their short names at once:
+ * the found currencies and the short names without a currency, both in the order of the request.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyLookupCTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = -3170453126893874512L;
+    /**
+     * the found currencies as {@link CurrencyTO}s.
+     */
+    private List<CurrencyTO> currencies = new ArrayList<>();
+    /**
+     * the requested short names without a currency.
+     */
+    private List<String> missing = new ArrayList<>();
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public CurrencyLookupCTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param currencies the found currencies as {@link List} of {@link CurrencyTO}s (not {@code null}).
+     * @param missing the requested short names without a currency (not {@code null}).
+     */
+    public CurrencyLookupCTO(final List<CurrencyTO> currencies, final List<String> missing) {
+        Preconditions.checkNotNull(currencies, "Currencies must not be null");
+        Preconditions.checkNotNull(missing, "Missing short names must not be null");
+        this.currencies = currencies;
+        this.missing = missing;
+    }
+
+    public List<CurrencyTO> getCurrencies() {
+        return this.currencies;
+    }
+
+    public void setCurrencies(final List<CurrencyTO> currencies) {
+        Preconditions.checkNotNull(currencies, "Currencies must not be null");
+        this.currencies = currencies;
+    }
+
+    public List<String> getMissing() {
+        return this.missing;
+    }
+
+    public void setMissing(final List<String> missing) {
+        Preconditions.checkNotNull(missing, "Missing short names must not be null");
+        this.missing = missing;
+    }
+
+    @Override
+    public String toString() {
+        return "CurrencyLookupCTO{" +
+                        "currencies=" + this.currencies +
+                        ", missing=" + this.missing +
+                        '}';
+    }
+}
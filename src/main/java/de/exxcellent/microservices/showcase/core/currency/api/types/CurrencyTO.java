@@ -24,6 +24,10 @@ public class CurrencyTO implements Serializable {
      * the name of the currency
      */
     private String name;
+    /**
+     * the number of decimal places of the minor unit according to ISO 4217, derived from the short name.
+     */
+    private int minorUnits;
 
     /**
      * empty constructor for JSON mapping.
@@ -46,6 +50,18 @@ public class CurrencyTO implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param shortName the short name (ISO Code) of the currency (3 characters, not {@code null}).
+     * @param name the name of the currency (not {@code null}).
+     * @param minorUnits the number of decimal places of the minor unit.
+     */
+    public CurrencyTO(final String shortName, final String name, final int minorUnits) {
+        this(shortName, name);
+        this.minorUnits = minorUnits;
+    }
+
     public String getShortName() {
         return this.shortName;
     }
@@ -65,11 +81,57 @@ public class CurrencyTO implements Serializable {
         this.name = name;
     }
 
+    public int getMinorUnits() {
+        return this.minorUnits;
+    }
+
+    public void setMinorUnits(final int minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
     @Override
     public String toString() {
         return "CurrencyTO{" +
                         "shortName='" + this.shortName + '\'' +
                         ", name='" + this.name + '\'' +
+                        ", minorUnits=" + this.minorUnits +
                         '}';
     }
+
+    /**
+     * Get a copy of a currency which cannot be modified, to be shared by several callers.
+     *
+     * @param currency the currency as {@link CurrencyTO} (must be valid, see {@link CurrencyValidation#validateCurrencyTO(CurrencyTO)}).
+     * @return the currency as unmodifiable {@link CurrencyTO}, its setters throw an {@link UnsupportedOperationException}.
+     */
+    public static CurrencyTO unmodifiable(final CurrencyTO currency) {
+        CurrencyValidation.validateCurrencyTO(currency);
+        return currency instanceof Unmodifiable ? currency : new Unmodifiable(currency);
+    }
+
+    /**
+     * A {@link CurrencyTO} which cannot be modified.
+     */
+    private static final class Unmodifiable extends CurrencyTO {
+        private static final long serialVersionUID = -3174519824640245961L;
+
+        private Unmodifiable(final CurrencyTO currency) {
+            super(currency.getShortName(), currency.getName(), currency.getMinorUnits());
+        }
+
+        @Override
+        public void setShortName(final String shortName) {
+            throw new UnsupportedOperationException("Shared currency must not be modified");
+        }
+
+        @Override
+        public void setName(final String name) {
+            throw new UnsupportedOperationException("Shared currency must not be modified");
+        }
+
+        @Override
+        public void setMinorUnits(final int minorUnits) {
+            throw new UnsupportedOperationException("Shared currency must not be modified");
+        }
+    }
 }
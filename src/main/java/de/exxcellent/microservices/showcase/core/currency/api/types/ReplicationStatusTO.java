@@ -0,0 +1,141 @@
+package de.exxcellent.microservices.showcase.core.currency.api.types;
+
+import java.io.Serializable;
+
+/**
+ * A transport object representing the replication state of this instance, including the replication lag.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ReplicationStatusTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = 8190254670291846353L;
+    /**
+     * the replication role of this instance: {@code none}, {@code leader} or {@code follower}.
+     */
+    private String role;
+    /**
+     * the version of the local data.
+     */
+    private long version;
+    /**
+     * the latest known version of the leader.
+     */
+    private long leaderVersion;
+    /**
+     * the number of versions the local data is behind the leader.
+     */
+    private long lagVersions;
+    /**
+     * the time between publishing the latest change on the leader and applying it locally in milliseconds.
+     */
+    private long lagMillis;
+    /**
+     * {@code true} if a follower is connected to its leader.
+     */
+    private boolean connected;
+    /**
+     * the number of connected followers of a leader.
+     */
+    private int followers;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public ReplicationStatusTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param role the replication role of this instance.
+     * @param version the version of the local data.
+     * @param leaderVersion the latest known version of the leader.
+     * @param lagMillis the replication lag in milliseconds.
+     * @param connected {@code true} if a follower is connected to its leader.
+     * @param followers the number of connected followers of a leader.
+     */
+    public ReplicationStatusTO(final String role, final long version, final long leaderVersion, final long lagMillis,
+                               final boolean connected, final int followers) {
+        this.role = role;
+        this.version = version;
+        this.leaderVersion = leaderVersion;
+        this.lagVersions = Math.max(0, leaderVersion - version);
+        this.lagMillis = lagMillis;
+        this.connected = connected;
+        this.followers = followers;
+    }
+
+    public String getRole() {
+        return this.role;
+    }
+
+    public void setRole(final String role) {
+        this.role = role;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
+    public long getLeaderVersion() {
+        return this.leaderVersion;
+    }
+
+    public void setLeaderVersion(final long leaderVersion) {
+        this.leaderVersion = leaderVersion;
+    }
+
+    public long getLagVersions() {
+        return this.lagVersions;
+    }
+
+    public void setLagVersions(final long lagVersions) {
+        this.lagVersions = lagVersions;
+    }
+
+    public long getLagMillis() {
+        return this.lagMillis;
+    }
+
+    public void setLagMillis(final long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    public boolean isConnected() {
+        return this.connected;
+    }
+
+    public void setConnected(final boolean connected) {
+        this.connected = connected;
+    }
+
+    public int getFollowers() {
+        return this.followers;
+    }
+
+    public void setFollowers(final int followers) {
+        this.followers = followers;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationStatusTO{" +
+                        "role='" + this.role + '\'' +
+                        ", version=" + this.version +
+                        ", leaderVersion=" + this.leaderVersion +
+                        ", lagVersions=" + this.lagVersions +
+                        ", lagMillis=" + this.lagMillis +
+                        ", connected=" + this.connected +
+                        ", followers=" + this.followers +
+                        '}';
+    }
+}
@@ -1,15 +1,30 @@
 package de.exxcellent.microservices.showcase.core.currency.impl.access;
 
+import de.exxcellent.microservices.showcase.common.metrics.Metered;
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangesCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyLookupCTO;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.ReplicationStatusTO;
 import de.exxcellent.microservices.showcase.core.currency.impl.business.CurrencyICI;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -19,21 +34,33 @@ import java.util.stream.Collectors;
  * @since 21.01.2020
  */
 @ApplicationScoped
+@Metered("CurrencyBCI")
 public class CurrencyBF implements CurrencyBCI {
 
     private final CurrencyICI currencyManager;
+    private final CurrencyProjectionCache<Set<CurrencyTO>> currencies;
+    private final CurrencyProjectionCache<Set<CountryWithCurrencyCTO>> countriesWithCurrency;
 
     @Inject
     CurrencyBF(final CurrencyICI currencyManager) {
         this.currencyManager = currencyManager;
+        // the list endpoints return the same projections until the next write, so their elements cannot be modified.
+        this.currencies = new CurrencyProjectionCache<>(currencyManager::getVersion, () -> Collections.unmodifiableSet(
+                currencyManager.getCurrencies()
+                               .stream()
+                               .map(c -> CurrencyTO.unmodifiable(CurrencyMapper.toTO(c)))
+                               .collect(Collectors.toSet())));
+        this.countriesWithCurrency = new CurrencyProjectionCache<>(currencyManager::getVersion, () -> Collections.unmodifiableSet(
+                currencyManager.getCountriesWithCurrency()
+                               .entrySet()
+                               .stream()
+                               .map(c -> CountryWithCurrencyCTO.unmodifiable(c.getKey(), CurrencyMapper.toTO(c.getValue())))
+                               .collect(Collectors.toSet())));
     }
 
     @Override
     public Set<CurrencyTO> getCurrencies() {
-        return this.currencyManager.getCurrencies()
-                                   .stream()
-                                   .map(CurrencyMapper::toTO)
-                                   .collect(Collectors.toSet());
+        return this.currencies.get();
     }
 
     @Override
@@ -43,6 +70,23 @@ public class CurrencyBF implements CurrencyBCI {
         return CurrencyMapper.toTO(this.currencyManager.getCurrency(shortName));
     }
 
+    @Override
+    public CurrencyLookupCTO lookupCurrencies(final Collection<String> shortNames) {
+        final Set<String> keys = lookupKeys(shortNames, "Currency short names must not be null");
+        final Map<String, CurrencyET> found = this.currencyManager.findCurrencies(keys);
+        final List<CurrencyTO> currencyTOs = new ArrayList<>(found.size());
+        final List<String> missing = new ArrayList<>(keys.size() - found.size());
+        for(final String key : keys) {
+            final CurrencyET currency = found.get(key);
+            if(currency != null) {
+                currencyTOs.add(CurrencyMapper.toTO(currency));
+            } else {
+                missing.add(key);
+            }
+        }
+        return new CurrencyLookupCTO(currencyTOs, missing);
+    }
+
     @Override
     public Set<CurrencyTO> addCurrency(final CurrencyTO currency) {
         CurrencyValidation.validateCurrencyTO(currency);
@@ -55,11 +99,7 @@ public class CurrencyBF implements CurrencyBCI {
 
     @Override
     public Set<CountryWithCurrencyCTO> getCountriesWithCurrency() {
-        return this.currencyManager.getCountriesWithCurrency()
-                                   .entrySet()
-                                   .stream()
-                                   .map(c -> new CountryWithCurrencyCTO(c.getKey(), CurrencyMapper.toTO(c.getValue())))
-                                   .collect(Collectors.toSet());
+        return this.countriesWithCurrency.get();
     }
 
     @Override
@@ -70,6 +110,34 @@ public class CurrencyBF implements CurrencyBCI {
         return new CountryWithCurrencyCTO(countryShortName, currency);
     }
 
+    @Override
+    public CountryWithCurrencyLookupCTO lookupCountriesWithCurrency(final Collection<String> countryShortNames) {
+        final Set<String> keys = lookupKeys(countryShortNames, "Country short names must not be null");
+        final Map<String, CurrencyET> found = this.currencyManager.findCountriesWithCurrency(keys);
+        final List<CountryWithCurrencyCTO> countryTOs = new ArrayList<>(found.size());
+        final List<String> missing = new ArrayList<>(keys.size() - found.size());
+        for(final String key : keys) {
+            final CurrencyET currency = found.get(key);
+            if(currency != null) {
+                countryTOs.add(new CountryWithCurrencyCTO(key, CurrencyMapper.toTO(currency)));
+            } else {
+                missing.add(key);
+            }
+        }
+        return new CountryWithCurrencyLookupCTO(countryTOs, missing);
+    }
+
+    @Override
+    public Set<CountryWithCurrencyCTO> getCountriesByCurrency(final String currencyShortName) {
+        Preconditions.checkNotNull(currencyShortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        Preconditions.checkStringLength(currencyShortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
+        return this.currencyManager.getCountriesByCurrency(currencyShortName)
+                                   .entrySet()
+                                   .stream()
+                                   .map(c -> new CountryWithCurrencyCTO(c.getKey(), CurrencyMapper.toTO(c.getValue())))
+                                   .collect(Collectors.toSet());
+    }
+
     @Override
     public Set<CountryWithCurrencyCTO> addCountryWithCurrency(final CountryWithCurrencyCTO countryWithCurrency) {
         Preconditions.checkNotNull(countryWithCurrency, "Country with currency must not be null");
@@ -83,4 +151,52 @@ public class CurrencyBF implements CurrencyBCI {
                                    .map(c -> new CountryWithCurrencyCTO(c.getKey(), CurrencyMapper.toTO(c.getValue())))
                                    .collect(Collectors.toSet());
     }
+
+    @Override
+    public long getVersion() {
+        return this.currencyManager.getVersion();
+    }
+
+    @Override
+    public CurrencyChangesCTO getChangesSince(final long version) {
+        // read the version first, a client reading all data afterwards gets at least this version.
+        final long currentVersion = this.currencyManager.getVersion();
+        final Optional<List<CurrencyChangeET>> changes = this.currencyManager.getChangesSince(version);
+        if(!changes.isPresent()) {
+            return CurrencyChangesCTO.resync(currentVersion);
+        } else if(changes.get().isEmpty()) {
+            return new CurrencyChangesCTO(version, false, Collections.emptyList());
+        } // else: map the changes.
+        final List<CurrencyChangeET> changeETs = changes.get();
+        return new CurrencyChangesCTO(changeETs.get(changeETs.size() - 1).getVersion(), false,
+                                      changeETs.stream()
+                                               .map(CurrencyMapper::toTO)
+                                               .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeTO> listener) {
+        Preconditions.checkNotNull(listener, "Listener must not be null");
+        this.currencyManager.addChangeListener(change -> listener.accept(CurrencyMapper.toTO(change)));
+    }
+
+    @Override
+    public ReplicationStatusTO getReplicationStatus() {
+        return CurrencyMapper.toTO(this.currencyManager.getReplicationStatus());
+    }
+
+    /**
+     * The distinct, non-empty keys of a lookup in the order of the request.
+     */
+    private static Set<String> lookupKeys(final Collection<String> keys, final String nullMessage) {
+        Preconditions.checkNotNull(keys, nullMessage);
+        final Set<String> distinctKeys = new LinkedHashSet<>();
+        for(final String key : keys) {
+            if(key != null && !key.isEmpty()) {
+                distinctKeys.add(key);
+            } // else: nothing to look up.
+        }
+        Preconditions.checkArgument(distinctKeys.size() <= MAX_LOOKUP_KEYS, "At most " + MAX_LOOKUP_KEYS + " keys can be looked up at once");
+        return distinctKeys;
+    }
 }
@@ -2,8 +2,13 @@ package de.exxcellent.microservices.showcase.core.currency.impl.access;
 
 import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
 import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.ReplicationStatusTO;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.ReplicationStatusET;
 
 /**
  * Maps {@link CurrencyTO}s to {@link CurrencyET}s and vice versa.
@@ -29,7 +34,30 @@ public final class CurrencyMapper {
      */
     public static CurrencyTO toTO(final CurrencyET currency) {
         CurrencyValidation.validateCurrencyET(currency);
-        return new CurrencyTO(currency.getShortName(), currency.getName());
+        return new CurrencyTO(currency.getShortName(), currency.getName(), currency.getMinorUnits());
+    }
+
+    /**
+     * Maps a {@link CurrencyChangeET} to a {@link CurrencyChangeTO}.
+     *
+     * @param change the {@link CurrencyChangeET} to be mapped (not {@code null}).
+     * @return the {@link CurrencyChangeTO} containing the information from the {@link CurrencyChangeET}.
+     */
+    public static CurrencyChangeTO toTO(final CurrencyChangeET change) {
+        Preconditions.checkNotNull(change, "Change must not be null");
+        return new CurrencyChangeTO(change.getVersion(), change.getType().name(), change.getCountryShortName(), toTO(change.getCurrency()));
+    }
+
+    /**
+     * Maps a {@link ReplicationStatusET} to a {@link ReplicationStatusTO}.
+     *
+     * @param status the {@link ReplicationStatusET} to be mapped (not {@code null}).
+     * @return the {@link ReplicationStatusTO} containing the information from the {@link ReplicationStatusET}.
+     */
+    public static ReplicationStatusTO toTO(final ReplicationStatusET status) {
+        Preconditions.checkNotNull(status, "Replication status must not be null");
+        return new ReplicationStatusTO(status.getRole(), status.getVersion(), status.getLeaderVersion(), status.getLagMillis(),
+                                       status.isConnected(), status.getFollowers());
     }
 
     /**
@@ -0,0 +1,62 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.access;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches a projection of the stored data, e.g. all currencies mapped to {@link de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO}s,
+ * tied to the version of the storage. The projection is rebuilt on the first call after the version changed, all other
+ * calls return the same instance without allocating.
+ * <p>
+ * The version is read before the data, so a cached projection is at least as new as its version. Concurrent calls after
+ * a change may rebuild the projection more than once, the last one built is kept.
+ *
+ * @param <T> the type of the projection, must be immutable as it is shared by all callers.
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyProjectionCache<T> {
+    private final LongSupplier version;
+    private final Supplier<T> projection;
+    private volatile Entry<T> entry;
+
+    /**
+     * Constructor.
+     *
+     * @param version reads the current version of the storage.
+     * @param projection builds the projection of the current data.
+     */
+    CurrencyProjectionCache(final LongSupplier version, final Supplier<T> projection) {
+        this.version = version;
+        this.projection = projection;
+    }
+
+    /**
+     * Get the projection of the current data.
+     *
+     * @return the cached projection or a new one if the version of the storage changed.
+     */
+    T get() {
+        final long currentVersion = this.version.getAsLong();
+        final Entry<T> cached = this.entry;
+        if(cached != null && cached.version == currentVersion) {
+            return cached.value;
+        } // else: the data changed since the projection was built.
+        final T value = this.projection.get();
+        this.entry = new Entry<>(currentVersion, value);
+        return value;
+    }
+
+    /**
+     * A projection with the version it was built for.
+     */
+    private static final class Entry<T> {
+        private final long version;
+        private final T value;
+
+        private Entry(final long version, final T value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
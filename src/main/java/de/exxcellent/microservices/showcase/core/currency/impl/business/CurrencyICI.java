@@ -1,9 +1,15 @@
 package de.exxcellent.microservices.showcase.core.currency.impl.business;
 
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.ReplicationStatusET;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The inner-component interface (ICI) of the currency component.
@@ -28,6 +34,15 @@ public interface CurrencyICI {
      */
     CurrencyET getCurrency(final String shortName);
 
+    /**
+     * Find several currencies by their short names (ISO codes) at once. Short names without a currency are skipped.
+     *
+     * @param shortNames the short names of the currencies to be returned (not {@code null}).
+     * @return a {@link Map} containing the requested short name as key and its currency as value (as {@link CurrencyET})
+     * in the order of the request, for the found currencies only.
+     */
+    Map<String, CurrencyET> findCurrencies(final Collection<String> shortNames);
+
     /**
      * Add a currency.
      * No duplicates will be created.
@@ -53,6 +68,24 @@ public interface CurrencyICI {
      */
     CurrencyET getCountryWithCurrency(final String countryShortName);
 
+    /**
+     * Find the currencies of several countries by their short names at once. Countries without a currency are skipped.
+     *
+     * @param countryShortNames the short names of the countries (not {@code null}).
+     * @return a {@link Map} containing the requested country short name as key and its currency as value (as
+     * {@link CurrencyET}) in the order of the request, for the found countries only.
+     */
+    Map<String, CurrencyET> findCountriesWithCurrency(final Collection<String> countryShortNames);
+
+    /**
+     * Get all countries using the currency with the given short name (ISO code).
+     *
+     * @param currencyShortName the short name of the currency (3 characters, not {@code null}).
+     * @return a {@link Map} containing the country short name as key and its currency as value (as {@link CurrencyET}). Empty if no country uses the currency.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no currency with the provided short name is existing.
+     */
+    Map<String, CurrencyET> getCountriesByCurrency(final String currencyShortName);
+
     /**
      * Add a country with its currency.
      *
@@ -61,4 +94,35 @@ public interface CurrencyICI {
      * @return all available countries with their currency including the newly added as {@link Map}.
      */
     Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency);
+
+    /**
+     * Get the version of the currencies and countries with their currency. The version increases with every change.
+     *
+     * @return the current version.
+     */
+    long getVersion();
+
+    /**
+     * Get the changes after the given version.
+     *
+     * @param version the version after which the changes are requested (not negative).
+     * @return an {@link Optional} containing the changes ordered by version as {@link CurrencyChangeET}s, empty if there
+     * are none. {@link Optional#empty()} if the changes are not available anymore.
+     */
+    Optional<List<CurrencyChangeET>> getChangesSince(final long version);
+
+    /**
+     * Register a listener called with every change of the currencies or countries with their currency.
+     * The listener is called in the order of the versions by the writing thread and must not block.
+     *
+     * @param listener the listener consuming the changes as {@link CurrencyChangeET}s (not {@code null}).
+     */
+    void addChangeListener(final Consumer<CurrencyChangeET> listener);
+
+    /**
+     * Get the replication state of this instance, including the replication lag of a follower.
+     *
+     * @return the replication state as {@link ReplicationStatusET}.
+     */
+    ReplicationStatusET getReplicationStatus();
 }
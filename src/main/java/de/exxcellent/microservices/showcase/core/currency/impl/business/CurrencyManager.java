@@ -2,18 +2,26 @@ package de.exxcellent.microservices.showcase.core.currency.impl.business;
 
 import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
 import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.metrics.Metered;
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.CurrencyReplication;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.CurrencyRepository;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.ReplicationStatusET;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Manages currencies. Implementation of {@link CurrencyICI}.
@@ -22,18 +30,21 @@ import java.util.Set;
  * @since 21.01.2020
  */
 @ApplicationScoped
+@Metered("CurrencyICI")
 public class CurrencyManager implements CurrencyICI {
     private static final Logger LOG = LoggerFactory.getLogger(CurrencyManager.class);
     private final CurrencyRepository currencyRepository;
+    private final CurrencyReplication replication;
 
     @Inject
-    CurrencyManager(final CurrencyRepository currencyRepository) {
+    CurrencyManager(final CurrencyRepository currencyRepository, final CurrencyReplication replication) {
         this.currencyRepository = currencyRepository;
+        this.replication = replication;
     }
 
     @Override
     public Set<CurrencyET> getCurrencies() {
-        LOG.info("Query storage to get all currencies");
+        LOG.debug("Query storage to get all currencies");
         return this.currencyRepository.findAll();
     }
 
@@ -41,17 +52,24 @@ public class CurrencyManager implements CurrencyICI {
     public CurrencyET getCurrency(final String shortName) {
         Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
         Preconditions.checkStringLength(shortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
-        LOG.info("Query storage for currency with short name {}", shortName);
+        LOG.debug("Query storage for currency with short name {}", shortName);
         final Optional<CurrencyET> optionalCurrency = this.currencyRepository.findByShortName(shortName);
         if(optionalCurrency.isPresent()) {
             final CurrencyET currency = optionalCurrency.get();
-            LOG.info("Returning currency {} for short name {} from storage", currency.getName(), currency.getShortName());
+            LOG.debug("Returning currency {} for short name {} from storage", currency.getName(), currency.getShortName());
             return currency;
         } else {
             throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Currency with short name " + shortName + " is not existing");
         }
     }
 
+    @Override
+    public Map<String, CurrencyET> findCurrencies(final Collection<String> shortNames) {
+        Preconditions.checkNotNull(shortNames, "Currency short names must not be null");
+        LOG.debug("Query storage for {} currencies", shortNames.size());
+        return this.currencyRepository.findByShortNames(withThreeCharacters(shortNames));
+    }
+
     @Override
     public Set<CurrencyET> addCurrency(final CurrencyET currency) {
         addCurrencyIfNotExisting(currency);
@@ -60,7 +78,7 @@ public class CurrencyManager implements CurrencyICI {
 
     @Override
     public Map<String, CurrencyET> getCountriesWithCurrency() {
-        LOG.info("Query storage to get all countries with their currency");
+        LOG.debug("Query storage to get all countries with their currency");
         return this.currencyRepository.findAllCountriesWithCurrency();
     }
 
@@ -68,17 +86,36 @@ public class CurrencyManager implements CurrencyICI {
     public CurrencyET getCountryWithCurrency(final String countryShortName) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
         Preconditions.checkStringLength(countryShortName, 3, "Country short name must have 3 characters");
-        LOG.info("Query storage for currency of country with short name {}", countryShortName);
+        LOG.debug("Query storage for currency of country with short name {}", countryShortName);
         final Optional<CurrencyET> optionalCurrencyET = this.currencyRepository.findCurrencyByCountry(countryShortName);
         if(optionalCurrencyET.isPresent()) {
             final CurrencyET currency = optionalCurrencyET.get();
-            LOG.info("Returning currency {} for country with short name {}", currency.getName(), countryShortName);
+            LOG.debug("Returning currency {} for country with short name {}", currency.getName(), countryShortName);
             return currency;
         } else {
             throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "No currency is existing for country with short name " + countryShortName);
         }
     }
 
+    @Override
+    public Map<String, CurrencyET> findCountriesWithCurrency(final Collection<String> countryShortNames) {
+        Preconditions.checkNotNull(countryShortNames, "Country short names must not be null");
+        LOG.debug("Query storage for the currencies of {} countries", countryShortNames.size());
+        return this.currencyRepository.findCurrenciesByCountries(withThreeCharacters(countryShortNames));
+    }
+
+    @Override
+    public Map<String, CurrencyET> getCountriesByCurrency(final String currencyShortName) {
+        Preconditions.checkNotNull(currencyShortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        Preconditions.checkStringLength(currencyShortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
+        LOG.debug("Query storage for countries with currency {}", currencyShortName);
+        final Map<String, CurrencyET> countries = this.currencyRepository.findCountriesByCurrency(currencyShortName);
+        if(countries.isEmpty() && !this.currencyRepository.findByShortName(currencyShortName).isPresent()) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Currency with short name " + currencyShortName + " is not existing");
+        } // else: the currency is existing, but maybe not used by any country.
+        return countries;
+    }
+
     @Override
     public Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
@@ -88,22 +125,55 @@ public class CurrencyManager implements CurrencyICI {
         return this.currencyRepository.addCountryWithCurrency(countryShortName, currency);
     }
 
+    @Override
+    public long getVersion() {
+        return this.currencyRepository.getVersion();
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> getChangesSince(final long version) {
+        if(version < 0) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Version must not be negative");
+        } // else: the version is valid.
+        // polled frequently, so only logged on debug level.
+        LOG.debug("Query storage for changes since version {}", version);
+        return this.currencyRepository.findChangesSince(version);
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        LOG.info("Registering currency change listener");
+        this.currencyRepository.addChangeListener(listener);
+    }
+
     private void addCurrencyIfNotExisting(final CurrencyET currency) {
         CurrencyValidation.validateCurrencyET(currency);
-        LOG.info("Query storage for currency with short name {} to avoid generating duplicates", currency.getShortName());
-        final Optional<CurrencyET> optionalCurrencyET = this.currencyRepository.findByShortName(currency.getShortName());
+        // check and insert in one atomic step, so concurrent requests cannot both add a currency with this short name.
+        final Optional<CurrencyET> optionalCurrencyET = this.currencyRepository.putIfAbsent(currency);
         if(optionalCurrencyET.isPresent()) {
             final CurrencyET existingCurrency = optionalCurrencyET.get();
-            LOG.info("Currency with short name {} is already existing in storage: {}", existingCurrency.getShortName(), existingCurrency.getName());
+            LOG.debug("Currency with short name {} is already existing in storage: {}", existingCurrency.getShortName(), existingCurrency.getName());
             if(!existingCurrency.getName().equalsIgnoreCase(currency.getName())) {
                 // another currency with this short name is already existing. No other currency with this short name can be created!
                 throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "A currency with the short name " + currency.getShortName()
                                 + " is already existing: " + existingCurrency.getName() + ". Cannot create two currencies with the same short name");
             } // else: currency with this name is already existing and must not be added again.
         } else {
-            // no currency with the provided short name is present. Create a new one.
-            LOG.info("Adding new currency {} with short name {} to storage", currency.getName(), currency.getShortName());
-            this.currencyRepository.addCurrency(currency);
+            LOG.info("Added new currency {} with short name {} to storage", currency.getName(), currency.getShortName());
         }
     }
+
+    @Override
+    public ReplicationStatusET getReplicationStatus() {
+        return this.replication.getStatus(this.currencyRepository.getVersion());
+    }
+
+    /**
+     * Short names without 3 characters cannot exist, so they are not queried.
+     */
+    private static List<String> withThreeCharacters(final Collection<String> shortNames) {
+        return shortNames.stream()
+                         .filter(shortName -> shortName != null && shortName.length() == 3)
+                         .collect(Collectors.toList());
+    }
 }
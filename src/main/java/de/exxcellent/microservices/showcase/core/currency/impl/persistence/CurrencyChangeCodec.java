@@ -0,0 +1,68 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeType;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes {@link CurrencyChangeET}s to a compact binary representation and vice versa.
+ * <p>
+ * Layout: {@code long version}, {@code byte type}, the country short name (only for
+ * {@link CurrencyChangeType#COUNTRY_WITH_CURRENCY_ADDED}), the currency short name and the currency name.
+ * Strings are written with {@link DataOutput#writeUTF(String)}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencyChangeCodec {
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private CurrencyChangeCodec() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "CurrencyChangeCodec is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Writes the given change.
+     *
+     * @param change the {@link CurrencyChangeET} to be written (not {@code null}).
+     * @param out the {@link DataOutput} to write to.
+     * @throws IOException if writing fails.
+     */
+    public static void write(final CurrencyChangeET change, final DataOutput out) throws IOException {
+        out.writeLong(change.getVersion());
+        out.writeByte(change.getType().ordinal());
+        if(change.getType() == CurrencyChangeType.COUNTRY_WITH_CURRENCY_ADDED) {
+            out.writeUTF(change.getCountryShortName());
+        }
+        out.writeUTF(change.getCurrency().getShortName());
+        out.writeUTF(change.getCurrency().getName());
+    }
+
+    /**
+     * Reads a change written by {@link #write(CurrencyChangeET, DataOutput)}.
+     *
+     * @param in the {@link DataInput} to read from.
+     * @return the read {@link CurrencyChangeET}.
+     * @throws IOException if reading fails or the data is corrupt.
+     */
+    public static CurrencyChangeET read(final DataInput in) throws IOException {
+        final long version = in.readLong();
+        final int typeOrdinal = in.readByte();
+        if(typeOrdinal < 0 || typeOrdinal >= CurrencyChangeType.values().length) {
+            throw new IOException("Unknown change type " + typeOrdinal);
+        } // else: the type is valid.
+        final CurrencyChangeType type = CurrencyChangeType.values()[typeOrdinal];
+        final String countryShortName = type == CurrencyChangeType.COUNTRY_WITH_CURRENCY_ADDED ? in.readUTF() : null;
+        final CurrencyET currency = new CurrencyET(in.readUTF(), in.readUTF());
+        return new CurrencyChangeET(version, type, countryShortName, currency);
+    }
+}
@@ -0,0 +1,148 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A bounded in-memory log of the latest {@link CurrencyChangeET}s, used to hand out the changes after a given version.
+ * The log keeps the latest {@code capacity} changes in a ring buffer, older changes are evicted.
+ * <p>
+ * Changes are appended by a single writer at a time, in the order of their versions. Asking for the changes after the
+ * latest version is answered without locking.
+ * <p>
+ * Registered listeners are called with every appended change by the appending thread.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencyChangeLog {
+    /**
+     * The default number of changes kept in the log.
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyChangeLog.class);
+
+    private final CurrencyChangeET[] changes;
+    /**
+     * The position of the oldest change in {@link CurrencyChangeLog#changes}.
+     */
+    private int start;
+    /**
+     * The number of changes in {@link CurrencyChangeLog#changes}.
+     */
+    private int size;
+    /**
+     * The version of the latest change.
+     */
+    private volatile long version;
+    /**
+     * The listeners called with every appended change.
+     */
+    private final List<Consumer<CurrencyChangeET>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of changes kept in the log (at least 1).
+     * @param version the version the log starts with. Changes up to this version are not available.
+     */
+    public CurrencyChangeLog(final int capacity, final long version) {
+        this.changes = new CurrencyChangeET[Math.max(1, capacity)];
+        this.version = version;
+    }
+
+    /**
+     * Append a change, evicting the oldest change if the log is full.
+     * If the version of the change does not follow the latest version, the earlier changes are dropped.
+     *
+     * @param change the {@link CurrencyChangeET} to be appended (not {@code null}).
+     */
+    public synchronized void append(final CurrencyChangeET change) {
+        if(change.getVersion() != this.version + 1) {
+            // a gap in the versions, the earlier changes cannot be combined with the following ones.
+            this.start = 0;
+            this.size = 0;
+        } // else: the change follows the latest one.
+        if(this.size == this.changes.length) {
+            this.changes[this.start] = change;
+            this.start = (this.start + 1) % this.changes.length;
+        } else {
+            this.changes[(this.start + this.size) % this.changes.length] = change;
+            this.size++;
+        }
+        this.version = change.getVersion();
+        for(final Consumer<CurrencyChangeET> listener : this.listeners) {
+            try {
+                listener.accept(change);
+            } catch(final RuntimeException e) {
+                LOG.error("Currency change listener failed for change {}", change, e);
+            }
+        }
+    }
+
+    /**
+     * Drop all changes and continue with the given version, e.g. after the data was replaced as a whole.
+     * The listeners are not called.
+     *
+     * @param newVersion the version the log continues with. Changes up to this version are not available.
+     */
+    public synchronized void reset(final long newVersion) {
+        this.start = 0;
+        this.size = 0;
+        Arrays.fill(this.changes, null);
+        this.version = newVersion;
+    }
+
+    /**
+     * Register a listener called with every appended change, in the order of the versions.
+     * The listener is called by the appending thread and must not block.
+     *
+     * @param listener the listener (not {@code null}).
+     */
+    public void addListener(final Consumer<CurrencyChangeET> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Get the version of the latest change.
+     *
+     * @return the version of the latest change or the version the log started with.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get all changes after the given version.
+     *
+     * @param since the version after which the changes are requested.
+     * @return an {@link Optional} containing the unmodifiable {@link List} of changes ordered by version (empty if the
+     * given version is the latest one), or {@link Optional#empty()} if the changes are not available anymore or the
+     * version is unknown.
+     */
+    public Optional<List<CurrencyChangeET>> changesSince(final long since) {
+        if(since == this.version) {
+            return Optional.of(Collections.emptyList());
+        } // else: copy the requested changes.
+        synchronized(this) {
+            if(since < this.version - this.size || since > this.version) {
+                return Optional.empty();
+            } // else: the changes are available.
+            final int count = (int) (this.version - since);
+            final List<CurrencyChangeET> result = new ArrayList<>(count);
+            for(int i = this.size - count; i < this.size; i++) {
+                result.add(this.changes[(this.start + i) % this.changes.length]);
+            }
+            return Optional.of(Collections.unmodifiableList(result));
+        }
+    }
+}
@@ -0,0 +1,652 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeType;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of {@link CurrencyRepository} storing the currencies in a relational database via JDBC, so several
+ * instances of the service can share the same data.
+ * <p>
+ * Every write locks the single row of the version table first, so writes of all instances are serialized and get
+ * consecutive versions. The effective changes are stored in the change table within the same transaction, only the
+ * latest {@code changeLogCapacity} changes are kept.
+ * <p>
+ * {@link #putIfAbsent(CurrencyET)} checks for an existing currency while holding the lock of the version, so it is atomic
+ * across all instances. Calls for an existing short name are answered by the near cache without a transaction.
+ * <p>
+ * {@link #findByShortName(String)} and {@link #findCurrencyByCountry(String)} are served by a {@link CurrencyNearCache}.
+ * Changes of this instance invalidate the cache immediately, changes of other instances are seen after the time to live.
+ * Lookups of several keys bypass the cache and read all keys with one statement taking the keys as array parameter.
+ * {@link #getVersion()} is cached with the same time to live and updated by the writes of this instance, so checking the
+ * version on every request does not cost a database round trip.
+ * Change listeners are called with the changes of this instance only.
+ * <p>
+ * All statements are prepared with constant SQL, so the database can reuse the parsed statements of a pooled connection.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyJdbcStorage implements CurrencyRepository {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyJdbcStorage.class);
+    private static final String COUNTRY_SHORT_NAME_NOT_NULL = "Country short name must not be null";
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS currency_version (id INT PRIMARY KEY, version BIGINT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS currency (short_name VARCHAR(3) NOT NULL, short_name_key VARCHAR(3) NOT NULL, "
+            + "name VARCHAR(1024) NOT NULL, added_version BIGINT NOT NULL, PRIMARY KEY (short_name, name))",
+        "CREATE INDEX IF NOT EXISTS currency_short_name_key ON currency (short_name_key)",
+        "CREATE TABLE IF NOT EXISTS country_with_currency (country_short_name VARCHAR(255) PRIMARY KEY, "
+            + "currency_short_name VARCHAR(3) NOT NULL, currency_short_name_key VARCHAR(3) NOT NULL, "
+            + "currency_name VARCHAR(1024) NOT NULL, added_version BIGINT NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS country_with_currency_key ON country_with_currency (currency_short_name_key)",
+        "CREATE TABLE IF NOT EXISTS currency_change (version BIGINT PRIMARY KEY, type VARCHAR(32) NOT NULL, "
+            + "country_short_name VARCHAR(255), currency_short_name VARCHAR(3) NOT NULL, currency_name VARCHAR(1024) NOT NULL)",
+        "INSERT INTO currency_version (id, version) SELECT 1, 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM currency_version)"
+    };
+    private static final String SELECT_VERSION = "SELECT version FROM currency_version WHERE id = 1";
+    private static final String LOCK_VERSION = SELECT_VERSION + " FOR UPDATE";
+    private static final String UPDATE_VERSION = "UPDATE currency_version SET version = ? WHERE id = 1";
+    private static final String SELECT_CURRENCIES = "SELECT short_name, name FROM currency ORDER BY added_version";
+    private static final String SELECT_CURRENCY_BY_KEY =
+        "SELECT short_name, name FROM currency WHERE short_name_key = ? ORDER BY added_version FETCH FIRST 1 ROWS ONLY";
+    private static final String SELECT_CURRENCIES_BY_KEYS =
+        "SELECT short_name_key, short_name, name FROM currency WHERE short_name_key = ANY(?) ORDER BY added_version";
+    private static final String INSERT_CURRENCY =
+        "INSERT INTO currency (short_name, short_name_key, name, added_version) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CURRENCY_IF_ABSENT =
+        "INSERT INTO currency (short_name, short_name_key, name, added_version) SELECT ?, ?, ?, ? FROM DUAL "
+            + "WHERE NOT EXISTS (SELECT 1 FROM currency WHERE short_name = ? AND name = ?)";
+    private static final String SELECT_COUNTRIES =
+        "SELECT country_short_name, currency_short_name, currency_name FROM country_with_currency ORDER BY added_version";
+    private static final String SELECT_COUNTRY =
+        "SELECT currency_short_name, currency_name FROM country_with_currency WHERE country_short_name = ?";
+    private static final String SELECT_COUNTRIES_BY_SHORT_NAMES =
+        "SELECT country_short_name, currency_short_name, currency_name FROM country_with_currency WHERE country_short_name = ANY(?)";
+    private static final String SELECT_COUNTRIES_BY_CURRENCY_KEY =
+        "SELECT country_short_name, currency_short_name, currency_name FROM country_with_currency "
+            + "WHERE currency_short_name_key = ? ORDER BY added_version";
+    private static final String INSERT_COUNTRY =
+        "INSERT INTO country_with_currency (country_short_name, currency_short_name, currency_short_name_key, currency_name, added_version) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_COUNTRY_IF_ABSENT =
+        "INSERT INTO country_with_currency (country_short_name, currency_short_name, currency_short_name_key, currency_name, added_version) "
+            + "SELECT ?, ?, ?, ?, ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM country_with_currency WHERE country_short_name = ?)";
+    private static final String SELECT_OLDEST_CHANGE = "SELECT MIN(version) FROM currency_change";
+    private static final String SELECT_CHANGES_SINCE =
+        "SELECT version, type, country_short_name, currency_short_name, currency_name FROM currency_change WHERE version > ? ORDER BY version";
+    private static final String INSERT_CHANGE =
+        "INSERT INTO currency_change (version, type, country_short_name, currency_short_name, currency_name) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_CHANGES_UNTIL = "DELETE FROM currency_change WHERE version <= ?";
+
+    private final DataSource dataSource;
+    private final int changeLogCapacity;
+    /**
+     * The currencies by their upper case short name, {@code null} values for unknown short names.
+     */
+    private final CurrencyNearCache<CurrencyET> currencyCache;
+    /**
+     * The currencies by country short name, {@code null} values for unknown countries.
+     */
+    private final CurrencyNearCache<CurrencyET> countryCache;
+    /**
+     * The lock ordering the writes of this instance, so the listeners are called in the order of the versions.
+     */
+    private final Object writeLock = new Object();
+    private final long versionTimeToLiveNanos;
+    /**
+     * The latest known version with the time it was read, {@code null} before the first read.
+     */
+    private final AtomicReference<KnownVersion> knownVersion = new AtomicReference<>();
+    private final List<Consumer<CurrencyChangeET>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     * Creates the tables if they do not exist yet and initializes some dummy data if the database is empty.
+     *
+     * @param dataSource the (pooled) {@link DataSource} of the database (not {@code null}).
+     * @param withDummyData {@code true} if an empty database should be filled with some dummy data.
+     * @param changeLogCapacity the number of changes kept in the change table.
+     * @param cacheMaxSize the maximum number of keys in each near cache.
+     * @param cacheTimeToLiveMillis the time in milliseconds a cached value or version is served without asking the database,
+     * {@code 0} disables the cache.
+     */
+    public CurrencyJdbcStorage(final DataSource dataSource, final boolean withDummyData, final int changeLogCapacity,
+                               final int cacheMaxSize, final long cacheTimeToLiveMillis) {
+        Preconditions.checkNotNull(dataSource, "Data source must not be null");
+        this.dataSource = dataSource;
+        this.changeLogCapacity = Math.max(1, changeLogCapacity);
+        this.currencyCache = new CurrencyNearCache<>(cacheMaxSize, cacheTimeToLiveMillis);
+        this.countryCache = new CurrencyNearCache<>(cacheMaxSize, cacheTimeToLiveMillis);
+        this.versionTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(cacheTimeToLiveMillis);
+        createSchema();
+        if(withDummyData && getVersion() == 0) {
+            final CurrencySnapshot dummyData = CurrencyRuntimeStorage.initData();
+            addAll(dummyData.getCurrencies(), dummyData.getCountriesWithCurrency());
+        } // else: the database already contains data or is filled otherwise.
+    }
+
+    private void createSchema() {
+        try(final Connection connection = this.dataSource.getConnection();
+            final Statement statement = connection.createStatement()) {
+            for(final String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch(final SQLException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not create currency tables", e);
+        }
+    }
+
+    @Override
+    public Set<CurrencyET> findAll() {
+        return query("Could not read currencies", connection -> Collections.unmodifiableSet(readCurrencies(connection)));
+    }
+
+    @Override
+    public Optional<CurrencyET> findByShortName(final String shortName) {
+        Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        return Optional.ofNullable(this.currencyCache.get(key(shortName), key -> query("Could not read currency " + key,
+                                                                                     connection -> readCurrency(connection, key))));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames) {
+        Preconditions.checkNotNull(shortNames, "Currency short names must not be null");
+        final Set<String> keys = new LinkedHashSet<>();
+        shortNames.forEach(shortName -> keys.add(key(shortName)));
+        final Map<String, CurrencyET> currenciesByKey = query("Could not read currencies " + keys, connection -> {
+            final Map<String, CurrencyET> currencies = new HashMap<>();
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_CURRENCIES_BY_KEYS)) {
+                bindKeys(connection, statement, keys);
+                try(final ResultSet resultSet = statement.executeQuery()) {
+                    while(resultSet.next()) {
+                        // the oldest currency of a short name wins, like in readCurrency.
+                        currencies.putIfAbsent(resultSet.getString(1), new CurrencyET(resultSet.getString(2), resultSet.getString(3)));
+                    }
+                }
+            }
+            return currencies;
+        });
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String shortName : shortNames) {
+            final CurrencyET currency = currenciesByKey.get(key(shortName));
+            if(currency != null) {
+                found.put(shortName, currency);
+            } // else: missing.
+        }
+        return found;
+    }
+
+    @Override
+    public Set<CurrencyET> addCurrency(final CurrencyET currency) {
+        CurrencyValidation.validateCurrencyET(currency);
+        write((connection, version) -> insertCurrencyIfAbsent(connection, currency, version + 1)
+                                       ? Collections.singletonList(CurrencyChangeET.currencyAdded(version + 1, currency))
+                                       : Collections.emptyList());
+        return findAll();
+    }
+
+    @Override
+    public Optional<CurrencyET> putIfAbsent(final CurrencyET currency) {
+        CurrencyValidation.validateCurrencyET(currency);
+        // currencies are never removed, so a known currency can be returned without a transaction.
+        final Optional<CurrencyET> known = findByShortName(currency.getShortName());
+        if(known.isPresent()) {
+            return known;
+        } // else: the cache may be outdated, check again while holding the lock of the version.
+        final AtomicReference<CurrencyET> existing = new AtomicReference<>();
+        write((connection, version) -> {
+            existing.set(readCurrency(connection, key(currency.getShortName())));
+            if(existing.get() != null) {
+                return Collections.emptyList();
+            } // else: the short name is new.
+            try(final PreparedStatement statement = connection.prepareStatement(INSERT_CURRENCY)) {
+                bindCurrency(statement, currency, version + 1);
+                statement.executeUpdate();
+            }
+            return Collections.singletonList(CurrencyChangeET.currencyAdded(version + 1, currency));
+        });
+        return Optional.ofNullable(existing.get());
+    }
+
+    @Override
+    public Map<String, CurrencyET> findAllCountriesWithCurrency() {
+        return query("Could not read countries with currency", connection -> {
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_COUNTRIES);
+                final ResultSet resultSet = statement.executeQuery()) {
+                return readCountries(resultSet);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+        Preconditions.checkNotNull(countryShortName, COUNTRY_SHORT_NAME_NOT_NULL);
+        CurrencyValidation.validateCurrencyET(currency);
+        write((connection, version) -> {
+            // the currency is added as well, the change is effective if at least one of both is new.
+            final boolean currencyAdded = insertCurrencyIfAbsent(connection, currency, version + 1);
+            final boolean countryAdded = insertCountryIfAbsent(connection, countryShortName, currency, version + 1);
+            return currencyAdded || countryAdded
+                   ? Collections.singletonList(CurrencyChangeET.countryWithCurrencyAdded(version + 1, countryShortName, currency))
+                   : Collections.emptyList();
+        });
+        return findAllCountriesWithCurrency();
+    }
+
+    @Override
+    public Optional<CurrencyET> findCurrencyByCountry(final String countryShortName) {
+        Preconditions.checkNotNull(countryShortName, COUNTRY_SHORT_NAME_NOT_NULL);
+        return Optional.ofNullable(this.countryCache.get(countryShortName, key -> query("Could not read country " + key, connection -> {
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_COUNTRY)) {
+                statement.setString(1, key);
+                try(final ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? new CurrencyET(resultSet.getString(1), resultSet.getString(2)) : null;
+                }
+            }
+        })));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames) {
+        Preconditions.checkNotNull(countryShortNames, "Country short names must not be null");
+        final Map<String, CurrencyET> currenciesByCountry = query("Could not read countries " + countryShortNames, connection -> {
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_COUNTRIES_BY_SHORT_NAMES)) {
+                bindKeys(connection, statement, countryShortNames);
+                try(final ResultSet resultSet = statement.executeQuery()) {
+                    return readCountries(resultSet);
+                }
+            }
+        });
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String countryShortName : countryShortNames) {
+            final CurrencyET currency = currenciesByCountry.get(countryShortName);
+            if(currency != null) {
+                found.put(countryShortName, currency);
+            } // else: missing.
+        }
+        return found;
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        Preconditions.checkNotNull(currencyShortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        return query("Could not read countries of currency " + currencyShortName, connection -> {
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_COUNTRIES_BY_CURRENCY_KEY)) {
+                statement.setString(1, key(currencyShortName));
+                try(final ResultSet resultSet = statement.executeQuery()) {
+                    return readCountries(resultSet);
+                }
+            }
+        });
+    }
+
+    @Override
+    public long getVersion() {
+        final long now = System.nanoTime();
+        final KnownVersion known = this.knownVersion.get();
+        if(known != null && now - known.readAt < this.versionTimeToLiveNanos) {
+            return known.version;
+        } // else: read the version written by all instances.
+        return remember(query("Could not read currency version", CurrencyJdbcStorage::readVersion), now);
+    }
+
+    /**
+     * Remember a version read from the database or written by this instance. Versions never decrease, so a version read
+     * before a concurrent write does not replace the newer one.
+     *
+     * @param version the version.
+     * @param readAt the {@link System#nanoTime()} the version was read at.
+     * @return the latest known version.
+     */
+    private long remember(final long version, final long readAt) {
+        return this.knownVersion.accumulateAndGet(new KnownVersion(version, readAt),
+                                                  (known, read) -> known == null || read.version >= known.version ? read : known).version;
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> findChangesSince(final long version) {
+        return query("Could not read currency changes", connection -> {
+            final long current = readVersion(connection);
+            if(version == current) {
+                return Optional.of(Collections.<CurrencyChangeET>emptyList());
+            } else if(version > current) {
+                return Optional.<List<CurrencyChangeET>>empty();
+            } // else: check if the changes are still available.
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_OLDEST_CHANGE);
+                final ResultSet resultSet = statement.executeQuery()) {
+                final long oldest = resultSet.next() ? resultSet.getLong(1) : 0;
+                if(oldest == 0 || version < oldest - 1) {
+                    return Optional.<List<CurrencyChangeET>>empty();
+                } // else: the changes after the given version are available.
+            }
+            try(final PreparedStatement statement = connection.prepareStatement(SELECT_CHANGES_SINCE)) {
+                statement.setLong(1, version);
+                try(final ResultSet resultSet = statement.executeQuery()) {
+                    final List<CurrencyChangeET> changes = new ArrayList<>();
+                    while(resultSet.next()) {
+                        changes.add(new CurrencyChangeET(resultSet.getLong(1), CurrencyChangeType.valueOf(resultSet.getString(2)),
+                                                         resultSet.getString(3), new CurrencyET(resultSet.getString(4), resultSet.getString(5))));
+                    }
+                    return Optional.of(Collections.unmodifiableList(changes));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        Preconditions.checkNotNull(listener, "Listener must not be null");
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency) {
+        Preconditions.checkNotNull(currencies, "Currencies must not be null");
+        Preconditions.checkNotNull(countriesWithCurrency, "Countries with currency must not be null");
+        currencies.forEach(CurrencyValidation::validateCurrencyET);
+        countriesWithCurrency.forEach((country, currency) -> {
+            Preconditions.checkNotNull(country, COUNTRY_SHORT_NAME_NOT_NULL);
+            CurrencyValidation.validateCurrencyET(currency);
+        });
+        write((connection, version) -> {
+            // the existing data cannot change while the version is locked, so only the new entries are inserted.
+            final Set<CurrencyET> knownCurrencies = readCurrencies(connection);
+            final Set<String> knownCountries = readCountryShortNames(connection);
+            final List<CurrencyChangeET> changes = new ArrayList<>();
+            long nextVersion = version;
+            try(final PreparedStatement insertCurrency = connection.prepareStatement(INSERT_CURRENCY);
+                final PreparedStatement insertCountry = connection.prepareStatement(INSERT_COUNTRY)) {
+                for(final CurrencyET currency : currencies) {
+                    if(knownCurrencies.add(currency)) {
+                        bindCurrency(insertCurrency, currency, ++nextVersion);
+                        insertCurrency.addBatch();
+                        changes.add(CurrencyChangeET.currencyAdded(nextVersion, currency));
+                    }
+                }
+                for(final Map.Entry<String, CurrencyET> country : countriesWithCurrency.entrySet()) {
+                    final boolean currencyAdded = knownCurrencies.add(country.getValue());
+                    final boolean countryAdded = knownCountries.add(country.getKey());
+                    if(!currencyAdded && !countryAdded) {
+                        continue;
+                    } // else: an effective change.
+                    nextVersion++;
+                    if(currencyAdded) {
+                        bindCurrency(insertCurrency, country.getValue(), nextVersion);
+                        insertCurrency.addBatch();
+                    }
+                    if(countryAdded) {
+                        bindCountry(insertCountry, country.getKey(), country.getValue(), nextVersion);
+                        insertCountry.addBatch();
+                    }
+                    changes.add(CurrencyChangeET.countryWithCurrencyAdded(nextVersion, country.getKey(), country.getValue()));
+                }
+                insertCurrency.executeBatch();
+                insertCountry.executeBatch();
+            }
+            return changes;
+        });
+    }
+
+    /**
+     * Applies changes in a transaction holding the lock of the version. The changes are logged in the change table and
+     * the version is set to the version of the last change. Afterwards the cached keys are invalidated and the listeners
+     * are called.
+     *
+     * @param work applies the changes, starting with the version following the current one.
+     */
+    private void write(final Write work) {
+        synchronized(this.writeLock) {
+            final List<CurrencyChangeET> changes = query("Could not write currency changes", connection -> {
+                final boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    final List<CurrencyChangeET> applied;
+                    try(final PreparedStatement statement = connection.prepareStatement(LOCK_VERSION);
+                        final ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        applied = work.apply(connection, resultSet.getLong(1));
+                    }
+                    if(applied.isEmpty()) {
+                        connection.rollback();
+                        return applied;
+                    } // else: log the changes and increase the version.
+                    logChanges(connection, applied);
+                    connection.commit();
+                    return applied;
+                } catch(final SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            });
+            if(changes.size() > 1) {
+                this.currencyCache.invalidateAll();
+                this.countryCache.invalidateAll();
+            } else if(!changes.isEmpty()) {
+                final CurrencyChangeET change = changes.get(0);
+                this.currencyCache.invalidate(key(change.getCurrency().getShortName()));
+                if(change.getCountryShortName() != null) {
+                    this.countryCache.invalidate(change.getCountryShortName());
+                }
+            } // else: nothing changed.
+            if(!changes.isEmpty()) {
+                remember(changes.get(changes.size() - 1).getVersion(), System.nanoTime());
+            } // else: the version did not change.
+            changes.forEach(this::notifyListeners);
+        }
+    }
+
+    private void logChanges(final Connection connection, final List<CurrencyChangeET> changes) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(INSERT_CHANGE)) {
+            for(final CurrencyChangeET change : changes) {
+                statement.setLong(1, change.getVersion());
+                statement.setString(2, change.getType().name());
+                if(change.getCountryShortName() == null) {
+                    statement.setNull(3, Types.VARCHAR);
+                } else {
+                    statement.setString(3, change.getCountryShortName());
+                }
+                statement.setString(4, change.getCurrency().getShortName());
+                statement.setString(5, change.getCurrency().getName());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        final long version = changes.get(changes.size() - 1).getVersion();
+        try(final PreparedStatement statement = connection.prepareStatement(UPDATE_VERSION)) {
+            statement.setLong(1, version);
+            statement.executeUpdate();
+        }
+        try(final PreparedStatement statement = connection.prepareStatement(DELETE_CHANGES_UNTIL)) {
+            statement.setLong(1, version - this.changeLogCapacity);
+            statement.executeUpdate();
+        }
+    }
+
+    private void notifyListeners(final CurrencyChangeET change) {
+        for(final Consumer<CurrencyChangeET> listener : this.listeners) {
+            try {
+                listener.accept(change);
+            } catch(final RuntimeException e) {
+                LOG.error("Currency change listener failed for change {}", change, e);
+            }
+        }
+    }
+
+    private static boolean insertCurrencyIfAbsent(final Connection connection, final CurrencyET currency, final long version) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(INSERT_CURRENCY_IF_ABSENT)) {
+            bindCurrency(statement, currency, version);
+            statement.setString(5, currency.getShortName());
+            statement.setString(6, currency.getName());
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private static boolean insertCountryIfAbsent(final Connection connection, final String countryShortName, final CurrencyET currency,
+                                                 final long version) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(INSERT_COUNTRY_IF_ABSENT)) {
+            bindCountry(statement, countryShortName, currency, version);
+            statement.setString(6, countryShortName);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    private static void bindCurrency(final PreparedStatement statement, final CurrencyET currency, final long version) throws SQLException {
+        statement.setString(1, currency.getShortName());
+        statement.setString(2, key(currency.getShortName()));
+        statement.setString(3, currency.getName());
+        statement.setLong(4, version);
+    }
+
+    private static void bindCountry(final PreparedStatement statement, final String countryShortName, final CurrencyET currency,
+                                    final long version) throws SQLException {
+        statement.setString(1, countryShortName);
+        statement.setString(2, currency.getShortName());
+        statement.setString(3, key(currency.getShortName()));
+        statement.setString(4, currency.getName());
+        statement.setLong(5, version);
+    }
+
+    private static CurrencyET readCurrency(final Connection connection, final String key) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(SELECT_CURRENCY_BY_KEY)) {
+            statement.setString(1, key);
+            try(final ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? new CurrencyET(resultSet.getString(1), resultSet.getString(2)) : null;
+            }
+        }
+    }
+
+    /**
+     * Binds the keys as array to the only parameter of a statement, see {@link #SELECT_CURRENCIES_BY_KEYS}.
+     */
+    private static void bindKeys(final Connection connection, final PreparedStatement statement, final Collection<String> keys) throws SQLException {
+        statement.setArray(1, connection.createArrayOf("VARCHAR", keys.toArray()));
+    }
+
+    private static Set<CurrencyET> readCurrencies(final Connection connection) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(SELECT_CURRENCIES);
+            final ResultSet resultSet = statement.executeQuery()) {
+            final Set<CurrencyET> currencies = new LinkedHashSet<>();
+            while(resultSet.next()) {
+                currencies.add(new CurrencyET(resultSet.getString(1), resultSet.getString(2)));
+            }
+            return currencies;
+        }
+    }
+
+    private static Set<String> readCountryShortNames(final Connection connection) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(SELECT_COUNTRIES);
+            final ResultSet resultSet = statement.executeQuery()) {
+            final Set<String> countries = new HashSet<>();
+            while(resultSet.next()) {
+                countries.add(resultSet.getString(1));
+            }
+            return countries;
+        }
+    }
+
+    private static Map<String, CurrencyET> readCountries(final ResultSet resultSet) throws SQLException {
+        final Map<String, CurrencyET> countries = new LinkedHashMap<>();
+        while(resultSet.next()) {
+            countries.put(resultSet.getString(1), new CurrencyET(resultSet.getString(2), resultSet.getString(3)));
+        }
+        return Collections.unmodifiableMap(countries);
+    }
+
+    private static long readVersion(final Connection connection) throws SQLException {
+        try(final PreparedStatement statement = connection.prepareStatement(SELECT_VERSION);
+            final ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private static String key(final String shortName) {
+        return shortName.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Runs the given work with a connection of the pool.
+     *
+     * @param errorMessage the message of the {@link TechnicalException} if the work fails.
+     * @param work the work.
+     * @param <T> the type of the result.
+     * @return the result of the work.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the database cannot be accessed.
+     */
+    private <T> T query(final String errorMessage, final Query<T> work) {
+        try(final Connection connection = this.dataSource.getConnection()) {
+            return work.apply(connection);
+        } catch(final SQLException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, errorMessage, e);
+        }
+    }
+
+    /**
+     * Work with a {@link Connection}.
+     */
+    @FunctionalInterface
+    private interface Query<T> {
+        T apply(final Connection connection) throws SQLException;
+    }
+
+    /**
+     * A version with the {@link System#nanoTime()} it was read at.
+     */
+    private static final class KnownVersion {
+        private final long version;
+        private final long readAt;
+
+        private KnownVersion(final long version, final long readAt) {
+            this.version = version;
+            this.readAt = readAt;
+        }
+    }
+
+    /**
+     * Changes applied in a transaction.
+     */
+    @FunctionalInterface
+    private interface Write {
+        /**
+         * Applies the changes.
+         *
+         * @param connection the {@link Connection} of the transaction.
+         * @param version the current version, the first change gets the following version.
+         * @return the effective changes ordered by version, empty if nothing changed.
+         * @throws SQLException if the database cannot be accessed.
+         */
+        List<CurrencyChangeET> apply(final Connection connection, final long version) throws SQLException;
+    }
+}
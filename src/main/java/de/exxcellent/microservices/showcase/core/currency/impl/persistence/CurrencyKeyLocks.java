@@ -0,0 +1,52 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+
+import java.util.Locale;
+
+/**
+ * A fixed number of locks striped over the currency short names, so callers adding the same short name (ignoring the
+ * case) are serialized and only the first one writes, while callers of different short names only wait for each other
+ * if their short names fall on the same stripe. The locks do not make writes parallel: the storage still orders all
+ * writes with its own lock.
+ * Short names of the letters A-Z are distributed by their {@link IsoCodes} encoding, which spreads consecutive codes
+ * over consecutive stripes.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyKeyLocks {
+    /**
+     * The default number of stripes, enough to make collisions of concurrent writers unlikely.
+     */
+    static final int DEFAULT_STRIPES = 64;
+
+    private final Object[] locks;
+    private final int mask;
+
+    /**
+     * Constructor.
+     *
+     * @param stripes the minimum number of stripes, rounded up to a power of two.
+     */
+    CurrencyKeyLocks(final int stripes) {
+        final int size = Integer.highestOneBit(Math.max(2, stripes - 1)) << 1;
+        this.locks = new Object[size];
+        this.mask = size - 1;
+        for(int stripe = 0; stripe < size; stripe++) {
+            this.locks[stripe] = new Object();
+        }
+    }
+
+    /**
+     * Get the lock of a currency short name.
+     *
+     * @param shortName the short name of the currency (not {@code null}).
+     * @return the lock shared by all callers adding this short name, ignoring the case.
+     */
+    Object lockFor(final String shortName) {
+        final int code = IsoCodes.encode(shortName);
+        final int hash = code != IsoCodes.INVALID_CODE ? code : shortName.toUpperCase(Locale.ROOT).hashCode();
+        return this.locks[(hash ^ (hash >>> 16)) & this.mask];
+    }
+}
@@ -0,0 +1,151 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.metrics.MethodMetrics;
+import de.exxcellent.microservices.showcase.common.metrics.Metrics;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Records the calls of all methods of the produced {@link CurrencyRepository} in the {@link Metrics}. The repository is
+ * created by the {@link CurrencyRepositoryProducer}, so the {@link de.exxcellent.microservices.showcase.common.metrics.Metered}
+ * interceptor cannot be bound to it.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyMeteredRepository implements CurrencyRepository, Closeable {
+    private static final String COMPONENT = CurrencyRepository.class.getSimpleName();
+
+    private final CurrencyRepository storage;
+    private final MethodMetrics findAll;
+    private final MethodMetrics findByShortName;
+    private final MethodMetrics findByShortNames;
+    private final MethodMetrics addCurrency;
+    private final MethodMetrics putIfAbsent;
+    private final MethodMetrics findAllCountriesWithCurrency;
+    private final MethodMetrics addCountryWithCurrency;
+    private final MethodMetrics findCurrencyByCountry;
+    private final MethodMetrics findCurrenciesByCountries;
+    private final MethodMetrics findCountriesByCurrency;
+    private final MethodMetrics getVersion;
+    private final MethodMetrics findChangesSince;
+    private final MethodMetrics addAll;
+
+    /**
+     * Constructor.
+     *
+     * @param storage the {@link CurrencyRepository} to be metered.
+     * @param metrics the {@link Metrics} to record the calls in.
+     */
+    CurrencyMeteredRepository(final CurrencyRepository storage, final Metrics metrics) {
+        this.storage = storage;
+        this.findAll = metrics.getMethodMetrics(COMPONENT, "findAll");
+        this.findByShortName = metrics.getMethodMetrics(COMPONENT, "findByShortName");
+        this.findByShortNames = metrics.getMethodMetrics(COMPONENT, "findByShortNames");
+        this.addCurrency = metrics.getMethodMetrics(COMPONENT, "addCurrency");
+        this.putIfAbsent = metrics.getMethodMetrics(COMPONENT, "putIfAbsent");
+        this.findAllCountriesWithCurrency = metrics.getMethodMetrics(COMPONENT, "findAllCountriesWithCurrency");
+        this.addCountryWithCurrency = metrics.getMethodMetrics(COMPONENT, "addCountryWithCurrency");
+        this.findCurrencyByCountry = metrics.getMethodMetrics(COMPONENT, "findCurrencyByCountry");
+        this.findCurrenciesByCountries = metrics.getMethodMetrics(COMPONENT, "findCurrenciesByCountries");
+        this.findCountriesByCurrency = metrics.getMethodMetrics(COMPONENT, "findCountriesByCurrency");
+        this.getVersion = metrics.getMethodMetrics(COMPONENT, "getVersion");
+        this.findChangesSince = metrics.getMethodMetrics(COMPONENT, "findChangesSince");
+        this.addAll = metrics.getMethodMetrics(COMPONENT, "addAll");
+    }
+
+    @Override
+    public Set<CurrencyET> findAll() {
+        return this.findAll.measure(this.storage::findAll);
+    }
+
+    @Override
+    public Optional<CurrencyET> findByShortName(final String shortName) {
+        return this.findByShortName.measure(() -> this.storage.findByShortName(shortName));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames) {
+        return this.findByShortNames.measure(() -> this.storage.findByShortNames(shortNames));
+    }
+
+    @Override
+    public Set<CurrencyET> addCurrency(final CurrencyET currency) {
+        return this.addCurrency.measure(() -> this.storage.addCurrency(currency));
+    }
+
+    @Override
+    public Optional<CurrencyET> putIfAbsent(final CurrencyET currency) {
+        return this.putIfAbsent.measure(() -> this.storage.putIfAbsent(currency));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findAllCountriesWithCurrency() {
+        return this.findAllCountriesWithCurrency.measure(this.storage::findAllCountriesWithCurrency);
+    }
+
+    @Override
+    public Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+        return this.addCountryWithCurrency.measure(() -> this.storage.addCountryWithCurrency(countryShortName, currency));
+    }
+
+    @Override
+    public Optional<CurrencyET> findCurrencyByCountry(final String countryShortName) {
+        return this.findCurrencyByCountry.measure(() -> this.storage.findCurrencyByCountry(countryShortName));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames) {
+        return this.findCurrenciesByCountries.measure(() -> this.storage.findCurrenciesByCountries(countryShortNames));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        return this.findCountriesByCurrency.measure(() -> this.storage.findCountriesByCurrency(currencyShortName));
+    }
+
+    @Override
+    public long getVersion() {
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final long version = this.storage.getVersion();
+            failed = false;
+            return version;
+        } finally {
+            this.getVersion.record(start, failed);
+        }
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> findChangesSince(final long version) {
+        return this.findChangesSince.measure(() -> this.storage.findChangesSince(version));
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        // only called on startup.
+        this.storage.addChangeListener(listener);
+    }
+
+    @Override
+    public void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency) {
+        this.addAll.measure(() -> this.storage.addAll(currencies, countriesWithCurrency));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(this.storage instanceof Closeable) {
+            ((Closeable) this.storage).close();
+        } // else: the storage holds no resources.
+    }
+}
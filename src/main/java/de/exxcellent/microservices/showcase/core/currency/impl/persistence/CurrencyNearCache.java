@@ -0,0 +1,108 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded read-through cache in front of a slow lookup, e.g. a database query.
+ * <p>
+ * A value is loaded on the first lookup of a key and served from memory until its time to live is over. Absent values
+ * ({@code null}) are cached as well. If the cache is full, an arbitrary entry is evicted for a new one.
+ * Values changed by other processes are seen at the latest after the time to live, local changes are seen immediately
+ * if the changed keys are invalidated.
+ *
+ * @param <V> the type of the cached values.
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyNearCache<V> {
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    /**
+     * Increased on every invalidation, so a value loaded before an invalidation is not cached afterwards.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of cached keys.
+     * @param timeToLiveMillis the time in milliseconds a loaded value is served from the cache. {@code 0} disables the cache.
+     */
+    CurrencyNearCache(final int maxSize, final long timeToLiveMillis) {
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+    }
+
+    /**
+     * Get the value of a key, loading it if it is not cached or expired.
+     *
+     * @param key the key (not {@code null}).
+     * @param loader loads the value of a key, may return {@code null} if there is none.
+     * @return the value or {@code null} if there is none.
+     */
+    V get(final String key, final Function<String, V> loader) {
+        final long now = System.nanoTime();
+        final Entry<V> entry = this.entries.get(key);
+        if(entry != null && now - entry.loadedAt < this.timeToLiveNanos) {
+            return entry.value;
+        } else if(this.timeToLiveNanos <= 0 || this.maxSize <= 0) {
+            return loader.apply(key);
+        } // else: load and cache the value.
+        final long loadedGeneration = this.generation.get();
+        final V value = loader.apply(key);
+        if(entry == null && this.entries.size() >= this.maxSize) {
+            evictOne();
+        } // else: there is room for the new entry.
+        final Entry<V> loaded = new Entry<>(value, now);
+        this.entries.put(key, loaded);
+        if(this.generation.get() != loadedGeneration) {
+            // invalidated while loading, the value may be outdated.
+            this.entries.remove(key, loaded);
+        }
+        return value;
+    }
+
+    /**
+     * Remove a key, so the next lookup loads its value again.
+     *
+     * @param key the key (not {@code null}).
+     */
+    void invalidate(final String key) {
+        this.generation.incrementAndGet();
+        this.entries.remove(key);
+    }
+
+    /**
+     * Remove all keys.
+     */
+    void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.entries.clear();
+    }
+
+    private void evictOne() {
+        final Iterator<String> keys = this.entries.keySet().iterator();
+        if(keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        } // else: emptied concurrently.
+    }
+
+    /**
+     * A cached value with the time it was loaded.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(final V value, final long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
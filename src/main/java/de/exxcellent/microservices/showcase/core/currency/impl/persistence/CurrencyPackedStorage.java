@@ -0,0 +1,506 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of {@link CurrencyRepository} storing currencies and countries in dense arrays indexed by their
+ * ISO code encoded with {@link IsoCodes}. Lookups need no hashing, boxing or {@link String#equals(Object)}.
+ * <p>
+ * Currencies and countries are appended to dense lists. The code tables map an encoded code to its position in the list
+ * (plus one, {@code 0} means absent). The lists are append-only, so a published {@link PackedSnapshot} only has to remember
+ * its number of entries and shares the arrays with newer snapshots. A table entry pointing behind the end of a snapshot's
+ * list belongs to a newer snapshot and is treated as absent.
+ * <p>
+ * The countries using a currency are chained from the latest to the first one, so they can be found without scanning
+ * all countries. Countries of newer snapshots are at the start of a chain and are skipped.
+ * <p>
+ * Every effective change increases the version by one and is kept in a bounded {@link CurrencyChangeLog}.
+ * <p>
+ * In contrast to {@link CurrencyRuntimeStorage} all codes must consist of the letters A-Z and country short names are
+ * matched ignoring the case as well. There is at most one currency per short name.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyPackedStorage implements CurrencyRepository {
+    private static final String CURRENCY_SHORT_NAME_LETTERS = "Currency short name must consist of the letters A-Z";
+    private static final String COUNTRY_SHORT_NAME_LETTERS = "Country short name must consist of the letters A-Z";
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Maps the encoded currency short name to its position in {@link PackedSnapshot#currencies} plus one.
+     */
+    private final short[] currencySlots = new short[IsoCodes.CODE_SPACE];
+    /**
+     * Maps the encoded country short name to its position in {@link PackedSnapshot#countryNames} plus one.
+     */
+    private final short[] countrySlots = new short[IsoCodes.CODE_SPACE];
+    /**
+     * Maps the encoded currency short name to the position of the latest country using it plus one.
+     */
+    private final short[] lastCountrySlots = new short[IsoCodes.CODE_SPACE];
+    /**
+     * Maps the position of a country to the position of the previous country using the same currency plus one.
+     * There are at most {@link IsoCodes#CODE_SPACE} countries.
+     */
+    private final short[] previousCountrySlots = new short[IsoCodes.CODE_SPACE];
+    /**
+     * The currently published {@link PackedSnapshot}.
+     */
+    private final AtomicReference<PackedSnapshot> snapshot;
+    /**
+     * The latest published changes.
+     */
+    private final CurrencyChangeLog changeLog;
+
+    /**
+     * Constructor.
+     * Initializes some dummy data.
+     */
+    public CurrencyPackedStorage() {
+        this(true, CurrencyChangeLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param withDummyData {@code true} to initialize some dummy data, {@code false} to start empty.
+     * @param changeLogCapacity the number of changes kept in the {@link CurrencyChangeLog}.
+     */
+    public CurrencyPackedStorage(final boolean withDummyData, final int changeLogCapacity) {
+        this.snapshot = new AtomicReference<>(new PackedSnapshot(0L, new CurrencyET[INITIAL_CAPACITY], 0, new String[INITIAL_CAPACITY],
+                                                                 new CurrencyET[INITIAL_CAPACITY], 0));
+        this.changeLog = new CurrencyChangeLog(changeLogCapacity, 0L);
+        if(withDummyData) {
+            initData();
+        }
+    }
+
+    private void initData() {
+        final CurrencyET euro = new CurrencyET("EUR", "Euro");
+        final CurrencyET pound = new CurrencyET("GPD", "Pound");
+        addCurrency(euro);
+        addCurrency(pound);
+        addCountryWithCurrency("GER", euro);
+        addCountryWithCurrency("FRA", euro);
+        addCountryWithCurrency("SCO", pound);
+    }
+
+    @Override
+    public Set<CurrencyET> findAll() {
+        return this.snapshot.get().currencySet;
+    }
+
+    @Override
+    public Optional<CurrencyET> findByShortName(final String shortName) {
+        Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        return Optional.ofNullable(this.snapshot.get().currency(IsoCodes.encode(shortName)));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames) {
+        Preconditions.checkNotNull(shortNames, "Currency short names must not be null");
+        final PackedSnapshot current = this.snapshot.get();
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String shortName : shortNames) {
+            final CurrencyET currency = current.currency(IsoCodes.encode(shortName));
+            if(currency != null) {
+                found.put(shortName, currency);
+            } // else: missing.
+        }
+        return found;
+    }
+
+    @Override
+    public synchronized Set<CurrencyET> addCurrency(final CurrencyET currency) {
+        CurrencyValidation.validateCurrencyET(currency);
+        final List<CurrencyChangeET> changes = new ArrayList<>(1);
+        final PackedSnapshot next = appendCurrency(this.snapshot.get(), currency, changes);
+        publish(next, changes);
+        return next.currencySet;
+    }
+
+    @Override
+    public Optional<CurrencyET> putIfAbsent(final CurrencyET currency) {
+        CurrencyValidation.validateCurrencyET(currency);
+        final int code = encode(currency.getShortName(), CURRENCY_SHORT_NAME_LETTERS);
+        // currencies are never removed, so a published currency can be returned without locking.
+        final CurrencyET published = this.snapshot.get().currency(code);
+        if(published != null) {
+            return Optional.of(published);
+        } // else: check again while writing, appending is cheap enough to be serialized over all short names.
+        synchronized(this) {
+            final PackedSnapshot current = this.snapshot.get();
+            final CurrencyET existing = current.currency(code);
+            if(existing == null) {
+                final List<CurrencyChangeET> changes = new ArrayList<>(1);
+                publish(appendCurrency(current, currency, changes), changes);
+            } // else: added concurrently.
+            return Optional.ofNullable(existing);
+        }
+    }
+
+    @Override
+    public Map<String, CurrencyET> findAllCountriesWithCurrency() {
+        return this.snapshot.get().countryMap;
+    }
+
+    @Override
+    public synchronized Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+        Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
+        CurrencyValidation.validateCurrencyET(currency);
+        final List<CurrencyChangeET> changes = new ArrayList<>(1);
+        final PackedSnapshot next = appendCountryWithCurrency(this.snapshot.get(), countryShortName, currency, changes);
+        publish(next, changes);
+        return next.countryMap;
+    }
+
+    @Override
+    public long getVersion() {
+        return this.snapshot.get().version;
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> findChangesSince(final long version) {
+        return this.changeLog.changesSince(version);
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        Preconditions.checkNotNull(listener, "Listener must not be null");
+        this.changeLog.addListener(listener);
+    }
+
+    @Override
+    public synchronized void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency) {
+        Preconditions.checkNotNull(currencies, "Currencies must not be null");
+        Preconditions.checkNotNull(countriesWithCurrency, "Countries with currency must not be null");
+        // validate the whole batch first, appending changes the shared code tables and must not fail halfway.
+        for(final CurrencyET currency : currencies) {
+            CurrencyValidation.validateCurrencyET(currency);
+            encode(currency.getShortName(), CURRENCY_SHORT_NAME_LETTERS);
+        }
+        for(final Map.Entry<String, CurrencyET> country : countriesWithCurrency.entrySet()) {
+            Preconditions.checkNotNull(country.getKey(), "Country short name must not be null");
+            CurrencyValidation.validateCurrencyET(country.getValue());
+            encode(country.getKey(), COUNTRY_SHORT_NAME_LETTERS);
+            encode(country.getValue().getShortName(), CURRENCY_SHORT_NAME_LETTERS);
+        }
+        // the snapshots are only appended to, the intermediate ones are never published.
+        final List<CurrencyChangeET> changes = new ArrayList<>();
+        PackedSnapshot next = this.snapshot.get();
+        for(final CurrencyET currency : currencies) {
+            next = appendCurrency(next, currency, changes);
+        }
+        for(final Map.Entry<String, CurrencyET> country : countriesWithCurrency.entrySet()) {
+            next = appendCountryWithCurrency(next, country.getKey(), country.getValue(), changes);
+        }
+        publish(next, changes);
+    }
+
+    /**
+     * Logs the changes and publishes the resulting snapshot. The changes are logged first, so a reader never sees a
+     * version that is missing in the log. Must be called holding the monitor of this storage.
+     *
+     * @param next the {@link PackedSnapshot} containing the changes.
+     * @param changes the {@link CurrencyChangeET}s leading to the snapshot, empty if nothing changed.
+     */
+    private void publish(final PackedSnapshot next, final List<CurrencyChangeET> changes) {
+        changes.forEach(this.changeLog::append);
+        this.snapshot.set(next);
+    }
+
+    /**
+     * Appends a currency to the given snapshot. The short name is encoded before the code tables are changed, so an
+     * invalid short name leaves them untouched.
+     *
+     * @param current the current {@link PackedSnapshot}.
+     * @param currency the currency to add as {@link CurrencyET}.
+     * @param changes collects the {@link CurrencyChangeET} to be logged when the snapshot is published.
+     * @return the {@link PackedSnapshot} containing the currency, the given snapshot if it is already contained.
+     */
+    private PackedSnapshot appendCurrency(final PackedSnapshot current, final CurrencyET currency, final List<CurrencyChangeET> changes) {
+        final int code = encode(currency.getShortName(), CURRENCY_SHORT_NAME_LETTERS);
+        if(current.currency(code) != null) {
+            return current;
+        } // else: the currency is new.
+        final long version = current.version + 1;
+        changes.add(CurrencyChangeET.currencyAdded(version, currency));
+        return current.withCurrency(code, currency).withVersion(version);
+    }
+
+    /**
+     * Appends a country with its currency to the given snapshot, see {@link #appendCurrency(PackedSnapshot, CurrencyET, List)}.
+     *
+     * @param current the current {@link PackedSnapshot}.
+     * @param countryShortName the short name of the country to add.
+     * @param currency the currency of the country as {@link CurrencyET}.
+     * @param changes collects the {@link CurrencyChangeET} to be logged when the snapshot is published.
+     * @return the {@link PackedSnapshot} containing the country, the given snapshot if nothing changed.
+     */
+    private PackedSnapshot appendCountryWithCurrency(final PackedSnapshot current, final String countryShortName, final CurrencyET currency,
+                                                     final List<CurrencyChangeET> changes) {
+        final int countryCode = encode(countryShortName, COUNTRY_SHORT_NAME_LETTERS);
+        final int currencyCode = encode(currency.getShortName(), CURRENCY_SHORT_NAME_LETTERS);
+        PackedSnapshot next = current;
+        if(next.currency(currencyCode) == null) {
+            next = next.withCurrency(currencyCode, currency);
+        } // else: the currency is already known.
+        if(next.countryCurrency(countryCode) == null) {
+            next = next.withCountry(countryCode, countryShortName, next.currency(currencyCode));
+        } // else: an existing country keeps its currency.
+        if(next == current) {
+            return current;
+        } // else: at least one of both is new.
+        final long version = current.version + 1;
+        changes.add(CurrencyChangeET.countryWithCurrencyAdded(version, countryShortName, next.currency(currencyCode)));
+        return next.withVersion(version);
+    }
+
+    @Override
+    public Optional<CurrencyET> findCurrencyByCountry(final String countryShortName) {
+        Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
+        return Optional.ofNullable(this.snapshot.get().countryCurrency(IsoCodes.encode(countryShortName)));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames) {
+        Preconditions.checkNotNull(countryShortNames, "Country short names must not be null");
+        final PackedSnapshot current = this.snapshot.get();
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String countryShortName : countryShortNames) {
+            final CurrencyET currency = current.countryCurrency(IsoCodes.encode(countryShortName));
+            if(currency != null) {
+                found.put(countryShortName, currency);
+            } // else: missing.
+        }
+        return found;
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        Preconditions.checkNotNull(currencyShortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        return this.snapshot.get().countriesByCurrency(IsoCodes.encode(currencyShortName));
+    }
+
+    private static int encode(final String code, final String errorMessage) {
+        final int encoded = IsoCodes.encode(code);
+        if(encoded == IsoCodes.INVALID_CODE) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, errorMessage);
+        } // else: the code is valid.
+        return encoded;
+    }
+
+    private static <T> T[] ensureCapacity(final T[] array, final int size) {
+        return size < array.length ? array : Arrays.copyOf(array, array.length * 2);
+    }
+
+    /**
+     * An immutable view of the storage. The arrays are append-only and may be shared with newer snapshots,
+     * only the first {@code currencyCount} respectively {@code countryCount} entries belong to this snapshot.
+     */
+    private final class PackedSnapshot {
+        private final long version;
+        private final CurrencyET[] currencies;
+        private final int currencyCount;
+        private final String[] countryNames;
+        private final CurrencyET[] countryCurrencies;
+        private final int countryCount;
+        private final Set<CurrencyET> currencySet = new CurrencySetView();
+        private final Map<String, CurrencyET> countryMap = new CountryMapView();
+
+        private PackedSnapshot(final long version, final CurrencyET[] currencies, final int currencyCount, final String[] countryNames,
+                               final CurrencyET[] countryCurrencies, final int countryCount) {
+            this.version = version;
+            this.currencies = currencies;
+            this.currencyCount = currencyCount;
+            this.countryNames = countryNames;
+            this.countryCurrencies = countryCurrencies;
+            this.countryCount = countryCount;
+        }
+
+        private CurrencyET currency(final int code) {
+            if(code == IsoCodes.INVALID_CODE) {
+                return null;
+            } // else: look up the position in the list.
+            final int slot = CurrencyPackedStorage.this.currencySlots[code];
+            return slot > 0 && slot <= this.currencyCount ? this.currencies[slot - 1] : null;
+        }
+
+        private CurrencyET countryCurrency(final int code) {
+            if(code == IsoCodes.INVALID_CODE) {
+                return null;
+            } // else: look up the position in the list.
+            final int slot = CurrencyPackedStorage.this.countrySlots[code];
+            return slot > 0 && slot <= this.countryCount ? this.countryCurrencies[slot - 1] : null;
+        }
+
+        private Map<String, CurrencyET> countriesByCurrency(final int currencyCode) {
+            if(currencyCode == IsoCodes.INVALID_CODE) {
+                return Collections.emptyMap();
+            } // else: follow the chain of countries using the currency.
+            final Map<String, CurrencyET> countries = new LinkedHashMap<>();
+            for(int slot = CurrencyPackedStorage.this.lastCountrySlots[currencyCode]; slot > 0;
+                slot = CurrencyPackedStorage.this.previousCountrySlots[slot - 1]) {
+                if(slot <= this.countryCount) {
+                    countries.put(this.countryNames[slot - 1], this.countryCurrencies[slot - 1]);
+                } // else: the country belongs to a newer snapshot.
+            }
+            return Collections.unmodifiableMap(countries);
+        }
+
+        private PackedSnapshot withCurrency(final int code, final CurrencyET currency) {
+            final CurrencyET[] newCurrencies = ensureCapacity(this.currencies, this.currencyCount);
+            newCurrencies[this.currencyCount] = currency;
+            CurrencyPackedStorage.this.currencySlots[code] = (short) (this.currencyCount + 1);
+            return new PackedSnapshot(this.version, newCurrencies, this.currencyCount + 1, this.countryNames, this.countryCurrencies,
+                                      this.countryCount);
+        }
+
+        private PackedSnapshot withCountry(final int code, final String countryShortName, final CurrencyET currency) {
+            final String[] newNames = ensureCapacity(this.countryNames, this.countryCount);
+            final CurrencyET[] newCurrencies = ensureCapacity(this.countryCurrencies, this.countryCount);
+            newNames[this.countryCount] = countryShortName;
+            newCurrencies[this.countryCount] = currency;
+            CurrencyPackedStorage.this.countrySlots[code] = (short) (this.countryCount + 1);
+            // the currency code is valid, the currency has been added with it before.
+            final int currencyCode = IsoCodes.encode(currency.getShortName());
+            CurrencyPackedStorage.this.previousCountrySlots[this.countryCount] = CurrencyPackedStorage.this.lastCountrySlots[currencyCode];
+            CurrencyPackedStorage.this.lastCountrySlots[currencyCode] = (short) (this.countryCount + 1);
+            return new PackedSnapshot(this.version, this.currencies, this.currencyCount, newNames, newCurrencies, this.countryCount + 1);
+        }
+
+        private PackedSnapshot withVersion(final long newVersion) {
+            return new PackedSnapshot(newVersion, this.currencies, this.currencyCount, this.countryNames, this.countryCurrencies,
+                                      this.countryCount);
+        }
+
+        /**
+         * An unmodifiable {@link Set} view of the currencies of this snapshot.
+         */
+        private final class CurrencySetView extends AbstractSet<CurrencyET> {
+            @Override
+            public Iterator<CurrencyET> iterator() {
+                return new ArrayIterator<>(PackedSnapshot.this.currencies, PackedSnapshot.this.currencyCount);
+            }
+
+            @Override
+            public int size() {
+                return PackedSnapshot.this.currencyCount;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                if(!(o instanceof CurrencyET)) {
+                    return false;
+                } // else: compare with the currency stored for this short name.
+                final CurrencyET currency = (CurrencyET) o;
+                return currency.equals(currency(IsoCodes.encode(currency.getShortName())));
+            }
+        }
+
+        /**
+         * An unmodifiable {@link Map} view of the countries with their currency of this snapshot.
+         */
+        private final class CountryMapView extends AbstractMap<String, CurrencyET> {
+            private final Set<Entry<String, CurrencyET>> entries = new AbstractSet<Entry<String, CurrencyET>>() {
+                @Override
+                public Iterator<Entry<String, CurrencyET>> iterator() {
+                    return new Iterator<Entry<String, CurrencyET>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.next < PackedSnapshot.this.countryCount;
+                        }
+
+                        @Override
+                        public Entry<String, CurrencyET> next() {
+                            if(!hasNext()) {
+                                throw new NoSuchElementException();
+                            } // else: return the next country.
+                            final int index = this.next++;
+                            return new SimpleImmutableEntry<>(PackedSnapshot.this.countryNames[index], PackedSnapshot.this.countryCurrencies[index]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return PackedSnapshot.this.countryCount;
+                }
+            };
+
+            @Override
+            public Set<Entry<String, CurrencyET>> entrySet() {
+                return this.entries;
+            }
+
+            @Override
+            public int size() {
+                return PackedSnapshot.this.countryCount;
+            }
+
+            @Override
+            public CurrencyET get(final Object key) {
+                return key instanceof String ? countryCurrency(IsoCodes.encode((String) key)) : null;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return get(key) != null;
+            }
+        }
+    }
+
+    /**
+     * An {@link Iterator} over the first entries of an array.
+     *
+     * @param <T> the type of the array elements.
+     */
+    private static final class ArrayIterator<T> implements Iterator<T> {
+        private final T[] array;
+        private final int size;
+        private int next;
+
+        private ArrayIterator(final T[] array, final int size) {
+            this.array = array;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.size;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            } // else: return the next element.
+            return this.array[this.next++];
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the reference data (e.g. all ISO 4217 currencies and the ISO 3166 countries using them) from the file configured
+ * with {@code currency.reference-data.file} into the {@link CurrencyRepository} on startup.
+ * <p>
+ * The file is read row by row in a single pass, files ending with {@code .json} as JSON, all others as CSV. Every row
+ * contains an optional country short name, a currency short name and a currency name:
+ * <ul>
+ *     <li>CSV: a header line followed by lines {@code country,shortName,name}. Fields may be enclosed in double quotes.</li>
+ *     <li>JSON: an array of objects {@code {"country": "GER", "shortName": "EUR", "name": "Euro"}}.</li>
+ * </ul>
+ * Invalid rows are skipped and counted, duplicates are dropped keeping the first occurrence. All short names have to
+ * consist of the letters A-Z, so the same file is loaded the same way by every storage, see {@link CurrencyPackedStorage}. The valid rows are handed to the
+ * {@link CurrencyRepository} once the whole file is read, so readers never see a partially loaded state.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class CurrencyReferenceDataLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyReferenceDataLoader.class);
+    private static final String COUNTRY_SHORT_NAME_LENGTH = "Country short name must have 3 characters";
+    private static final String CURRENCY_SHORT_NAME_LETTERS = "Currency short name must consist of the letters A-Z";
+    private static final String COUNTRY_SHORT_NAME_LETTERS = "Country short name must consist of the letters A-Z";
+    /**
+     * The number of rows after which the progress is logged.
+     */
+    private static final int PROGRESS_INTERVAL = 10000;
+
+    private final CurrencyRepository currencyRepository;
+    private final Optional<String> referenceDataFile;
+    private final CurrencyReplication replication;
+
+    @Inject
+    CurrencyReferenceDataLoader(final CurrencyRepository currencyRepository,
+                                @ConfigProperty(name = "currency.reference-data.file") final Optional<String> referenceDataFile,
+                                final CurrencyReplication replication) {
+        this.currencyRepository = currencyRepository;
+        this.referenceDataFile = referenceDataFile;
+        this.replication = replication;
+    }
+
+    /**
+     * Load the configured reference data file on startup. Replication followers receive the data from their leader.
+     *
+     * @param event the {@link StartupEvent}.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the file cannot be read.
+     */
+    void onStart(@Observes final StartupEvent event) {
+        if(this.replication.isFollower()) {
+            this.referenceDataFile.ifPresent(file -> LOG.info("Replication follower, not loading currency reference data {}", file));
+            return;
+        } // else: this instance owns its data.
+        this.referenceDataFile.ifPresent(file -> load(Paths.get(file)));
+    }
+
+    /**
+     * Load the given reference data file into the {@link CurrencyRepository}.
+     *
+     * @param file the reference data file as {@link Path}.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the file cannot be read.
+     */
+    public void load(final Path file) {
+        LOG.info("Loading currency reference data from {}", file);
+        final long start = System.nanoTime();
+        final ReferenceData data = new ReferenceData(file);
+        try(final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if(file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+                readJson(reader, data);
+            } else {
+                readCsv(reader, data);
+            }
+        } catch(final IOException | JsonParsingException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not read currency reference data " + file, e);
+        }
+        final long read = System.nanoTime();
+        this.currencyRepository.addAll(data.currencies.values(), data.countriesWithCurrency);
+        LOG.info("Loaded {} currencies and {} countries from {} rows of {} ({} invalid, {} duplicates) in {} ms, published in {} ms",
+                 data.currencies.size(), data.countriesWithCurrency.size(), data.rows, file, data.invalidRows, data.duplicateRows,
+                 TimeUnit.NANOSECONDS.toMillis(read - start), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - read));
+    }
+
+    private static void readCsv(final BufferedReader reader, final ReferenceData data) throws IOException {
+        final List<String> fields = new ArrayList<>(3);
+        // skip the header line.
+        String line = reader.readLine();
+        while((line = reader.readLine()) != null) {
+            if(line.trim().isEmpty()) {
+                continue;
+            } // else: a row.
+            splitCsvLine(line, fields);
+            data.add(fields.size() > 0 ? fields.get(0) : null, fields.size() > 1 ? fields.get(1) : null,
+                     fields.size() > 2 ? fields.get(2) : null);
+        }
+    }
+
+    /**
+     * Splits a CSV line into its fields. Fields may be enclosed in double quotes, a double quote within a quoted
+     * field is escaped by another double quote.
+     *
+     * @param line the CSV line.
+     * @param fields the {@link List} to be filled with the fields, cleared before.
+     */
+    private static void splitCsvLine(final String line, final List<String> fields) {
+        fields.clear();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for(int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if(quoted) {
+                if(c != '"') {
+                    field.append(c);
+                } else if(i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if(c == '"') {
+                quoted = true;
+            } else if(c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+    }
+
+    private static void readJson(final Reader reader, final ReferenceData data) {
+        try(final JsonParser parser = Json.createParser(reader)) {
+            String key = null;
+            String country = null;
+            String shortName = null;
+            String name = null;
+            while(parser.hasNext()) {
+                switch(parser.next()) {
+                    case START_OBJECT:
+                        country = null;
+                        shortName = null;
+                        name = null;
+                        break;
+                    case KEY_NAME:
+                        key = parser.getString();
+                        break;
+                    case VALUE_STRING:
+                        if("country".equals(key)) {
+                            country = parser.getString();
+                        } else if("shortName".equals(key)) {
+                            shortName = parser.getString();
+                        } else if("name".equals(key)) {
+                            name = parser.getString();
+                        } // else: ignore unknown fields.
+                        break;
+                    case END_OBJECT:
+                        data.add(country, shortName, name);
+                        break;
+                    default:
+                        // arrays and other values carry no reference data.
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The deduplicated rows of a reference data file.
+     */
+    private static final class ReferenceData {
+        private final Path file;
+        private final Map<String, CurrencyET> currencies = new LinkedHashMap<>();
+        private final Map<String, CurrencyET> countriesWithCurrency = new LinkedHashMap<>();
+        private int rows;
+        private int invalidRows;
+        private int duplicateRows;
+
+        private ReferenceData(final Path file) {
+            this.file = file;
+        }
+
+        /**
+         * Validates and adds a row.
+         *
+         * @param country the country short name or {@code null} / empty if the row only contains a currency.
+         * @param shortName the currency short name.
+         * @param name the currency name.
+         */
+        private void add(final String country, final String shortName, final String name) {
+            this.rows++;
+            if(this.rows % PROGRESS_INTERVAL == 0) {
+                LOG.info("Read {} rows of {}", this.rows, this.file);
+            } // else: not yet time to report the progress.
+            final boolean hasCountry = country != null && !country.isEmpty();
+            final CurrencyET currency;
+            try {
+                currency = new CurrencyET(shortName, name);
+                CurrencyValidation.validateCurrencyET(currency);
+                Preconditions.checkArgument(IsoCodes.encode(shortName) != IsoCodes.INVALID_CODE, CURRENCY_SHORT_NAME_LETTERS);
+                if(hasCountry) {
+                    Preconditions.checkStringLength(country, 3, COUNTRY_SHORT_NAME_LENGTH);
+                    Preconditions.checkArgument(IsoCodes.encode(country) != IsoCodes.INVALID_CODE, COUNTRY_SHORT_NAME_LETTERS);
+                } // else: the row only contains a currency.
+            } catch(final BusinessException e) {
+                this.invalidRows++;
+                LOG.warn("Skipping invalid row {} of {}: {}", this.rows, this.file, e.getMessage());
+                return;
+            }
+            final CurrencyET existingCurrency = this.currencies.putIfAbsent(currency.getShortName(), currency);
+            final CurrencyET rowCurrency = existingCurrency == null ? currency : existingCurrency;
+            if(existingCurrency != null && !existingCurrency.equals(currency)) {
+                LOG.warn("Row {} of {} names currency {} {}, keeping {}", this.rows, this.file, shortName, name, existingCurrency.getName());
+            } // else: the currency is new or identical.
+            if(!hasCountry) {
+                if(existingCurrency != null) {
+                    this.duplicateRows++;
+                }
+                return;
+            } // else: add the country, the first currency of a country wins.
+            final CurrencyET existingCountryCurrency = this.countriesWithCurrency.putIfAbsent(country, rowCurrency);
+            if(existingCountryCurrency != null) {
+                this.duplicateRows++;
+                if(!existingCountryCurrency.equals(rowCurrency)) {
+                    LOG.warn("Row {} of {} assigns currency {} to country {}, keeping {}", this.rows, this.file, shortName, country,
+                             existingCountryCurrency.getShortName());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The {@link CurrencyRepository} of a replication follower. Reads are served by the local {@link CurrencyRuntimeStorage}
+ * which is kept up to date by the {@link CurrencyReplicationFollower}, writes are rejected as they must be sent to the leader.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyReplicaStorage implements CurrencyRepository {
+    private final CurrencyRuntimeStorage storage;
+    private final String leader;
+
+    /**
+     * Constructor.
+     *
+     * @param storage the local {@link CurrencyRuntimeStorage} holding the replicated data.
+     * @param leader the address of the leader, reported to rejected writers.
+     */
+    CurrencyReplicaStorage(final CurrencyRuntimeStorage storage, final String leader) {
+        this.storage = storage;
+        this.leader = leader;
+    }
+
+    @Override
+    public Set<CurrencyET> findAll() {
+        return this.storage.findAll();
+    }
+
+    @Override
+    public Optional<CurrencyET> findByShortName(final String shortName) {
+        return this.storage.findByShortName(shortName);
+    }
+
+    @Override
+    public Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames) {
+        return this.storage.findByShortNames(shortNames);
+    }
+
+    @Override
+    public Set<CurrencyET> addCurrency(final CurrencyET currency) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<CurrencyET> putIfAbsent(final CurrencyET currency) {
+        throw readOnly();
+    }
+
+    @Override
+    public Map<String, CurrencyET> findAllCountriesWithCurrency() {
+        return this.storage.findAllCountriesWithCurrency();
+    }
+
+    @Override
+    public Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<CurrencyET> findCurrencyByCountry(final String countryShortName) {
+        return this.storage.findCurrencyByCountry(countryShortName);
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames) {
+        return this.storage.findCurrenciesByCountries(countryShortNames);
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        return this.storage.findCountriesByCurrency(currencyShortName);
+    }
+
+    @Override
+    public long getVersion() {
+        return this.storage.getVersion();
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> findChangesSince(final long version) {
+        return this.storage.findChangesSince(version);
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        this.storage.addChangeListener(listener);
+    }
+
+    @Override
+    public void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency) {
+        throw readOnly();
+    }
+
+    private BusinessException readOnly() {
+        return new BusinessException(ErrorCode.READ_ONLY_ERROR, "This instance is a replication follower, changes must be sent to the leader " + this.leader);
+    }
+}
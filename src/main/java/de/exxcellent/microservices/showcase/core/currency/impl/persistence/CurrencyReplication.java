@@ -0,0 +1,165 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.ReplicationStatusET;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import java.util.Optional;
+
+/**
+ * Replicates the currencies between instances of the service, configured by {@code currency.replication.role}:
+ * <ul>
+ *     <li>{@code none}: no replication (default).</li>
+ *     <li>{@code leader}: accepts all writes and streams the changes to the followers connecting to
+ *     {@code currency.replication.port} with a {@link CurrencyReplicationLeader}.</li>
+ *     <li>{@code follower}: serves reads from a local {@link CurrencyRuntimeStorage} which a {@link CurrencyReplicationFollower}
+ *     keeps up to date with the leader at {@code currency.replication.leader} ({@code host:port}). Writes are rejected.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class CurrencyReplication {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyReplication.class);
+    private static final String NONE = "none";
+    private static final String LEADER = "leader";
+    private static final String FOLLOWER = "follower";
+
+    private final String role;
+    private final int port;
+    private final Optional<String> leaderAddress;
+    private final long heartbeatMillis;
+    private final int bufferSize;
+    private volatile CurrencyReplicationLeader leader;
+    private volatile CurrencyReplicationFollower follower;
+
+    @Inject
+    CurrencyReplication(@ConfigProperty(name = "currency.replication.role", defaultValue = NONE) final String role,
+                        @ConfigProperty(name = "currency.replication.port", defaultValue = "9081") final int port,
+                        @ConfigProperty(name = "currency.replication.leader") final Optional<String> leaderAddress,
+                        @ConfigProperty(name = "currency.replication.heartbeat-millis", defaultValue = "1000") final long heartbeatMillis,
+                        @ConfigProperty(name = "currency.replication.buffer-size", defaultValue = "10000") final int bufferSize) {
+        this.role = role;
+        this.port = port;
+        this.leaderAddress = leaderAddress;
+        this.heartbeatMillis = heartbeatMillis;
+        this.bufferSize = bufferSize;
+        if(!NONE.equals(role) && !LEADER.equals(role) && !FOLLOWER.equals(role)) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Unknown currency replication role " + role);
+        } else if(FOLLOWER.equals(role) && !leaderAddress.isPresent()) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Replication role follower requires currency.replication.leader");
+        } // else: the configuration is complete.
+    }
+
+    /**
+     * Create the storage on startup, so the replication starts before the first request.
+     *
+     * @param event the {@link StartupEvent}.
+     * @param repository the {@link CurrencyRepository}.
+     */
+    void onStart(@Observes final StartupEvent event, final CurrencyRepository repository) {
+        if(!NONE.equals(this.role)) {
+            LOG.info("Replication role {}, starting with version {}", this.role, repository.getVersion());
+        } // else: the storage is created on first use.
+    }
+
+    /**
+     * Check if this instance is a replication follower. A follower starts without data and does not accept writes.
+     *
+     * @return {@code true} if this instance is a follower.
+     */
+    public boolean isFollower() {
+        return FOLLOWER.equals(this.role);
+    }
+
+    /**
+     * Start the replication of the given storage according to the configured role.
+     *
+     * @param storage the {@link CurrencyRepository} created by the {@link CurrencyRepositoryProducer}. A follower requires
+     * a {@link CurrencyRuntimeStorage}.
+     * @return the {@link CurrencyRepository} to be used by this instance.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the replication cannot be started.
+     */
+    CurrencyRepository replicate(final CurrencyRepository storage) {
+        if(LEADER.equals(this.role)) {
+            this.leader = new CurrencyReplicationLeader(storage, this.port, this.bufferSize, this.heartbeatMillis);
+            return storage;
+        } else if(!FOLLOWER.equals(this.role)) {
+            return storage;
+        } else if(!(storage instanceof CurrencyRuntimeStorage)) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Replication role follower requires storage type runtime");
+        } // else: follow the leader.
+        final String address = this.leaderAddress.get();
+        final int separator = address.lastIndexOf(':');
+        if(separator < 0) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Replication leader must be given as host:port, not " + address);
+        } // else: a valid address.
+        final int leaderPort;
+        try {
+            leaderPort = Integer.parseInt(address.substring(separator + 1));
+        } catch(final NumberFormatException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Invalid replication leader port in " + address, e);
+        }
+        final CurrencyRuntimeStorage runtimeStorage = (CurrencyRuntimeStorage) storage;
+        this.follower = new CurrencyReplicationFollower(runtimeStorage, address.substring(0, separator), leaderPort, this.heartbeatMillis);
+        return new CurrencyReplicaStorage(runtimeStorage, address);
+    }
+
+    /**
+     * Get the replication state of this instance.
+     *
+     * @param version the version of the local data.
+     * @return the {@link ReplicationStatusET}.
+     */
+    public ReplicationStatusET getStatus(final long version) {
+        final CurrencyReplicationLeader currentLeader = this.leader;
+        final CurrencyReplicationFollower currentFollower = this.follower;
+        if(currentFollower != null) {
+            return new ReplicationStatusET(this.role, version, Math.max(version, currentFollower.getLeaderVersion()),
+                                           currentFollower.getLagMillis(), currentFollower.isConnected(), 0);
+        } // else: this instance has the latest data.
+        return new ReplicationStatusET(this.role, version, version, 0, true, currentLeader == null ? 0 : currentLeader.getFollowerCount());
+    }
+
+    /**
+     * Get the time between publishing the latest change on the leader and applying it on a follower.
+     *
+     * @return the lag in milliseconds, {@code 0} if this instance is not a follower.
+     */
+    long getLagMillis() {
+        final CurrencyReplicationFollower currentFollower = this.follower;
+        return currentFollower == null ? 0 : currentFollower.getLagMillis();
+    }
+
+    /**
+     * Check if a follower is connected to its leader.
+     *
+     * @return {@code true} if this instance is connected or not a follower.
+     */
+    boolean isConnected() {
+        final CurrencyReplicationFollower currentFollower = this.follower;
+        return currentFollower == null || currentFollower.isConnected();
+    }
+
+    /**
+     * Stop the replication on shutdown.
+     */
+    @PreDestroy
+    void close() {
+        if(this.leader != null) {
+            this.leader.close();
+        }
+        if(this.follower != null) {
+            this.follower.close();
+        }
+    }
+}
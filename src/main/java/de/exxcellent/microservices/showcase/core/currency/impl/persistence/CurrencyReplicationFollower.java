@@ -0,0 +1,201 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Connects to a {@link CurrencyReplicationLeader} and applies its snapshots and changes to a local {@link CurrencyRuntimeStorage},
+ * see {@link CurrencyReplicationProtocol}. Reads are served by the local storage.
+ * <p>
+ * The first connection asks for a snapshot, reconnections continue with the local version. If the leader is not
+ * reachable or silent for three heartbeat intervals, the follower reconnects with an increasing delay.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyReplicationFollower implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyReplicationFollower.class);
+    private static final long MIN_RECONNECT_DELAY_MILLIS = 100;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 5000;
+
+    private final CurrencyRuntimeStorage storage;
+    private final String host;
+    private final int port;
+    private final int readTimeoutMillis;
+    private final Thread thread;
+    private volatile Socket socket;
+    private volatile boolean closed;
+    /**
+     * {@code true} once a snapshot of the leader was applied, the local version can be continued afterwards.
+     */
+    private volatile boolean synced;
+    private volatile boolean connected;
+    /**
+     * The latest version of the leader the follower knows of.
+     */
+    private volatile long leaderVersion = -1;
+    /**
+     * The time between publishing the latest applied change on the leader and applying it on the follower.
+     */
+    private volatile long lagMillis;
+    /**
+     * The time the latest frame was received.
+     */
+    private volatile long lastContactMillis;
+
+    /**
+     * Constructor.
+     * Starts connecting to the leader.
+     *
+     * @param storage the local {@link CurrencyRuntimeStorage} the replicated data is applied to.
+     * @param host the host of the leader.
+     * @param port the replication port of the leader.
+     * @param heartbeatMillis the heartbeat interval of the leader.
+     */
+    CurrencyReplicationFollower(final CurrencyRuntimeStorage storage, final String host, final int port, final long heartbeatMillis) {
+        this.storage = storage;
+        this.host = host;
+        this.port = port;
+        this.readTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, heartbeatMillis * 3);
+        this.thread = new Thread(this::run, "currency-replication-follower");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Check if the follower is connected to the leader.
+     *
+     * @return {@code true} if connected.
+     */
+    boolean isConnected() {
+        return this.connected;
+    }
+
+    /**
+     * Get the latest version of the leader the follower knows of.
+     *
+     * @return the version of the leader or {@code -1} if the leader was not reached yet.
+     */
+    long getLeaderVersion() {
+        return this.leaderVersion;
+    }
+
+    /**
+     * Get the time between publishing the latest applied change on the leader and applying it on the follower.
+     *
+     * @return the lag in milliseconds. Relies on synchronized clocks.
+     */
+    long getLagMillis() {
+        return this.lagMillis;
+    }
+
+    /**
+     * Get the time the latest snapshot, change or heartbeat was received from the leader.
+     *
+     * @return the time in milliseconds since the epoch or {@code 0} if the leader was not reached yet.
+     */
+    long getLastContactMillis() {
+        return this.lastContactMillis;
+    }
+
+    private void run() {
+        long reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+        while(!this.closed) {
+            try(final Socket connection = new Socket()) {
+                this.socket = connection;
+                connection.setTcpNoDelay(true);
+                connection.connect(new InetSocketAddress(this.host, this.port), this.readTimeoutMillis);
+                connection.setSoTimeout(this.readTimeoutMillis);
+                final DataOutputStream out = new DataOutputStream(connection.getOutputStream());
+                out.writeInt(CurrencyReplicationProtocol.MAGIC);
+                out.writeLong(this.synced ? this.storage.getVersion() : -1);
+                out.flush();
+                this.connected = true;
+                reconnectDelay = MIN_RECONNECT_DELAY_MILLIS;
+                LOG.info("Connected to replication leader {}:{}", this.host, this.port);
+                receive(new DataInputStream(new BufferedInputStream(connection.getInputStream())));
+            } catch(final IOException | RuntimeException e) {
+                if(this.closed) {
+                    return;
+                } else if(this.connected) {
+                    LOG.warn("Lost connection to replication leader {}:{}: {}", this.host, this.port, e.toString());
+                } else {
+                    LOG.debug("Could not connect to replication leader {}:{}", this.host, this.port, e);
+                }
+            } finally {
+                this.connected = false;
+            }
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            reconnectDelay = Math.min(MAX_RECONNECT_DELAY_MILLIS, reconnectDelay * 2);
+        }
+    }
+
+    private void receive(final DataInputStream in) throws IOException {
+        while(!this.closed) {
+            final byte type = in.readByte();
+            switch(type) {
+                case CurrencyReplicationProtocol.CHANGE:
+                    final long publishedAt = in.readLong();
+                    final CurrencyChangeET change = CurrencyChangeCodec.read(in);
+                    this.storage.applyReplicatedChange(change);
+                    this.leaderVersion = Math.max(this.leaderVersion, change.getVersion());
+                    this.lastContactMillis = System.currentTimeMillis();
+                    this.lagMillis = Math.max(0, this.lastContactMillis - publishedAt);
+                    break;
+                case CurrencyReplicationProtocol.SNAPSHOT:
+                    final long version = in.readLong();
+                    in.readLong();
+                    final CurrencySnapshot snapshot = CurrencyReplicationProtocol.readSnapshot(version, in);
+                    this.storage.replaceSnapshot(snapshot);
+                    this.synced = true;
+                    this.leaderVersion = version;
+                    this.lastContactMillis = System.currentTimeMillis();
+                    this.lagMillis = 0;
+                    LOG.info("Applied replication snapshot with version {}, {} currencies and {} countries", version,
+                             snapshot.getCurrencies().size(), snapshot.getCountriesWithCurrency().size());
+                    break;
+                case CurrencyReplicationProtocol.HEARTBEAT:
+                    this.leaderVersion = in.readLong();
+                    in.readLong();
+                    this.lastContactMillis = System.currentTimeMillis();
+                    if(this.storage.getVersion() >= this.leaderVersion) {
+                        this.lagMillis = 0;
+                    } // else: changes are still on their way, keep the lag of the latest change.
+                    break;
+                default:
+                    throw new IOException("Unknown replication frame type " + type);
+            }
+        }
+    }
+
+    /**
+     * Disconnects from the leader and stops reconnecting.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        final Socket connection = this.socket;
+        if(connection != null) {
+            try {
+                connection.close();
+            } catch(final IOException e) {
+                LOG.debug("Could not close replication connection", e);
+            }
+        }
+        this.thread.interrupt();
+    }
+}
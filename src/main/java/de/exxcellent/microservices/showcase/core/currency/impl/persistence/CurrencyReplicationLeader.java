@@ -0,0 +1,250 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams the changes of a {@link CurrencyRepository} to {@link CurrencyReplicationFollower}s over TCP, see
+ * {@link CurrencyReplicationProtocol}.
+ * <p>
+ * Every change is encoded once when it is published and put into the bounded buffer of every connected follower, so the
+ * writers are never blocked by followers. Each follower has its own thread writing its buffer to the socket. A follower
+ * whose buffer is full is disconnected, it reconnects and catches up from the change log or a snapshot.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyReplicationLeader implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyReplicationLeader.class);
+
+    private final CurrencyRepository repository;
+    private final ServerSocket serverSocket;
+    private final int bufferSize;
+    private final long heartbeatMillis;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * Constructor.
+     * Starts listening for followers on the given port.
+     *
+     * @param repository the {@link CurrencyRepository} to replicate.
+     * @param port the TCP port to listen on.
+     * @param bufferSize the number of changes buffered per follower.
+     * @param heartbeatMillis the interval of heartbeats sent while there are no changes.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the port cannot be opened.
+     */
+    CurrencyReplicationLeader(final CurrencyRepository repository, final int port, final int bufferSize, final long heartbeatMillis) {
+        this.repository = repository;
+        this.bufferSize = bufferSize;
+        this.heartbeatMillis = heartbeatMillis;
+        try {
+            this.serverSocket = new ServerSocket();
+            this.serverSocket.setReuseAddress(true);
+            this.serverSocket.bind(new InetSocketAddress(port));
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not listen for replication followers on port " + port, e);
+        }
+        this.repository.addChangeListener(this::publish);
+        final Thread acceptor = new Thread(this::accept, "currency-replication-leader");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOG.info("Replication leader listening on port {}", this.serverSocket.getLocalPort());
+    }
+
+    /**
+     * Get the TCP port the leader listens on.
+     *
+     * @return the local port, e.g. the one chosen by the system if {@code 0} was given.
+     */
+    int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Get the number of connected followers.
+     *
+     * @return the number of connected followers.
+     */
+    int getFollowerCount() {
+        return this.sessions.size();
+    }
+
+    private void publish(final CurrencyChangeET change) {
+        if(this.sessions.isEmpty()) {
+            return;
+        } // else: encode the change once for all followers.
+        final Frame frame = new Frame(change.getVersion(), CurrencyReplicationProtocol.encodeChange(change, System.currentTimeMillis()));
+        for(final Session session : this.sessions) {
+            session.offer(frame);
+        }
+    }
+
+    private void accept() {
+        while(!this.closed) {
+            try {
+                final Socket socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                final Session session = new Session(socket);
+                final Thread thread = new Thread(session::run, "currency-replication-session-" + this.sessionCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.start();
+            } catch(final IOException e) {
+                if(!this.closed) {
+                    LOG.error("Could not accept replication follower", e);
+                } // else: the server socket was closed.
+            }
+        }
+    }
+
+    /**
+     * Stops listening and disconnects all followers.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        try {
+            this.serverSocket.close();
+        } catch(final IOException e) {
+            LOG.warn("Could not close replication server socket", e);
+        }
+        this.sessions.forEach(Session::close);
+    }
+
+    /**
+     * An encoded change with its version.
+     */
+    private static final class Frame {
+        private final long version;
+        private final byte[] bytes;
+
+        private Frame(final long version, final byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * A connected follower with its bounded buffer of changes.
+     */
+    private final class Session {
+        private final Socket socket;
+        private final BlockingQueue<Frame> buffer = new ArrayBlockingQueue<>(CurrencyReplicationLeader.this.bufferSize);
+        private volatile boolean overflow;
+
+        private Session(final Socket socket) {
+            this.socket = socket;
+        }
+
+        private void offer(final Frame frame) {
+            if(!this.buffer.offer(frame) && !this.overflow) {
+                this.overflow = true;
+                LOG.warn("Disconnecting slow replication follower {}, {} changes are not sent yet", this.socket.getRemoteSocketAddress(),
+                         this.buffer.size());
+                close();
+            } // else: the change is buffered.
+        }
+
+        private void run() {
+            try(final DataInputStream in = new DataInputStream(new BufferedInputStream(this.socket.getInputStream()));
+                final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(this.socket.getOutputStream()))) {
+                if(in.readInt() != CurrencyReplicationProtocol.MAGIC) {
+                    LOG.warn("Rejecting replication connection from {}, not a follower", this.socket.getRemoteSocketAddress());
+                    return;
+                } // else: a follower.
+                final long followerVersion = in.readLong();
+                // registered before catching up, so no change is missed. Changes sent during catch up are skipped below.
+                CurrencyReplicationLeader.this.sessions.add(this);
+                LOG.info("Replication follower {} connected with version {}, {} followers", this.socket.getRemoteSocketAddress(),
+                         followerVersion, CurrencyReplicationLeader.this.sessions.size());
+                long sentVersion = catchUp(followerVersion, out);
+                while(!this.socket.isClosed()) {
+                    Frame frame = this.buffer.poll(CurrencyReplicationLeader.this.heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if(frame == null) {
+                        CurrencyReplicationProtocol.writeHeartbeat(CurrencyReplicationLeader.this.repository.getVersion(), out);
+                    }
+                    // write all buffered changes before flushing.
+                    for(; frame != null; frame = this.buffer.poll()) {
+                        if(frame.version > sentVersion) {
+                            out.write(frame.bytes);
+                            sentVersion = frame.version;
+                        } // else: already sent while catching up.
+                    }
+                    out.flush();
+                }
+            } catch(final SocketException e) {
+                LOG.debug("Replication connection to {} closed", this.socket.getRemoteSocketAddress(), e);
+            } catch(final IOException | RuntimeException e) {
+                LOG.warn("Replication to follower {} failed: {}", this.socket.getRemoteSocketAddress(), e.toString());
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Sends the changes after the version of the follower or a snapshot if they are not available anymore.
+         *
+         * @return the version of the follower after the catch up.
+         */
+        private long catchUp(final long followerVersion, final DataOutputStream out) throws IOException {
+            final CurrencyRepository repository = CurrencyReplicationLeader.this.repository;
+            final Optional<List<CurrencyChangeET>> changes = followerVersion < 0 ? Optional.empty() : repository.findChangesSince(followerVersion);
+            if(changes.isPresent()) {
+                long version = followerVersion;
+                for(final CurrencyChangeET change : changes.get()) {
+                    out.write(CurrencyReplicationProtocol.encodeChange(change, System.currentTimeMillis()));
+                    version = change.getVersion();
+                }
+                out.flush();
+                return version;
+            } // else: send all data.
+            // read the version first, the data contains at least this version. Later changes are applied again without effect.
+            final long version = repository.getVersion();
+            final Set<CurrencyET> currencies = repository.findAll();
+            final Map<String, CurrencyET> countriesWithCurrency = repository.findAllCountriesWithCurrency();
+            CurrencyReplicationProtocol.writeSnapshot(version, currencies, countriesWithCurrency, out);
+            out.flush();
+            LOG.info("Sent snapshot with version {} to replication follower {}", version, this.socket.getRemoteSocketAddress());
+            return version;
+        }
+
+        private void close() {
+            if(CurrencyReplicationLeader.this.sessions.remove(this)) {
+                LOG.info("Replication follower {} disconnected, {} followers", this.socket.getRemoteSocketAddress(),
+                         CurrencyReplicationLeader.this.sessions.size());
+            } // else: not registered or already removed.
+            try {
+                this.socket.close();
+            } catch(final IOException e) {
+                LOG.debug("Could not close replication connection", e);
+            }
+        }
+    }
+}
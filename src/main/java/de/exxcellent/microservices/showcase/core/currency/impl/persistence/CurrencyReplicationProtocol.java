@@ -0,0 +1,128 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The binary protocol between a {@link CurrencyReplicationLeader} and its {@link CurrencyReplicationFollower}s.
+ * <p>
+ * A follower opens a TCP connection and sends {@link #MAGIC} and the version of its data ({@code -1} if it has none yet).
+ * The leader answers with a stream of frames, each starting with its type byte:
+ * <ul>
+ *     <li>{@link #SNAPSHOT}: {@code long version}, {@code long sentAt}, {@code int} number of currencies followed by their
+ *     short names and names, {@code int} number of countries followed by their short names, currency short names and currency names.</li>
+ *     <li>{@link #CHANGE}: {@code long publishedAt} followed by the change as written by {@link CurrencyChangeCodec}.</li>
+ *     <li>{@link #HEARTBEAT}: {@code long version}, {@code long sentAt}, sent while there are no changes.</li>
+ * </ul>
+ * A follower whose version is still available in the change log of the leader receives the missed changes, all others a
+ * snapshot. Times are milliseconds since the epoch of the leader.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyReplicationProtocol {
+    static final int MAGIC = 0x43555250;
+    static final byte SNAPSHOT = 1;
+    static final byte CHANGE = 2;
+    static final byte HEARTBEAT = 3;
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private CurrencyReplicationProtocol() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "CurrencyReplicationProtocol is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Encodes a {@link #CHANGE} frame once, so it can be sent to all followers.
+     *
+     * @param change the published {@link CurrencyChangeET}.
+     * @param publishedAt the time the change was published.
+     * @return the encoded frame.
+     */
+    static byte[] encodeChange(final CurrencyChangeET change, final long publishedAt) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try(final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(CHANGE);
+            out.writeLong(publishedAt);
+            CurrencyChangeCodec.write(change, out);
+        } catch(final IOException e) {
+            // cannot happen writing to memory.
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a {@link #SNAPSHOT} frame.
+     *
+     * @param version the version of the data.
+     * @param currencies all currencies.
+     * @param countriesWithCurrency all countries with their currency.
+     * @param out the {@link DataOutput} to write to.
+     * @throws IOException if writing fails.
+     */
+    static void writeSnapshot(final long version, final Set<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency,
+                              final DataOutput out) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(version);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(currencies.size());
+        for(final CurrencyET currency : currencies) {
+            out.writeUTF(currency.getShortName());
+            out.writeUTF(currency.getName());
+        }
+        out.writeInt(countriesWithCurrency.size());
+        for(final Map.Entry<String, CurrencyET> country : countriesWithCurrency.entrySet()) {
+            out.writeUTF(country.getKey());
+            out.writeUTF(country.getValue().getShortName());
+            out.writeUTF(country.getValue().getName());
+        }
+    }
+
+    /**
+     * Reads the content of a {@link #SNAPSHOT} frame after its type and time.
+     *
+     * @param version the version of the snapshot.
+     * @param in the {@link DataInput} to read from.
+     * @return the {@link CurrencySnapshot}.
+     * @throws IOException if reading fails.
+     */
+    static CurrencySnapshot readSnapshot(final long version, final DataInput in) throws IOException {
+        final CurrencySnapshot.Builder builder = CurrencySnapshot.builder();
+        final int currencyCount = in.readInt();
+        for(int i = 0; i < currencyCount; i++) {
+            builder.addCurrency(new CurrencyET(in.readUTF(), in.readUTF()));
+        }
+        final int countryCount = in.readInt();
+        for(int i = 0; i < countryCount; i++) {
+            builder.addCountryWithCurrency(in.readUTF(), new CurrencyET(in.readUTF(), in.readUTF()));
+        }
+        return builder.build(version);
+    }
+
+    /**
+     * Writes a {@link #HEARTBEAT} frame.
+     *
+     * @param version the current version of the leader.
+     * @param out the {@link DataOutput} to write to.
+     * @throws IOException if writing fails.
+     */
+    static void writeHeartbeat(final long version, final DataOutput out) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeLong(version);
+        out.writeLong(System.currentTimeMillis());
+    }
+}
@@ -1,10 +1,14 @@
 package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
 
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A repository interface for storage operations.
@@ -16,30 +20,48 @@ public interface CurrencyRepository {
     /**
      * Get all available currencies.
      *
-     * @return all currencies as {@link Set} of {@link CurrencyET}s.
+     * @return all currencies as unmodifiable {@link Set} of {@link CurrencyET}s.
      */
     Set<CurrencyET> findAll();
 
     /**
-     * Get a currency by its short name (ISO Code).
+     * Get a currency by its short name (ISO Code) ignoring the case.
      *
      * @param shortName the short name (ISO Code) of the currency to be returned (not {@code null}).
      * @return an {@link Optional} containing the currency with the provided short name as {@link CurrencyET}.
      */
     Optional<CurrencyET> findByShortName(final String shortName);
 
+    /**
+     * Get the currencies of several short names (ISO Codes) ignoring the case in one pass over a consistent state.
+     *
+     * @param shortNames the short names (ISO Codes) of the currencies to be returned (not {@code null}, no {@code null} elements).
+     * @return a {@link Map} containing the found short names as given and their currency as {@link CurrencyET}. Short names without a currency are missing.
+     */
+    Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames);
+
     /**
      * Adds the given currency to the known currencies.
      * Does not add duplicates.
      *
      * @param currency the currency to add as {@link CurrencyET}.
-     * @return all available currencies including the new one as {@link Set} of {@link CurrencyET}.
+     * @return all available currencies including the new one as unmodifiable {@link Set} of {@link CurrencyET}.
      */
     Set<CurrencyET> addCurrency(final CurrencyET currency);
 
+    /**
+     * Adds the given currency unless a currency with the same short name (ignoring the case) is existing. The check and
+     * the insert are atomic: of concurrent calls for the same short name exactly one adds its currency, all others get it
+     * returned. Calls for different short names do not wait for each other beyond publishing their change.
+     *
+     * @param currency the currency to add as {@link CurrencyET} (must be valid).
+     * @return an {@link Optional} containing the existing currency with the same short name, {@link Optional#empty()} if the given currency was added.
+     */
+    Optional<CurrencyET> putIfAbsent(final CurrencyET currency);
+
     /**
      * Get all available countries with their currency.
-     * @return a {@link Map} containing the country short name as {@link String} and its currency as {@link CurrencyET}.
+     * @return an unmodifiable {@link Map} containing the country short name as {@link String} and its currency as {@link CurrencyET}.
      */
     Map<String, CurrencyET> findAllCountriesWithCurrency();
 
@@ -48,7 +70,7 @@ public interface CurrencyRepository {
      *
      * @param countryShortName the short name of the country as {@link String} (not {@code null}).
      * @param currency the currency of the country as {@link CurrencyET}.
-     * @return all available countries with their currencies including the new one as {@link Map}.
+     * @return all available countries with their currencies including the new one as unmodifiable {@link Map}.
      */
     Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency);
 
@@ -59,4 +81,54 @@ public interface CurrencyRepository {
      * @return an {@link Optional} containing the currency of the given country as {@link CurrencyET}.
      */
     Optional<CurrencyET> findCurrencyByCountry(final String countryShortName);
+
+    /**
+     * Get the currencies of several countries in one pass over a consistent state.
+     *
+     * @param countryShortNames the short names of the countries (not {@code null}, no {@code null} elements).
+     * @return a {@link Map} containing the found country short names as given and their currency as {@link CurrencyET}. Countries without a currency are missing.
+     */
+    Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames);
+
+    /**
+     * Finds all countries using the currency with the given short name ignoring the case.
+     *
+     * @param currencyShortName the short name of the currency (not {@code null}).
+     * @return an unmodifiable {@link Map} containing the country short names as key and their currency as value. Empty if no country uses the currency.
+     */
+    Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName);
+
+    /**
+     * Gets the version of the stored data. The version increases with every change.
+     *
+     * @return the current version.
+     */
+    long getVersion();
+
+    /**
+     * Finds the changes after the given version. Only a bounded number of the latest changes is kept.
+     *
+     * @param version the version after which the changes are requested.
+     * @return an {@link Optional} containing the changes ordered by version, empty if there are none. {@link Optional#empty()}
+     * if the changes are not available anymore or the version is unknown, a client has to read all data again then.
+     */
+    Optional<List<CurrencyChangeET>> findChangesSince(final long version);
+
+    /**
+     * Registers a listener called with every change when it is published, in the order of the versions.
+     * The listener is called by the writing thread and must not block.
+     *
+     * @param listener the listener consuming the {@link CurrencyChangeET}s (not {@code null}).
+     */
+    void addChangeListener(final Consumer<CurrencyChangeET> listener);
+
+    /**
+     * Adds the given currencies and countries with their currency in one step. Readers see either none or all of them.
+     * Has the same semantics as calling {@link #addCurrency(CurrencyET)} and {@link #addCountryWithCurrency(String, CurrencyET)}
+     * for each entry, but publishes the result only once. Intended for bulk loads like reference data.
+     *
+     * @param currencies the currencies to add as {@link Collection} of {@link CurrencyET}s (must be valid).
+     * @param countriesWithCurrency the countries to add as {@link Map} containing the country short name as key and its currency as value.
+     */
+    void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency);
 }
@@ -0,0 +1,188 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.metrics.Metrics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Produces the {@link CurrencyRepository} implementation selected by the configuration property {@code currency.storage.type}.
+ * <ul>
+ *     <li>{@code runtime}: {@link CurrencyRuntimeStorage} (default)</li>
+ *     <li>{@code packed}: {@link CurrencyPackedStorage}</li>
+ *     <li>{@code jdbc}: {@link CurrencyJdbcStorage} using the configured Quarkus datasource. The datasource is only looked
+ *     up for this storage type, so its connection pool and database are not started for the other types.</li>
+ * </ul>
+ * If {@code currency.storage.wal.directory} is set, the {@link CurrencyRuntimeStorage} writes all changes to a
+ * {@link CurrencyWriteAheadLog} in this directory. If {@code currency.storage.snapshot.file} is set, the
+ * {@link CurrencyRuntimeStorage} starts with the data of this {@link CurrencySnapshotFile} instead of the dummy data.
+ * If {@code currency.reference-data.file} is set, the repository starts without dummy data and is filled by the
+ * {@link CurrencyReferenceDataLoader}. {@code currency.storage.change-log.capacity} limits the number of changes kept in
+ * the {@link CurrencyChangeLog}. {@code currency.storage.jdbc.cache.max-size} and {@code currency.storage.jdbc.cache.ttl-millis}
+ * configure the {@link CurrencyNearCache} of the {@link CurrencyJdbcStorage}.
+ * <p>
+ * The produced storage is replicated by the {@link CurrencyReplication}. A replication follower always uses an in-memory
+ * {@link CurrencyRuntimeStorage} which starts without data.
+ * <p>
+ * All calls of the produced repository are recorded in the {@link Metrics} by a {@link CurrencyMeteredRepository}, the
+ * number of currencies and countries and the version of the storage are reported as gauges.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class CurrencyRepositoryProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyRepositoryProducer.class);
+
+    private final String storageType;
+    private final Optional<String> logDirectory;
+    private final int compactionThreshold;
+    private final Optional<String> snapshotFile;
+    private final boolean withDummyData;
+    private final int changeLogCapacity;
+    private final int cacheMaxSize;
+    private final long cacheTimeToLiveMillis;
+    private final Instance<DataSource> dataSource;
+    private final CurrencyReplication replication;
+    private final Metrics metrics;
+
+    @Inject
+    CurrencyRepositoryProducer(@ConfigProperty(name = "currency.storage.type", defaultValue = "runtime") final String storageType,
+                               @ConfigProperty(name = "currency.storage.wal.directory") final Optional<String> logDirectory,
+                               @ConfigProperty(name = "currency.storage.wal.compaction-threshold", defaultValue = "10000") final int compactionThreshold,
+                               @ConfigProperty(name = "currency.storage.snapshot.file") final Optional<String> snapshotFile,
+                               @ConfigProperty(name = "currency.reference-data.file") final Optional<String> referenceDataFile,
+                               @ConfigProperty(name = "currency.storage.change-log.capacity", defaultValue = "1000") final int changeLogCapacity,
+                               @ConfigProperty(name = "currency.storage.jdbc.cache.max-size", defaultValue = "10000") final int cacheMaxSize,
+                               @ConfigProperty(name = "currency.storage.jdbc.cache.ttl-millis", defaultValue = "1000") final long cacheTimeToLiveMillis,
+                               final Instance<DataSource> dataSource,
+                               final CurrencyReplication replication,
+                               final Metrics metrics) {
+        this.storageType = storageType;
+        this.logDirectory = logDirectory;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotFile = snapshotFile;
+        this.withDummyData = !referenceDataFile.isPresent();
+        this.changeLogCapacity = changeLogCapacity;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheTimeToLiveMillis = cacheTimeToLiveMillis;
+        this.dataSource = dataSource;
+        this.replication = replication;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Produce the configured {@link CurrencyRepository}.
+     *
+     * @return the {@link CurrencyRepository} implementation.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the configured storage type is unknown,
+     * no datasource is configured for the storage type jdbc or the replication cannot be started.
+     */
+    @Produces
+    @ApplicationScoped
+    CurrencyRepository currencyRepository() {
+        final CurrencyRepository storage = this.replication.replicate(createStorage());
+        // the gauges read the storage directly, so scraping them is not recorded as calls.
+        this.metrics.registerGauge("storage_currencies", "Number of currencies in the currency storage.", () -> storage.findAll().size());
+        this.metrics.registerGauge("storage_countries", "Number of countries with their currency in the currency storage.",
+                                   () -> storage.findAllCountriesWithCurrency().size());
+        this.metrics.registerGauge("storage_version", "Version of the currency storage.", storage::getVersion);
+        this.metrics.registerGauge("replication_lag_millis",
+                                   "Milliseconds between publishing the latest change on the leader and applying it on a follower, 0 if not a follower.",
+                                   this.replication::getLagMillis);
+        this.metrics.registerGauge("replication_connected", "1 if a follower is connected to its leader or the instance is not a follower, else 0.",
+                                   () -> this.replication.isConnected() ? 1 : 0);
+        return new CurrencyMeteredRepository(storage, this.metrics);
+    }
+
+    private CurrencyRepository createStorage() {
+        LOG.info("Using currency storage type {}", this.storageType);
+        switch(this.storageType) {
+            case "runtime":
+                return createRuntimeStorage();
+            case "packed":
+                this.logDirectory.ifPresent(d -> LOG.warn("The write-ahead log is not supported by storage type packed, ignoring {}", d));
+                this.snapshotFile.ifPresent(f -> LOG.warn("Snapshot files are not supported by storage type packed, ignoring {}", f));
+                return new CurrencyPackedStorage(this.withDummyData, this.changeLogCapacity);
+            case "jdbc":
+                return createJdbcStorage();
+            default:
+                throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Unknown currency storage type " + this.storageType);
+        }
+    }
+
+    private CurrencyRuntimeStorage createRuntimeStorage() {
+        if(this.replication.isFollower()) {
+            this.logDirectory.ifPresent(d -> LOG.warn("The write-ahead log is not supported by replication followers, ignoring {}", d));
+            this.snapshotFile.ifPresent(f -> LOG.warn("Snapshot files are not supported by replication followers, ignoring {}", f));
+            return new CurrencyRuntimeStorage(CurrencySnapshot.empty(), this.changeLogCapacity);
+        } // else: this instance owns its data.
+        final CurrencySnapshot initialSnapshot;
+        if(this.snapshotFile.isPresent()) {
+            initialSnapshot = readSnapshot(Paths.get(this.snapshotFile.get()));
+        } else if(this.withDummyData) {
+            initialSnapshot = CurrencyRuntimeStorage.initData();
+        } else {
+            initialSnapshot = CurrencySnapshot.empty();
+        }
+        if(this.logDirectory.isPresent()) {
+            LOG.info("Using write-ahead log in {}", this.logDirectory.get());
+            return new CurrencyRuntimeStorage(initialSnapshot, Paths.get(this.logDirectory.get()), this.compactionThreshold,
+                                              this.changeLogCapacity);
+        } // else: keep the data in memory only.
+        return new CurrencyRuntimeStorage(initialSnapshot, this.changeLogCapacity);
+    }
+
+    private CurrencyJdbcStorage createJdbcStorage() {
+        this.logDirectory.ifPresent(d -> LOG.warn("The write-ahead log is not supported by storage type jdbc, ignoring {}", d));
+        this.snapshotFile.ifPresent(f -> LOG.warn("Snapshot files are not supported by storage type jdbc, ignoring {}", f));
+        if(this.dataSource.isUnsatisfied()) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Storage type jdbc requires a configured quarkus.datasource");
+        } // else: the datasource pool is configured.
+        return new CurrencyJdbcStorage(this.dataSource.get(), this.withDummyData, this.changeLogCapacity, this.cacheMaxSize,
+                                       this.cacheTimeToLiveMillis);
+    }
+
+    private static CurrencySnapshot readSnapshot(final Path file) {
+        final long start = System.nanoTime();
+        try {
+            final CurrencySnapshot snapshot = CurrencySnapshotFile.read(file);
+            LOG.info("Loaded {} currencies and {} countries with version {} from snapshot {} in {} ms", snapshot.getCurrencies().size(),
+                     snapshot.getCountriesWithCurrency().size(), snapshot.getVersion(), file,
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return snapshot;
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not read currency snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Close the produced {@link CurrencyRepository} on shutdown if it holds resources.
+     *
+     * @param currencyRepository the produced {@link CurrencyRepository}.
+     */
+    void close(@Disposes final CurrencyRepository currencyRepository) {
+        if(currencyRepository instanceof Closeable) {
+            try {
+                ((Closeable) currencyRepository).close();
+            } catch(final IOException e) {
+                LOG.error("Could not close currency storage", e);
+            }
+        }
+    }
+}
@@ -2,87 +2,411 @@ package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
 
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
 import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
 
-import javax.enterprise.context.ApplicationScoped;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.function.Consumer;
 
 /**
  * The implementation of {@link CurrencyRepository} for a runtime storage for currencies.
+ * All data is held in an immutable {@link CurrencySnapshot} which is replaced by a single atomic swap on every write.
+ * Readers always get a consistent view without locking or copying, writers pay the copy cost.
+ * <p>
+ * Optionally all changes are written to a {@link CurrencyWriteAheadLog} and survive a restart. A change is published
+ * to readers only after it is durable.
+ * <p>
+ * The published changes are kept in a bounded {@link CurrencyChangeLog}.
+ * <p>
+ * {@link #putIfAbsent(CurrencyET)} answers callers for a published short name from the snapshot without locking. Callers
+ * for a new short name are serialized per short name with {@link CurrencyKeyLocks}: the first one adds the currency, the
+ * others wait for it and are answered from the published snapshot without taking the write lock. The first one copies
+ * the head snapshot with the new currency holding its stripe only, so new short names of different stripes are copied
+ * in parallel. The write lock is taken just to check that the head is still the copied one and to commit the copy, as
+ * every write advances the one version. If another write committed meanwhile, the copy is made again from the new head.
  *
  * @author Felix Riess, eXXcellent solutions consulting & software gmbh
  * @since 21.01.2020
  */
-@ApplicationScoped
-public class CurrencyRuntimeStorage implements CurrencyRepository {
+public class CurrencyRuntimeStorage implements CurrencyRepository, Closeable {
     /**
-     * The {@link Map} containing all known currencies as value and country short names as key.
+     * The currently published {@link CurrencySnapshot}. Only replaced as a whole, never modified.
      */
-    Map<String, CurrencyET> countriesWithCurrency;
+    private final AtomicReference<CurrencySnapshot> snapshot;
     /**
-     * A {@link Set} containing all known currencies.
+     * The lock ordering all writes.
      */
-    Set<CurrencyET> currencies;
+    private final Object writeLock = new Object();
+    /**
+     * The locks serializing {@link #putIfAbsent(CurrencyET)} per short name.
+     */
+    private final CurrencyKeyLocks keyLocks = new CurrencyKeyLocks(CurrencyKeyLocks.DEFAULT_STRIPES);
+    /**
+     * The latest accepted {@link CurrencySnapshot}. Ahead of {@link #snapshot} while changes wait for the write-ahead log.
+     * Only replaced holding the write lock, read without it by {@link #putIfAbsent(CurrencyET)} to copy it.
+     */
+    private volatile CurrencySnapshot head;
+    /**
+     * The {@link CurrencyWriteAheadLog} or {@code null} if the data is kept in memory only.
+     */
+    private final CurrencyWriteAheadLog writeAheadLog;
+    /**
+     * The latest published changes.
+     */
+    private final CurrencyChangeLog changeLog;
 
     /**
      * Constructor.
-     * Initializes some dummy data.
+     * Initializes some dummy data, which is kept in memory only.
      */
     public CurrencyRuntimeStorage() {
-        this.countriesWithCurrency = new HashMap<>();
-        this.currencies = new HashSet<>();
-        initData();
+        this(initData());
+    }
+
+    /**
+     * Constructor.
+     * Starts with the given data, which is kept in memory only.
+     *
+     * @param initialSnapshot the initial data as {@link CurrencySnapshot} (not {@code null}).
+     */
+    public CurrencyRuntimeStorage(final CurrencySnapshot initialSnapshot) {
+        this(initialSnapshot, CurrencyChangeLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * Starts with the given data, which is kept in memory only.
+     *
+     * @param initialSnapshot the initial data as {@link CurrencySnapshot} (not {@code null}).
+     * @param changeLogCapacity the number of changes kept in the {@link CurrencyChangeLog}.
+     */
+    public CurrencyRuntimeStorage(final CurrencySnapshot initialSnapshot, final int changeLogCapacity) {
+        Preconditions.checkNotNull(initialSnapshot, "Initial snapshot must not be null");
+        this.writeAheadLog = null;
+        this.head = initialSnapshot;
+        this.snapshot = new AtomicReference<>(this.head);
+        this.changeLog = new CurrencyChangeLog(changeLogCapacity, this.head.getVersion());
+    }
+
+    /**
+     * Constructor.
+     * Recovers the data from the write-ahead log in the given directory, initializes some dummy data if there is none yet.
+     *
+     * @param logDirectory the directory of the write-ahead log (not {@code null}).
+     * @param compactionThreshold the number of changes after which the write-ahead log is compacted into a snapshot.
+     */
+    public CurrencyRuntimeStorage(final Path logDirectory, final int compactionThreshold) {
+        this(initData(), logDirectory, compactionThreshold, CurrencyChangeLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * Recovers the data from the write-ahead log in the given directory, starts with the given data if there is none yet.
+     *
+     * @param initialSnapshot the initial data as {@link CurrencySnapshot} if the write-ahead log is empty (not {@code null}).
+     * @param logDirectory the directory of the write-ahead log (not {@code null}).
+     * @param compactionThreshold the number of changes after which the write-ahead log is compacted into a snapshot.
+     * @param changeLogCapacity the number of changes kept in the {@link CurrencyChangeLog}.
+     */
+    public CurrencyRuntimeStorage(final CurrencySnapshot initialSnapshot, final Path logDirectory, final int compactionThreshold,
+                                  final int changeLogCapacity) {
+        Preconditions.checkNotNull(initialSnapshot, "Initial snapshot must not be null");
+        Preconditions.checkNotNull(logDirectory, "Log directory must not be null");
+        this.writeAheadLog = new CurrencyWriteAheadLog(logDirectory, compactionThreshold, initialSnapshot);
+        this.head = this.writeAheadLog.getRecoveredSnapshot();
+        this.snapshot = new AtomicReference<>(this.head);
+        this.changeLog = new CurrencyChangeLog(changeLogCapacity, this.head.getVersion());
     }
 
-    private void initData() {
+    /**
+     * Create the dummy data.
+     *
+     * @return some dummy data as {@link CurrencySnapshot}.
+     */
+    static CurrencySnapshot initData() {
         final CurrencyET euro = new CurrencyET("EUR", "Euro");
         final CurrencyET pound = new CurrencyET("GPD", "Pound");
-        this.currencies.add(euro);
-        this.currencies.add(pound);
-        this.countriesWithCurrency.putIfAbsent("GER", euro);
-        this.countriesWithCurrency.putIfAbsent("FRA", euro);
-        this.countriesWithCurrency.putIfAbsent("SCO", pound);
+        return CurrencySnapshot.empty()
+                               .withCurrency(euro)
+                               .withCurrency(pound)
+                               .withCountryWithCurrency("GER", euro)
+                               .withCountryWithCurrency("FRA", euro)
+                               .withCountryWithCurrency("SCO", pound);
     }
 
     @Override
     public Set<CurrencyET> findAll() {
-        return this.currencies;
+        return this.snapshot.get().getCurrencies();
     }
 
     @Override
     public Optional<CurrencyET> findByShortName(final String shortName) {
         Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
-        return this.currencies.stream().filter(c -> shortName.equalsIgnoreCase(c.getShortName())).findFirst();
+        return Optional.ofNullable(this.snapshot.get().findByShortName(shortName));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findByShortNames(final Collection<String> shortNames) {
+        Preconditions.checkNotNull(shortNames, "Currency short names must not be null");
+        final CurrencySnapshot current = this.snapshot.get();
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String shortName : shortNames) {
+            final CurrencyET currency = current.findByShortName(shortName);
+            if(currency != null) {
+                found.put(shortName, currency);
+            } // else: missing.
+        }
+        return found;
     }
 
     @Override
     public Set<CurrencyET> addCurrency(final CurrencyET currency) {
         CurrencyValidation.validateCurrencyET(currency);
-        this.currencies.add(currency);
-        return this.currencies;
+        return write(version -> CurrencyChangeET.currencyAdded(version, currency)).getCurrencies();
+    }
+
+    @Override
+    public Optional<CurrencyET> putIfAbsent(final CurrencyET currency) {
+        CurrencyValidation.validateCurrencyET(currency);
+        // currencies are never removed, so a published currency can be returned without locking.
+        final CurrencyET published = this.snapshot.get().findByShortName(currency.getShortName());
+        if(published != null) {
+            return Optional.of(published);
+        } // else: wait for a concurrent writer of the same short name, it publishes before releasing the lock.
+        synchronized(this.keyLocks.lockFor(currency.getShortName())) {
+            final CurrencyET publishedMeanwhile = this.snapshot.get().findByShortName(currency.getShortName());
+            if(publishedMeanwhile != null) {
+                return Optional.of(publishedMeanwhile);
+            } // else: the first writer of this short name, copy the head outside of the write lock.
+            while(true) {
+                // the head is ahead of the published snapshot while changes of other short names wait for the write-ahead log.
+                final CurrencySnapshot current = this.head;
+                final CurrencyET existing = current.findByShortName(currency.getShortName());
+                if(existing != null) {
+                    return Optional.of(existing);
+                } // else: a new short name.
+                final CurrencyChangeET change = CurrencyChangeET.currencyAdded(current.getVersion() + 1, currency);
+                final CurrencySnapshot next = current.apply(change);
+                final CompletableFuture<Void> durable;
+                synchronized(this.writeLock) {
+                    if(this.head != current) {
+                        continue;
+                    } // else: no other write committed meanwhile, the copy is the next head.
+                    durable = commit(change, next);
+                }
+                if(durable != null) {
+                    CurrencyWriteAheadLog.awaitDurable(durable);
+                } // else: published in memory already.
+                return Optional.empty();
+            }
+        }
     }
 
     @Override
     public Map<String, CurrencyET> findAllCountriesWithCurrency() {
-        return this.countriesWithCurrency;
+        return this.snapshot.get().getCountriesWithCurrency();
     }
 
     @Override
     public Map<String, CurrencyET> addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
         CurrencyValidation.validateCurrencyET(currency);
-        this.currencies.add(currency);
-        this.countriesWithCurrency.putIfAbsent(countryShortName, currency);
-        return this.countriesWithCurrency;
+        return write(version -> CurrencyChangeET.countryWithCurrencyAdded(version, countryShortName, currency)).getCountriesWithCurrency();
     }
 
     @Override
     public Optional<CurrencyET> findCurrencyByCountry(final String countryShortName) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
-        return Optional.ofNullable(this.countriesWithCurrency.get(countryShortName));
+        return Optional.ofNullable(this.snapshot.get().getCountriesWithCurrency().get(countryShortName));
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCurrenciesByCountries(final Collection<String> countryShortNames) {
+        Preconditions.checkNotNull(countryShortNames, "Country short names must not be null");
+        final Map<String, CurrencyET> countriesWithCurrency = this.snapshot.get().getCountriesWithCurrency();
+        final Map<String, CurrencyET> found = new LinkedHashMap<>();
+        for(final String countryShortName : countryShortNames) {
+            final CurrencyET currency = countriesWithCurrency.get(countryShortName);
+            if(currency != null) {
+                found.put(countryShortName, currency);
+            } // else: missing.
+        }
+        return found;
+    }
+
+    @Override
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        Preconditions.checkNotNull(currencyShortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        return this.snapshot.get().findCountriesByCurrency(currencyShortName);
+    }
+
+    @Override
+    public long getVersion() {
+        return this.snapshot.get().getVersion();
+    }
+
+    @Override
+    public Optional<List<CurrencyChangeET>> findChangesSince(final long version) {
+        return this.changeLog.changesSince(version);
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<CurrencyChangeET> listener) {
+        Preconditions.checkNotNull(listener, "Listener must not be null");
+        this.changeLog.addListener(listener);
+    }
+
+    @Override
+    public void addAll(final Collection<CurrencyET> currencies, final Map<String, CurrencyET> countriesWithCurrency) {
+        Preconditions.checkNotNull(currencies, "Currencies must not be null");
+        Preconditions.checkNotNull(countriesWithCurrency, "Countries with currency must not be null");
+        final CompletableFuture<Void> durable;
+        synchronized(this.writeLock) {
+            final CurrencySnapshot current = this.head;
+            final CurrencySnapshot.Builder builder = CurrencySnapshot.builder(current);
+            final List<CurrencyChangeET> changes = new ArrayList<>();
+            long version = current.getVersion();
+            for(final CurrencyET currency : currencies) {
+                CurrencyValidation.validateCurrencyET(currency);
+                if(builder.addCurrency(currency)) {
+                    changes.add(CurrencyChangeET.currencyAdded(++version, currency));
+                }
+            }
+            for(final Map.Entry<String, CurrencyET> country : countriesWithCurrency.entrySet()) {
+                Preconditions.checkNotNull(country.getKey(), "Country short name must not be null");
+                CurrencyValidation.validateCurrencyET(country.getValue());
+                if(builder.addCountryWithCurrency(country.getKey(), country.getValue())) {
+                    changes.add(CurrencyChangeET.countryWithCurrencyAdded(++version, country.getKey(), country.getValue()));
+                }
+            }
+            if(changes.isEmpty()) {
+                return;
+            } // else: publish all changes at once.
+            final CurrencySnapshot next = builder.build(version);
+            if(this.writeAheadLog == null) {
+                this.head = next;
+                changes.forEach(this.changeLog::append);
+                this.snapshot.set(next);
+                return;
+            } // else: log every change, publish once the last one is durable. Only the last one carries the snapshot.
+            for(final CurrencyChangeET change : changes.subList(0, changes.size() - 1)) {
+                this.writeAheadLog.append(change, null, () -> this.changeLog.append(change));
+            }
+            final CurrencyChangeET lastChange = changes.get(changes.size() - 1);
+            durable = this.writeAheadLog.append(lastChange, next, () -> publish(lastChange, next));
+            this.head = next;
+        }
+        CurrencyWriteAheadLog.awaitDurable(durable);
+    }
+
+    /**
+     * Replaces all data by the given {@link CurrencySnapshot} of a replication leader.
+     * The earlier changes are dropped from the {@link CurrencyChangeLog}, the listeners are not called.
+     *
+     * @param replacement the new data as {@link CurrencySnapshot} (not {@code null}).
+     */
+    void replaceSnapshot(final CurrencySnapshot replacement) {
+        Preconditions.checkNotNull(replacement, "Snapshot must not be null");
+        synchronized(this.writeLock) {
+            this.head = replacement;
+            this.changeLog.reset(replacement.getVersion());
+            this.snapshot.set(replacement);
+        }
+    }
+
+    /**
+     * Applies a change of a replication leader with its version. Changes up to the current version are ignored.
+     * A change without effect, e.g. because a snapshot already contained it, only advances the version.
+     *
+     * @param change the replicated {@link CurrencyChangeET} (not {@code null}).
+     */
+    void applyReplicatedChange(final CurrencyChangeET change) {
+        Preconditions.checkNotNull(change, "Change must not be null");
+        synchronized(this.writeLock) {
+            final CurrencySnapshot current = this.head;
+            if(change.getVersion() <= current.getVersion()) {
+                return;
+            } // else: a new change.
+            final CurrencySnapshot next = current.apply(change).withVersion(change.getVersion());
+            this.head = next;
+            publish(change, next);
+        }
+    }
+
+    /**
+     * Writes the remaining changes of the write-ahead log and closes it.
+     *
+     * @throws IOException if the write-ahead log cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if(this.writeAheadLog != null) {
+            this.writeAheadLog.close();
+        }
+    }
+
+    /**
+     * Applies a change and publishes the resulting {@link CurrencySnapshot}. With a write-ahead log the change is
+     * published once it is durable. The call waits for that outside of the write lock, so concurrent writers share one sync.
+     *
+     * @param changeFactory creates the {@link CurrencyChangeET} for the given new version.
+     * @return the {@link CurrencySnapshot} containing the change.
+     */
+    private CurrencySnapshot write(final LongFunction<CurrencyChangeET> changeFactory) {
+        final CurrencySnapshot next;
+        final CompletableFuture<Void> durable;
+        synchronized(this.writeLock) {
+            final CurrencySnapshot current = this.head;
+            final CurrencyChangeET change = changeFactory.apply(current.getVersion() + 1);
+            next = current.apply(change);
+            if(next == current) {
+                return current;
+            } // else: an effective change.
+            durable = commit(change, next);
+        }
+        if(durable != null) {
+            CurrencyWriteAheadLog.awaitDurable(durable);
+        } // else: published in memory already.
+        return next;
+    }
+
+    /**
+     * Makes the given {@link CurrencySnapshot} the head and publishes it, with a write-ahead log once the change is durable.
+     * Must be called holding the write lock.
+     *
+     * @param change the {@link CurrencyChangeET} leading to the snapshot.
+     * @param next the {@link CurrencySnapshot} containing the change.
+     * @return the {@link CompletableFuture} completed when the change is durable, {@code null} without write-ahead log.
+     */
+    private CompletableFuture<Void> commit(final CurrencyChangeET change, final CurrencySnapshot next) {
+        this.head = next;
+        if(this.writeAheadLog == null) {
+            publish(change, next);
+            return null;
+        } // else: publish once the change is durable.
+        return this.writeAheadLog.append(change, next, () -> publish(change, next));
+    }
+
+    /**
+     * Publishes a change. The change is logged first, so a reader never sees a version that is missing in the log.
+     *
+     * @param change the published {@link CurrencyChangeET}.
+     * @param next the {@link CurrencySnapshot} containing the change.
+     */
+    private void publish(final CurrencyChangeET change, final CurrencySnapshot next) {
+        this.changeLog.append(change);
+        this.snapshot.set(next);
     }
 }
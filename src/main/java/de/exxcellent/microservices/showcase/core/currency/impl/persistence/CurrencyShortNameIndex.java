@@ -0,0 +1,140 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.util.Collection;
+
+/**
+ * An immutable, case-insensitive hash index of currencies by their short name (ISO Code).
+ * Uses open addressing with linear probing on a table which is at most half full, so a lookup usually needs a single probe.
+ * Hashing and comparing is done character by character, a lookup does not allocate any objects.
+ * The semantics are the same as {@link String#equalsIgnoreCase(String)}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class CurrencyShortNameIndex {
+    /**
+     * The initial capacity of the table. Must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The empty {@link CurrencyShortNameIndex}.
+     */
+    private static final CurrencyShortNameIndex EMPTY = new CurrencyShortNameIndex(new CurrencyET[INITIAL_CAPACITY], 0);
+
+    /**
+     * The hash table. Its length is a power of two, empty slots are {@code null}.
+     */
+    private final CurrencyET[] table;
+    /**
+     * The number of indexed currencies.
+     */
+    private final int size;
+
+    private CurrencyShortNameIndex(final CurrencyET[] table, final int size) {
+        this.table = table;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty {@link CurrencyShortNameIndex}.
+     *
+     * @return the {@link CurrencyShortNameIndex} without any currencies.
+     */
+    static CurrencyShortNameIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a {@link CurrencyShortNameIndex} containing the given currencies.
+     * If several currencies share a short name (ignoring the case), the first one is indexed.
+     *
+     * @param currencies the currencies to be indexed (must be valid).
+     * @return the new {@link CurrencyShortNameIndex}.
+     */
+    static CurrencyShortNameIndex of(final Collection<CurrencyET> currencies) {
+        int capacity = INITIAL_CAPACITY;
+        while(capacity < currencies.size() * 2) {
+            capacity *= 2;
+        }
+        final CurrencyET[] table = new CurrencyET[capacity];
+        int size = 0;
+        for(final CurrencyET currency : currencies) {
+            if(insertIfAbsent(table, currency)) {
+                size++;
+            }
+        }
+        return new CurrencyShortNameIndex(table, size);
+    }
+
+    /**
+     * Get the currency with the given short name ignoring the case.
+     *
+     * @param shortName the short name of the currency (not {@code null}).
+     * @return the indexed {@link CurrencyET} or {@code null} if no currency with this short name is indexed.
+     */
+    CurrencyET get(final String shortName) {
+        final int mask = this.table.length - 1;
+        int slot = hash(shortName) & mask;
+        CurrencyET candidate;
+        while((candidate = this.table[slot]) != null) {
+            if(candidate.getShortName().equalsIgnoreCase(shortName)) {
+                return candidate;
+            } // else: collision. Probe the next slot.
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Derive a new {@link CurrencyShortNameIndex} containing the given currency.
+     * If a currency with the same short name (ignoring the case) is already indexed, it is kept.
+     *
+     * @param currency the currency to be indexed as {@link CurrencyET} (must be valid).
+     * @return the new {@link CurrencyShortNameIndex} or this index if the short name is already indexed.
+     */
+    CurrencyShortNameIndex with(final CurrencyET currency) {
+        if(get(currency.getShortName()) != null) {
+            return this;
+        } // else: copy the table, grow it if it would be more than half full.
+        final int capacity = (this.size + 1) * 2 > this.table.length ? this.table.length * 2 : this.table.length;
+        final CurrencyET[] newTable = new CurrencyET[capacity];
+        for(final CurrencyET existing : this.table) {
+            if(existing != null) {
+                insertIfAbsent(newTable, existing);
+            }
+        }
+        insertIfAbsent(newTable, currency);
+        return new CurrencyShortNameIndex(newTable, this.size + 1);
+    }
+
+    private static boolean insertIfAbsent(final CurrencyET[] table, final CurrencyET currency) {
+        final int mask = table.length - 1;
+        int slot = hash(currency.getShortName()) & mask;
+        CurrencyET candidate;
+        while((candidate = table[slot]) != null) {
+            if(candidate.getShortName().equalsIgnoreCase(currency.getShortName())) {
+                return false;
+            } // else: collision. Probe the next slot.
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = currency;
+        return true;
+    }
+
+    /**
+     * Computes a case-insensitive hash of the given short name.
+     * Folds every character the same way as {@link String#equalsIgnoreCase(String)} compares them.
+     *
+     * @param shortName the short name to hash (not {@code null}).
+     * @return the hash.
+     */
+    private static int hash(final String shortName) {
+        int hash = 0;
+        for(int i = 0; i < shortName.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(shortName.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
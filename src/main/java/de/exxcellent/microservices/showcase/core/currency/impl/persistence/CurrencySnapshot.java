@@ -0,0 +1,300 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, versioned view of all currencies and countries with their currency.
+ * Every effective write produces a new {@link CurrencySnapshot}, the collections of a published snapshot are never modified.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencySnapshot {
+    /**
+     * The empty {@link CurrencySnapshot} with version 0.
+     */
+    private static final CurrencySnapshot EMPTY = new CurrencySnapshot(0L, Collections.emptySet(), CurrencyShortNameIndex.empty(),
+                                                                            Collections.emptyMap(), Collections.emptyMap());
+
+    /**
+     * The version of this snapshot. Increased by one with every effective change.
+     */
+    private final long version;
+    /**
+     * The unmodifiable {@link Set} containing all known currencies.
+     */
+    private final Set<CurrencyET> currencies;
+    /**
+     * The case-insensitive index of {@link CurrencySnapshot#currencies} by their short name.
+     */
+    private final CurrencyShortNameIndex currenciesByShortName;
+    /**
+     * The unmodifiable {@link Map} containing all known currencies as value and country short names as key.
+     */
+    private final Map<String, CurrencyET> countriesWithCurrency;
+    /**
+     * The reverse index of {@link CurrencySnapshot#countriesWithCurrency}: maps the upper case currency short name to an
+     * unmodifiable {@link Map} of all countries using a currency with this short name.
+     */
+    private final Map<String, Map<String, CurrencyET>> countriesByCurrency;
+
+    /**
+     * Constructor.
+     *
+     * @param version the version of this snapshot.
+     * @param currencies the unmodifiable currencies (not {@code null}).
+     * @param currenciesByShortName the index of the currencies by their short name (not {@code null}).
+     * @param countriesWithCurrency the unmodifiable countries with their currency (not {@code null}).
+     * @param countriesByCurrency the unmodifiable reverse index of the countries with their currency (not {@code null}).
+     */
+    private CurrencySnapshot(final long version, final Set<CurrencyET> currencies, final CurrencyShortNameIndex currenciesByShortName,
+                             final Map<String, CurrencyET> countriesWithCurrency, final Map<String, Map<String, CurrencyET>> countriesByCurrency) {
+        this.version = version;
+        this.currencies = currencies;
+        this.currenciesByShortName = currenciesByShortName;
+        this.countriesWithCurrency = countriesWithCurrency;
+        this.countriesByCurrency = countriesByCurrency;
+    }
+
+    /**
+     * Get the empty {@link CurrencySnapshot}.
+     *
+     * @return the {@link CurrencySnapshot} without any currencies and countries.
+     */
+    public static CurrencySnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a {@link Builder} to build a {@link CurrencySnapshot} with many entries at once.
+     *
+     * @return a new, empty {@link Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link Builder} to build a {@link CurrencySnapshot} with many entries at once based on the given snapshot.
+     *
+     * @param base the {@link CurrencySnapshot} whose entries are contained in the built snapshot (not {@code null}).
+     * @return a new {@link Builder} containing all entries of the given snapshot.
+     */
+    public static Builder builder(final CurrencySnapshot base) {
+        final Builder builder = new Builder();
+        builder.currencies.addAll(base.currencies);
+        builder.countriesWithCurrency.putAll(base.countriesWithCurrency);
+        return builder;
+    }
+
+    /**
+     * Get the version of this {@link CurrencySnapshot}.
+     *
+     * @return the {@link CurrencySnapshot#version}.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get all currencies of this {@link CurrencySnapshot}.
+     *
+     * @return the unmodifiable {@link CurrencySnapshot#currencies}.
+     */
+    public Set<CurrencyET> getCurrencies() {
+        return this.currencies;
+    }
+
+    /**
+     * Get a currency by its short name ignoring the case.
+     * If several currencies share the short name, the first added one is returned.
+     *
+     * @param shortName the short name of the currency (not {@code null}).
+     * @return the {@link CurrencyET} or {@code null} if no currency with this short name is existing.
+     */
+    public CurrencyET findByShortName(final String shortName) {
+        return this.currenciesByShortName.get(shortName);
+    }
+
+    /**
+     * Get all countries with their currency of this {@link CurrencySnapshot}.
+     *
+     * @return the unmodifiable {@link CurrencySnapshot#countriesWithCurrency}.
+     */
+    public Map<String, CurrencyET> getCountriesWithCurrency() {
+        return this.countriesWithCurrency;
+    }
+
+    /**
+     * Get all countries using a currency with the given short name ignoring the case.
+     * The cost depends on the number of returned countries only.
+     *
+     * @param currencyShortName the short name of the currency (not {@code null}).
+     * @return an unmodifiable {@link Map} containing the country short names as key and their currency as value. Empty if no country uses the currency.
+     */
+    public Map<String, CurrencyET> findCountriesByCurrency(final String currencyShortName) {
+        return this.countriesByCurrency.getOrDefault(reverseIndexKey(currencyShortName), Collections.emptyMap());
+    }
+
+    /**
+     * Derive a new {@link CurrencySnapshot} containing the given currency.
+     *
+     * @param currency the currency to add as {@link CurrencyET} (must be valid).
+     * @return the new {@link CurrencySnapshot} or this snapshot if the currency is already contained.
+     */
+    public CurrencySnapshot withCurrency(final CurrencyET currency) {
+        if(this.currencies.contains(currency)) {
+            return this;
+        } // else: the currency is new. Copy the currencies, the countries can be shared.
+        return new CurrencySnapshot(this.version + 1, copyWith(this.currencies, currency), this.currenciesByShortName.with(currency),
+                                    this.countriesWithCurrency, this.countriesByCurrency);
+    }
+
+    /**
+     * Derive a new {@link CurrencySnapshot} containing the given country with its currency.
+     * The currency is added to the known currencies as well. An already existing country keeps its currency.
+     *
+     * @param countryShortName the short name of the country (not {@code null}).
+     * @param currency the currency of the country as {@link CurrencyET} (must be valid).
+     * @return the new {@link CurrencySnapshot} or this snapshot if nothing changed.
+     */
+    public CurrencySnapshot withCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+        final boolean currencyExisting = this.currencies.contains(currency);
+        final boolean countryExisting = this.countriesWithCurrency.containsKey(countryShortName);
+        if(currencyExisting && countryExisting) {
+            return this;
+        } // else: at least one of both is new.
+        final Set<CurrencyET> newCurrencies = currencyExisting ? this.currencies : copyWith(this.currencies, currency);
+        final CurrencyShortNameIndex newIndex = currencyExisting ? this.currenciesByShortName : this.currenciesByShortName.with(currency);
+        final Map<String, CurrencyET> newCountries;
+        final Map<String, Map<String, CurrencyET>> newCountriesByCurrency;
+        if(countryExisting) {
+            newCountries = this.countriesWithCurrency;
+            newCountriesByCurrency = this.countriesByCurrency;
+        } else {
+            final Map<String, CurrencyET> copy = new HashMap<>(this.countriesWithCurrency);
+            copy.put(countryShortName, currency);
+            newCountries = Collections.unmodifiableMap(copy);
+            // only the countries of the affected currency are copied, all others are shared.
+            final String key = reverseIndexKey(currency.getShortName());
+            final Map<String, CurrencyET> countries = new HashMap<>(this.countriesByCurrency.getOrDefault(key, Collections.emptyMap()));
+            countries.put(countryShortName, currency);
+            final Map<String, Map<String, CurrencyET>> reverseCopy = new HashMap<>(this.countriesByCurrency);
+            reverseCopy.put(key, Collections.unmodifiableMap(countries));
+            newCountriesByCurrency = Collections.unmodifiableMap(reverseCopy);
+        }
+        return new CurrencySnapshot(this.version + 1, newCurrencies, newIndex, newCountries, newCountriesByCurrency);
+    }
+
+    /**
+     * Derive a new {@link CurrencySnapshot} by applying the given change.
+     * The version of the new snapshot is the version of the change.
+     *
+     * @param change the change to apply as {@link CurrencyChangeET} (not {@code null}).
+     * @return the new {@link CurrencySnapshot} or this snapshot if the change has no effect.
+     */
+    public CurrencySnapshot apply(final CurrencyChangeET change) {
+        final CurrencySnapshot next;
+        switch(change.getType()) {
+            case CURRENCY_ADDED:
+                next = withCurrency(change.getCurrency());
+                break;
+            case COUNTRY_WITH_CURRENCY_ADDED:
+                next = withCountryWithCurrency(change.getCountryShortName(), change.getCurrency());
+                break;
+            default:
+                throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "Unknown change type " + change.getType());
+        }
+        return next == this ? this : next.withVersion(change.getVersion());
+    }
+
+    /**
+     * Derive a new {@link CurrencySnapshot} with the same content but another version.
+     *
+     * @param newVersion the version of the new snapshot.
+     * @return the new {@link CurrencySnapshot} or this snapshot if it already has the given version.
+     */
+    CurrencySnapshot withVersion(final long newVersion) {
+        if(newVersion == this.version) {
+            return this;
+        } // else: share all collections.
+        return new CurrencySnapshot(newVersion, this.currencies, this.currenciesByShortName, this.countriesWithCurrency,
+                                    this.countriesByCurrency);
+    }
+
+    private static String reverseIndexKey(final String currencyShortName) {
+        return currencyShortName.toUpperCase(Locale.ROOT);
+    }
+
+    private static Set<CurrencyET> copyWith(final Set<CurrencyET> currencies, final CurrencyET currency) {
+        final Set<CurrencyET> copy = new HashSet<>(currencies);
+        copy.add(currency);
+        return Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Builds a {@link CurrencySnapshot} from many entries without copying the collections for every single entry.
+     * The builder has the same semantics as {@link CurrencySnapshot#withCurrency(CurrencyET)} and
+     * {@link CurrencySnapshot#withCountryWithCurrency(String, CurrencyET)}.
+     */
+    public static final class Builder {
+        private final Set<CurrencyET> currencies = new LinkedHashSet<>();
+        private final Map<String, CurrencyET> countriesWithCurrency = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a currency.
+         *
+         * @param currency the currency to add as {@link CurrencyET} (must be valid).
+         * @return {@code true} if the currency was not contained yet.
+         */
+        public boolean addCurrency(final CurrencyET currency) {
+            return this.currencies.add(currency);
+        }
+
+        /**
+         * Add a country with its currency. The currency is added to the currencies as well.
+         * An already added country keeps its currency.
+         *
+         * @param countryShortName the short name of the country (not {@code null}).
+         * @param currency the currency of the country as {@link CurrencyET} (must be valid).
+         * @return {@code true} if the country or the currency was not contained yet.
+         */
+        public boolean addCountryWithCurrency(final String countryShortName, final CurrencyET currency) {
+            final boolean currencyAdded = this.currencies.add(currency);
+            return this.countriesWithCurrency.putIfAbsent(countryShortName, currency) == null || currencyAdded;
+        }
+
+        /**
+         * Build the {@link CurrencySnapshot}.
+         *
+         * @param version the version of the {@link CurrencySnapshot}.
+         * @return the new {@link CurrencySnapshot} containing all added entries.
+         */
+        public CurrencySnapshot build(final long version) {
+            final Map<String, Map<String, CurrencyET>> countriesByCurrency = new HashMap<>();
+            for(final Map.Entry<String, CurrencyET> country : this.countriesWithCurrency.entrySet()) {
+                countriesByCurrency.computeIfAbsent(reverseIndexKey(country.getValue().getShortName()), k -> new HashMap<>())
+                                   .put(country.getKey(), country.getValue());
+            }
+            countriesByCurrency.replaceAll((k, countries) -> Collections.unmodifiableMap(countries));
+            return new CurrencySnapshot(version, Collections.unmodifiableSet(new HashSet<>(this.currencies)),
+                                        CurrencyShortNameIndex.of(this.currencies),
+                                        Collections.unmodifiableMap(new HashMap<>(this.countriesWithCurrency)),
+                                        Collections.unmodifiableMap(countriesByCurrency));
+        }
+    }
+}
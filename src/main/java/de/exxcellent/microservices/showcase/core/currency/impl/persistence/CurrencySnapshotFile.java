@@ -0,0 +1,209 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes a {@link CurrencySnapshot} from and to a compact binary file.
+ * A snapshot is written to a temporary file first which atomically replaces the target file once it is synced to disk.
+ * Reading maps the file into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)} and inflates the
+ * snapshot in a single pass without parsing text or replaying changes.
+ * <p>
+ * Layout (big endian):
+ * <ol>
+ *     <li>Header (32 bytes): {@code int} magic, {@code int} format version, {@code long} snapshot version,
+ *     {@code int} currency count, {@code int} country count, {@code int} size of the name pool,
+ *     {@code int} CRC32 of everything behind the header.</li>
+ *     <li>Currency table, 14 bytes per currency: {@code char[3]} short name, {@code int} offset and {@code int} length
+ *     of the UTF-8 encoded name in the name pool.</li>
+ *     <li>Country table, 10 bytes per country: {@code char[3]} country short name, {@code int} index of its currency
+ *     in the currency table.</li>
+ *     <li>Name pool: the UTF-8 encoded currency names.</li>
+ * </ol>
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencySnapshotFile {
+    /**
+     * The magic number at the start of every snapshot file.
+     */
+    private static final int MAGIC = 0x43555253;
+    /**
+     * The version of the file format.
+     */
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int CRC_OFFSET = 28;
+    private static final int CODE_LENGTH = 3;
+    private static final int CURRENCY_ENTRY_SIZE = CODE_LENGTH * 2 + 8;
+    private static final int COUNTRY_ENTRY_SIZE = CODE_LENGTH * 2 + 4;
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private CurrencySnapshotFile() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "CurrencySnapshotFile is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Writes the given snapshot durably to the given file.
+     *
+     * @param snapshot the {@link CurrencySnapshot} to be written.
+     * @param file the target file as {@link Path}.
+     * @throws IOException if writing fails or a short name has not 3 characters. The target file is left untouched in this case.
+     */
+    public static void write(final CurrencySnapshot snapshot, final Path file) throws IOException {
+        final List<CurrencyET> currencies = new ArrayList<>(snapshot.getCurrencies());
+        final Map<CurrencyET, Integer> currencyIndexes = new HashMap<>();
+        final byte[][] names = new byte[currencies.size()][];
+        int poolSize = 0;
+        for(int i = 0; i < currencies.size(); i++) {
+            currencyIndexes.put(currencies.get(i), i);
+            names[i] = currencies.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            poolSize += names[i].length;
+        }
+        final Map<String, CurrencyET> countries = snapshot.getCountriesWithCurrency();
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + currencies.size() * CURRENCY_ENTRY_SIZE
+                                                      + countries.size() * COUNTRY_ENTRY_SIZE + poolSize);
+        buffer.putInt(MAGIC)
+              .putInt(FORMAT_VERSION)
+              .putLong(snapshot.getVersion())
+              .putInt(currencies.size())
+              .putInt(countries.size())
+              .putInt(poolSize)
+              .putInt(0);
+        int nameOffset = 0;
+        for(int i = 0; i < currencies.size(); i++) {
+            putCode(buffer, currencies.get(i).getShortName());
+            buffer.putInt(nameOffset).putInt(names[i].length);
+            nameOffset += names[i].length;
+        }
+        for(final Map.Entry<String, CurrencyET> country : countries.entrySet()) {
+            putCode(buffer, country.getKey());
+            buffer.putInt(currencyIndexes.get(country.getValue()));
+        }
+        for(final byte[] name : names) {
+            buffer.put(name);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+        buffer.putInt(CRC_OFFSET, (int) crc.getValue());
+        buffer.flip();
+
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try(final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                         StandardOpenOption.TRUNCATE_EXISTING)) {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(CurrencySnapshot, Path)}.
+     *
+     * @param file the snapshot file as {@link Path}.
+     * @return the read {@link CurrencySnapshot}.
+     * @throws IOException if reading fails or the file is no valid snapshot file.
+     */
+    public static CurrencySnapshot read(final Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try(final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() < HEADER_SIZE) {
+                throw new IOException("File " + file + " is no valid currency snapshot");
+            } // else: map the whole file. The mapping stays valid after closing the channel.
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+        if(buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("File " + file + " is no valid currency snapshot");
+        } // else: the header is valid.
+        final long version = buffer.getLong();
+        final int currencyCount = buffer.getInt();
+        final int countryCount = buffer.getInt();
+        final int poolSize = buffer.getInt();
+        final int checksum = buffer.getInt();
+        final long expectedSize = HEADER_SIZE + (long) currencyCount * CURRENCY_ENTRY_SIZE + (long) countryCount * COUNTRY_ENTRY_SIZE + poolSize;
+        if(currencyCount < 0 || countryCount < 0 || poolSize < 0 || expectedSize != buffer.capacity()) {
+            throw new IOException("Currency snapshot " + file + " is truncated or corrupt");
+        } // else: the size is valid. Verify the content.
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if((int) crc.getValue() != checksum) {
+            throw new IOException("Currency snapshot " + file + " is corrupt");
+        } // else: inflate the snapshot in one pass.
+
+        final int poolStart = buffer.capacity() - poolSize;
+        final ByteBuffer pool = buffer.duplicate();
+        final CurrencySnapshot.Builder builder = CurrencySnapshot.builder();
+        final CurrencyET[] currencies = new CurrencyET[currencyCount];
+        byte[] name = new byte[64];
+        for(int i = 0; i < currencyCount; i++) {
+            final String shortName = getCode(buffer);
+            final int nameOffset = buffer.getInt();
+            final int nameLength = buffer.getInt();
+            if(nameLength > name.length) {
+                name = new byte[nameLength];
+            }
+            pool.position(poolStart + nameOffset);
+            pool.get(name, 0, nameLength);
+            currencies[i] = new CurrencyET(shortName, new String(name, 0, nameLength, StandardCharsets.UTF_8));
+            builder.addCurrency(currencies[i]);
+        }
+        for(int i = 0; i < countryCount; i++) {
+            final String countryShortName = getCode(buffer);
+            builder.addCountryWithCurrency(countryShortName, currencies[buffer.getInt()]);
+        }
+        return builder.build(version);
+    }
+
+    private static void putCode(final ByteBuffer buffer, final String code) throws IOException {
+        if(code.length() != CODE_LENGTH) {
+            throw new IOException("Short name " + code + " cannot be stored in a currency snapshot, it must have 3 characters");
+        } // else: the code fits into the fixed size field.
+        for(int i = 0; i < CODE_LENGTH; i++) {
+            buffer.putChar(code.charAt(i));
+        }
+    }
+
+    private static String getCode(final ByteBuffer buffer) {
+        final char[] code = new char[CODE_LENGTH];
+        for(int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = buffer.getChar();
+        }
+        return new String(code);
+    }
+
+    /**
+     * Syncs the given directory so that a renamed file survives a crash. Not supported on every platform.
+     *
+     * @param directory the directory to sync.
+     */
+    static void syncDirectory(final Path directory) {
+        try(final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch(final IOException e) {
+            // syncing directories is not supported on every platform. The rename is still atomic.
+        }
+    }
+}
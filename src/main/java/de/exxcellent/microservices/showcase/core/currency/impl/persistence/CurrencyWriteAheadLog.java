@@ -0,0 +1,418 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only write-ahead log for {@link CurrencyChangeET}s with group commit and periodic compaction.
+ * <p>
+ * Writers {@link #append(CurrencyChangeET, Runnable) append} changes to a queue. A single log writer thread drains all
+ * queued changes, writes them with one call and covers the whole batch with one {@code fsync}. Only then the changes
+ * are published and the writers are released. After {@code compactionThreshold} changes the snapshot of the last durable
+ * change is written to a {@link CurrencySnapshotFile} and the log is truncated. Changes written as a group, e.g. by
+ * {@link CurrencyRuntimeStorage#addAll(java.util.Collection, java.util.Map)}, only carry the snapshot with their last
+ * change, the log is not compacted while such a group is only partly written.
+ * <p>
+ * Each record is stored as {@code int length}, {@code int crc32} and the payload encoded with {@link CurrencyChangeCodec}.
+ * On recovery the snapshot file is loaded and all records newer than the snapshot are replayed. A torn or corrupt record
+ * at the end of the log (e.g. after a crash during a write) and everything behind it is discarded, a gap in the versions
+ * of the records fails the recovery.
+ * <p>
+ * If writing or publishing a batch fails, the log stops accepting changes: the waiting writers of the batch and all later
+ * ones fail instead of waiting forever, and the published state is recovered from the log after a restart.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyWriteAheadLog implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyWriteAheadLog.class);
+    private static final String LOG_FILE_NAME = "currency.wal";
+    private static final String SNAPSHOT_FILE_NAME = "currency.snapshot";
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final Path logFile;
+    private final Path snapshotFile;
+    private final int compactionThreshold;
+    private final CurrencySnapshot recoveredSnapshot;
+    private final BlockingQueue<PendingChange> queue = new LinkedBlockingQueue<>();
+    private final FileChannel channel;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile Exception failure;
+    /**
+     * The number of changes written since the last compaction. Only accessed by the log writer thread.
+     */
+    private int changesSinceCompaction;
+    /**
+     * The {@link CurrencySnapshot} of the last durable change carrying one, compacted into the snapshot file. Only accessed
+     * by the log writer thread.
+     */
+    private CurrencySnapshot durableSnapshot;
+    /**
+     * If the last durable change is part of a group whose snapshot is not durable yet. Only accessed by the log writer thread.
+     */
+    private boolean groupInFlight;
+
+    /**
+     * Constructor.
+     * Recovers the state from the given directory and starts the log writer thread.
+     *
+     * @param directory the directory for the log and snapshot files (created if missing).
+     * @param compactionThreshold the number of changes after which the log is compacted into a snapshot.
+     * @param initialSnapshot the {@link CurrencySnapshot} to start from if no snapshot file is existing.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the files cannot be read or opened or the
+     * log has a gap.
+     */
+    public CurrencyWriteAheadLog(final Path directory, final int compactionThreshold, final CurrencySnapshot initialSnapshot) {
+        this.logFile = directory.resolve(LOG_FILE_NAME);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(directory);
+            this.recoveredSnapshot = recover(initialSnapshot);
+            this.durableSnapshot = this.recoveredSnapshot;
+            this.channel = FileChannel.open(this.logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.channel.position(this.channel.size());
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not open write-ahead log in " + directory, e);
+        }
+        this.writer = new Thread(this::writeLoop, "currency-wal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Get the {@link CurrencySnapshot} recovered from the snapshot file and the log.
+     *
+     * @return the recovered {@link CurrencySnapshot}.
+     */
+    public CurrencySnapshot getRecoveredSnapshot() {
+        return this.recoveredSnapshot;
+    }
+
+    /**
+     * Appends the given change to the log. Changes are written in the order of the calls, so callers must hold
+     * the lock which orders their changes.
+     *
+     * @param change the {@link CurrencyChangeET} to be logged.
+     * @param snapshot the {@link CurrencySnapshot} containing the change and all earlier ones, {@code null} for all but the
+     * last change of a group.
+     * @param onDurable called by the log writer thread once the change is durable, in log order.
+     * @return a {@link CompletableFuture} completed once the change is durable, see {@link #awaitDurable(CompletableFuture)}.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the log is closed or failed before.
+     */
+    public CompletableFuture<Void> append(final CurrencyChangeET change, final CurrencySnapshot snapshot, final Runnable onDurable) {
+        if(this.failure != null) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Write-ahead log failed before", this.failure);
+        } else if(!this.running) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Write-ahead log is closed");
+        } // else: queue the change for the next batch.
+        final PendingChange pendingChange = new PendingChange(change, snapshot, onDurable);
+        this.queue.add(pendingChange);
+        return pendingChange.durable;
+    }
+
+    /**
+     * Waits until a change returned by {@link #append(CurrencyChangeET, CurrencySnapshot, Runnable)} is durable.
+     *
+     * @param durable the {@link CompletableFuture} of the change.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the change could not be written.
+     */
+    public static void awaitDurable(final CompletableFuture<Void> durable) {
+        try {
+            durable.get();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Interrupted while waiting for the write-ahead log", e);
+        } catch(final ExecutionException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not write change to the write-ahead log", e.getCause());
+        }
+    }
+
+    /**
+     * Writes all queued changes, compacts the log and closes it.
+     *
+     * @throws IOException if the log cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+        try {
+            this.writer.join();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // changes appended concurrently to closing are not written anymore.
+        PendingChange pendingChange;
+        while((pendingChange = this.queue.poll()) != null) {
+            pendingChange.durable.completeExceptionally(new IOException("Write-ahead log is closed"));
+        }
+        if(this.failure == null) {
+            compact();
+        }
+        this.channel.close();
+    }
+
+    /**
+     * Loads the snapshot file and replays the log.
+     *
+     * @param initialSnapshot the {@link CurrencySnapshot} to start from if no snapshot file is existing.
+     * @return the recovered {@link CurrencySnapshot}.
+     * @throws IOException if the files cannot be read.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if a change is missing in the log.
+     */
+    private CurrencySnapshot recover(final CurrencySnapshot initialSnapshot) throws IOException {
+        CurrencySnapshot snapshot = initialSnapshot;
+        if(Files.exists(this.snapshotFile)) {
+            snapshot = CurrencySnapshotFile.read(this.snapshotFile);
+            LOG.info("Loaded currency snapshot with version {} from {}", snapshot.getVersion(), this.snapshotFile);
+        } // else: start with the initial snapshot.
+        if(!Files.exists(this.logFile)) {
+            return snapshot;
+        } // else: replay all valid records newer than the snapshot.
+        long validLength = 0L;
+        int replayed = 0;
+        try(final CountingDataInputStream in = new CountingDataInputStream(Files.newInputStream(this.logFile))) {
+            CurrencyChangeET change;
+            while((change = readRecord(in)) != null) {
+                validLength = in.getCount();
+                if(change.getVersion() <= snapshot.getVersion()) {
+                    continue;
+                } else if(change.getVersion() != snapshot.getVersion() + 1) {
+                    throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Write-ahead log " + this.logFile + " is missing the changes from version "
+                                                                           + (snapshot.getVersion() + 1) + " to " + (change.getVersion() - 1));
+                } // else: the next change.
+                snapshot = snapshot.apply(change).withVersion(change.getVersion());
+                replayed++;
+            }
+        }
+        final long logLength = Files.size(this.logFile);
+        if(validLength < logLength) {
+            LOG.warn("Discarding {} bytes of torn or corrupt records at the end of {}", logLength - validLength, this.logFile);
+            try(final FileChannel truncateChannel = FileChannel.open(this.logFile, StandardOpenOption.WRITE)) {
+                truncateChannel.truncate(validLength);
+                truncateChannel.force(true);
+            }
+        }
+        LOG.info("Replayed {} changes from {}, recovered currency storage version {}", replayed, this.logFile, snapshot.getVersion());
+        return snapshot;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @param in the {@link DataInput} of the log.
+     * @return the {@link CurrencyChangeET} or {@code null} if the end of the log or a torn or corrupt record is reached.
+     * @throws IOException if reading fails.
+     */
+    private static CurrencyChangeET readRecord(final DataInput in) throws IOException {
+        try {
+            final int length = in.readInt();
+            final int checksum = in.readInt();
+            if(length <= 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            } // else: the length is plausible.
+            final byte[] payload = new byte[length];
+            in.readFully(payload);
+            final CRC32 crc = new CRC32();
+            crc.update(payload, 0, length);
+            if((int) crc.getValue() != checksum) {
+                return null;
+            } // else: the record is complete.
+            return CurrencyChangeCodec.read(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch(final EOFException e) {
+            return null;
+        }
+    }
+
+    private void writeLoop() {
+        final List<PendingChange> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        final ByteArrayOutputStream batchBytes = new ByteArrayOutputStream();
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        while(this.running || !this.queue.isEmpty()) {
+            try {
+                final PendingChange first = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if(first == null) {
+                    continue;
+                } // else: collect everything queued meanwhile into one batch.
+                batch.add(first);
+                this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch, batchBytes, payloadBytes);
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(final List<PendingChange> batch, final ByteArrayOutputStream batchBytes, final ByteArrayOutputStream payloadBytes) {
+        if(this.failure != null) {
+            batch.forEach(p -> p.durable.completeExceptionally(this.failure));
+            return;
+        } // else: write and sync the whole batch at once.
+        try {
+            batchBytes.reset();
+            final DataOutputStream out = new DataOutputStream(batchBytes);
+            final CRC32 crc = new CRC32();
+            for(final PendingChange pendingChange : batch) {
+                payloadBytes.reset();
+                CurrencyChangeCodec.write(pendingChange.change, new DataOutputStream(payloadBytes));
+                crc.reset();
+                crc.update(payloadBytes.toByteArray(), 0, payloadBytes.size());
+                out.writeInt(payloadBytes.size());
+                out.writeInt((int) crc.getValue());
+                payloadBytes.writeTo(out);
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(batchBytes.toByteArray());
+            while(buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            this.channel.force(false);
+        } catch(final IOException | RuntimeException e) {
+            fail(batch, "Could not write " + batch.size() + " changes to the write-ahead log " + this.logFile, e);
+            return;
+        }
+        try {
+            for(final PendingChange pendingChange : batch) {
+                pendingChange.onDurable.run();
+                pendingChange.durable.complete(null);
+                this.groupInFlight = pendingChange.snapshot == null;
+                if(!this.groupInFlight) {
+                    this.durableSnapshot = pendingChange.snapshot;
+                } // else: the snapshot of the group follows with its last change.
+            }
+        } catch(final RuntimeException e) {
+            // the changes are durable but not all of them are published, so the published state must not grow any further.
+            fail(batch, "Could not publish " + batch.size() + " durable changes of the write-ahead log " + this.logFile, e);
+            return;
+        }
+        this.changesSinceCompaction += batch.size();
+        if(this.changesSinceCompaction >= this.compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Stops accepting changes and fails all changes of the batch which are not completed yet.
+     *
+     * @param batch the batch being written.
+     * @param message the message to log.
+     * @param cause the cause of the failure.
+     */
+    private void fail(final List<PendingChange> batch, final String message, final Exception cause) {
+        LOG.error(message, cause);
+        this.failure = cause;
+        batch.forEach(p -> p.durable.completeExceptionally(cause));
+    }
+
+    /**
+     * Writes the snapshot of the last durable change to the snapshot file and truncates the log.
+     * Must only be called by the log writer thread or after it was stopped.
+     */
+    private void compact() {
+        if(this.changesSinceCompaction == 0 || this.groupInFlight) {
+            return;
+        } // else: there are changes which are only contained in the log and all of them are in the durable snapshot.
+        final CurrencySnapshot snapshot = this.durableSnapshot;
+        try {
+            CurrencySnapshotFile.write(snapshot, this.snapshotFile);
+            this.channel.truncate(0L);
+            this.channel.force(true);
+            this.changesSinceCompaction = 0;
+            LOG.info("Compacted write-ahead log into currency snapshot with version {}", snapshot.getVersion());
+        } catch(final IOException | RuntimeException e) {
+            // the log is still complete. Compaction is tried again after the next batch.
+            LOG.warn("Could not compact write-ahead log {}", this.logFile, e);
+        }
+    }
+
+    /**
+     * A {@link DataInputStream} counting the bytes consumed by the completely read records.
+     */
+    private static final class CountingDataInputStream extends DataInputStream {
+        private CountingDataInputStream(final InputStream in) {
+            super(new CountingInputStream(new BufferedInputStream(in)));
+        }
+
+        private long getCount() {
+            return ((CountingInputStream) this.in).count;
+        }
+    }
+
+    /**
+     * An {@link InputStream} counting the read bytes.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if(b >= 0) {
+                this.count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if(read > 0) {
+                this.count += read;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * A change waiting to be written by the log writer thread.
+     */
+    private static final class PendingChange {
+        private final CurrencyChangeET change;
+        private final CurrencySnapshot snapshot;
+        private final Runnable onDurable;
+        private final CompletableFuture<Void> durable = new CompletableFuture<>();
+
+        private PendingChange(final CurrencyChangeET change, final CurrencySnapshot snapshot, final Runnable onDurable) {
+            this.change = change;
+            this.snapshot = snapshot;
+            this.onDurable = onDurable;
+        }
+    }
+}
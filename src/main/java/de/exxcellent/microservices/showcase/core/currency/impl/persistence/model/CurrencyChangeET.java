@@ -0,0 +1,144 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence.model;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The entity type (ET) representing a single effective change to the currency storage.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class CurrencyChangeET implements Serializable {
+    /**
+     * generated serialVersionUID.
+     */
+    private static final long serialVersionUID = 3126548872471025913L;
+
+    /**
+     * the version of the storage after this change was applied.
+     */
+    private final long version;
+    /**
+     * the type of this change.
+     */
+    private final CurrencyChangeType type;
+    /**
+     * the short name of the country. Only set for {@link CurrencyChangeType#COUNTRY_WITH_CURRENCY_ADDED}.
+     */
+    private final String countryShortName;
+    /**
+     * the added currency respectively the currency of the added country.
+     */
+    private final CurrencyET currency;
+
+    /**
+     * Constructor.
+     *
+     * @param version the version of the storage after this change was applied.
+     * @param type the type of this change (not {@code null}).
+     * @param countryShortName the short name of the country (not {@code null} for {@link CurrencyChangeType#COUNTRY_WITH_CURRENCY_ADDED}).
+     * @param currency the currency as {@link CurrencyET} (must be valid, see {@link CurrencyValidation#validateCurrencyET(CurrencyET)}).
+     */
+    public CurrencyChangeET(final long version, final CurrencyChangeType type, final String countryShortName, final CurrencyET currency) {
+        Preconditions.checkNotNull(type, "Change type must not be null");
+        if(type == CurrencyChangeType.COUNTRY_WITH_CURRENCY_ADDED) {
+            Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
+        }
+        CurrencyValidation.validateCurrencyET(currency);
+        this.version = version;
+        this.type = type;
+        this.countryShortName = countryShortName;
+        this.currency = currency;
+    }
+
+    /**
+     * Creates a {@link CurrencyChangeET} for an added currency.
+     *
+     * @param version the version of the storage after this change was applied.
+     * @param currency the added currency as {@link CurrencyET}.
+     * @return the {@link CurrencyChangeET}.
+     */
+    public static CurrencyChangeET currencyAdded(final long version, final CurrencyET currency) {
+        return new CurrencyChangeET(version, CurrencyChangeType.CURRENCY_ADDED, null, currency);
+    }
+
+    /**
+     * Creates a {@link CurrencyChangeET} for an added country with its currency.
+     *
+     * @param version the version of the storage after this change was applied.
+     * @param countryShortName the short name of the added country.
+     * @param currency the currency of the added country as {@link CurrencyET}.
+     * @return the {@link CurrencyChangeET}.
+     */
+    public static CurrencyChangeET countryWithCurrencyAdded(final long version, final String countryShortName, final CurrencyET currency) {
+        return new CurrencyChangeET(version, CurrencyChangeType.COUNTRY_WITH_CURRENCY_ADDED, countryShortName, currency);
+    }
+
+    /**
+     * Get the version of this {@link CurrencyChangeET}.
+     *
+     * @return the {@link CurrencyChangeET#version}.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get the type of this {@link CurrencyChangeET}.
+     *
+     * @return the {@link CurrencyChangeET#type}.
+     */
+    public CurrencyChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Get the country short name of this {@link CurrencyChangeET}.
+     *
+     * @return the {@link CurrencyChangeET#countryShortName} or {@code null} if no country was added.
+     */
+    public String getCountryShortName() {
+        return this.countryShortName;
+    }
+
+    /**
+     * Get the currency of this {@link CurrencyChangeET}.
+     *
+     * @return the {@link CurrencyChangeET#currency}.
+     */
+    public CurrencyET getCurrency() {
+        return this.currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CurrencyChangeET that = (CurrencyChangeET) o;
+        return this.version == that.version &&
+                        this.type == that.type &&
+                        Objects.equals(this.countryShortName, that.countryShortName) &&
+                        Objects.equals(this.currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.version, this.type, this.countryShortName, this.currency);
+    }
+
+    @Override
+    public String toString() {
+        return "CurrencyChangeET{" +
+                        "version=" + this.version +
+                        ", type=" + this.type +
+                        ", countryShortName='" + this.countryShortName + '\'' +
+                        ", currency=" + this.currency +
+                        '}';
+    }
+}
@@ -0,0 +1,19 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence.model;
+
+/**
+ * The types of changes to the currency storage.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public enum CurrencyChangeType {
+    /**
+     * A currency was added.
+     */
+    CURRENCY_ADDED,
+    /**
+     * A country with its currency was added.
+     */
+    COUNTRY_WITH_CURRENCY_ADDED,
+    ;
+}
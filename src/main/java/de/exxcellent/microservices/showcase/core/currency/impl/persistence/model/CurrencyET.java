@@ -1,5 +1,6 @@
 package de.exxcellent.microservices.showcase.core.currency.impl.persistence.model;
 
+import de.exxcellent.microservices.showcase.common.money.Money;
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
 
@@ -26,6 +27,10 @@ public class CurrencyET implements Serializable {
      * the name of the currency.
      */
     private final String name;
+    /**
+     * the number of decimal places of the minor unit of the currency according to ISO 4217, e.g. 2 for cents.
+     */
+    private final int minorUnits;
 
     /**
      * Constructor.
@@ -39,6 +44,7 @@ public class CurrencyET implements Serializable {
         Preconditions.checkStringLength(shortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
         this.shortName = shortName;
         this.name = name;
+        this.minorUnits = Money.minorUnitsOf(shortName);
     }
 
     /**
@@ -59,6 +65,15 @@ public class CurrencyET implements Serializable {
         return this.name;
     }
 
+    /**
+     * Get the number of minor units of this {@link CurrencyET}.
+     *
+     * @return the {@link CurrencyET#minorUnits}.
+     */
+    public int getMinorUnits() {
+        return this.minorUnits;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,127 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence.model;
+
+import java.io.Serializable;
+
+/**
+ * The entity type (ET) representing the replication state of this instance.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ReplicationStatusET implements Serializable {
+    /**
+     * generated serialVersionUID.
+     */
+    private static final long serialVersionUID = -2754916021468725137L;
+
+    /**
+     * the replication role of this instance: {@code none}, {@code leader} or {@code follower}.
+     */
+    private final String role;
+    /**
+     * the version of the local data.
+     */
+    private final long version;
+    /**
+     * the latest known version of the leader, the local version for a leader.
+     */
+    private final long leaderVersion;
+    /**
+     * the time between publishing the latest change on the leader and applying it locally in milliseconds.
+     */
+    private final long lagMillis;
+    /**
+     * {@code true} if a follower is connected to its leader, always {@code true} for other roles.
+     */
+    private final boolean connected;
+    /**
+     * the number of connected followers of a leader.
+     */
+    private final int followers;
+
+    /**
+     * Constructor.
+     *
+     * @param role the replication role of this instance.
+     * @param version the version of the local data.
+     * @param leaderVersion the latest known version of the leader.
+     * @param lagMillis the replication lag in milliseconds.
+     * @param connected {@code true} if a follower is connected to its leader.
+     * @param followers the number of connected followers of a leader.
+     */
+    public ReplicationStatusET(final String role, final long version, final long leaderVersion, final long lagMillis,
+                               final boolean connected, final int followers) {
+        this.role = role;
+        this.version = version;
+        this.leaderVersion = leaderVersion;
+        this.lagMillis = lagMillis;
+        this.connected = connected;
+        this.followers = followers;
+    }
+
+    /**
+     * Get the role of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#role}.
+     */
+    public String getRole() {
+        return this.role;
+    }
+
+    /**
+     * Get the version of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#version}.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get the leader version of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#leaderVersion}.
+     */
+    public long getLeaderVersion() {
+        return this.leaderVersion;
+    }
+
+    /**
+     * Get the lag of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#lagMillis}.
+     */
+    public long getLagMillis() {
+        return this.lagMillis;
+    }
+
+    /**
+     * Check the connection of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#connected}.
+     */
+    public boolean isConnected() {
+        return this.connected;
+    }
+
+    /**
+     * Get the followers of this {@link ReplicationStatusET}.
+     *
+     * @return the {@link ReplicationStatusET#followers}.
+     */
+    public int getFollowers() {
+        return this.followers;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationStatusET{" +
+                        "role='" + this.role + '\'' +
+                        ", version=" + this.version +
+                        ", leaderVersion=" + this.leaderVersion +
+                        ", lagMillis=" + this.lagMillis +
+                        ", connected=" + this.connected +
+                        ", followers=" + this.followers +
+                        '}';
+    }
+}
@@ -0,0 +1,115 @@
+package de.exxcellent.microservices.showcase.core.rate.api;
+
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionBatch;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateIngestionStatusTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateSeriesTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+
+import java.math.RoundingMode;
+import java.util.Set;
+
+/**
+ * Business component interface (BCI) for the exchange rate component
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public interface ExchangeRateBCI {
+    /**
+     * The maximum number of items of a single {@link ConversionBatch}.
+     */
+    int MAX_CONVERSION_ITEMS = 1_000_000;
+
+    /**
+     * Get the latest exchange rates of all currency pairs.
+     *
+     * @return a {@link Set} with all exchange rates as {@link ExchangeRateTO}.
+     */
+    Set<ExchangeRateTO> getRates();
+
+    /**
+     * Get the exchange rate of a currency pair, derived from the inverse pair or triangulated through the base currency if
+     * the pair is not quoted directly.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @return the exchange rate as {@link ExchangeRateTO} with the timestamp of the stored tick it is derived from, of the
+     * older quote if triangulated.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate is existing for the pair.
+     */
+    ExchangeRateTO getRate(final String from, final String to);
+
+    /**
+     * Get the exchange rate of a currency pair valid at the given time, derived from the inverse pair if only that one is known.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the exchange rate as {@link ExchangeRateTO} with the timestamp of the stored tick valid at that time.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate was existing for the pair at that time.
+     */
+    ExchangeRateTO getRateAt(final String from, final String to, final long timestamp);
+
+    /**
+     * Get the exchange rates of a currency pair within a time range, derived from the inverse pair if only that one is known.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param start the start of the range in milliseconds since the epoch (inclusive).
+     * @param end the end of the range in milliseconds since the epoch (inclusive, not before the start).
+     * @return the rates of the range as {@link ExchangeRateSeriesTO}.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate was ever stored for the pair.
+     */
+    ExchangeRateSeriesTO getRates(final String from, final String to, final long start, final long end);
+
+    /**
+     * Store an exchange rate of a currency pair in its history. It becomes the latest rate of the pair unless a rate with a
+     * later timestamp is stored already.
+     *
+     * @param rate the exchange rate as {@link ExchangeRateTO}. (must be valid, see {@link de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation#validateExchangeRateTO(ExchangeRateTO)}).
+     * @return all exchange rates including the stored one as {@link Set} of {@link ExchangeRateTO}s.
+     */
+    Set<ExchangeRateTO> saveRate(final ExchangeRateTO rate);
+
+    /**
+     * Publish a market rate tick to be stored asynchronously in the history of its currency pair. Does not block, the
+     * tick is readable once the ingestion stored the batch it belongs to.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}, not the source currency).
+     * @param rate the rate (positive, finite).
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch, now if {@code 0}.
+     * @return {@code true} if the tick was published, {@code false} if the ingestion is at its capacity and the tick has
+     * to be published again later.
+     */
+    boolean publishTick(final String from, final String to, final double rate, final long timestamp);
+
+    /**
+     * Get the state of the rate tick ingestion, including its throughput and the latency until a tick is readable.
+     *
+     * @return the state as {@link ExchangeRateIngestionStatusTO}.
+     */
+    ExchangeRateIngestionStatusTO getIngestionStatus();
+
+    /**
+     * Convert an amount from one currency to another with the latest exchange rate. The amount is rounded to the nearest
+     * minor unit of the source currency, the result to the minor units of the target currency with the given rounding mode.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param amount the amount in the source currency (finite).
+     * @param rounding the {@link RoundingMode} of the result (not {@code null}).
+     * @return the conversion as {@link ConversionTO}.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate is existing for the pair.
+     */
+    ConversionTO convert(final String from, final String to, final double amount, final RoundingMode rounding);
+
+    /**
+     * Convert all items of a batch with the latest exchange rates. The rate of every distinct currency pair is resolved
+     * once, a pair without rate does not fail the batch but is reported with its items.
+     *
+     * @param batch the conversions as {@link ConversionBatch}, converted in place.
+     */
+    void convert(final ConversionBatch batch);
+}
@@ -0,0 +1,288 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.money.Money;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.api.ExchangeRateBCI;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * A batch of conversions kept in columns of primitive arrays instead of an object per item: every item refers to one of
+ * the distinct currency pairs of the batch and has an amount and a result. The exchange rate is resolved once per
+ * distinct pair, the results are computed in a single loop over the arrays. Amounts and results are kept in minor units
+ * of their currency, see {@link Money}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ConversionBatch {
+    private static final int INITIAL_CAPACITY = 64;
+    /**
+     * The number of items from which the results are computed in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int NO_PAIR = -1;
+
+    /**
+     * The {@link RoundingMode} of the results.
+     */
+    private final RoundingMode rounding;
+    /**
+     * The number of items.
+     */
+    private int size;
+    /**
+     * The index of the distinct pair of every item.
+     */
+    private int[] pairs = new int[INITIAL_CAPACITY];
+    /**
+     * The amount of every item in minor units of its source currency.
+     */
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    /**
+     * The converted amount of every item in minor units of its target currency.
+     */
+    private long[] results;
+    /**
+     * The number of distinct pairs.
+     */
+    private int pairCount;
+    /**
+     * The encoded source and target currency of every distinct pair ({@code from * CODE_SPACE + to}).
+     */
+    private int[] pairKeys = new int[INITIAL_CAPACITY];
+    /**
+     * The exchange rate of every distinct pair, {@link Double#NaN} if not existing.
+     */
+    private double[] pairRates;
+    /**
+     * The reason why the rate of a distinct pair is not existing.
+     */
+    private String[] pairErrors;
+    /**
+     * Open addressing hash table from the key of a distinct pair to its index, {@link #NO_PAIR} for empty buckets.
+     */
+    private int[] pairTable = newPairTable(INITIAL_CAPACITY * 2);
+
+    /**
+     * Constructor.
+     *
+     * @param rounding the {@link RoundingMode} to round the results to the minor units of their target currency (not {@code null}).
+     */
+    public ConversionBatch(final RoundingMode rounding) {
+        Preconditions.checkNotNull(rounding, "Rounding mode must not be null");
+        this.rounding = rounding;
+    }
+
+    /**
+     * Add a conversion.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param amount the amount in the source currency (finite), rounded to the nearest minor unit.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#INVALID_ARGUMENT_ERROR}
+     * if the item is not valid or the batch has {@value ExchangeRateBCI#MAX_CONVERSION_ITEMS} items already.
+     */
+    public void add(final String from, final String to, final double amount) {
+        Preconditions.checkArgument(this.size < ExchangeRateBCI.MAX_CONVERSION_ITEMS,
+                                    "At most " + ExchangeRateBCI.MAX_CONVERSION_ITEMS + " amounts can be converted at once");
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        Preconditions.checkArgument(!Double.isNaN(amount) && !Double.isInfinite(amount), ExchangeRateValidation.AMOUNT_FINITE);
+        if(this.size == this.pairs.length) {
+            this.pairs = Arrays.copyOf(this.pairs, this.size * 2);
+            this.amounts = Arrays.copyOf(this.amounts, this.size * 2);
+        } // else: there is room for the item.
+        final int fromCode = IsoCodes.encode(from);
+        this.amounts[this.size] = Money.toMinorUnits(amount, Money.minorUnitsOf(fromCode));
+        this.pairs[this.size] = pairOf(fromCode * IsoCodes.CODE_SPACE + IsoCodes.encode(to));
+        this.size++;
+    }
+
+    /**
+     * Get the number of items.
+     *
+     * @return the number of items.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of distinct currency pairs.
+     *
+     * @return the number of distinct pairs.
+     */
+    public int getPairCount() {
+        return this.pairCount;
+    }
+
+    /**
+     * Get the source currency of a distinct pair.
+     *
+     * @param pair the index of the distinct pair.
+     * @return the short name of the source currency in upper case.
+     */
+    public String getPairFrom(final int pair) {
+        return IsoCodes.decode(this.pairKeys[pair] / IsoCodes.CODE_SPACE);
+    }
+
+    /**
+     * Get the target currency of a distinct pair.
+     *
+     * @param pair the index of the distinct pair.
+     * @return the short name of the target currency in upper case.
+     */
+    public String getPairTo(final int pair) {
+        return IsoCodes.decode(this.pairKeys[pair] % IsoCodes.CODE_SPACE);
+    }
+
+    /**
+     * Get the exchange rate of a distinct pair, available after {@link #convert(double[], String[])}.
+     *
+     * @param pair the index of the distinct pair.
+     * @return the rate or {@link Double#NaN} if not existing.
+     */
+    public double getPairRate(final int pair) {
+        return this.pairRates[pair];
+    }
+
+    /**
+     * Get the reason why the rate of a distinct pair is not existing, available after {@link #convert(double[], String[])}.
+     *
+     * @param pair the index of the distinct pair.
+     * @return the reason or {@code null} if the rate is existing.
+     */
+    public String getPairError(final int pair) {
+        return this.pairErrors[pair];
+    }
+
+    /**
+     * Get the distinct pair of an item.
+     *
+     * @param item the index of the item.
+     * @return the index of the distinct pair.
+     */
+    public int getPair(final int item) {
+        return this.pairs[item];
+    }
+
+    /**
+     * Get the amount of an item.
+     *
+     * @param item the index of the item.
+     * @return the amount in the source currency, rounded to its minor units.
+     */
+    public double getAmount(final int item) {
+        return Money.toAmount(this.amounts[item], fromMinorUnits(this.pairs[item]));
+    }
+
+    /**
+     * Get the converted amount of an item, available after {@link #convert(double[], String[])}.
+     *
+     * @param item the index of the item.
+     * @return the amount in the target currency, rounded to its minor units, or {@link Double#NaN} if the rate of its pair is not existing.
+     */
+    public double getResult(final int item) {
+        final int pair = this.pairs[item];
+        return this.pairErrors[pair] == null ? Money.toAmount(this.results[item], toMinorUnits(pair)) : Double.NaN;
+    }
+
+    /**
+     * Convert all items with the given rates of the distinct pairs. Large batches are converted in parallel.
+     * Items of a pair without rate are not converted.
+     *
+     * @param rates the exchange rate of every distinct pair, {@link Double#NaN} if not existing.
+     * @param errors the reason why the rate of a distinct pair is not existing, {@code null} if existing.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#INVALID_ARGUMENT_ERROR}
+     * if a result exceeds the range of minor units or needs rounding with {@link RoundingMode#UNNECESSARY}.
+     */
+    public void convert(final double[] rates, final String[] errors) {
+        Preconditions.checkArgument(rates.length == this.pairCount && errors.length == this.pairCount,
+                                    "Every currency pair of a conversion batch needs a rate");
+        this.pairRates = rates;
+        this.pairErrors = errors;
+        final int[] fromMinorUnits = new int[this.pairCount];
+        final int[] toMinorUnits = new int[this.pairCount];
+        for(int pair = 0; pair < this.pairCount; pair++) {
+            fromMinorUnits[pair] = errors[pair] == null ? fromMinorUnits(pair) : -1;
+            toMinorUnits[pair] = toMinorUnits(pair);
+        }
+        final int[] itemPairs = this.pairs;
+        final long[] itemAmounts = this.amounts;
+        final long[] itemResults = new long[this.size];
+        if(this.size >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(itemResults, item -> convert(itemAmounts[item], itemPairs[item], rates, fromMinorUnits, toMinorUnits));
+        } else {
+            for(int item = 0; item < itemResults.length; item++) {
+                itemResults[item] = convert(itemAmounts[item], itemPairs[item], rates, fromMinorUnits, toMinorUnits);
+            }
+        }
+        this.results = itemResults;
+    }
+
+    private long convert(final long amount, final int pair, final double[] rates, final int[] fromMinorUnits, final int[] toMinorUnits) {
+        if(fromMinorUnits[pair] < 0) {
+            return 0L;
+        } // else: the rate of the pair is existing.
+        return Money.convert(amount, fromMinorUnits[pair], rates[pair], toMinorUnits[pair], this.rounding);
+    }
+
+    private int fromMinorUnits(final int pair) {
+        return Money.minorUnitsOf(this.pairKeys[pair] / IsoCodes.CODE_SPACE);
+    }
+
+    private int toMinorUnits(final int pair) {
+        return Money.minorUnitsOf(this.pairKeys[pair] % IsoCodes.CODE_SPACE);
+    }
+
+    /**
+     * Get the index of the distinct pair with the given key, adding the pair if it is new.
+     */
+    private int pairOf(final int key) {
+        final int mask = this.pairTable.length - 1;
+        int bucket = mix(key) & mask;
+        while(this.pairTable[bucket] != NO_PAIR) {
+            final int pair = this.pairTable[bucket];
+            if(this.pairKeys[pair] == key) {
+                return pair;
+            } // else: probe the next bucket.
+            bucket = (bucket + 1) & mask;
+        }
+        if(this.pairCount == this.pairKeys.length) {
+            this.pairKeys = Arrays.copyOf(this.pairKeys, this.pairCount * 2);
+        } // else: there is room for the pair.
+        final int pair = this.pairCount++;
+        this.pairKeys[pair] = key;
+        this.pairTable[bucket] = pair;
+        if(this.pairCount * 2 > this.pairTable.length) {
+            rehash();
+        } // else: the table is at most half full.
+        return pair;
+    }
+
+    private void rehash() {
+        this.pairTable = newPairTable(this.pairTable.length * 2);
+        final int mask = this.pairTable.length - 1;
+        for(int pair = 0; pair < this.pairCount; pair++) {
+            int bucket = mix(this.pairKeys[pair]) & mask;
+            while(this.pairTable[bucket] != NO_PAIR) {
+                bucket = (bucket + 1) & mask;
+            }
+            this.pairTable[bucket] = pair;
+        }
+    }
+
+    private static int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int[] newPairTable(final int capacity) {
+        final int[] table = new int[capacity];
+        Arrays.fill(table, NO_PAIR);
+        return table;
+    }
+}
@@ -0,0 +1,111 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import java.io.Serializable;
+
+/**
+ * A transport object representing the conversion of an amount from one currency to another.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ConversionTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = 4718265093714455620L;
+    /**
+     * the short name (ISO Code) of the source currency.
+     */
+    private String from;
+    /**
+     * the short name (ISO Code) of the target currency.
+     */
+    private String to;
+    /**
+     * the converted amount in the source currency.
+     */
+    private double amount;
+    /**
+     * the exchange rate used for the conversion.
+     */
+    private double rate;
+    /**
+     * the converted amount in the target currency.
+     */
+    private double result;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public ConversionTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param from the short name (ISO Code) of the source currency.
+     * @param to the short name (ISO Code) of the target currency.
+     * @param amount the converted amount in the source currency.
+     * @param rate the exchange rate used for the conversion.
+     * @param result the converted amount in the target currency.
+     */
+    public ConversionTO(final String from, final String to, final double amount, final double rate, final double result) {
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+        this.rate = rate;
+        this.result = result;
+    }
+
+    public String getFrom() {
+        return this.from;
+    }
+
+    public void setFrom(final String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return this.to;
+    }
+
+    public void setTo(final String to) {
+        this.to = to;
+    }
+
+    public double getAmount() {
+        return this.amount;
+    }
+
+    public void setAmount(final double amount) {
+        this.amount = amount;
+    }
+
+    public double getRate() {
+        return this.rate;
+    }
+
+    public void setRate(final double rate) {
+        this.rate = rate;
+    }
+
+    public double getResult() {
+        return this.result;
+    }
+
+    public void setResult(final double result) {
+        this.result = result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionTO{" +
+                        "from='" + this.from + '\'' +
+                        ", to='" + this.to + '\'' +
+                        ", amount=" + this.amount +
+                        ", rate=" + this.rate +
+                        ", result=" + this.result +
+                        '}';
+    }
+}
@@ -0,0 +1,218 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import java.io.Serializable;
+
+/**
+ * A transport object representing the state of the rate tick ingestion, including its throughput and latency.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateIngestionStatusTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = -5170483921675502318L;
+    /**
+     * the number of slots of the tick buffer.
+     */
+    private int capacity;
+    /**
+     * the number of ticks waiting in the buffer.
+     */
+    private int backlog;
+    /**
+     * the number of ticks published into the buffer.
+     */
+    private long published;
+    /**
+     * the number of ticks rejected because the buffer was full.
+     */
+    private long rejected;
+    /**
+     * the number of ticks stored by the writer.
+     */
+    private long applied;
+    /**
+     * the number of ticks dropped because storing their batch failed.
+     */
+    private long failed;
+    /**
+     * the number of batches stored by the writer.
+     */
+    private long batches;
+    /**
+     * the version of the rates, advanced with every stored batch.
+     */
+    private long version;
+    /**
+     * the number of ticks stored within the latest second.
+     */
+    private long ticksPerSecond;
+    /**
+     * the time from publishing the oldest tick of the latest batch until it was readable in microseconds.
+     */
+    private long lastLatencyMicros;
+    /**
+     * the mean time from publishing a tick until it was readable in microseconds.
+     */
+    private long meanLatencyMicros;
+    /**
+     * the maximum time from publishing a tick until it was readable in microseconds.
+     */
+    private long maxLatencyMicros;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public ExchangeRateIngestionStatusTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the number of slots of the tick buffer.
+     * @param backlog the number of ticks waiting in the buffer.
+     * @param published the number of ticks published into the buffer.
+     * @param rejected the number of ticks rejected because the buffer was full.
+     * @param applied the number of ticks stored by the writer.
+     * @param failed the number of ticks dropped because storing their batch failed.
+     * @param batches the number of batches stored by the writer.
+     * @param version the version of the rates, advanced with every stored batch.
+     * @param ticksPerSecond the number of ticks stored within the latest second.
+     * @param lastLatencyMicros the time from publishing the oldest tick of the latest batch until it was readable in microseconds.
+     * @param meanLatencyMicros the mean time from publishing a tick until it was readable in microseconds.
+     * @param maxLatencyMicros the maximum time from publishing a tick until it was readable in microseconds.
+     */
+    public ExchangeRateIngestionStatusTO(final int capacity, final int backlog, final long published, final long rejected,
+                                         final long applied, final long failed, final long batches, final long version, final long ticksPerSecond,
+                                         final long lastLatencyMicros, final long meanLatencyMicros, final long maxLatencyMicros) {
+        this.capacity = capacity;
+        this.backlog = backlog;
+        this.published = published;
+        this.rejected = rejected;
+        this.applied = applied;
+        this.failed = failed;
+        this.batches = batches;
+        this.version = version;
+        this.ticksPerSecond = ticksPerSecond;
+        this.lastLatencyMicros = lastLatencyMicros;
+        this.meanLatencyMicros = meanLatencyMicros;
+        this.maxLatencyMicros = maxLatencyMicros;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public void setCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBacklog() {
+        return this.backlog;
+    }
+
+    public void setBacklog(final int backlog) {
+        this.backlog = backlog;
+    }
+
+    public long getPublished() {
+        return this.published;
+    }
+
+    public void setPublished(final long published) {
+        this.published = published;
+    }
+
+    public long getRejected() {
+        return this.rejected;
+    }
+
+    public void setRejected(final long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getApplied() {
+        return this.applied;
+    }
+
+    public void setApplied(final long applied) {
+        this.applied = applied;
+    }
+
+    public long getFailed() {
+        return this.failed;
+    }
+
+    public void setFailed(final long failed) {
+        this.failed = failed;
+    }
+
+    public long getBatches() {
+        return this.batches;
+    }
+
+    public void setBatches(final long batches) {
+        this.batches = batches;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
+    public long getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    public void setTicksPerSecond(final long ticksPerSecond) {
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    public long getLastLatencyMicros() {
+        return this.lastLatencyMicros;
+    }
+
+    public void setLastLatencyMicros(final long lastLatencyMicros) {
+        this.lastLatencyMicros = lastLatencyMicros;
+    }
+
+    public long getMeanLatencyMicros() {
+        return this.meanLatencyMicros;
+    }
+
+    public void setMeanLatencyMicros(final long meanLatencyMicros) {
+        this.meanLatencyMicros = meanLatencyMicros;
+    }
+
+    public long getMaxLatencyMicros() {
+        return this.maxLatencyMicros;
+    }
+
+    public void setMaxLatencyMicros(final long maxLatencyMicros) {
+        this.maxLatencyMicros = maxLatencyMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateIngestionStatusTO{" +
+                        "capacity=" + this.capacity +
+                        ", backlog=" + this.backlog +
+                        ", published=" + this.published +
+                        ", rejected=" + this.rejected +
+                        ", applied=" + this.applied +
+                        ", failed=" + this.failed +
+                        ", batches=" + this.batches +
+                        ", version=" + this.version +
+                        ", ticksPerSecond=" + this.ticksPerSecond +
+                        ", lastLatencyMicros=" + this.lastLatencyMicros +
+                        ", meanLatencyMicros=" + this.meanLatencyMicros +
+                        ", maxLatencyMicros=" + this.maxLatencyMicros +
+                        '}';
+    }
+}
@@ -0,0 +1,97 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A transport object representing the exchange rates of a currency pair within a time range as parallel arrays, e.g. for a chart.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateSeriesTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = 1572093846120385741L;
+    /**
+     * the short name (ISO Code) of the source currency.
+     */
+    private String from;
+    /**
+     * the short name (ISO Code) of the target currency.
+     */
+    private String to;
+    /**
+     * the times the rates were valid from in milliseconds since the epoch, ascending.
+     */
+    private long[] timestamps;
+    /**
+     * the rate of each timestamp.
+     */
+    private double[] rates;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public ExchangeRateSeriesTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param from the short name (ISO Code) of the source currency.
+     * @param to the short name (ISO Code) of the target currency.
+     * @param timestamps the times the rates were valid from in milliseconds since the epoch, ascending.
+     * @param rates the rate of each timestamp.
+     */
+    public ExchangeRateSeriesTO(final String from, final String to, final long[] timestamps, final double[] rates) {
+        this.from = from;
+        this.to = to;
+        this.timestamps = timestamps;
+        this.rates = rates;
+    }
+
+    public String getFrom() {
+        return this.from;
+    }
+
+    public void setFrom(final String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return this.to;
+    }
+
+    public void setTo(final String to) {
+        this.to = to;
+    }
+
+    public long[] getTimestamps() {
+        return this.timestamps;
+    }
+
+    public void setTimestamps(final long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public double[] getRates() {
+        return this.rates;
+    }
+
+    public void setRates(final double[] rates) {
+        this.rates = rates;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateSeriesTO{" +
+                        "from='" + this.from + '\'' +
+                        ", to='" + this.to + '\'' +
+                        ", timestamps=" + Arrays.toString(this.timestamps) +
+                        ", rates=" + Arrays.toString(this.rates) +
+                        '}';
+    }
+}
@@ -0,0 +1,103 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+
+import java.io.Serializable;
+
+/**
+ * A transport object representing the exchange rate of a currency pair.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateTO implements Serializable {
+    /**
+     * generated serialVersionUID
+     */
+    private static final long serialVersionUID = -2870154365091228417L;
+    /**
+     * the short name (ISO Code) of the source currency.
+     */
+    private String from;
+    /**
+     * the short name (ISO Code) of the target currency.
+     */
+    private String to;
+    /**
+     * the number of target currency units one source currency unit is worth.
+     */
+    private double rate;
+    /**
+     * the time the rate is valid from in milliseconds since the epoch. {@code 0} stores a rate as of now.
+     */
+    private long timestamp;
+
+    /**
+     * empty constructor for JSON mapping.
+     */
+    public ExchangeRateTO() {
+
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param rate the number of target currency units one source currency unit is worth (positive and finite).
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch.
+     */
+    public ExchangeRateTO(final String from, final String to, final double rate, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        ExchangeRateValidation.validateRate(rate);
+        this.from = from;
+        this.to = to;
+        this.rate = rate;
+        this.timestamp = timestamp;
+    }
+
+    public String getFrom() {
+        return this.from;
+    }
+
+    public void setFrom(final String from) {
+        Preconditions.checkNotNull(from, ExchangeRateValidation.SOURCE_CURRENCY_NOT_NULL);
+        this.from = from;
+    }
+
+    public String getTo() {
+        return this.to;
+    }
+
+    public void setTo(final String to) {
+        Preconditions.checkNotNull(to, ExchangeRateValidation.TARGET_CURRENCY_NOT_NULL);
+        this.to = to;
+    }
+
+    public double getRate() {
+        return this.rate;
+    }
+
+    public void setRate(final double rate) {
+        this.rate = rate;
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateTO{" +
+                        "from='" + this.from + '\'' +
+                        ", to='" + this.to + '\'' +
+                        ", rate=" + this.rate +
+                        ", timestamp=" + this.timestamp +
+                        '}';
+    }
+}
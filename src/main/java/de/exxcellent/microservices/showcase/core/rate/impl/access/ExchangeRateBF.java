@@ -0,0 +1,118 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.access;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.metrics.Metered;
+import de.exxcellent.microservices.showcase.common.money.Money;
+import de.exxcellent.microservices.showcase.core.rate.api.ExchangeRateBCI;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionBatch;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateIngestionStatusTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateSeriesTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.business.ExchangeRateICI;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.math.RoundingMode;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The business facade (BF) for the exchange rate component.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+@Metered("ExchangeRateBCI")
+public class ExchangeRateBF implements ExchangeRateBCI {
+
+    private final ExchangeRateICI exchangeRateManager;
+
+    @Inject
+    ExchangeRateBF(final ExchangeRateICI exchangeRateManager) {
+        this.exchangeRateManager = exchangeRateManager;
+    }
+
+    @Override
+    public Set<ExchangeRateTO> getRates() {
+        return this.exchangeRateManager.getRates()
+                                       .stream()
+                                       .map(ExchangeRateMapper::toTO)
+                                       .collect(Collectors.toSet());
+    }
+
+    @Override
+    public ExchangeRateTO getRate(final String from, final String to) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        if(from.equalsIgnoreCase(to)) {
+            // no tick is stored for a currency to itself, the rate 1 is valid at any time.
+            return new ExchangeRateTO(from.toUpperCase(), to.toUpperCase(), 1.0, System.currentTimeMillis());
+        } // else: the rate with the timestamp of its tick.
+        return ExchangeRateMapper.toTO(this.exchangeRateManager.getRateTick(from, to));
+    }
+
+    @Override
+    public ExchangeRateTO getRateAt(final String from, final String to, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        if(from.equalsIgnoreCase(to)) {
+            return new ExchangeRateTO(from.toUpperCase(), to.toUpperCase(), 1.0, timestamp);
+        } // else: the rate with the timestamp of the tick valid at that time.
+        return ExchangeRateMapper.toTO(this.exchangeRateManager.getRateTickAt(from, to, timestamp));
+    }
+
+    @Override
+    public ExchangeRateSeriesTO getRates(final String from, final String to, final long start, final long end) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        ExchangeRateValidation.validateTimeRange(start, end);
+        return ExchangeRateMapper.toTO(this.exchangeRateManager.getRates(from, to, start, end));
+    }
+
+    @Override
+    public Set<ExchangeRateTO> saveRate(final ExchangeRateTO rate) {
+        ExchangeRateValidation.validateExchangeRateTO(rate);
+        return this.exchangeRateManager.saveRate(ExchangeRateMapper.fromTO(rate))
+                                       .stream()
+                                       .map(ExchangeRateMapper::toTO)
+                                       .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean publishTick(final String from, final String to, final double rate, final long timestamp) {
+        return this.exchangeRateManager.publishTick(from, to, rate, timestamp == 0 ? System.currentTimeMillis() : timestamp);
+    }
+
+    @Override
+    public ExchangeRateIngestionStatusTO getIngestionStatus() {
+        return ExchangeRateMapper.toTO(this.exchangeRateManager.getIngestionStatus());
+    }
+
+    @Override
+    public ConversionTO convert(final String from, final String to, final double amount, final RoundingMode rounding) {
+        final double rate = this.exchangeRateManager.getRate(from, to);
+        final int fromMinorUnits = Money.minorUnitsOf(from);
+        final int toMinorUnits = Money.minorUnitsOf(to);
+        final long units = Money.toMinorUnits(amount, fromMinorUnits);
+        final long result = Money.convert(units, fromMinorUnits, rate, toMinorUnits, rounding);
+        return new ConversionTO(from.toUpperCase(), to.toUpperCase(), Money.toAmount(units, fromMinorUnits), rate, Money.toAmount(result, toMinorUnits));
+    }
+
+    @Override
+    public void convert(final ConversionBatch batch) {
+        final double[] rates = new double[batch.getPairCount()];
+        final String[] errors = new String[batch.getPairCount()];
+        for(int pair = 0; pair < rates.length; pair++) {
+            try {
+                rates[pair] = this.exchangeRateManager.getRate(batch.getPairFrom(pair), batch.getPairTo(pair));
+            } catch(final BusinessException e) {
+                if(e.getErrorCode() != ErrorCode.NOT_FOUND_ERROR) {
+                    throw e;
+                } // else: the items of the pair are reported as not convertible.
+                rates[pair] = Double.NaN;
+                errors[pair] = e.getMessage();
+            }
+        }
+        batch.convert(rates, errors);
+    }
+}
@@ -0,0 +1,82 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.access;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateIngestionStatusTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateSeriesTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateIngestionStatusET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+
+/**
+ * Maps {@link ExchangeRateTO}s to {@link ExchangeRateET}s and vice versa.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class ExchangeRateMapper {
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private ExchangeRateMapper() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "ExchangeRateMapper is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Maps an {@link ExchangeRateET} to an {@link ExchangeRateTO}.
+     *
+     * @param rate the {@link ExchangeRateET} to be mapped. (must be valid, see {@link ExchangeRateValidation#validateExchangeRateET(ExchangeRateET)}).
+     * @return the {@link ExchangeRateTO} containing the information from the {@link ExchangeRateET}.
+     */
+    public static ExchangeRateTO toTO(final ExchangeRateET rate) {
+        ExchangeRateValidation.validateExchangeRateET(rate);
+        return new ExchangeRateTO(rate.getFrom(), rate.getTo(), rate.getRate(), rate.getTimestamp());
+    }
+
+    /**
+     * Maps an {@link ExchangeRateTO} to an {@link ExchangeRateET}. The short names are stored in upper case, a rate without
+     * timestamp is valid from now.
+     *
+     * @param rate the {@link ExchangeRateTO} to be mapped. (must be valid, see {@link ExchangeRateValidation#validateExchangeRateTO(ExchangeRateTO)}).
+     * @return the {@link ExchangeRateET} containing the information from the {@link ExchangeRateTO}.
+     */
+    public static ExchangeRateET fromTO(final ExchangeRateTO rate) {
+        ExchangeRateValidation.validateExchangeRateTO(rate);
+        final long timestamp = rate.getTimestamp() == 0 ? System.currentTimeMillis() : rate.getTimestamp();
+        return new ExchangeRateET(rate.getFrom().toUpperCase(), rate.getTo().toUpperCase(), rate.getRate(), timestamp);
+    }
+
+    /**
+     * Maps an {@link ExchangeRateSeriesET} to an {@link ExchangeRateSeriesTO}.
+     *
+     * @param series the {@link ExchangeRateSeriesET} to be mapped (not {@code null}).
+     * @return the {@link ExchangeRateSeriesTO} containing the ticks of the {@link ExchangeRateSeriesET}.
+     */
+    public static ExchangeRateSeriesTO toTO(final ExchangeRateSeriesET series) {
+        final long[] timestamps = new long[series.getSize()];
+        final double[] rates = new double[series.getSize()];
+        for(int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = series.getTimestamp(i);
+            rates[i] = series.getRate(i);
+        }
+        return new ExchangeRateSeriesTO(series.getFrom(), series.getTo(), timestamps, rates);
+    }
+
+    /**
+     * Maps an {@link ExchangeRateIngestionStatusET} to an {@link ExchangeRateIngestionStatusTO}.
+     *
+     * @param status the {@link ExchangeRateIngestionStatusET} to be mapped (not {@code null}).
+     * @return the {@link ExchangeRateIngestionStatusTO} containing the information from the {@link ExchangeRateIngestionStatusET}.
+     */
+    public static ExchangeRateIngestionStatusTO toTO(final ExchangeRateIngestionStatusET status) {
+        Preconditions.checkNotNull(status, "Ingestion status must not be null");
+        return new ExchangeRateIngestionStatusTO(status.getCapacity(), status.getBacklog(), status.getPublished(), status.getRejected(),
+                                                 status.getApplied(), status.getFailed(), status.getBatches(), status.getVersion(),
+                                                 status.getTicksPerSecond(), status.getLastLatencyMicros(), status.getMeanLatencyMicros(),
+                                                 status.getMaxLatencyMicros());
+    }
+}
@@ -0,0 +1,133 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.access;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+
+import java.math.RoundingMode;
+
+/**
+ * A simple helper class to validate {@link ExchangeRateTO}s, {@link ExchangeRateET}s and conversion requests.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class ExchangeRateValidation {
+    public static final String EXCHANGE_RATE_NOT_NULL = "Exchange rate must not be null";
+    public static final String SOURCE_CURRENCY_NOT_NULL = "Source currency short name must not be null";
+    public static final String TARGET_CURRENCY_NOT_NULL = "Target currency short name must not be null";
+    public static final String CURRENCY_SHORT_NAME_LETTERS = "Currency short name must consist of 3 letters A-Z";
+    public static final String CURRENCIES_DIFFERENT = "Source and target currency of an exchange rate must differ";
+    public static final String RATE_POSITIVE = "Exchange rate must be a positive finite number";
+    public static final String AMOUNT_NOT_NULL = "Amount must not be null";
+    public static final String AMOUNT_FINITE = "Amount must be a finite number";
+    public static final String TIME_RANGE_ORDER = "End of the time range must not be before its start";
+    public static final String TIMESTAMP_NOT_NULL = "Timestamp must not be null";
+    public static final String ROUNDING_MODE_UNKNOWN = "Rounding mode must be one of UP, DOWN, CEILING, FLOOR, HALF_UP, HALF_DOWN, HALF_EVEN or UNNECESSARY";
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private ExchangeRateValidation() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "ExchangeRateValidation is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Validates the given {@link ExchangeRateTO}.
+     * The following is checked:
+     * <ol>
+     *     <li>{@link ExchangeRateTO} must not be {@code null}</li>
+     *     <li>{@link ExchangeRateTO#getFrom()} and {@link ExchangeRateTO#getTo()} must be valid, see {@link #validateCurrencyPair(String, String)}</li>
+     *     <li>{@link ExchangeRateTO#getFrom()} and {@link ExchangeRateTO#getTo()} must differ</li>
+     *     <li>{@link ExchangeRateTO#getRate()} must be positive and finite</li>
+     * </ol>
+     *
+     * @param rate the {@link ExchangeRateTO} to be validated.
+     */
+    public static void validateExchangeRateTO(final ExchangeRateTO rate) {
+        Preconditions.checkNotNull(rate, EXCHANGE_RATE_NOT_NULL);
+        validateCurrencyPair(rate.getFrom(), rate.getTo());
+        Preconditions.checkArgument(!rate.getFrom().equalsIgnoreCase(rate.getTo()), CURRENCIES_DIFFERENT);
+        validateRate(rate.getRate());
+    }
+
+    /**
+     * Validates the given {@link ExchangeRateET}.
+     * The following is checked:
+     * <ol>
+     *     <li>{@link ExchangeRateET} must not be {@code null}</li>
+     *     <li>{@link ExchangeRateET#getFrom()} and {@link ExchangeRateET#getTo()} must be valid, see {@link #validateCurrencyPair(String, String)}</li>
+     *     <li>{@link ExchangeRateET#getFrom()} and {@link ExchangeRateET#getTo()} must differ</li>
+     *     <li>{@link ExchangeRateET#getRate()} must be positive and finite</li>
+     * </ol>
+     *
+     * @param rate the {@link ExchangeRateET} to be validated.
+     */
+    public static void validateExchangeRateET(final ExchangeRateET rate) {
+        Preconditions.checkNotNull(rate, EXCHANGE_RATE_NOT_NULL);
+        validateCurrencyPair(rate.getFrom(), rate.getTo());
+        Preconditions.checkArgument(!rate.getFrom().equalsIgnoreCase(rate.getTo()), CURRENCIES_DIFFERENT);
+        validateRate(rate.getRate());
+    }
+
+    /**
+     * Validates the short names (ISO Codes) of a currency pair.
+     * Both must not be {@code null} and consist of 3 letters A-Z, see {@link IsoCodes#encode(String)}.
+     *
+     * @param from the short name of the source currency.
+     * @param to the short name of the target currency.
+     */
+    public static void validateCurrencyPair(final String from, final String to) {
+        Preconditions.checkNotNull(from, SOURCE_CURRENCY_NOT_NULL);
+        Preconditions.checkNotNull(to, TARGET_CURRENCY_NOT_NULL);
+        Preconditions.checkArgument(IsoCodes.encode(from) != IsoCodes.INVALID_CODE, CURRENCY_SHORT_NAME_LETTERS);
+        Preconditions.checkArgument(IsoCodes.encode(to) != IsoCodes.INVALID_CODE, CURRENCY_SHORT_NAME_LETTERS);
+    }
+
+    /**
+     * Validates an exchange rate, it must be positive and finite.
+     *
+     * @param rate the exchange rate.
+     */
+    public static void validateRate(final double rate) {
+        Preconditions.checkArgument(rate > 0 && !Double.isInfinite(rate), RATE_POSITIVE);
+    }
+
+    /**
+     * Validates a time range, its end must not be before its start.
+     *
+     * @param start the start of the range.
+     * @param end the end of the range.
+     */
+    public static void validateTimeRange(final long start, final long end) {
+        Preconditions.checkArgument(start <= end, TIME_RANGE_ORDER);
+    }
+
+    /**
+     * Validates an amount to be converted, it must not be {@code null} and finite.
+     *
+     * @param amount the amount.
+     */
+    public static void validateAmount(final Double amount) {
+        Preconditions.checkNotNull(amount, AMOUNT_NOT_NULL);
+        Preconditions.checkArgument(!amount.isNaN() && !amount.isInfinite(), AMOUNT_FINITE);
+    }
+
+    /**
+     * Validates the name of a {@link RoundingMode}, it must not be {@code null} and name a rounding mode ignoring the case.
+     *
+     * @param rounding the name of the rounding mode.
+     */
+    public static void validateRoundingMode(final String rounding) {
+        Preconditions.checkNotNull(rounding, ROUNDING_MODE_UNKNOWN);
+        boolean known = false;
+        for(final RoundingMode mode : RoundingMode.values()) {
+            known |= mode.name().equalsIgnoreCase(rounding);
+        }
+        Preconditions.checkArgument(known, ROUNDING_MODE_UNKNOWN);
+    }
+}
@@ -0,0 +1,271 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.business;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.ExchangeRateRepository;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Derives the exchange rates between all known currencies from their quotes against a base currency
+ * ({@code rate.cross.base}, e.g. EUR): the rate from {@code a} to {@code b} is {@code quote(b) / quote(a)}.
+ * <p>
+ * The rates are precomputed in a dense matrix over the currencies of the currency component, indexed by slots looked up
+ * with the encoded short names, so a cross rate is two array reads without allocation or locking. When a quote changes,
+ * only the row and column of its currency are recomputed. The matrix is rebuilt when a currency is added.
+ * Readers may see a row or column while it is recomputed, every single rate is derived from either the previous or the
+ * new quote.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class ExchangeRateCrossRates {
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeRateCrossRates.class);
+
+    private final String baseCurrency;
+    private final CurrencyBCI currencyService;
+    private final ExchangeRateRepository exchangeRateRepository;
+    /**
+     * The current {@link CrossMatrix}, replaced when a currency is added.
+     */
+    private volatile CrossMatrix matrix;
+
+    @Inject
+    ExchangeRateCrossRates(@ConfigProperty(name = "rate.cross.base", defaultValue = "EUR") final String baseCurrency,
+                           final CurrencyBCI currencyService, final ExchangeRateRepository exchangeRateRepository) {
+        if(IsoCodes.encode(baseCurrency) == IsoCodes.INVALID_CODE) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Base currency of the cross rates must consist of 3 letters A-Z, not " + baseCurrency);
+        } // else: a valid base currency.
+        this.baseCurrency = baseCurrency.toUpperCase();
+        this.currencyService = currencyService;
+        this.exchangeRateRepository = exchangeRateRepository;
+        // registered before building, so no change is missed. Changes applied meanwhile wait for the lock until the matrix exists.
+        synchronized(this) {
+            this.exchangeRateRepository.addChangeListener(this::onRateChanged);
+            this.currencyService.addChangeListener(this::onCurrencyChanged);
+            build(this.currencyService.getCurrencies()
+                                      .stream()
+                                      .map(CurrencyTO::getShortName)
+                                      .mapToInt(IsoCodes::encode)
+                                      .filter(code -> code != IsoCodes.INVALID_CODE)
+                                      .distinct()
+                                      .toArray());
+        }
+    }
+
+    /**
+     * Get the cross rate of a currency pair derived from the quotes of both currencies against the base currency.
+     * Called for every conversion of a pair without a quote of its own, so it does not allocate.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}).
+     * @return the number of target currency units one source currency unit is worth or {@link Double#NaN} if a currency
+     * is unknown or has no quote.
+     */
+    public double getCrossRate(final String from, final String to) {
+        final int fromCode = IsoCodes.encode(from);
+        final int toCode = IsoCodes.encode(to);
+        if(fromCode == IsoCodes.INVALID_CODE || toCode == IsoCodes.INVALID_CODE) {
+            return Double.NaN;
+        } // else: look up the slots.
+        final CrossMatrix current = this.matrix;
+        final int fromSlot = current.slots[fromCode];
+        final int toSlot = current.slots[toCode];
+        if(fromSlot < 0 || toSlot < 0) {
+            return Double.NaN;
+        } // else: both currencies are known.
+        return current.get(fromSlot, toSlot);
+    }
+
+    /**
+     * Get the cross rate of a currency pair like {@link #getCrossRate(String, String)}, but derived from the stored quotes
+     * with the timestamp of the older one, as the rate is valid since both quotes are. Allocates, so it is meant for
+     * single lookups.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}, not the source currency).
+     * @return an {@link Optional} containing the cross rate as {@link ExchangeRateET} with upper case short names, empty
+     * if a currency is unknown or has no quote.
+     */
+    public Optional<ExchangeRateET> getCrossRateTick(final String from, final String to) {
+        if(Double.isNaN(getCrossRate(from, to))) {
+            return Optional.empty();
+        } // else: both currencies are known and quoted.
+        final String fromName = from.toUpperCase();
+        final String toName = to.toUpperCase();
+        // the base currency has no quote of its own, the quote of the other currency alone dates the rate.
+        double fromQuote = 1.0;
+        double toQuote = 1.0;
+        long timestamp = Long.MAX_VALUE;
+        if(!this.baseCurrency.equals(fromName)) {
+            final ExchangeRateET quote = quoteTickOf(fromName);
+            if(quote == null) {
+                return Optional.empty();
+            } // else: the source currency is quoted.
+            fromQuote = quote.getRate();
+            timestamp = quote.getTimestamp();
+        } // else: the source currency is the base currency.
+        if(!this.baseCurrency.equals(toName)) {
+            final ExchangeRateET quote = quoteTickOf(toName);
+            if(quote == null) {
+                return Optional.empty();
+            } // else: the target currency is quoted.
+            toQuote = quote.getRate();
+            timestamp = Math.min(timestamp, quote.getTimestamp());
+        } // else: the target currency is the base currency.
+        return Optional.of(new ExchangeRateET(fromName, toName, toQuote / fromQuote, timestamp));
+    }
+
+    /**
+     * Get the base currency of the cross rates.
+     *
+     * @return the short name of the base currency in upper case.
+     */
+    public String getBaseCurrency() {
+        return this.baseCurrency;
+    }
+
+    private synchronized void onRateChanged(final ExchangeRateET rate) {
+        final CrossMatrix current = this.matrix;
+        if(this.baseCurrency.equals(rate.getFrom())) {
+            current.updateQuote(IsoCodes.encode(rate.getTo()), rate.getRate());
+        } else if(this.baseCurrency.equals(rate.getTo())) {
+            current.updateQuote(IsoCodes.encode(rate.getFrom()), 1.0 / rate.getRate());
+        } // else: not a quote against the base currency.
+    }
+
+    private synchronized void onCurrencyChanged(final CurrencyChangeTO change) {
+        final int code = IsoCodes.encode(change.getCurrency().getShortName());
+        if(code != IsoCodes.INVALID_CODE && this.matrix.slots[code] < 0) {
+            // the change is published before the currency can be read, so the known currencies are extended by it.
+            final int[] codes = Arrays.copyOf(this.matrix.codes, this.matrix.size + 1);
+            codes[this.matrix.size] = code;
+            build(codes);
+        } // else: the currency is known already.
+    }
+
+    /**
+     * Build the matrix over the given currencies with their current quotes.
+     */
+    private synchronized void build(final int[] codes) {
+        final CrossMatrix next = new CrossMatrix(codes);
+        for(final int code : codes) {
+            next.quotes[next.slots[code]] = quoteOf(IsoCodes.decode(code));
+        }
+        next.computeAll();
+        this.matrix = next;
+        LOG.info("Cross rates over {} currencies with base currency {} computed", codes.length, this.baseCurrency);
+    }
+
+    /**
+     * Get the number of units of the given currency one unit of the base currency is worth.
+     */
+    private double quoteOf(final String currency) {
+        if(this.baseCurrency.equals(currency)) {
+            return 1.0;
+        } // else: look up the quote.
+        final double quote = this.exchangeRateRepository.findRate(this.baseCurrency, currency);
+        if(!Double.isNaN(quote)) {
+            return quote;
+        } // else: use the inverse quote.
+        return 1.0 / this.exchangeRateRepository.findRate(currency, this.baseCurrency);
+    }
+
+    /**
+     * Get the latest stored quote of the given currency against the base currency, the inverse one inverted.
+     *
+     * @return the quote from the base currency to the given one or {@code null} if the currency has no quote.
+     */
+    private ExchangeRateET quoteTickOf(final String currency) {
+        final Optional<ExchangeRateET> quote = this.exchangeRateRepository.findTickAt(this.baseCurrency, currency, Long.MAX_VALUE);
+        if(quote.isPresent()) {
+            return quote.get();
+        } // else: use the inverse quote.
+        return this.exchangeRateRepository.findTickAt(currency, this.baseCurrency, Long.MAX_VALUE)
+                                          .map(inverse -> new ExchangeRateET(this.baseCurrency, currency, 1.0 / inverse.getRate(), inverse.getTimestamp()))
+                                          .orElse(null);
+    }
+
+    /**
+     * The cross rates between a fixed set of currencies.
+     */
+    private static final class CrossMatrix {
+        /**
+         * The slot of every encoded short name, {@code -1} if the currency is unknown.
+         */
+        private final short[] slots;
+        /**
+         * The encoded short name of every slot.
+         */
+        private final int[] codes;
+        /**
+         * The number of currencies.
+         */
+        private final int size;
+        /**
+         * The quote against the base currency of every slot, {@link Double#NaN} if unknown. Only accessed while holding
+         * the lock of the {@link ExchangeRateCrossRates}.
+         */
+        private final double[] quotes;
+        /**
+         * The raw bits of the cross rates, row by source currency slot.
+         */
+        private final AtomicLongArray rates;
+
+        private CrossMatrix(final int[] codes) {
+            this.slots = new short[IsoCodes.CODE_SPACE];
+            Arrays.fill(this.slots, (short) -1);
+            for(int slot = 0; slot < codes.length; slot++) {
+                this.slots[codes[slot]] = (short) slot;
+            }
+            this.codes = codes;
+            this.size = codes.length;
+            this.quotes = new double[this.size];
+            this.rates = new AtomicLongArray(this.size * this.size);
+        }
+
+        private double get(final int fromSlot, final int toSlot) {
+            return Double.longBitsToDouble(this.rates.get(fromSlot * this.size + toSlot));
+        }
+
+        private void set(final int fromSlot, final int toSlot, final double rate) {
+            this.rates.set(fromSlot * this.size + toSlot, Double.doubleToRawLongBits(rate));
+        }
+
+        private void computeAll() {
+            for(int fromSlot = 0; fromSlot < this.size; fromSlot++) {
+                for(int toSlot = 0; toSlot < this.size; toSlot++) {
+                    set(fromSlot, toSlot, this.quotes[toSlot] / this.quotes[fromSlot]);
+                }
+            }
+        }
+
+        /**
+         * Set the quote of a currency and recompute its row and column.
+         */
+        private void updateQuote(final int code, final double quote) {
+            final int slot = code == IsoCodes.INVALID_CODE ? -1 : this.slots[code];
+            if(slot < 0) {
+                return;
+            } // else: a known currency.
+            this.quotes[slot] = quote;
+            for(int other = 0; other < this.size; other++) {
+                set(slot, other, this.quotes[other] / quote);
+                set(other, slot, quote / this.quotes[other]);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.business;
+
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateIngestionStatusET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+
+import java.util.Set;
+
+/**
+ * The inner-component interface (ICI) of the exchange rate component.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public interface ExchangeRateICI {
+    /**
+     * Get the latest exchange rates of all currency pairs.
+     *
+     * @return all exchange rates as {@link Set} of {@link ExchangeRateET}s.
+     */
+    Set<ExchangeRateET> getRates();
+
+    /**
+     * Get the exchange rate of a currency pair. If no rate is stored for the pair, the inverse of the rate of the inverse
+     * pair is used, otherwise the cross rate derived from the quotes of both currencies against the base currency
+     * (see {@link ExchangeRateCrossRates}). The rate of a currency to itself is {@code 1}.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @return the number of target currency units one source currency unit is worth.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate is existing for the pair.
+     */
+    double getRate(final String from, final String to);
+
+    /**
+     * Get the exchange rate of a currency pair valid at the given time. If no rate is stored for the pair, the inverse of
+     * the rate of the inverse pair is used. The rate of a currency to itself is {@code 1}.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the number of target currency units one source currency unit was worth.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate was existing for the pair at that time.
+     */
+    double getRateAt(final String from, final String to, final long timestamp);
+
+    /**
+     * Get the latest exchange rate of a currency pair like {@link #getRate(String, String)} with the timestamp of the tick
+     * it is derived from, the older quote for a cross rate.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}, not the source currency).
+     * @return the rate as {@link ExchangeRateET} with upper case short names.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate is existing for the pair.
+     */
+    ExchangeRateET getRateTick(final String from, final String to);
+
+    /**
+     * Get the exchange rate of a currency pair valid at the given time like {@link #getRateAt(String, String, long)} with
+     * the timestamp of the tick it is taken from, i.e. the time it is valid since.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}, not the source currency).
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the rate as {@link ExchangeRateET} with upper case short names.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate was existing for the pair at that time.
+     */
+    ExchangeRateET getRateTickAt(final String from, final String to, final long timestamp);
+
+    /**
+     * Get the exchange rates of a currency pair within a time range. If no rate was ever stored for the pair, the inverted
+     * rates of the inverse pair are used.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param start the start of the range in milliseconds since the epoch (inclusive).
+     * @param end the end of the range in milliseconds since the epoch (inclusive, not before the start).
+     * @return the rates of the range as {@link ExchangeRateSeriesET}.
+     * @exception de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException with {@link de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode#NOT_FOUND_ERROR} if no rate was ever stored for the pair.
+     */
+    ExchangeRateSeriesET getRates(final String from, final String to, final long start, final long end);
+
+    /**
+     * Store an exchange rate of a currency pair in its history. It becomes the latest rate of the pair unless a rate with a
+     * later timestamp is stored already.
+     *
+     * @param rate the exchange rate as {@link ExchangeRateET}. (must be valid, see {@link de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation#validateExchangeRateET(ExchangeRateET)}).
+     * @return all exchange rates including the stored one as {@link Set} of {@link ExchangeRateET}s.
+     */
+    Set<ExchangeRateET> saveRate(final ExchangeRateET rate);
+
+    /**
+     * Publish a market rate tick to be stored asynchronously like {@link #saveRate(ExchangeRateET)}. Does not block.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}, not the source currency).
+     * @param rate the rate (positive, finite).
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch.
+     * @return {@code true} if the tick was published, {@code false} if the ingestion is at its capacity and the tick has
+     * to be published again later.
+     */
+    boolean publishTick(final String from, final String to, final double rate, final long timestamp);
+
+    /**
+     * Get the state of the rate tick ingestion.
+     *
+     * @return the state as {@link ExchangeRateIngestionStatusET}.
+     */
+    ExchangeRateIngestionStatusET getIngestionStatus();
+}
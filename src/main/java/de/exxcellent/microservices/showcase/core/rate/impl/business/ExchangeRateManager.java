@@ -0,0 +1,161 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.business;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.metrics.Metered;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.ExchangeRateIngestion;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.ExchangeRateRepository;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateIngestionStatusET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Manages exchange rates. Implementation of {@link ExchangeRateICI}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+@Metered("ExchangeRateICI")
+public class ExchangeRateManager implements ExchangeRateICI {
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeRateManager.class);
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateCrossRates crossRates;
+    private final ExchangeRateIngestion ingestion;
+
+    @Inject
+    ExchangeRateManager(final ExchangeRateRepository exchangeRateRepository, final ExchangeRateCrossRates crossRates,
+                        final ExchangeRateIngestion ingestion) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.crossRates = crossRates;
+        this.ingestion = ingestion;
+    }
+
+    @Override
+    public Set<ExchangeRateET> getRates() {
+        LOG.debug("Query storage to get all exchange rates");
+        return this.exchangeRateRepository.findAll();
+    }
+
+    @Override
+    public double getRate(final String from, final String to) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        // called for every conversion, so nothing is logged or allocated unless the rate is missing.
+        if(from.equalsIgnoreCase(to)) {
+            return 1.0;
+        } // else: look up the pair.
+        final double rate = this.exchangeRateRepository.findRate(from, to);
+        if(!Double.isNaN(rate)) {
+            return rate;
+        } // else: try the inverse pair.
+        final double inverseRate = this.exchangeRateRepository.findRate(to, from);
+        if(!Double.isNaN(inverseRate)) {
+            return 1.0 / inverseRate;
+        } // else: derive the rate from the quotes against the base currency.
+        final double crossRate = this.crossRates.getCrossRate(from, to);
+        if(!Double.isNaN(crossRate)) {
+            return crossRate;
+        } else {
+            throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Exchange rate from " + from + " to " + to + " is not existing");
+        }
+    }
+
+    @Override
+    public double getRateAt(final String from, final String to, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        // called by reconciliation jobs for millions of ticks, so nothing is logged or allocated unless the rate is missing.
+        if(from.equalsIgnoreCase(to)) {
+            return 1.0;
+        } // else: look up the pair.
+        final double rate = this.exchangeRateRepository.findRateAt(from, to, timestamp);
+        if(!Double.isNaN(rate)) {
+            return rate;
+        } // else: try the inverse pair.
+        final double inverseRate = this.exchangeRateRepository.findRateAt(to, from, timestamp);
+        if(!Double.isNaN(inverseRate)) {
+            return 1.0 / inverseRate;
+        } else {
+            throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Exchange rate from " + from + " to " + to + " is not existing at " + timestamp);
+        }
+    }
+
+    @Override
+    public ExchangeRateET getRateTick(final String from, final String to) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        final Optional<ExchangeRateET> rate = this.exchangeRateRepository.findTickAt(from, to, Long.MAX_VALUE);
+        if(rate.isPresent()) {
+            return rate.get();
+        } // else: try the inverse pair.
+        final Optional<ExchangeRateET> inverseRate = this.exchangeRateRepository.findTickAt(to, from, Long.MAX_VALUE);
+        if(inverseRate.isPresent()) {
+            return inverse(inverseRate.get());
+        } // else: derive the rate from the quotes against the base currency.
+        return this.crossRates.getCrossRateTick(from, to).orElseThrow(
+                () -> new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Exchange rate from " + from + " to " + to + " is not existing"));
+    }
+
+    @Override
+    public ExchangeRateET getRateTickAt(final String from, final String to, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        final Optional<ExchangeRateET> rate = this.exchangeRateRepository.findTickAt(from, to, timestamp);
+        if(rate.isPresent()) {
+            return rate.get();
+        } // else: try the inverse pair.
+        return this.exchangeRateRepository.findTickAt(to, from, timestamp).map(ExchangeRateManager::inverse).orElseThrow(
+                () -> new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Exchange rate from " + from + " to " + to + " is not existing at " + timestamp));
+    }
+
+    @Override
+    public ExchangeRateSeriesET getRates(final String from, final String to, final long start, final long end) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        ExchangeRateValidation.validateTimeRange(start, end);
+        LOG.debug("Query storage for exchange rates from {} to {} between {} and {}", from, to, start, end);
+        final Optional<ExchangeRateSeriesET> rates = this.exchangeRateRepository.findRates(from, to, start, end);
+        if(rates.isPresent()) {
+            return rates.get();
+        } // else: try the inverse pair.
+        final Optional<ExchangeRateSeriesET> inverseRates = this.exchangeRateRepository.findRates(to, from, start, end);
+        if(inverseRates.isPresent()) {
+            return inverseRates.get().inverse();
+        } else {
+            throw new BusinessException(ErrorCode.NOT_FOUND_ERROR, "Exchange rates from " + from + " to " + to + " are not existing");
+        }
+    }
+
+    @Override
+    public Set<ExchangeRateET> saveRate(final ExchangeRateET rate) {
+        ExchangeRateValidation.validateExchangeRateET(rate);
+        LOG.info("Store exchange rate {} from {} to {} at {}", rate.getRate(), rate.getFrom(), rate.getTo(), rate.getTimestamp());
+        return this.exchangeRateRepository.saveRate(rate);
+    }
+
+    @Override
+    public boolean publishTick(final String from, final String to, final double rate, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        final int fromCode = IsoCodes.encode(from);
+        final int toCode = IsoCodes.encode(to);
+        Preconditions.checkArgument(fromCode != toCode, ExchangeRateValidation.CURRENCIES_DIFFERENT);
+        ExchangeRateValidation.validateRate(rate);
+        // called for every tick of a burst, so not logged.
+        return this.ingestion.publish(fromCode, toCode, rate, timestamp);
+    }
+
+    @Override
+    public ExchangeRateIngestionStatusET getIngestionStatus() {
+        return this.ingestion.getStatus();
+    }
+
+    private static ExchangeRateET inverse(final ExchangeRateET rate) {
+        return new ExchangeRateET(rate.getTo(), rate.getFrom(), 1.0 / rate.getRate(), rate.getTimestamp());
+    }
+}
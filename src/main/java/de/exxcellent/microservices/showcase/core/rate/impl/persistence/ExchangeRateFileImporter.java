@@ -0,0 +1,388 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Imports the rate files a rate provider drops into the directory configured with {@code rate.import.directory}. The
+ * directory is watched with a {@link WatchService}, new files and data appended to known files are imported as soon as
+ * they are written. Two formats are supported:
+ * <ul>
+ *     <li>{@code .xml}: ECB reference rates, {@code <Cube time="2026-10-16">} elements containing
+ *     {@code <Cube currency="USD" rate="1.0956"/>} elements with the rates from EUR, valid from the start of the day (UTC).</li>
+ *     <li>{@code .csv}: lines {@code timestamp,from,to,rate}, the timestamp in milliseconds since the epoch, as ISO instant
+ *     or as ISO date. Lines which cannot be parsed, e.g. a header line, are skipped.</li>
+ * </ul>
+ * The files are read through a {@link FileChannel} into a buffer of fixed size and parsed record by record (a line of a
+ * CSV file, a tag of an XML file), so even history files of hundreds of megabytes are imported in bounded memory. The
+ * byte offset after the last complete record of every file is remembered, so data appended to a file is imported without
+ * reading the file again. A file smaller than its offset was replaced and is imported from the start. The offsets are
+ * not persisted: the {@link ExchangeRateRepository} keeps the rates in memory only, so all files are imported again on
+ * every start.
+ * <p>
+ * The rates are published to the {@link ExchangeRateIngestion}. If its buffer is full, the importer waits.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class ExchangeRateFileImporter {
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeRateFileImporter.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final ExchangeRateIngestion ingestion;
+    private final Optional<String> directory;
+    /**
+     * The import state of every known file, only accessed by the importer thread.
+     */
+    private final Map<Path, FileState> files = new HashMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private volatile WatchService watchService;
+    private volatile boolean closed;
+
+    @Inject
+    ExchangeRateFileImporter(final ExchangeRateIngestion ingestion,
+                             @ConfigProperty(name = "rate.import.directory") final Optional<String> directory) {
+        this.ingestion = ingestion;
+        this.directory = directory;
+    }
+
+    /**
+     * Start watching the configured directory on startup.
+     *
+     * @param event the {@link StartupEvent}.
+     * @exception TechnicalException with {@link ErrorCode#INTERNAL_ERROR} if the directory cannot be watched.
+     */
+    void onStart(@Observes final StartupEvent event) {
+        this.directory.ifPresent(dir -> start(Paths.get(dir)));
+    }
+
+    private void start(final Path dir) {
+        try {
+            Files.createDirectories(dir);
+            this.watchService = dir.getFileSystem().newWatchService();
+            dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Could not watch rate import directory " + dir, e);
+        }
+        final Thread thread = new Thread(() -> watch(dir), "rate-file-importer");
+        thread.setDaemon(true);
+        thread.start();
+        LOG.info("Watching {} for rate files", dir);
+    }
+
+    /**
+     * The loop of the importer thread.
+     */
+    private void watch(final Path dir) {
+        importAll(dir);
+        while(!this.closed) {
+            final WatchKey key;
+            try {
+                key = this.watchService.take();
+            } catch(final InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+            for(final WatchEvent<?> event : key.pollEvents()) {
+                if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    importAll(dir);
+                } else {
+                    importFile(dir.resolve((Path) event.context()));
+                }
+            }
+            // forget deleted files, a new file of the same name is imported from the start.
+            this.files.keySet().removeIf(file -> !Files.exists(file));
+            if(!key.reset()) {
+                LOG.error("Rate import directory {} is not accessible anymore, stopped watching it", dir);
+                break;
+            } // else: the directory is still watched.
+        }
+    }
+
+    private void importAll(final Path dir) {
+        try(final DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for(final Path file : stream) {
+                importFile(file);
+            }
+        } catch(final IOException e) {
+            LOG.error("Could not list rate import directory {}", dir, e);
+        }
+    }
+
+    /**
+     * Import the data of a rate file not read yet.
+     */
+    private void importFile(final Path file) {
+        final String name = file.getFileName().toString();
+        final Format format = Format.of(name);
+        if(format == null || name.startsWith(".") || !Files.isRegularFile(file)) {
+            return;
+        } // else: a rate file.
+        final FileState state = this.files.computeIfAbsent(file.toAbsolutePath(), path -> new FileState());
+        long start = state.offset;
+        try(final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() < state.offset) {
+                LOG.info("Rate file {} was replaced, importing it from the start", file);
+                state.reset();
+                start = 0;
+            } else if(channel.size() == state.offset) {
+                return;
+            } // else: the file has new data.
+            read(channel, format, state);
+        } catch(final IOException e) {
+            LOG.error("Could not read rate file {}", file, e);
+        }
+        if(state.offset == start) {
+            return;
+        } // else: complete records were read.
+        LOG.info("Imported {} rates from bytes {} to {} of {}, skipped {} invalid records", state.rates, start, state.offset,
+                 file, state.invalidRecords);
+        state.rates = 0;
+        state.invalidRecords = 0;
+    }
+
+    /**
+     * Read the channel from the offset of the state record by record, the offset is advanced after every complete record.
+     */
+    private void read(final FileChannel channel, final Format format, final FileState state) throws IOException {
+        channel.position(state.offset);
+        this.buffer.clear();
+        boolean skipping = false;
+        while(!this.closed && channel.read(this.buffer) > 0) {
+            final byte[] bytes = this.buffer.array();
+            final int length = this.buffer.position();
+            int recordStart = 0;
+            for(int i = 0; i < length; i++) {
+                if(bytes[i] != format.terminator) {
+                    continue;
+                } // else: a complete record.
+                if(skipping) {
+                    skipping = false;
+                } else {
+                    format.parse(new String(bytes, recordStart, i - recordStart, StandardCharsets.ISO_8859_1), state, this);
+                }
+                recordStart = i + 1;
+            }
+            state.offset += recordStart;
+            if(recordStart == 0 && length == bytes.length) {
+                // a record longer than the buffer cannot be parsed, it is skipped up to its end.
+                state.invalidRecords++;
+                skipping = true;
+                state.offset += length;
+                this.buffer.clear();
+            } else {
+                // keep the incomplete record at the end for the next read.
+                this.buffer.flip();
+                this.buffer.position(recordStart);
+                this.buffer.compact();
+            }
+        }
+    }
+
+    /**
+     * Publish a rate to the {@link ExchangeRateIngestion}, waiting while its buffer is full.
+     */
+    private void publish(final String from, final String to, final double rate, final long timestamp, final FileState state) {
+        final int fromCode = IsoCodes.encode(from);
+        final int toCode = IsoCodes.encode(to);
+        if(fromCode == IsoCodes.INVALID_CODE || toCode == IsoCodes.INVALID_CODE || fromCode == toCode || !(rate > 0)
+           || Double.isInfinite(rate)) {
+            state.invalidRecords++;
+            return;
+        } // else: a valid rate.
+        while(!this.ingestion.publish(fromCode, toCode, rate, timestamp)) {
+            if(this.closed) {
+                return;
+            } // else: wait for the writer to drain the buffer.
+            LockSupport.parkNanos(RETRY_NANOS);
+        }
+        state.rates++;
+    }
+
+    /**
+     * Stop watching on shutdown.
+     */
+    @PreDestroy
+    void close() {
+        this.closed = true;
+        if(this.watchService != null) {
+            try {
+                this.watchService.close();
+            } catch(final IOException e) {
+                LOG.warn("Could not close the watch service of the rate import directory", e);
+            }
+        } // else: no directory is watched.
+    }
+
+    /**
+     * Parses a timestamp given in milliseconds since the epoch, as ISO instant or as ISO date (start of the day, UTC).
+     *
+     * @return the time in milliseconds since the epoch or {@link #NO_TIME} if it cannot be parsed.
+     */
+    private static long parseTime(final String value) {
+        try {
+            if(value.indexOf('T') >= 0) {
+                return Instant.parse(value).toEpochMilli();
+            } else if(value.indexOf('-') > 0) {
+                return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            } else {
+                return Long.parseLong(value);
+            }
+        } catch(final DateTimeParseException | NumberFormatException e) {
+            return NO_TIME;
+        }
+    }
+
+    private static double parseRate(final String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch(final NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * The import state of a file.
+     */
+    private static final class FileState {
+        /**
+         * The byte offset after the last complete record.
+         */
+        private long offset;
+        /**
+         * The time of the enclosing {@code <Cube time="...">} element of an XML file, {@link #NO_TIME} outside of one.
+         */
+        private long time = NO_TIME;
+        private long rates;
+        private long invalidRecords;
+
+        private void reset() {
+            this.offset = 0;
+            this.time = NO_TIME;
+        }
+    }
+
+    /**
+     * The supported file formats, each parsing the records ending with its terminator.
+     */
+    private enum Format {
+        CSV('\n') {
+            @Override
+            void parse(final String line, final FileState state, final ExchangeRateFileImporter importer) {
+                final String[] fields = line.trim().split(",");
+                if(fields.length == 1 && fields[0].isEmpty()) {
+                    return;
+                } else if(fields.length != 4) {
+                    state.invalidRecords++;
+                    return;
+                } // else: a rate line.
+                final long timestamp = parseTime(fields[0].trim());
+                if(timestamp == NO_TIME) {
+                    state.invalidRecords++;
+                    return;
+                } // else: a valid timestamp.
+                importer.publish(fields[1].trim(), fields[2].trim(), parseRate(fields[3].trim()), timestamp, state);
+            }
+        },
+        XML('>') {
+            @Override
+            void parse(final String tag, final FileState state, final ExchangeRateFileImporter importer) {
+                final int start = tag.lastIndexOf('<');
+                if(start < 0) {
+                    return;
+                } else if(tag.startsWith("/Cube", start + 1)) {
+                    // the end of a day closes its time, rates outside of a day are invalid.
+                    state.time = NO_TIME;
+                    return;
+                } else if(!tag.startsWith("Cube", start + 1)) {
+                    return;
+                } // else: a Cube element.
+                final String time = attribute(tag, start, "time");
+                if(time != null) {
+                    state.time = parseTime(time);
+                    return;
+                } // else: maybe a rate.
+                final String currency = attribute(tag, start, "currency");
+                final String rate = attribute(tag, start, "rate");
+                if(currency == null || rate == null) {
+                    return;
+                } else if(state.time == NO_TIME) {
+                    state.invalidRecords++;
+                    return;
+                } // else: a rate of the current day.
+                importer.publish("EUR", currency, parseRate(rate), state.time, state);
+            }
+        };
+
+        private final byte terminator;
+
+        Format(final char terminator) {
+            this.terminator = (byte) terminator;
+        }
+
+        abstract void parse(final String record, final FileState state, final ExchangeRateFileImporter importer);
+
+        private static Format of(final String fileName) {
+            final String name = fileName.toLowerCase(Locale.ROOT);
+            if(name.endsWith(".csv")) {
+                return CSV;
+            } else if(name.endsWith(".xml")) {
+                return XML;
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Get the value of an attribute of a tag, enclosed in double or single quotes.
+         */
+        private static String attribute(final String tag, final int start, final String name) {
+            int index = tag.indexOf(name + "=", start);
+            while(index > 0 && !Character.isWhitespace(tag.charAt(index - 1))) {
+                index = tag.indexOf(name + "=", index + 1);
+            }
+            if(index < 0 || index + name.length() + 1 >= tag.length()) {
+                return null;
+            } // else: the attribute is present.
+            final int valueStart = index + name.length() + 2;
+            final int valueEnd = tag.indexOf(tag.charAt(valueStart - 1), valueStart);
+            return valueEnd < 0 ? null : tag.substring(valueStart, valueEnd);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateIngestionStatusET;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ingests bursts of market rate ticks: producers publish the ticks into an {@link ExchangeRateTickBuffer} of
+ * {@code rate.ingest.buffer-size} slots and a single writer thread stores them in batches of up to
+ * {@code rate.ingest.batch-size} ticks with {@link ExchangeRateRepository#saveRates(int[], double[], long[], int)}, which
+ * advances the version of the rates once per batch.
+ * <p>
+ * Readers of the rates are never blocked by the ingestion, they only wait for the lock of the storage while a batch is
+ * written. Producers are never blocked either: if the buffer is full, publishing fails and the caller has to retry later.
+ * The writer measures the throughput and the latency from publishing a tick until it is readable. If storing a batch fails,
+ * its ticks are dropped and counted as failed.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class ExchangeRateIngestion {
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeRateIngestion.class);
+    /**
+     * The interval the throughput is measured over.
+     */
+    private static final long THROUGHPUT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ExchangeRateRepository repository;
+    private final ExchangeRateTickBuffer buffer;
+    private final Thread writer;
+    private volatile boolean idle;
+    private volatile boolean closed;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    /**
+     * The statistics of the writer, written by the writer thread only.
+     */
+    private volatile long applied;
+    private volatile long failed;
+    private volatile long batches;
+    private volatile long ticksPerSecond;
+    private volatile long lastLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile long totalLatencyNanos;
+
+    @Inject
+    ExchangeRateIngestion(final ExchangeRateRepository repository,
+                          @ConfigProperty(name = "rate.ingest.buffer-size", defaultValue = "65536") final int bufferSize,
+                          @ConfigProperty(name = "rate.ingest.batch-size", defaultValue = "1024") final int batchSize) {
+        if(bufferSize < 1 || batchSize < 1) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Buffer and batch size of the rate ingestion must be positive");
+        } // else: a valid configuration.
+        this.repository = repository;
+        this.buffer = new ExchangeRateTickBuffer(bufferSize);
+        this.writer = new Thread(() -> write(batchSize), "rate-tick-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        LOG.info("Rate ingestion with a buffer of {} ticks and batches of up to {} ticks started", this.buffer.getCapacity(), batchSize);
+    }
+
+    /**
+     * Publish a rate tick to be stored by the writer. Does not block and does not allocate.
+     *
+     * @param fromCode the encoded short name of the source currency, see {@link IsoCodes#encode(String)}.
+     * @param toCode the encoded short name of the target currency, see {@link IsoCodes#encode(String)}.
+     * @param rate the rate (positive, finite).
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch.
+     * @return {@code true} if the tick was published, {@code false} if the buffer is full and the tick has to be published again later.
+     */
+    public boolean publish(final int fromCode, final int toCode, final double rate, final long timestamp) {
+        if(!this.buffer.tryPublish(fromCode * IsoCodes.CODE_SPACE + toCode, rate, timestamp)) {
+            this.rejected.increment();
+            return false;
+        } // else: wake up the writer if it is waiting for ticks.
+        this.published.increment();
+        if(this.idle) {
+            LockSupport.unpark(this.writer);
+        } // else: the writer is busy and drains the tick with the next batch.
+        return true;
+    }
+
+    /**
+     * Get the state of the ingestion.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET}.
+     */
+    public ExchangeRateIngestionStatusET getStatus() {
+        final long appliedTicks = this.applied;
+        return new ExchangeRateIngestionStatusET(this.buffer.getCapacity(), this.buffer.getBacklog(), this.published.sum(),
+                                                 this.rejected.sum(), appliedTicks, this.failed, this.batches, this.repository.getVersion(),
+                                                 this.ticksPerSecond, TimeUnit.NANOSECONDS.toMicros(this.lastLatencyNanos),
+                                                 appliedTicks == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(this.totalLatencyNanos / appliedTicks),
+                                                 TimeUnit.NANOSECONDS.toMicros(this.maxLatencyNanos));
+    }
+
+    /**
+     * The loop of the writer thread.
+     */
+    private void write(final int batchSize) {
+        final int[] pairs = new int[batchSize];
+        final double[] rates = new double[batchSize];
+        final long[] timestamps = new long[batchSize];
+        final long[] publishNanos = new long[batchSize];
+        long intervalStart = System.nanoTime();
+        long intervalTicks = 0;
+        while(!this.closed) {
+            final int count = this.buffer.drain(pairs, rates, timestamps, publishNanos);
+            final long drainedNanos = System.nanoTime();
+            if(drainedNanos - intervalStart >= THROUGHPUT_INTERVAL_NANOS) {
+                this.ticksPerSecond = intervalTicks * THROUGHPUT_INTERVAL_NANOS / (drainedNanos - intervalStart);
+                intervalStart = drainedNanos;
+                intervalTicks = 0;
+            } // else: the interval is not complete yet.
+            if(count == 0) {
+                awaitTicks();
+                continue;
+            } // else: store the batch.
+            try {
+                this.repository.saveRates(pairs, rates, timestamps, count);
+            } catch(final RuntimeException e) {
+                LOG.error("Storing a batch of {} rate ticks failed, the ticks are dropped", count, e);
+                this.failed += count;
+                continue;
+            }
+            intervalTicks += count;
+            final long now = System.nanoTime();
+            long batchLatencyNanos = 0;
+            for(int i = 0; i < count; i++) {
+                batchLatencyNanos += now - publishNanos[i];
+            }
+            // the first tick of the batch waited longest.
+            this.lastLatencyNanos = now - publishNanos[0];
+            this.maxLatencyNanos = Math.max(this.maxLatencyNanos, this.lastLatencyNanos);
+            this.totalLatencyNanos += batchLatencyNanos;
+            this.applied += count;
+            this.batches++;
+        }
+    }
+
+    /**
+     * Park the writer until a producer publishes a tick.
+     */
+    private void awaitTicks() {
+        this.idle = true;
+        // a tick published before the writer was marked idle did not wake it up. A producer publishing afterwards sees the
+        // writer idle and unparks it, see ExchangeRateTickBuffer#tryPublish. Spurious wake ups just drain nothing.
+        if(!this.buffer.hasPublished() && !this.closed) {
+            LockSupport.park(this);
+        } // else: drain the tick right away.
+        this.idle = false;
+    }
+
+    /**
+     * Stop the writer on shutdown, ticks still in the buffer are dropped.
+     */
+    @PreDestroy
+    void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+    }
+}
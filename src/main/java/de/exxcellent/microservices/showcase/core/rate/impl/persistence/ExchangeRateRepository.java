@@ -0,0 +1,106 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A repository interface for the storage of the exchange rates per currency pair and their history.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public interface ExchangeRateRepository {
+    /**
+     * Get the latest exchange rates of all currency pairs.
+     *
+     * @return all exchange rates as unmodifiable {@link Set} of {@link ExchangeRateET}s with upper case short names.
+     */
+    Set<ExchangeRateET> findAll();
+
+    /**
+     * Get the latest exchange rate stored for the given currency pair ignoring the case. The inverse pair is not considered.
+     * Called for every conversion, so it does not allocate.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}).
+     * @return the number of target currency units one source currency unit is worth or {@link Double#NaN} if no rate is
+     * stored for the pair or a short name does not consist of 3 letters A-Z.
+     */
+    double findRate(final String from, final String to);
+
+    /**
+     * Get the exchange rate of the given currency pair valid at the given time ignoring the case, i.e. the rate with the
+     * latest timestamp not after it. The inverse pair is not considered. Does not allocate.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}).
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the number of target currency units one source currency unit was worth or {@link Double#NaN} if no rate was
+     * stored for the pair at that time or a short name does not consist of 3 letters A-Z.
+     */
+    double findRateAt(final String from, final String to, final long timestamp);
+
+    /**
+     * Get the stored tick of the given currency pair valid at the given time ignoring the case, with the timestamp it was
+     * stored with. The inverse pair is not considered. Allocates the result, so it is meant for single lookups.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}).
+     * @param timestamp the time in milliseconds since the epoch, {@link Long#MAX_VALUE} for the latest tick.
+     * @return an {@link Optional} containing the tick as {@link ExchangeRateET} with upper case short names, empty if no
+     * rate was stored for the pair at that time or a short name does not consist of 3 letters A-Z.
+     */
+    Optional<ExchangeRateET> findTickAt(final String from, final String to, final long timestamp);
+
+    /**
+     * Get the exchange rates of the given currency pair within a time range ignoring the case. The inverse pair is not considered.
+     *
+     * @param from the short name (ISO Code) of the source currency (not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (not {@code null}).
+     * @param start the start of the range in milliseconds since the epoch (inclusive).
+     * @param end the end of the range in milliseconds since the epoch (inclusive).
+     * @return an {@link Optional} containing the rates of the range as {@link ExchangeRateSeriesET} with upper case short
+     * names, empty if no rate was ever stored for the pair.
+     */
+    Optional<ExchangeRateSeriesET> findRates(final String from, final String to, final long start, final long end);
+
+    /**
+     * Stores the given exchange rate in the history of its currency pair. It replaces the latest rate of the pair unless
+     * a rate with a later timestamp is stored already.
+     *
+     * @param rate the exchange rate as {@link ExchangeRateET}.
+     * @return the latest exchange rates of all currency pairs including the stored one as unmodifiable {@link Set} of {@link ExchangeRateET}s.
+     */
+    Set<ExchangeRateET> saveRate(final ExchangeRateET rate);
+
+    /**
+     * Stores a batch of exchange rates like {@link #saveRate(ExchangeRateET)} in one write and advances the version once.
+     * Called by the single writer of the {@link ExchangeRateIngestion} with its reused arrays, so it does not allocate
+     * unless a listener is called.
+     *
+     * @param pairs the currency pair of every rate, encoded as {@code from * IsoCodes.CODE_SPACE + to} (see {@link de.exxcellent.microservices.showcase.common.isocode.IsoCodes}).
+     * @param rates the rates (positive, finite).
+     * @param timestamps the time every rate is valid from in milliseconds since the epoch.
+     * @param count the number of rates to store from the start of the arrays.
+     */
+    void saveRates(final int[] pairs, final double[] rates, final long[] timestamps, final int count);
+
+    /**
+     * Get the version of the stored rates, advanced with every write.
+     *
+     * @return the version, {@code 0} if nothing was written yet.
+     */
+    long getVersion();
+
+    /**
+     * Registers a listener called with every rate that becomes the latest rate of its currency pair.
+     * The listener is called by the writing thread and must not block.
+     *
+     * @param listener the listener consuming the {@link ExchangeRateET}s (not {@code null}).
+     */
+    void addChangeListener(final Consumer<ExchangeRateET> listener);
+}
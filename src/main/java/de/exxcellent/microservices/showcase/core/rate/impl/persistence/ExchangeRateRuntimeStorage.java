@@ -0,0 +1,299 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.common.metrics.Metered;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * The implementation of {@link ExchangeRateRepository} for a runtime storage for exchange rates.
+ * <p>
+ * Every currency with a rate gets a dense slot, looked up by its encoded short name (see {@link IsoCodes}). The rates are
+ * kept as raw {@code double} bits in a square matrix indexed by the slots of the source and the target currency, so a
+ * lookup is two array reads without allocation or locking. A second matrix with the same layout holds the history of
+ * each pair as {@link ExchangeRateSeries}. Writes are serialized. A new currency publishes a new {@link RateTable}, whose
+ * matrices are shared with the previous one until their capacity is exceeded. Every write, a single rate or a batch,
+ * advances the version once it is readable.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+@Metered("ExchangeRateRepository")
+public class ExchangeRateRuntimeStorage implements ExchangeRateRepository {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NO_RATE = Double.doubleToRawLongBits(Double.NaN);
+    /**
+     * The dummy rates are valid from the epoch, so every rate saved later is newer and replaces them as latest rate.
+     */
+    private static final long DUMMY_DATA_TIMESTAMP = 0;
+
+    /**
+     * The current {@link RateTable}, replaced when a currency is added.
+     */
+    private volatile RateTable table;
+    /**
+     * The number of writes, advanced after a write is readable.
+     */
+    private volatile long version;
+    /**
+     * The listeners called with every new latest rate.
+     */
+    private final List<Consumer<ExchangeRateET>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     * Initializes some dummy data.
+     */
+    public ExchangeRateRuntimeStorage() {
+        this.table = new RateTable(INITIAL_CAPACITY);
+        initData();
+    }
+
+    private void initData() {
+        saveRate(new ExchangeRateET("EUR", "GPD", 0.86, DUMMY_DATA_TIMESTAMP));
+        saveRate(new ExchangeRateET("EUR", "USD", 1.09, DUMMY_DATA_TIMESTAMP));
+    }
+
+    @Override
+    public Set<ExchangeRateET> findAll() {
+        final RateTable current = this.table;
+        final Set<ExchangeRateET> rates = new HashSet<>();
+        for(int fromSlot = 0; fromSlot < current.size; fromSlot++) {
+            for(int toSlot = 0; toSlot < current.size; toSlot++) {
+                final double rate = current.get(fromSlot, toSlot);
+                if(!Double.isNaN(rate)) {
+                    final long timestamp = current.series(fromSlot, toSlot).latestTimestamp();
+                    rates.add(new ExchangeRateET(IsoCodes.decode(current.codes[fromSlot]), IsoCodes.decode(current.codes[toSlot]), rate, timestamp));
+                } // else: no rate for this pair.
+            }
+        }
+        return Collections.unmodifiableSet(rates);
+    }
+
+    @Override
+    public double findRate(final String from, final String to) {
+        final int fromCode = IsoCodes.encode(from);
+        final int toCode = IsoCodes.encode(to);
+        if(fromCode == IsoCodes.INVALID_CODE || toCode == IsoCodes.INVALID_CODE) {
+            return Double.NaN;
+        } // else: look up the slots.
+        final RateTable current = this.table;
+        final int fromSlot = current.slots[fromCode];
+        final int toSlot = current.slots[toCode];
+        if(fromSlot < 0 || toSlot < 0) {
+            return Double.NaN;
+        } // else: both currencies have rates.
+        return current.get(fromSlot, toSlot);
+    }
+
+    @Override
+    public double findRateAt(final String from, final String to, final long timestamp) {
+        final ExchangeRateSeries series = findSeries(from, to);
+        return series == null ? Double.NaN : series.rateAt(timestamp);
+    }
+
+    @Override
+    public Optional<ExchangeRateET> findTickAt(final String from, final String to, final long timestamp) {
+        final ExchangeRateSeries series = findSeries(from, to);
+        return series == null ? Optional.empty() : Optional.ofNullable(series.tickAt(from.toUpperCase(), to.toUpperCase(), timestamp));
+    }
+
+    @Override
+    public Optional<ExchangeRateSeriesET> findRates(final String from, final String to, final long start, final long end) {
+        final ExchangeRateSeries series = findSeries(from, to);
+        if(series == null) {
+            return Optional.empty();
+        } // else: copy the range.
+        return Optional.of(series.copyRange(from.toUpperCase(), to.toUpperCase(), start, end));
+    }
+
+    @Override
+    public synchronized Set<ExchangeRateET> saveRate(final ExchangeRateET rate) {
+        ExchangeRateValidation.validateExchangeRateET(rate);
+        if(store(IsoCodes.encode(rate.getFrom()), IsoCodes.encode(rate.getTo()), rate.getRate(), rate.getTimestamp())) {
+            this.listeners.forEach(listener -> listener.accept(rate));
+        } // else: a historical rate, the latest one stays.
+        this.version++;
+        return findAll();
+    }
+
+    @Override
+    public synchronized void saveRates(final int[] pairs, final double[] rates, final long[] timestamps, final int count) {
+        for(int i = 0; i < count; i++) {
+            final int fromCode = pairs[i] / IsoCodes.CODE_SPACE;
+            final int toCode = pairs[i] % IsoCodes.CODE_SPACE;
+            if(store(fromCode, toCode, rates[i], timestamps[i]) && !this.listeners.isEmpty()) {
+                final ExchangeRateET rate = new ExchangeRateET(IsoCodes.decode(fromCode), IsoCodes.decode(toCode), rates[i], timestamps[i]);
+                this.listeners.forEach(listener -> listener.accept(rate));
+            } // else: a historical rate or nobody to notify.
+        }
+        this.version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public void addChangeListener(final Consumer<ExchangeRateET> listener) {
+        this.listeners.add(listener);
+    }
+
+    private ExchangeRateSeries findSeries(final String from, final String to) {
+        final int fromCode = IsoCodes.encode(from);
+        final int toCode = IsoCodes.encode(to);
+        if(fromCode == IsoCodes.INVALID_CODE || toCode == IsoCodes.INVALID_CODE) {
+            return null;
+        } // else: look up the slots.
+        final RateTable current = this.table;
+        final int fromSlot = current.slots[fromCode];
+        final int toSlot = current.slots[toCode];
+        return fromSlot < 0 || toSlot < 0 ? null : current.series(fromSlot, toSlot);
+    }
+
+    /**
+     * Store a rate in the history of its pair. Must be called while holding the lock.
+     *
+     * @return {@code true} if the rate became the latest rate of the pair.
+     */
+    private boolean store(final int fromCode, final int toCode, final double rate, final long timestamp) {
+        final int fromSlot = slotOf(fromCode);
+        final int toSlot = slotOf(toCode);
+        final RateTable current = this.table;
+        ExchangeRateSeries series = current.series(fromSlot, toSlot);
+        if(series == null) {
+            series = new ExchangeRateSeries();
+            current.setSeries(fromSlot, toSlot, series);
+        } // else: the pair has a history.
+        if(series.add(timestamp, rate)) {
+            current.set(fromSlot, toSlot, rate);
+            return true;
+        } // else: a historical rate, the latest one stays.
+        return false;
+    }
+
+    /**
+     * Get the slot of the given currency, adding it to the table if it has none yet. Must be called while holding the lock.
+     */
+    private int slotOf(final int code) {
+        final RateTable current = this.table;
+        final int slot = current.slots[code];
+        if(slot >= 0) {
+            return slot;
+        } // else: publish a table containing the currency.
+        final RateTable next = current.withCurrency(code);
+        this.table = next;
+        return next.slots[code];
+    }
+
+    /**
+     * An immutable assignment of currencies to slots with the matrices of the rates and histories between them.
+     */
+    private static final class RateTable {
+        /**
+         * The slot of every encoded short name, {@code -1} if the currency has no rate.
+         */
+        private final short[] slots;
+        /**
+         * The encoded short name of every used slot.
+         */
+        private final int[] codes;
+        /**
+         * The number of used slots.
+         */
+        private final int size;
+        /**
+         * The maximum number of slots of {@link #rates}.
+         */
+        private final int capacity;
+        /**
+         * The raw bits of the rates, row by source currency slot, {@link #NO_RATE} for unknown pairs.
+         */
+        private final AtomicLongArray rates;
+        /**
+         * The history of every pair with the layout of {@link #rates}, {@code null} for unknown pairs.
+         */
+        private final AtomicReferenceArray<ExchangeRateSeries> series;
+
+        private RateTable(final int capacity) {
+            this.slots = new short[IsoCodes.CODE_SPACE];
+            Arrays.fill(this.slots, (short) -1);
+            this.codes = new int[0];
+            this.size = 0;
+            this.capacity = capacity;
+            this.rates = emptyRates(capacity);
+            this.series = new AtomicReferenceArray<>(capacity * capacity);
+        }
+
+        private RateTable(final short[] slots, final int[] codes, final int capacity, final AtomicLongArray rates,
+                          final AtomicReferenceArray<ExchangeRateSeries> series) {
+            this.slots = slots;
+            this.codes = codes;
+            this.size = codes.length;
+            this.capacity = capacity;
+            this.rates = rates;
+            this.series = series;
+        }
+
+        private double get(final int fromSlot, final int toSlot) {
+            return Double.longBitsToDouble(this.rates.get(fromSlot * this.capacity + toSlot));
+        }
+
+        private void set(final int fromSlot, final int toSlot, final double rate) {
+            this.rates.set(fromSlot * this.capacity + toSlot, Double.doubleToRawLongBits(rate));
+        }
+
+        private ExchangeRateSeries series(final int fromSlot, final int toSlot) {
+            return this.series.get(fromSlot * this.capacity + toSlot);
+        }
+
+        private void setSeries(final int fromSlot, final int toSlot, final ExchangeRateSeries pairSeries) {
+            this.series.set(fromSlot * this.capacity + toSlot, pairSeries);
+        }
+
+        /**
+         * Create a table with a new slot for the given currency. The matrices are copied only if the capacity is exceeded,
+         * otherwise the new row and column are still unknown and the matrices are shared.
+         */
+        private RateTable withCurrency(final int code) {
+            final short[] nextSlots = this.slots.clone();
+            nextSlots[code] = (short) this.size;
+            final int[] nextCodes = Arrays.copyOf(this.codes, this.size + 1);
+            nextCodes[this.size] = code;
+            if(this.size < this.capacity) {
+                return new RateTable(nextSlots, nextCodes, this.capacity, this.rates, this.series);
+            } // else: grow the matrices.
+            final int nextCapacity = Math.min(this.capacity * 2, IsoCodes.CODE_SPACE);
+            final AtomicLongArray nextRates = emptyRates(nextCapacity);
+            final AtomicReferenceArray<ExchangeRateSeries> nextSeries = new AtomicReferenceArray<>(nextCapacity * nextCapacity);
+            for(int fromSlot = 0; fromSlot < this.size; fromSlot++) {
+                for(int toSlot = 0; toSlot < this.size; toSlot++) {
+                    nextRates.set(fromSlot * nextCapacity + toSlot, this.rates.get(fromSlot * this.capacity + toSlot));
+                    nextSeries.set(fromSlot * nextCapacity + toSlot, this.series.get(fromSlot * this.capacity + toSlot));
+                }
+            }
+            return new RateTable(nextSlots, nextCodes, nextCapacity, nextRates, nextSeries);
+        }
+
+        private static AtomicLongArray emptyRates(final int capacity) {
+            final long[] rates = new long[capacity * capacity];
+            Arrays.fill(rates, NO_RATE);
+            return new AtomicLongArray(rates);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The history of the exchange rates of one currency pair, kept as parallel primitive arrays of timestamps and rates sorted by
+ * timestamp, so a tick takes 16 bytes and a point-in-time lookup is a binary search without allocation.
+ * <p>
+ * Writers are serialized by the {@link ExchangeRateRuntimeStorage}. Readers do not lock: they search optimistically and only
+ * take the read lock if a write happened meanwhile.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class ExchangeRateSeries {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] rates = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Add a tick. A tick with the timestamp of an existing one replaces its rate.
+     *
+     * @param timestamp the time the rate was valid from in milliseconds since the epoch.
+     * @param rate the rate.
+     * @return {@code true} if the tick is the latest one of the series.
+     */
+    boolean add(final long timestamp, final double rate) {
+        final long stamp = this.lock.writeLock();
+        try {
+            final int index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+            if(index >= 0) {
+                this.rates[index] = rate;
+                return index == this.size - 1;
+            } // else: insert the tick, usually at the end.
+            final int insertion = -index - 1;
+            if(this.size == this.timestamps.length) {
+                final int capacity = this.size + (this.size >> 1);
+                this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+                this.rates = Arrays.copyOf(this.rates, capacity);
+            } // else: there is room for the tick.
+            System.arraycopy(this.timestamps, insertion, this.timestamps, insertion + 1, this.size - insertion);
+            System.arraycopy(this.rates, insertion, this.rates, insertion + 1, this.size - insertion);
+            this.timestamps[insertion] = timestamp;
+            this.rates[insertion] = rate;
+            this.size++;
+            return insertion == this.size - 1;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get the rate valid at the given time, i.e. the rate of the latest tick not after it.
+     *
+     * @param timestamp the time in milliseconds since the epoch.
+     * @return the rate or {@link Double#NaN} if the series starts after the given time.
+     */
+    double rateAt(final long timestamp) {
+        final long stamp = this.lock.tryOptimisticRead();
+        if(stamp != 0) {
+            final double rate = search(this.timestamps, this.rates, this.size, timestamp);
+            if(this.lock.validate(stamp)) {
+                return rate;
+            } // else: changed while searching, search again with the read lock.
+        }
+        final long readStamp = this.lock.readLock();
+        try {
+            return search(this.timestamps, this.rates, this.size, timestamp);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    /**
+     * Get the latest timestamp of the series.
+     *
+     * @return the timestamp in milliseconds since the epoch or {@link Long#MIN_VALUE} if the series is empty.
+     */
+    long latestTimestamp() {
+        final long stamp = this.lock.readLock();
+        try {
+            return this.size == 0 ? Long.MIN_VALUE : this.timestamps[this.size - 1];
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Get the tick valid at the given time with its own timestamp, i.e. the latest tick not after it.
+     *
+     * @param from the short name of the source currency of the series.
+     * @param to the short name of the target currency of the series.
+     * @param timestamp the time in milliseconds since the epoch, {@link Long#MAX_VALUE} for the latest tick.
+     * @return the tick as {@link ExchangeRateET} or {@code null} if the series starts after the given time.
+     */
+    ExchangeRateET tickAt(final String from, final String to, final long timestamp) {
+        final long stamp = this.lock.readLock();
+        try {
+            final int index = upperBound(this.timestamps, this.size, timestamp) - 1;
+            return index < 0 ? null : new ExchangeRateET(from, to, this.rates[index], this.timestamps[index]);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copy the ticks of the given time range.
+     *
+     * @param from the short name of the source currency of the series.
+     * @param to the short name of the target currency of the series.
+     * @param start the start of the range in milliseconds since the epoch (inclusive).
+     * @param end the end of the range in milliseconds since the epoch (inclusive).
+     * @return the ticks as {@link ExchangeRateSeriesET}.
+     */
+    ExchangeRateSeriesET copyRange(final String from, final String to, final long start, final long end) {
+        final long stamp = this.lock.readLock();
+        try {
+            final int first = lowerBound(this.timestamps, this.size, start);
+            final int last = Math.max(first, upperBound(this.timestamps, this.size, end));
+            return new ExchangeRateSeriesET(from, to, Arrays.copyOfRange(this.timestamps, first, last),
+                                            Arrays.copyOfRange(this.rates, first, last));
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    private static double search(final long[] timestamps, final double[] rates, final int size, final long timestamp) {
+        // a reader racing a writer may see arrays and size of different states, the result is discarded by the validation.
+        final int length = Math.min(size, Math.min(timestamps.length, rates.length));
+        final int index = upperBound(timestamps, length, timestamp) - 1;
+        return index < 0 ? Double.NaN : rates[index];
+    }
+
+    /**
+     * Get the index of the first timestamp not before the given one.
+     */
+    private static int lowerBound(final long[] timestamps, final int size, final long timestamp) {
+        int low = 0;
+        int high = size;
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(timestamps[middle] < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the index of the first timestamp after the given one.
+     */
+    private static int upperBound(final long[] timestamps, final int size, final long timestamp) {
+        int low = 0;
+        int high = size;
+        while(low < high) {
+            final int middle = (low + high) >>> 1;
+            if(timestamps[middle] <= timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
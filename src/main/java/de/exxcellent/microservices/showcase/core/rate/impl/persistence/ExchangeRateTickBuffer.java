@@ -0,0 +1,141 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A preallocated ring buffer of rate ticks for many producers and a single consumer. The ticks are kept in parallel
+ * primitive arrays, so publishing and draining do not allocate.
+ * <p>
+ * A producer claims the next sequence with a CAS, writes the slot and then publishes the sequence of the slot. The consumer
+ * drains the contiguous published sequences and releases their slots by advancing its own sequence. A producer never
+ * waits: if all slots are claimed and not yet drained, publishing fails and the caller has to apply back-pressure.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class ExchangeRateTickBuffer {
+    private final int capacity;
+    private final int mask;
+    private final int[] pairs;
+    private final double[] rates;
+    private final long[] timestamps;
+    /**
+     * The {@link System#nanoTime()} every tick was published at, to measure the latency until it is readable.
+     */
+    private final long[] publishNanos;
+    /**
+     * The sequence published in every slot, the slot is readable once it equals the sequence expected there.
+     */
+    private final AtomicLongArray published;
+    /**
+     * The next sequence to be claimed by a producer.
+     */
+    private final AtomicLong claimed = new AtomicLong();
+    /**
+     * The next sequence to be drained by the consumer, all slots of earlier sequences are free.
+     */
+    private volatile long drained;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the minimum number of slots, rounded up to a power of two.
+     */
+    ExchangeRateTickBuffer(final int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.pairs = new int[this.capacity];
+        this.rates = new double[this.capacity];
+        this.timestamps = new long[this.capacity];
+        this.publishNanos = new long[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+        for(int slot = 0; slot < this.capacity; slot++) {
+            this.published.set(slot, -1L);
+        }
+    }
+
+    /**
+     * Publish a tick, called by any producer thread.
+     *
+     * @param pair the currency pair encoded as {@code from * IsoCodes.CODE_SPACE + to}.
+     * @param rate the rate.
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch.
+     * @return {@code true} if the tick was published, {@code false} if the buffer is full.
+     */
+    boolean tryPublish(final int pair, final double rate, final long timestamp) {
+        long sequence;
+        do {
+            sequence = this.claimed.get();
+            if(sequence - this.drained >= this.capacity) {
+                return false;
+            } // else: the slot of the sequence is free.
+        } while(!this.claimed.compareAndSet(sequence, sequence + 1));
+        final int slot = (int) sequence & this.mask;
+        this.pairs[slot] = pair;
+        this.rates[slot] = rate;
+        this.timestamps[slot] = timestamp;
+        this.publishNanos[slot] = System.nanoTime();
+        // the volatile write makes the slot visible to the consumer after its fields. It is not just an ordered write, so
+        // the producer cannot read whether the consumer is idle before the slot is visible and miss waking it up.
+        this.published.set(slot, sequence);
+        return true;
+    }
+
+    /**
+     * Drain the published ticks in order of their sequence, called by the consumer thread only.
+     *
+     * @param batchPairs the array to copy the pairs to.
+     * @param batchRates the array to copy the rates to.
+     * @param batchTimestamps the array to copy the timestamps to.
+     * @param batchPublishNanos the array to copy the publishing times to.
+     * @return the number of drained ticks, at most the length of the arrays.
+     */
+    int drain(final int[] batchPairs, final double[] batchRates, final long[] batchTimestamps, final long[] batchPublishNanos) {
+        final long first = this.drained;
+        int count = 0;
+        while(count < batchPairs.length) {
+            final int slot = (int) (first + count) & this.mask;
+            if(this.published.get(slot) != first + count) {
+                break;
+            } // else: the tick is published.
+            batchPairs[count] = this.pairs[slot];
+            batchRates[count] = this.rates[slot];
+            batchTimestamps[count] = this.timestamps[slot];
+            batchPublishNanos[count] = this.publishNanos[slot];
+            count++;
+        }
+        if(count > 0) {
+            this.drained = first + count;
+        } // else: nothing to release.
+        return count;
+    }
+
+    /**
+     * Check if a tick is published and not drained yet, called by the consumer thread only.
+     *
+     * @return {@code true} if {@link #drain(int[], double[], long[], long[])} would drain a tick.
+     */
+    boolean hasPublished() {
+        final long next = this.drained;
+        return this.published.get((int) next & this.mask) == next;
+    }
+
+    /**
+     * Get the number of slots.
+     *
+     * @return the capacity.
+     */
+    int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get the number of claimed and not yet drained ticks.
+     *
+     * @return the number of ticks waiting in the buffer.
+     */
+    int getBacklog() {
+        return (int) Math.max(0L, this.claimed.get() - this.drained);
+    }
+}
@@ -0,0 +1,120 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence.model;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The entity type (ET) representing the latest exchange rate of a currency pair: one unit of the source currency is worth
+ * {@link #rate} units of the target currency.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateET implements Serializable {
+    /**
+     * generated serialVersionUID.
+     */
+    private static final long serialVersionUID = 6203481752390418841L;
+
+    /**
+     * the short name (ISO Code) of the source currency. (3 letters)
+     */
+    private final String from;
+    /**
+     * the short name (ISO Code) of the target currency. (3 letters)
+     */
+    private final String to;
+    /**
+     * the number of target currency units one source currency unit is worth.
+     */
+    private final double rate;
+    /**
+     * the time the rate is valid from in milliseconds since the epoch.
+     */
+    private final long timestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param rate the number of target currency units one source currency unit is worth (positive and finite).
+     * @param timestamp the time the rate is valid from in milliseconds since the epoch.
+     */
+    public ExchangeRateET(final String from, final String to, final double rate, final long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        Preconditions.checkArgument(!from.equalsIgnoreCase(to), ExchangeRateValidation.CURRENCIES_DIFFERENT);
+        ExchangeRateValidation.validateRate(rate);
+        this.from = from;
+        this.to = to;
+        this.rate = rate;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Get the short name of the source currency of this {@link ExchangeRateET}.
+     *
+     * @return the {@link ExchangeRateET#from}.
+     */
+    public String getFrom() {
+        return this.from;
+    }
+
+    /**
+     * Get the short name of the target currency of this {@link ExchangeRateET}.
+     *
+     * @return the {@link ExchangeRateET#to}.
+     */
+    public String getTo() {
+        return this.to;
+    }
+
+    /**
+     * Get the rate of this {@link ExchangeRateET}.
+     *
+     * @return the {@link ExchangeRateET#rate}.
+     */
+    public double getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Get the timestamp of this {@link ExchangeRateET}.
+     *
+     * @return the {@link ExchangeRateET#timestamp}.
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ExchangeRateET that = (ExchangeRateET) o;
+        return Double.compare(this.rate, that.rate) == 0 &&
+                        this.timestamp == that.timestamp &&
+                        Objects.equals(this.from, that.from) &&
+                        Objects.equals(this.to, that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.from, this.to, this.rate, this.timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateET{" +
+                        "from='" + this.from + '\'' +
+                        ", to='" + this.to + '\'' +
+                        ", rate=" + this.rate +
+                        ", timestamp=" + this.timestamp +
+                        '}';
+    }
+}
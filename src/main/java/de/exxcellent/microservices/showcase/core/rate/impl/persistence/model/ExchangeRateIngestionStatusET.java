@@ -0,0 +1,224 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence.model;
+
+import java.io.Serializable;
+
+/**
+ * The entity type (ET) representing the state of the rate tick ingestion, including its throughput and latency.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateIngestionStatusET implements Serializable {
+    /**
+     * generated serialVersionUID.
+     */
+    private static final long serialVersionUID = 3306214976518520443L;
+
+    /**
+     * the number of slots of the tick buffer.
+     */
+    private final int capacity;
+    /**
+     * the number of ticks waiting in the buffer.
+     */
+    private final int backlog;
+    /**
+     * the number of ticks published into the buffer.
+     */
+    private final long published;
+    /**
+     * the number of ticks rejected because the buffer was full.
+     */
+    private final long rejected;
+    /**
+     * the number of ticks stored by the writer.
+     */
+    private final long applied;
+    /**
+     * the number of ticks dropped because storing their batch failed.
+     */
+    private final long failed;
+    /**
+     * the number of batches stored by the writer.
+     */
+    private final long batches;
+    /**
+     * the version of the rates, advanced with every stored batch.
+     */
+    private final long version;
+    /**
+     * the number of ticks stored within the latest second.
+     */
+    private final long ticksPerSecond;
+    /**
+     * the time from publishing the oldest tick of the latest batch until it was readable in microseconds.
+     */
+    private final long lastLatencyMicros;
+    /**
+     * the mean time from publishing a tick until it was readable in microseconds.
+     */
+    private final long meanLatencyMicros;
+    /**
+     * the maximum time from publishing a tick until it was readable in microseconds.
+     */
+    private final long maxLatencyMicros;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the number of slots of the tick buffer.
+     * @param backlog the number of ticks waiting in the buffer.
+     * @param published the number of ticks published into the buffer.
+     * @param rejected the number of ticks rejected because the buffer was full.
+     * @param applied the number of ticks stored by the writer.
+     * @param failed the number of ticks dropped because storing their batch failed.
+     * @param batches the number of batches stored by the writer.
+     * @param version the version of the rates, advanced with every stored batch.
+     * @param ticksPerSecond the number of ticks stored within the latest second.
+     * @param lastLatencyMicros the time from publishing the oldest tick of the latest batch until it was readable in microseconds.
+     * @param meanLatencyMicros the mean time from publishing a tick until it was readable in microseconds.
+     * @param maxLatencyMicros the maximum time from publishing a tick until it was readable in microseconds.
+     */
+    public ExchangeRateIngestionStatusET(final int capacity, final int backlog, final long published, final long rejected,
+                                         final long applied, final long failed, final long batches, final long version, final long ticksPerSecond,
+                                         final long lastLatencyMicros, final long meanLatencyMicros, final long maxLatencyMicros) {
+        this.capacity = capacity;
+        this.backlog = backlog;
+        this.published = published;
+        this.rejected = rejected;
+        this.applied = applied;
+        this.failed = failed;
+        this.batches = batches;
+        this.version = version;
+        this.ticksPerSecond = ticksPerSecond;
+        this.lastLatencyMicros = lastLatencyMicros;
+        this.meanLatencyMicros = meanLatencyMicros;
+        this.maxLatencyMicros = maxLatencyMicros;
+    }
+
+    /**
+     * Get the capacity of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#capacity}.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get the backlog of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#backlog}.
+     */
+    public int getBacklog() {
+        return this.backlog;
+    }
+
+    /**
+     * Get the published of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#published}.
+     */
+    public long getPublished() {
+        return this.published;
+    }
+
+    /**
+     * Get the rejected of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#rejected}.
+     */
+    public long getRejected() {
+        return this.rejected;
+    }
+
+    /**
+     * Get the applied of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#applied}.
+     */
+    public long getApplied() {
+        return this.applied;
+    }
+
+    /**
+     * Get the failed of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#failed}.
+     */
+    public long getFailed() {
+        return this.failed;
+    }
+
+    /**
+     * Get the batches of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#batches}.
+     */
+    public long getBatches() {
+        return this.batches;
+    }
+
+    /**
+     * Get the version of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#version}.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Get the ticksPerSecond of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#ticksPerSecond}.
+     */
+    public long getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    /**
+     * Get the lastLatencyMicros of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#lastLatencyMicros}.
+     */
+    public long getLastLatencyMicros() {
+        return this.lastLatencyMicros;
+    }
+
+    /**
+     * Get the meanLatencyMicros of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#meanLatencyMicros}.
+     */
+    public long getMeanLatencyMicros() {
+        return this.meanLatencyMicros;
+    }
+
+    /**
+     * Get the maxLatencyMicros of this {@link ExchangeRateIngestionStatusET}.
+     *
+     * @return the {@link ExchangeRateIngestionStatusET#maxLatencyMicros}.
+     */
+    public long getMaxLatencyMicros() {
+        return this.maxLatencyMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateIngestionStatusET{" +
+                        "capacity=" + this.capacity +
+                        ", backlog=" + this.backlog +
+                        ", published=" + this.published +
+                        ", rejected=" + this.rejected +
+                        ", applied=" + this.applied +
+                        ", failed=" + this.failed +
+                        ", batches=" + this.batches +
+                        ", version=" + this.version +
+                        ", ticksPerSecond=" + this.ticksPerSecond +
+                        ", lastLatencyMicros=" + this.lastLatencyMicros +
+                        ", meanLatencyMicros=" + this.meanLatencyMicros +
+                        ", maxLatencyMicros=" + this.maxLatencyMicros +
+                        '}';
+    }
+}
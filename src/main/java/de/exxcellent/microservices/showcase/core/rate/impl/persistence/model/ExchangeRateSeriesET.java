@@ -0,0 +1,143 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence.model;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The entity type (ET) representing the exchange rates of a currency pair within a time range, e.g. for a chart.
+ * The ticks are kept in parallel primitive arrays sorted by timestamp.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public class ExchangeRateSeriesET implements Serializable {
+    /**
+     * generated serialVersionUID.
+     */
+    private static final long serialVersionUID = -5396251873408316920L;
+
+    /**
+     * the short name (ISO Code) of the source currency. (3 letters)
+     */
+    private final String from;
+    /**
+     * the short name (ISO Code) of the target currency. (3 letters)
+     */
+    private final String to;
+    /**
+     * the times the rates were valid from in milliseconds since the epoch, ascending.
+     */
+    private final long[] timestamps;
+    /**
+     * the rate of each timestamp.
+     */
+    private final double[] rates;
+
+    /**
+     * Constructor.
+     * The arrays are not copied, they must not be modified afterwards.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param timestamps the times the rates were valid from in milliseconds since the epoch, ascending (not {@code null}).
+     * @param rates the rate of each timestamp (same length as the timestamps, not {@code null}).
+     */
+    public ExchangeRateSeriesET(final String from, final String to, final long[] timestamps, final double[] rates) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        Preconditions.checkArgument(timestamps.length == rates.length, "Every timestamp of an exchange rate series needs a rate");
+        this.from = from;
+        this.to = to;
+        this.timestamps = timestamps;
+        this.rates = rates;
+    }
+
+    /**
+     * Get the short name of the source currency of this {@link ExchangeRateSeriesET}.
+     *
+     * @return the {@link ExchangeRateSeriesET#from}.
+     */
+    public String getFrom() {
+        return this.from;
+    }
+
+    /**
+     * Get the short name of the target currency of this {@link ExchangeRateSeriesET}.
+     *
+     * @return the {@link ExchangeRateSeriesET#to}.
+     */
+    public String getTo() {
+        return this.to;
+    }
+
+    /**
+     * Get the number of ticks of this {@link ExchangeRateSeriesET}.
+     *
+     * @return the number of ticks.
+     */
+    public int getSize() {
+        return this.timestamps.length;
+    }
+
+    /**
+     * Get a timestamp of this {@link ExchangeRateSeriesET}.
+     *
+     * @param index the index of the tick.
+     * @return the timestamp of the tick from the {@link ExchangeRateSeriesET#timestamps}.
+     */
+    public long getTimestamp(final int index) {
+        return this.timestamps[index];
+    }
+
+    /**
+     * Get a rate of this {@link ExchangeRateSeriesET}.
+     *
+     * @param index the index of the tick.
+     * @return the rate of the tick from the {@link ExchangeRateSeriesET#rates}.
+     */
+    public double getRate(final int index) {
+        return this.rates[index];
+    }
+
+    /**
+     * Get the series of the inverse currency pair.
+     *
+     * @return a new {@link ExchangeRateSeriesET} with swapped currencies and inverted rates.
+     */
+    public ExchangeRateSeriesET inverse() {
+        final double[] inverseRates = new double[this.rates.length];
+        for(int i = 0; i < inverseRates.length; i++) {
+            inverseRates[i] = 1.0 / this.rates[i];
+        }
+        return new ExchangeRateSeriesET(this.to, this.from, this.timestamps, inverseRates);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ExchangeRateSeriesET that = (ExchangeRateSeriesET) o;
+        return this.from.equals(that.from) &&
+                        this.to.equals(that.to) &&
+                        Arrays.equals(this.timestamps, that.timestamps) &&
+                        Arrays.equals(this.rates, that.rates);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * this.from.hashCode() + this.to.hashCode()) + Arrays.hashCode(this.timestamps)) + Arrays.hashCode(this.rates);
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateSeriesET{" +
+                        "from='" + this.from + '\'' +
+                        ", to='" + this.to + '\'' +
+                        ", size=" + this.timestamps.length +
+                        '}';
+    }
+}
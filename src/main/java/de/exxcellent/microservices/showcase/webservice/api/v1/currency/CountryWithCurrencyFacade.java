@@ -5,7 +5,9 @@ import de.exxcellent.microservices.showcase.common.errorhandling.exception.Busin
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyLookupCTO;
 import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.webservice.binary.CurrencyBinaryCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,18 +18,25 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Provides a REST API to manage countries with their currencies.
+ * JSON by default, internal consumers may exchange the binary representation {@link CurrencyBinaryCodec#MEDIA_TYPE}.
  *
  * @author Felix Riess, eXXcellent solutions consulting & software gmbh
  * @since 21.01.2020
  */
 @Path("/api/v1/countries-with-currency")
-@Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Consumes({MediaType.APPLICATION_JSON, CurrencyBinaryCodec.MEDIA_TYPE})
+@Produces({MediaType.APPLICATION_JSON, CurrencyBinaryCodec.MEDIA_TYPE})
 public class CountryWithCurrencyFacade {
     /**
      * The {@link Logger} for this {@link CountryWithCurrencyFacade}.
@@ -35,27 +44,52 @@ public class CountryWithCurrencyFacade {
     private static final Logger LOG = LoggerFactory.getLogger(CountryWithCurrencyFacade.class);
 
     private final CurrencyBCI currencyService;
+    private final SerializedListCache countriesWithCurrency;
 
     @Inject
     CountryWithCurrencyFacade(final CurrencyBCI currencyService) {
         this.currencyService = currencyService;
+        this.countriesWithCurrency = new SerializedListCache(currencyService::getVersion, currencyService::getCountriesWithCurrency, "No countries with currencies are available");
     }
 
     /**
-     * Get all available countries with their currency.
+     * Get all available countries with their currency. The serialized list is cached per version and tagged with the
+     * version as {@code ETag}, a client sending it as {@code If-None-Match} gets HTTP 304 until the countries change.
+     * <p>
+     * With the query parameter {@code codes}, e.g. {@code ?codes=DEU,USA}, only the countries with these short names are
+     * looked up at once, see {@link CurrencyBCI#lookupCountriesWithCurrency(java.util.Collection)}.
      *
-     * @return a {@link Set} of countries with their currency as {@link CountryWithCurrencyCTO}.
+     * @param codes the short names of the countries to look up, comma separated or repeated. Empty to get all countries.
+     * @param request the {@link Request} to evaluate the {@code If-None-Match} header of.
+     * @param headers the {@link HttpHeaders} of the request to check if gzip is accepted.
+     * @return all countries with their currency as JSON array of {@link CountryWithCurrencyCTO}s or HTTP 304, the found
+     * countries and missing country short names as {@link CountryWithCurrencyLookupCTO} if {@code codes} are provided.
      * @exception BusinessException with {@link ErrorCode#EMPTY_LIST_ERROR} if no countries with their currency are defined to produce a HTTP 204.
      */
     @GET
-    public Set<CountryWithCurrencyCTO> getCountriesWithCurrency() {
-        LOG.info("Resource to get countries with their currency triggered");
-        final Set<CountryWithCurrencyCTO> countriesWithCurrency = this.currencyService.getCountriesWithCurrency();
-        if(countriesWithCurrency.isEmpty()) {
-            throw new BusinessException(ErrorCode.EMPTY_LIST_ERROR, "No countries with currencies are available");
-        } else {
-            return countriesWithCurrency;
-        }
+    public Response getCountriesWithCurrency(@QueryParam("codes") final List<String> codes, @Context final Request request, @Context final HttpHeaders headers) {
+        final List<String> countryShortNames = QueryKeys.split(codes);
+        if(!countryShortNames.isEmpty()) {
+            LOG.debug("Resource to look up {} countries with their currency triggered", countryShortNames.size());
+            return Response.ok(this.currencyService.lookupCountriesWithCurrency(countryShortNames)).build();
+        } // else: all countries are requested.
+        LOG.debug("Resource to get countries with their currency triggered");
+        return this.countriesWithCurrency.get(request, headers);
+    }
+
+    /**
+     * Look up the currencies of several countries at once, for more short names than fit into a query parameter.
+     *
+     * @param countryShortNames the short names of the countries as JSON array of strings (not {@code null}).
+     * @return the found countries with their currency and the missing country short names as {@link CountryWithCurrencyLookupCTO}.
+     */
+    @POST
+    @Path("lookup")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public CountryWithCurrencyLookupCTO lookupCountriesWithCurrency(final List<String> countryShortNames) {
+        Preconditions.checkNotNull(countryShortNames, "Country short names must not be null");
+        LOG.debug("Resource to look up {} countries with their currency triggered", countryShortNames.size());
+        return this.currencyService.lookupCountriesWithCurrency(countryShortNames);
     }
 
     /**
@@ -69,7 +103,7 @@ public class CountryWithCurrencyFacade {
     public CountryWithCurrencyCTO getCountryWithCurrency(@PathParam("countryShortName") final String countryShortName) {
         Preconditions.checkNotNull(countryShortName, "Country short name must not be null");
         Preconditions.checkStringLength(countryShortName, 3, "Country short name must have 3 characters");
-        LOG.info("Resource to get currency of country with short name {} triggered", countryShortName);
+        LOG.debug("Resource to get currency of country with short name {} triggered", countryShortName);
         return this.currencyService.getCountryWithCurrency(countryShortName);
     }
 
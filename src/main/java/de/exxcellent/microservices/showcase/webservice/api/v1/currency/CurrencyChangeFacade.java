@@ -0,0 +1,84 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangesCTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+/**
+ * Provides a REST API to synchronize with the changes of currencies and countries with their currency.
+ * A client reads all data once, then polls the changes after the version it is up to date with or subscribes to the
+ * {@link CurrencyChangeFeed}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Path("/api/v1/changes")
+@Produces(MediaType.APPLICATION_JSON)
+public class CurrencyChangeFacade {
+    /**
+     * The {@link Logger} of this {@link CurrencyChangeFacade}.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyChangeFacade.class);
+
+    private final CurrencyBCI currencyService;
+    private final CurrencyChangeFeed changeFeed;
+
+    @Inject
+    CurrencyChangeFacade(final CurrencyBCI currencyService, final CurrencyChangeFeed changeFeed) {
+        this.currencyService = currencyService;
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * Get the changes after the provided version.
+     * Responds with HTTP 204 without a body if the client is up to date. If the changes are not available anymore,
+     * the response tells the client to read all data again and the version to continue with.
+     *
+     * @param since the version the client is up to date with (not {@code null}, not negative).
+     * @return the changes as {@link CurrencyChangesCTO} or HTTP 204 if there are none.
+     */
+    @GET
+    public Response getChanges(@QueryParam("since") final Long since) {
+        Preconditions.checkNotNull(since, "Query parameter since must not be null");
+        // polled frequently, so only logged on debug level.
+        LOG.debug("Resource to get changes since version {} triggered", since);
+        final CurrencyChangesCTO changes = this.currencyService.getChangesSince(since);
+        if(!changes.isResync() && changes.getChanges().isEmpty()) {
+            return Response.noContent().build();
+        } // else: there are changes or the client has to read all data again.
+        return Response.ok(changes).build();
+    }
+
+    /**
+     * Subscribe to all changes as Server-Sent Events. Every event has the version of the change as id, the type of the
+     * change as name and the change as JSON data. If the changes after the provided {@code Last-Event-ID} are not available
+     * anymore, a {@code RESYNC} event tells the client to read all data again and the version to continue with.
+     *
+     * @param sink the {@link SseEventSink} of the client.
+     * @param sse the {@link Sse} to build events with.
+     * @param lastEventId the version of the last received change to resume after or {@code null} to receive new changes only.
+     */
+    @GET
+    @Path("stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void streamChanges(@Context final SseEventSink sink, @Context final Sse sse,
+                              @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) final Long lastEventId) {
+        LOG.info("Resource to stream changes after version {} triggered", lastEventId);
+        this.changeFeed.subscribe(sink, sse, lastEventId);
+    }
+}
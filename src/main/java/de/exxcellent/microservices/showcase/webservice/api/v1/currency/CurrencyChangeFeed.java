@@ -0,0 +1,263 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangesCTO;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes every change of currencies and countries with their currency to the subscribed Server-Sent Events clients.
+ * <p>
+ * The storage hands the changes over to a single feed thread, so writers are never blocked by subscribers. The feed
+ * thread serializes each change once into an {@link OutboundSseEvent} which is shared by all subscribers and puts it into
+ * the bounded buffer of every subscriber. The events are written by a bounded pool of sender threads, one subscriber at a
+ * time per thread. The next event of a subscriber is sent once the {@link java.util.concurrent.CompletionStage} of the
+ * previous one completed, without waiting for it: a sink completing its sends asynchronously holds no thread meanwhile,
+ * a sink writing synchronously (like the one of RESTEasy) holds one sender thread while the client does not read.
+ * A subscriber whose buffer is full is too slow and gets disconnected. It can reconnect with the {@code Last-Event-ID}
+ * header to resume after the last received version.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@ApplicationScoped
+public class CurrencyChangeFeed {
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyChangeFeed.class);
+    /**
+     * The name of the event telling a subscriber to read all data again, its id is the version to continue with.
+     */
+    static final String RESYNC_EVENT = "RESYNC";
+
+    private final CurrencyBCI currencyService;
+    private final int bufferSize;
+    private final Jsonb jsonb = JsonbBuilder.create();
+    /**
+     * The single thread serializing the changes and handing them out to the subscribers, in the order of the versions.
+     */
+    private final ExecutorService feedExecutor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "currency-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The threads writing the events to the subscribers.
+     */
+    private final ThreadPoolExecutor senderExecutor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /**
+     * The {@link Sse} to build events with, taken from the first subscription.
+     */
+    private volatile Sse sse;
+
+    @Inject
+    CurrencyChangeFeed(final CurrencyBCI currencyService,
+                       @ConfigProperty(name = "currency.changes.sse.buffer-size", defaultValue = "256") final int bufferSize,
+                       @ConfigProperty(name = "currency.changes.sse.sender-threads", defaultValue = "16") final int senderThreads) {
+        this.currencyService = currencyService;
+        this.bufferSize = bufferSize;
+        this.senderExecutor = new ThreadPoolExecutor(senderThreads, senderThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            final Thread thread = new Thread(r, "currency-change-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // idle sender threads are not kept.
+        this.senderExecutor.allowCoreThreadTimeOut(true);
+        this.currencyService.addChangeListener(change -> this.feedExecutor.execute(() -> publish(change)));
+    }
+
+    /**
+     * Subscribe a client to the changes.
+     *
+     * @param sink the {@link SseEventSink} of the client.
+     * @param sse the {@link Sse} to build events with.
+     * @param lastEventId the version of the last change the client received or {@code null} to receive new changes only.
+     */
+    public void subscribe(final SseEventSink sink, final Sse sse, final Long lastEventId) {
+        if(this.sse == null) {
+            this.sse = sse;
+        } // else: all Sse instances build equal events.
+        // registered on the feed thread, so no change is published between reading the missed changes and registering.
+        this.feedExecutor.execute(() -> {
+            final Subscriber subscriber = new Subscriber(sink, lastEventId == null ? Long.MIN_VALUE : lastEventId);
+            if(lastEventId != null) {
+                final CurrencyChangesCTO missed = this.currencyService.getChangesSince(lastEventId);
+                if(missed.isResync()) {
+                    subscriber.offer(missed.getVersion(), sse.newEventBuilder()
+                                                             .id(Long.toString(missed.getVersion()))
+                                                             .name(RESYNC_EVENT)
+                                                             .data(String.class, Long.toString(missed.getVersion()))
+                                                             .build());
+                } else {
+                    missed.getChanges().forEach(change -> subscriber.offer(change.getVersion(), toEvent(change)));
+                }
+            } // else: the client is only interested in new changes.
+            if(!subscriber.isClosed()) {
+                this.subscribers.add(subscriber);
+                LOG.info("Change feed subscriber added, {} subscribers", this.subscribers.size());
+            }
+        });
+    }
+
+    private void publish(final CurrencyChangeTO change) {
+        if(this.subscribers.isEmpty()) {
+            return;
+        } // else: serialize the change once for all subscribers.
+        final OutboundSseEvent event = toEvent(change);
+        for(final Subscriber subscriber : this.subscribers) {
+            subscriber.offer(change.getVersion(), event);
+        }
+    }
+
+    private OutboundSseEvent toEvent(final CurrencyChangeTO change) {
+        return this.sse.newEventBuilder()
+                       .id(Long.toString(change.getVersion()))
+                       .name(change.getType())
+                       .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                       .data(String.class, this.jsonb.toJson(change))
+                       .build();
+    }
+
+    /**
+     * Disconnect all subscribers on shutdown.
+     */
+    @PreDestroy
+    void close() {
+        this.feedExecutor.shutdown();
+        try {
+            this.feedExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.subscribers.forEach(Subscriber::close);
+        this.senderExecutor.shutdown();
+    }
+
+    /**
+     * A subscribed client with its bounded buffer of events. At most one event of a subscriber is sent at a time.
+     */
+    private final class Subscriber {
+        private final SseEventSink sink;
+        private final BlockingQueue<OutboundSseEvent> buffer = new ArrayBlockingQueue<>(CurrencyChangeFeed.this.bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        /**
+         * The version of the latest buffered event, only accessed by the feed thread.
+         */
+        private long lastVersion;
+
+        private Subscriber(final SseEventSink sink, final long lastVersion) {
+            this.sink = sink;
+            this.lastVersion = lastVersion;
+        }
+
+        private void offer(final long version, final OutboundSseEvent event) {
+            if(version <= this.lastVersion || this.closed.get()) {
+                return;
+            } else if(this.sink.isClosed()) {
+                close();
+                return;
+            } else if(!this.buffer.offer(event)) {
+                LOG.warn("Disconnecting slow change feed subscriber, {} events are not sent yet", this.buffer.size());
+                close();
+                return;
+            } // else: the event is buffered.
+            this.lastVersion = version;
+            sendNext();
+        }
+
+        private void sendNext() {
+            if(this.sending.compareAndSet(false, true)) {
+                sendOnSenderThread();
+            } // else: the send in progress continues with the new event.
+        }
+
+        private void sendOnSenderThread() {
+            try {
+                CurrencyChangeFeed.this.senderExecutor.execute(this::send);
+            } catch(final RejectedExecutionException e) {
+                // shutting down.
+                this.sending.set(false);
+            }
+        }
+
+        /**
+         * Sends the buffered events until the buffer is empty or a send does not complete immediately, it continues once
+         * that send completed.
+         */
+        private void send() {
+            try {
+                OutboundSseEvent event;
+                while(!this.closed.get() && (event = this.buffer.poll()) != null) {
+                    final CompletableFuture<?> sent = this.sink.send(event).toCompletableFuture();
+                    if(!sent.isDone()) {
+                        sent.whenComplete((result, failure) -> {
+                            if(failure == null) {
+                                sendOnSenderThread();
+                            } else {
+                                disconnect(failure);
+                            }
+                        });
+                        return;
+                    } // else: sent already, check for failure.
+                    sent.join();
+                }
+            } catch(final RuntimeException e) {
+                disconnect(e);
+                return;
+            }
+            this.sending.set(false);
+            if(!this.closed.get() && !this.buffer.isEmpty()) {
+                sendNext();
+            } // else: an event buffered meanwhile is picked up by the next sendNext() call.
+        }
+
+        private void disconnect(final Throwable cause) {
+            LOG.debug("Could not send change event, disconnecting subscriber", cause);
+            this.sending.set(false);
+            close();
+        }
+
+        private boolean isClosed() {
+            return this.closed.get();
+        }
+
+        private void close() {
+            if(this.closed.compareAndSet(false, true)) {
+                CurrencyChangeFeed.this.subscribers.remove(this);
+                this.buffer.clear();
+                try {
+                    // closing may wait for the client as well.
+                    CurrencyChangeFeed.this.senderExecutor.execute(this.sink::close);
+                } catch(final RejectedExecutionException e) {
+                    // shutting down, close the sink directly.
+                    this.sink.close();
+                }
+                LOG.info("Change feed subscriber removed, {} subscribers", CurrencyChangeFeed.this.subscribers.size());
+            }
+        }
+    }
+}
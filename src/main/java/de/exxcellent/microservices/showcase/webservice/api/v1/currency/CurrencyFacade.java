@@ -4,8 +4,11 @@ import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
 import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
 import de.exxcellent.microservices.showcase.common.validation.Preconditions;
 import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyLookupCTO;
 import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
 import de.exxcellent.microservices.showcase.core.currency.impl.access.CurrencyValidation;
+import de.exxcellent.microservices.showcase.webservice.binary.CurrencyBinaryCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,18 +19,25 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Provides the REST API for the currency component.
+ * JSON by default, internal consumers may exchange the binary representation {@link CurrencyBinaryCodec#MEDIA_TYPE}.
  *
  * @author Felix Riess, eXXcellent solutions consulting & software gmbh
  * @since 21.01.2020
  */
 @Path("/api/v1/currencies")
-@Consumes(MediaType.APPLICATION_JSON)
-@Produces(MediaType.APPLICATION_JSON)
+@Consumes({MediaType.APPLICATION_JSON, CurrencyBinaryCodec.MEDIA_TYPE})
+@Produces({MediaType.APPLICATION_JSON, CurrencyBinaryCodec.MEDIA_TYPE})
 public class CurrencyFacade {
     /**
      * The {@link Logger} of this {@link CurrencyFacade}.
@@ -35,27 +45,37 @@ public class CurrencyFacade {
     private static final Logger LOG = LoggerFactory.getLogger(CurrencyFacade.class);
 
     private final CurrencyBCI currencyService;
+    private final SerializedListCache currencies;
 
     @Inject
     CurrencyFacade(final CurrencyBCI currencyService) {
         this.currencyService = currencyService;
+        this.currencies = new SerializedListCache(currencyService::getVersion, currencyService::getCurrencies, "No currencies are existing");
     }
 
     /**
-     * Get all available currencies.
+     * Get all available currencies. The serialized list is cached per version and tagged with the version as {@code ETag},
+     * a client sending it as {@code If-None-Match} gets HTTP 304 until the currencies change.
+     * <p>
+     * With the query parameter {@code codes}, e.g. {@code ?codes=EUR,USD}, only the currencies with these short names are
+     * looked up at once, see {@link CurrencyBCI#lookupCurrencies(java.util.Collection)}.
      *
-     * @return a {@link Set} containing all currencies as {@link CurrencyTO}s.
+     * @param codes the short names (ISO Codes) of the currencies to look up, comma separated or repeated. Empty to get all currencies.
+     * @param request the {@link Request} to evaluate the {@code If-None-Match} header of.
+     * @param headers the {@link HttpHeaders} of the request to check if gzip is accepted.
+     * @return all currencies as JSON array of {@link CurrencyTO}s or HTTP 304, the found currencies and missing short names
+     * as {@link CurrencyLookupCTO} if {@code codes} are provided.
      * @exception BusinessException with {@link ErrorCode#EMPTY_LIST_ERROR} if no currencies are available to produce HTTP 204.
      */
     @GET
-    public Set<CurrencyTO> getCurrencies() {
-        LOG.info("Resource to get all currencies triggered");
-        final Set<CurrencyTO> currencies = this.currencyService.getCurrencies();
-        if(currencies.isEmpty()) {
-            throw new BusinessException(ErrorCode.EMPTY_LIST_ERROR, "No currencies are existing");
-        } else {
-            return currencies;
-        }
+    public Response getCurrencies(@QueryParam("codes") final List<String> codes, @Context final Request request, @Context final HttpHeaders headers) {
+        final List<String> shortNames = QueryKeys.split(codes);
+        if(!shortNames.isEmpty()) {
+            LOG.debug("Resource to look up {} currencies triggered", shortNames.size());
+            return Response.ok(this.currencyService.lookupCurrencies(shortNames)).build();
+        } // else: all currencies are requested.
+        LOG.debug("Resource to get all currencies triggered");
+        return this.currencies.get(request, headers);
     }
 
     /**
@@ -69,10 +89,31 @@ public class CurrencyFacade {
     public CurrencyTO getCurrency(@PathParam("shortName") final String shortName) {
         Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
         Preconditions.checkStringLength(shortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
-        LOG.info("Resource to get currency with short name {} triggered", shortName);
+        LOG.debug("Resource to get currency with short name {} triggered", shortName);
         return this.currencyService.getCurrency(shortName);
     }
 
+    /**
+     * Get all countries using the currency with the provided short name (ISO code).
+     *
+     * @param shortName the short name (ISO Code) of the currency (3 characters, not {@code null}).
+     * @return a {@link Set} containing all countries using the currency as {@link CountryWithCurrencyCTO}s.
+     * @exception BusinessException with {@link ErrorCode#EMPTY_LIST_ERROR} if no country uses the currency to produce HTTP 204.
+     */
+    @GET
+    @Path("{shortName}/countries")
+    public Set<CountryWithCurrencyCTO> getCountriesByCurrency(@PathParam("shortName") final String shortName) {
+        Preconditions.checkNotNull(shortName, CurrencyValidation.CURRENCY_SHORT_NAME_NOT_NULL);
+        Preconditions.checkStringLength(shortName, 3, CurrencyValidation.CURRENCY_SHORT_NAME_LENGTH);
+        LOG.debug("Resource to get all countries with currency {} triggered", shortName);
+        final Set<CountryWithCurrencyCTO> countries = this.currencyService.getCountriesByCurrency(shortName);
+        if(countries.isEmpty()) {
+            throw new BusinessException(ErrorCode.EMPTY_LIST_ERROR, "No country uses currency " + shortName);
+        } else {
+            return countries;
+        }
+    }
+
     /**
      * Create a new currency from the provided information.
      *
@@ -0,0 +1,43 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the keys of a lookup passed as query parameter, e.g. {@code ?codes=EUR,USD} or {@code ?codes=EUR&codes=USD}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class QueryKeys {
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private QueryKeys() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "QueryKeys is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Split the values of a query parameter at commas.
+     *
+     * @param values the values of the query parameter (not {@code null}).
+     * @return the trimmed, non-empty keys in the order of the request.
+     */
+    static List<String> split(final List<String> values) {
+        final List<String> keys = new ArrayList<>();
+        for(final String value : values) {
+            for(final String key : value.split(",")) {
+                final String trimmed = key.trim();
+                if(!trimmed.isEmpty()) {
+                    keys.add(trimmed);
+                } // else: nothing to look up.
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,46 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.ReplicationStatusTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Provides a REST API to monitor the replication of the currencies between instances.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Path("/api/v1/replication")
+@Produces(MediaType.APPLICATION_JSON)
+public class ReplicationFacade {
+    /**
+     * The {@link Logger} of this {@link ReplicationFacade}.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicationFacade.class);
+
+    private final CurrencyBCI currencyService;
+
+    @Inject
+    ReplicationFacade(final CurrencyBCI currencyService) {
+        this.currencyService = currencyService;
+    }
+
+    /**
+     * Get the replication state of this instance. For a follower it contains the replication lag in versions and milliseconds.
+     *
+     * @return the replication state as {@link ReplicationStatusTO}.
+     */
+    @GET
+    public ReplicationStatusTO getReplicationStatus() {
+        // polled by monitoring, so only logged on debug level.
+        LOG.debug("Resource to get the replication status triggered");
+        return this.currencyService.getReplicationStatus();
+    }
+}
@@ -0,0 +1,196 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.webservice.binary.CurrencyBinaryCodec;
+import de.exxcellent.microservices.showcase.webservice.json.CurrencyJsonCodec;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Variant;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized list resource, e.g. all currencies, per version of the storage. The JSON of the
+ * {@link CurrencyJsonCodec} and the binary representation of the {@link CurrencyBinaryCodec} are written and compressed
+ * with gzip on the first request after the version changed, all other requests write the cached bytes to the response.
+ * <p>
+ * Every response carries a strong {@code ETag} of the version and a hash of the serialized list, so two instances
+ * (or two runs of one instance) at the same version with different content never share a tag. A request with a
+ * matching {@code If-None-Match} is answered with HTTP 304 from the cached list of the current version. The version is
+ * read before the list, so the list of a response is at least as new as the version of its {@code ETag}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class SerializedListCache {
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    /**
+     * The representations of the list, JSON first as the default.
+     */
+    private static final List<Variant> VARIANTS = Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, CurrencyBinaryCodec.MEDIA_TYPE_TYPE).build();
+    private static final Pattern NOT_ACCEPTABLE = Pattern.compile("q\\s*=\\s*0(\\.0*)?");
+    /**
+     * The number of bytes of the SHA-256 of the JSON used in the {@code ETag}.
+     */
+    private static final int HASH_BYTES = 16;
+
+    private final LongSupplier version;
+    private final Supplier<? extends Collection<?>> list;
+    private final String emptyMessage;
+    private volatile Entry entry;
+
+    /**
+     * Constructor.
+     *
+     * @param version reads the current version of the storage.
+     * @param list reads the current list.
+     * @param emptyMessage the message of the {@link BusinessException} thrown if the list is empty.
+     */
+    SerializedListCache(final LongSupplier version, final Supplier<? extends Collection<?>> list, final String emptyMessage) {
+        this.version = version;
+        this.list = list;
+        this.emptyMessage = emptyMessage;
+    }
+
+    /**
+     * Get the response with the current list as JSON or in the binary representation, compressed if the client accepts gzip.
+     *
+     * @param request the {@link Request} to select the representation and to evaluate the {@code If-None-Match} header of.
+     * @param headers the {@link HttpHeaders} of the request.
+     * @return the response with the serialized list, HTTP 304 if the client is up to date or HTTP 406 if neither JSON nor
+     * the binary representation is accepted.
+     * @exception BusinessException with {@link ErrorCode#EMPTY_LIST_ERROR} if the list is empty to produce HTTP 204.
+     */
+    Response get(final Request request, final HttpHeaders headers) {
+        final long currentVersion = this.version.getAsLong();
+        final Variant variant = request.selectVariant(VARIANTS);
+        if(variant == null) {
+            return Response.notAcceptable(VARIANTS).build();
+        } // else: JSON (the default) or the binary representation is accepted.
+        final boolean binary = CurrencyBinaryCodec.MEDIA_TYPE_TYPE.isCompatible(variant.getMediaType());
+        final boolean gzip = acceptsGzip(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        final Entry current = getEntry(currentVersion);
+        if(current.json == null) {
+            throw new BusinessException(ErrorCode.EMPTY_LIST_ERROR, this.emptyMessage);
+        } // else: the list has a tag.
+        // the variants have different bytes, so they need different strong entity tags.
+        final EntityTag tag = new EntityTag(current.tag + (binary ? "-binary" : "") + (gzip ? "-" + GZIP : ""));
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if(notModified != null) {
+            return notModified.header(HttpHeaders.VARY, VARY).build();
+        } // else: the client has no or an outdated list, write the cached variant.
+        final byte[] body = binary ? (gzip ? current.binaryGzip : current.binary) : (gzip ? current.jsonGzip : current.json);
+        final Response.ResponseBuilder response = Response.ok(body, variant.getMediaType())
+                                                          .tag(tag)
+                                                          .header(HttpHeaders.VARY, VARY);
+        if(gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        } // else: the client does not accept gzip.
+        return response.build();
+    }
+
+    private Entry getEntry(final long currentVersion) {
+        final Entry cached = this.entry;
+        if(cached != null && cached.version == currentVersion) {
+            return cached;
+        } // else: the list changed since it was serialized.
+        final Collection<?> values = this.list.get();
+        final Entry next;
+        if(values.isEmpty()) {
+            next = new Entry(currentVersion, null, null, null, null, null);
+        } else {
+            final byte[] json = CurrencyJsonCodec.toJson(values);
+            final byte[] binary = CurrencyBinaryCodec.toBinary(values);
+            next = new Entry(currentVersion, currentVersion + "-" + hash(json), json, compress(json), binary, compress(binary));
+        }
+        this.entry = next;
+        return next;
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try(final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Compressing the list failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Hash the serialized list, all variants have the same content as the JSON.
+     *
+     * @param json the JSON of the list.
+     * @return the first {@link #HASH_BYTES} bytes of the SHA-256 of the JSON, base64url encoded.
+     */
+    private static String hash(final byte[] json) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, HASH_BYTES));
+        } catch(final NoSuchAlgorithmException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Check if gzip is one of the accepted content codings and not excluded by a quality value of 0.
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header or {@code null}.
+     * @return {@code true} if the response may be compressed with gzip.
+     */
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if(acceptEncoding == null) {
+            return false;
+        } // else: check the accepted codings.
+        for(final String coding : acceptEncoding.split(",")) {
+            final String[] parameters = coding.split(";");
+            if(GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                for(int parameter = 1; parameter < parameters.length; parameter++) {
+                    if(NOT_ACCEPTABLE.matcher(parameters[parameter].trim()).matches()) {
+                        return false;
+                    } // else: not a quality value of 0.
+                }
+                return true;
+            } // else: another coding.
+        }
+        return false;
+    }
+
+    /**
+     * The serialized list of a version with the {@code ETag} of its JSON variant, all are {@code null} if the list is empty.
+     */
+    private static final class Entry {
+        private final long version;
+        private final String tag;
+        private final byte[] json;
+        private final byte[] jsonGzip;
+        private final byte[] binary;
+        private final byte[] binaryGzip;
+
+        private Entry(final long version, final String tag, final byte[] json, final byte[] jsonGzip, final byte[] binary, final byte[] binaryGzip) {
+            this.version = version;
+            this.tag = tag;
+            this.json = json;
+            this.jsonGzip = jsonGzip;
+            this.binary = binary;
+            this.binaryGzip = binaryGzip;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.rate;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.validation.Preconditions;
+import de.exxcellent.microservices.showcase.core.rate.api.ExchangeRateBCI;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionBatch;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ConversionTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateIngestionStatusTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateSeriesTO;
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateValidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.RoundingMode;
+import java.util.Set;
+
+/**
+ * Provides the REST API for the exchange rate component.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Path("/api/v1/rates")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class ExchangeRateFacade {
+    /**
+     * The {@link Logger} of this {@link ExchangeRateFacade}.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeRateFacade.class);
+    /**
+     * The factories are looked up once, {@link Json#createParser(InputStream)} looks up the provider on every call.
+     */
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(null);
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
+    private final ExchangeRateBCI exchangeRateService;
+
+    @Inject
+    ExchangeRateFacade(final ExchangeRateBCI exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    /**
+     * Get the latest exchange rates of all currency pairs.
+     *
+     * @return a {@link Set} containing all exchange rates as {@link ExchangeRateTO}s.
+     * @exception BusinessException with {@link ErrorCode#EMPTY_LIST_ERROR} if no exchange rates are available to produce HTTP 204.
+     */
+    @GET
+    public Set<ExchangeRateTO> getRates() {
+        LOG.debug("Resource to get all exchange rates triggered");
+        final Set<ExchangeRateTO> rates = this.exchangeRateService.getRates();
+        if(rates.isEmpty()) {
+            throw new BusinessException(ErrorCode.EMPTY_LIST_ERROR, "No exchange rates are existing");
+        } else {
+            return rates;
+        }
+    }
+
+    /**
+     * Get the exchange rate of a currency pair.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @return the exchange rate as {@link ExchangeRateTO}.
+     */
+    @GET
+    @Path("{from}/{to}")
+    public ExchangeRateTO getRate(@PathParam("from") final String from, @PathParam("to") final String to) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        LOG.debug("Resource to get exchange rate from {} to {} triggered", from, to);
+        return this.exchangeRateService.getRate(from, to);
+    }
+
+    /**
+     * Get the exchange rate of a currency pair valid at the given time.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param timestamp the time in milliseconds since the epoch (not {@code null}).
+     * @return the exchange rate as {@link ExchangeRateTO} with the given timestamp.
+     */
+    @GET
+    @Path("{from}/{to}/at")
+    public ExchangeRateTO getRateAt(@PathParam("from") final String from, @PathParam("to") final String to,
+                                    @QueryParam("timestamp") final Long timestamp) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        Preconditions.checkNotNull(timestamp, ExchangeRateValidation.TIMESTAMP_NOT_NULL);
+        // called by reconciliation jobs for millions of ticks, so only logged on debug level.
+        LOG.debug("Resource to get exchange rate from {} to {} at {} triggered", from, to, timestamp);
+        return this.exchangeRateService.getRateAt(from, to, timestamp);
+    }
+
+    /**
+     * Get the exchange rates of a currency pair within a time range, e.g. for a chart.
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param start the start of the range in milliseconds since the epoch (inclusive), the beginning of the history if not given.
+     * @param end the end of the range in milliseconds since the epoch (inclusive), the end of the history if not given.
+     * @return the rates of the range as {@link ExchangeRateSeriesTO}.
+     */
+    @GET
+    @Path("{from}/{to}/history")
+    public ExchangeRateSeriesTO getRates(@PathParam("from") final String from, @PathParam("to") final String to,
+                                         @QueryParam("start") final Long start, @QueryParam("end") final Long end) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        final long rangeStart = start == null ? Long.MIN_VALUE : start;
+        final long rangeEnd = end == null ? Long.MAX_VALUE : end;
+        ExchangeRateValidation.validateTimeRange(rangeStart, rangeEnd);
+        LOG.debug("Resource to get exchange rates from {} to {} between {} and {} triggered", from, to, start, end);
+        return this.exchangeRateService.getRates(from, to, rangeStart, rangeEnd);
+    }
+
+    /**
+     * Convert an amount from one currency to another with the latest exchange rate. The amount is rounded to the nearest
+     * minor unit of the source currency, the result to the minor units of the target currency (e.g. cents for EUR).
+     *
+     * @param from the short name (ISO Code) of the source currency (3 letters A-Z, not {@code null}).
+     * @param to the short name (ISO Code) of the target currency (3 letters A-Z, not {@code null}).
+     * @param amount the amount in the source currency (finite, not {@code null}).
+     * @param rounding the name of the {@link RoundingMode} of the result, {@link RoundingMode#HALF_EVEN} if not given.
+     * @return the conversion as {@link ConversionTO}.
+     */
+    @GET
+    @Path("convert")
+    public ConversionTO convert(@QueryParam("from") final String from, @QueryParam("to") final String to,
+                                @QueryParam("amount") final Double amount,
+                                @QueryParam("rounding") @DefaultValue("HALF_EVEN") final String rounding) {
+        ExchangeRateValidation.validateCurrencyPair(from, to);
+        ExchangeRateValidation.validateAmount(amount);
+        ExchangeRateValidation.validateRoundingMode(rounding);
+        // the most frequently called resource, so only logged on debug level.
+        LOG.debug("Resource to convert {} from {} to {} triggered", amount, from, to);
+        return this.exchangeRateService.convert(from, to, amount, RoundingMode.valueOf(rounding.toUpperCase()));
+    }
+
+    /**
+     * Convert a batch of amounts with the latest exchange rates. The request is a JSON array of
+     * {@code {"from": "EUR", "to": "USD", "amount": 10.0}} items, the response is an array of the converted items in the same
+     * order, streamed while it is written. Items of a currency pair without rate carry an {@code error} instead of
+     * {@code rate} and {@code result}, the other items are converted nevertheless.
+     *
+     * @param items the conversions as JSON array (every item must have valid currencies and a finite amount, at most
+     * {@value ExchangeRateBCI#MAX_CONVERSION_ITEMS} items).
+     * @param rounding the name of the {@link RoundingMode} of the results, {@link RoundingMode#HALF_EVEN} if not given.
+     * @return the conversions as JSON array of {@code {from, to, amount, rate, result}} items.
+     */
+    @POST
+    @Path("convert")
+    public StreamingOutput convert(final InputStream items, @QueryParam("rounding") @DefaultValue("HALF_EVEN") final String rounding) {
+        ExchangeRateValidation.validateRoundingMode(rounding);
+        final ConversionBatch batch = readBatch(items, RoundingMode.valueOf(rounding.toUpperCase()));
+        LOG.debug("Resource to convert {} amounts of {} currency pairs triggered", batch.getSize(), batch.getPairCount());
+        this.exchangeRateService.convert(batch);
+        return output -> writeBatch(batch, output);
+    }
+
+    /**
+     * Store an exchange rate of a currency pair in its history. A rate without timestamp is valid from now. It becomes the
+     * latest rate of the pair unless a rate with a later timestamp is stored already.
+     *
+     * @param rate the exchange rate as {@link ExchangeRateTO}. (must be valid, see {@link ExchangeRateValidation#validateExchangeRateTO(ExchangeRateTO)}).
+     * @return all exchange rates including the stored one as {@link Set} of {@link ExchangeRateTO}s.
+     */
+    @POST
+    public Set<ExchangeRateTO> saveRate(final ExchangeRateTO rate) {
+        ExchangeRateValidation.validateExchangeRateTO(rate);
+        LOG.info("Resource to store exchange rate {} from {} to {} triggered", rate.getRate(), rate.getFrom(), rate.getTo());
+        return this.exchangeRateService.saveRate(rate);
+    }
+
+    /**
+     * Publish a burst of market rate ticks to be stored asynchronously. The request is a JSON array of
+     * {@code {"from": "EUR", "to": "USD", "rate": 1.09, "timestamp": 1792300000000}} items, a tick without timestamp is
+     * valid from now. The ticks are readable once the ingestion stored them, usually within milliseconds.
+     * <p>
+     * The ticks are published in order. If the ingestion is at its capacity, the remaining ticks are rejected with HTTP 503
+     * and the number of accepted ticks, the client has to publish the rejected ones again later. An invalid tick is
+     * rejected with HTTP 400 as well, the ticks before it are published nevertheless.
+     *
+     * @param ticks the ticks as JSON array (every tick must have valid, different currencies and a positive, finite rate).
+     * @return the state of the ingestion after publishing as {@link ExchangeRateIngestionStatusTO}.
+     * @exception BusinessException with {@link ErrorCode#CAPACITY_EXCEEDED_ERROR} if the ingestion is at its capacity to produce HTTP 503.
+     */
+    @POST
+    @Path("ticks")
+    public ExchangeRateIngestionStatusTO publishTicks(final InputStream ticks) {
+        final int accepted = readTicks(ticks);
+        // called for every burst of ticks, so only logged on debug level.
+        LOG.debug("Resource to publish {} rate ticks triggered", accepted);
+        return this.exchangeRateService.getIngestionStatus();
+    }
+
+    /**
+     * Get the state of the rate tick ingestion, including its throughput and the latency until a tick is readable.
+     *
+     * @return the state as {@link ExchangeRateIngestionStatusTO}.
+     */
+    @GET
+    @Path("ticks/status")
+    public ExchangeRateIngestionStatusTO getIngestionStatus() {
+        // polled by monitoring, so only logged on debug level.
+        LOG.debug("Resource to get the rate ingestion status triggered");
+        return this.exchangeRateService.getIngestionStatus();
+    }
+
+    private static ConversionBatch readBatch(final InputStream items, final RoundingMode rounding) {
+        final ConversionBatch batch = new ConversionBatch(rounding);
+        try(final JsonParser parser = PARSER_FACTORY.createParser(items)) {
+            String key = null;
+            String from = null;
+            String to = null;
+            double amount = Double.NaN;
+            while(parser.hasNext()) {
+                switch(parser.next()) {
+                    case START_OBJECT:
+                        from = null;
+                        to = null;
+                        amount = Double.NaN;
+                        break;
+                    case KEY_NAME:
+                        key = parser.getString();
+                        break;
+                    case VALUE_STRING:
+                        if("from".equals(key)) {
+                            from = parser.getString();
+                        } else if("to".equals(key)) {
+                            to = parser.getString();
+                        } // else: ignore unknown fields.
+                        break;
+                    case VALUE_NUMBER:
+                        if("amount".equals(key)) {
+                            amount = Double.parseDouble(parser.getString());
+                        } // else: ignore unknown fields.
+                        break;
+                    case END_OBJECT:
+                        batch.add(from, to, amount);
+                        break;
+                    default:
+                        // the enclosing array and other values carry no conversion.
+                        break;
+                }
+            }
+        } catch(final JsonException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Conversions must be a JSON array of {from, to, amount} items", e);
+        }
+        return batch;
+    }
+
+    /**
+     * Read and publish the ticks of a JSON array.
+     *
+     * @return the number of published ticks.
+     */
+    private int readTicks(final InputStream ticks) {
+        int accepted = 0;
+        try(final JsonParser parser = PARSER_FACTORY.createParser(ticks)) {
+            String key = null;
+            String from = null;
+            String to = null;
+            double rate = Double.NaN;
+            long timestamp = 0;
+            while(parser.hasNext()) {
+                switch(parser.next()) {
+                    case START_OBJECT:
+                        from = null;
+                        to = null;
+                        rate = Double.NaN;
+                        timestamp = 0;
+                        break;
+                    case KEY_NAME:
+                        key = parser.getString();
+                        break;
+                    case VALUE_STRING:
+                        if("from".equals(key)) {
+                            from = parser.getString();
+                        } else if("to".equals(key)) {
+                            to = parser.getString();
+                        } // else: ignore unknown fields.
+                        break;
+                    case VALUE_NUMBER:
+                        if("rate".equals(key)) {
+                            rate = Double.parseDouble(parser.getString());
+                        } else if("timestamp".equals(key)) {
+                            timestamp = parser.getLong();
+                        } // else: ignore unknown fields.
+                        break;
+                    case END_OBJECT:
+                        if(!this.exchangeRateService.publishTick(from, to, rate, timestamp)) {
+                            throw new BusinessException(ErrorCode.CAPACITY_EXCEEDED_ERROR, "Rate tick buffer is full, the first " + accepted
+                                            + " ticks were accepted, publish the remaining ones again later");
+                        } // else: the tick is published.
+                        accepted++;
+                        break;
+                    default:
+                        // the enclosing array and other values carry no tick.
+                        break;
+                }
+            }
+        } catch(final JsonException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Ticks must be a JSON array of {from, to, rate, timestamp} items", e);
+        }
+        return accepted;
+    }
+
+    private static void writeBatch(final ConversionBatch batch, final OutputStream output) {
+        final String[] froms = new String[batch.getPairCount()];
+        final String[] tos = new String[batch.getPairCount()];
+        for(int pair = 0; pair < froms.length; pair++) {
+            froms[pair] = batch.getPairFrom(pair);
+            tos[pair] = batch.getPairTo(pair);
+        }
+        try(final JsonGenerator generator = GENERATOR_FACTORY.createGenerator(output)) {
+            generator.writeStartArray();
+            for(int item = 0; item < batch.getSize(); item++) {
+                final int pair = batch.getPair(item);
+                generator.writeStartObject()
+                         .write("from", froms[pair])
+                         .write("to", tos[pair])
+                         .write("amount", batch.getAmount(item));
+                if(batch.getPairError(pair) == null) {
+                    generator.write("rate", batch.getPairRate(pair))
+                             .write("result", batch.getResult(item));
+                } else {
+                    generator.write("error", batch.getPairError(pair));
+                }
+                generator.writeEnd();
+            }
+            generator.writeEnd();
+        }
+    }
+}
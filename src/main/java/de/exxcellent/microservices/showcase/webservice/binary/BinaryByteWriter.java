@@ -0,0 +1,120 @@
+package de.exxcellent.microservices.showcase.webservice.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+
+/**
+ * Writes the binary representation into a buffer flushed to an {@link OutputStream}. The encoding is the one of
+ * {@link java.io.DataOutput}, so it is read with a {@link java.io.DataInputStream}, but without the synchronized call
+ * per byte and the temporary array per string of a {@link java.io.DataOutputStream}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class BinaryByteWriter {
+    private static final int BUFFER_SIZE = 8192;
+    /**
+     * The maximum length of a string in bytes, as the length is written as unsigned short.
+     */
+    private static final int MAX_UTF_LENGTH = 0xFFFF;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param out the {@link OutputStream} to write to, neither flushed nor closed by this writer.
+     */
+    BinaryByteWriter(final OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Write the lowest 8 bits of a value, see {@link java.io.DataOutput#writeByte(int)}.
+     *
+     * @param value the value.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeByte(final int value) throws IOException {
+        ensure(1);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write a value as 4 bytes, high byte first, see {@link java.io.DataOutput#writeInt(int)}.
+     *
+     * @param value the value.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeInt(final int value) throws IOException {
+        ensure(4);
+        this.buffer[this.position++] = (byte) (value >>> 24);
+        this.buffer[this.position++] = (byte) (value >>> 16);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write a string as its length in bytes and its modified UTF-8 encoding, see {@link java.io.DataOutput#writeUTF(String)}.
+     *
+     * @param value the string (not {@code null}).
+     * @throws IOException if writing to the stream fails or the string is longer than 65535 bytes.
+     */
+    void writeUTF(final String value) throws IOException {
+        final int length = value.length();
+        int bytes = length;
+        for(int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if(c >= 0x800) {
+                bytes += 2;
+            } else if(c >= 0x80 || c == 0) {
+                bytes++;
+            } // else: a single byte.
+        }
+        if(bytes > MAX_UTF_LENGTH) {
+            throw new UTFDataFormatException("String too long: " + bytes + " bytes");
+        } // else: the length fits into an unsigned short.
+        ensure(2);
+        this.buffer[this.position++] = (byte) (bytes >>> 8);
+        this.buffer[this.position++] = (byte) bytes;
+        for(int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            ensure(3);
+            if(c > 0 && c < 0x80) {
+                this.buffer[this.position++] = (byte) c;
+            } else if(c < 0x800) {
+                this.buffer[this.position++] = (byte) (0xC0 | c >> 6);
+                this.buffer[this.position++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                this.buffer[this.position++] = (byte) (0xE0 | c >> 12);
+                this.buffer[this.position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                this.buffer[this.position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    /**
+     * Write the buffered bytes to the stream.
+     *
+     * @throws IOException if writing to the stream fails.
+     */
+    void flush() throws IOException {
+        flushBuffer();
+    }
+
+    private void ensure(final int bytes) throws IOException {
+        if(this.position + bytes > BUFFER_SIZE) {
+            flushBuffer();
+        } // else: enough space left.
+    }
+
+    private void flushBuffer() throws IOException {
+        if(this.position > 0) {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+        } // else: nothing buffered.
+    }
+}
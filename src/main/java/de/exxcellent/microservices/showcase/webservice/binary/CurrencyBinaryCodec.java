@@ -0,0 +1,212 @@
+package de.exxcellent.microservices.showcase.webservice.binary;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.ErrorCode;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+
+import javax.ws.rs.core.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Encodes {@link CurrencyTO}s and {@link CountryWithCurrencyCTO}s to a compact binary representation for internal
+ * consumers and vice versa.
+ * <p>
+ * Layout: a currency is its short name as code, {@code byte minorUnits} and its name, a country with its currency is the
+ * country short name as code followed by the currency, a collection is {@code int size} followed by its elements.
+ * A code is written as its 3 ASCII characters, or as {@code 0xFF} followed by the string if it contains other
+ * characters. Strings are written in the encoding of {@link DataOutput#writeUTF(String)}.
+ * The result of a lookup is the collection of the found elements followed by {@code int size} and the missing codes.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencyBinaryCodec {
+    /**
+     * The media type of the binary representation.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.currency.v1+binary";
+    /**
+     * The media type of the binary representation as {@link MediaType}.
+     */
+    public static final MediaType MEDIA_TYPE_TYPE = MediaType.valueOf(MEDIA_TYPE);
+
+    /**
+     * Marks a code not consisting of 3 ASCII characters, never the first byte of an ASCII code.
+     */
+    private static final int LONG_CODE = 0xFF;
+
+    /**
+     * private constructor to hide implicit public one.
+     * @exception TechnicalException if class is tried to be instantiated.
+     */
+    private CurrencyBinaryCodec() {
+        throw new TechnicalException(ErrorCode.ILLEGAL_ACCESS_ERROR, "CurrencyBinaryCodec is a utility class with static methods and must not be instantiated");
+    }
+
+    /**
+     * Check if a type can be read.
+     *
+     * @param type the class of the object to be read.
+     * @return {@code true} for {@link CurrencyTO} and {@link CountryWithCurrencyCTO}.
+     */
+    public static boolean isReadable(final Class<?> type) {
+        return type == CurrencyTO.class || type == CountryWithCurrencyCTO.class;
+    }
+
+    /**
+     * Check if a type can be written.
+     *
+     * @param type the class of the object to be written.
+     * @param genericType the generic type of the object to be written, e.g. {@code Set<CurrencyTO>}.
+     * @return {@code true} for {@link CurrencyTO}, {@link CountryWithCurrencyCTO}, collections of them and the results of
+     * lookups.
+     */
+    public static boolean isWriteable(final Class<?> type, final Type genericType) {
+        if(CurrencyTO.class.isAssignableFrom(type) || CountryWithCurrencyCTO.class.isAssignableFrom(type)
+           || type == CurrencyLookupCTO.class || type == CountryWithCurrencyLookupCTO.class) {
+            return true;
+        } else if(Collection.class.isAssignableFrom(type) && genericType instanceof ParameterizedType) {
+            final Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            return arguments.length == 1 && (arguments[0] == CurrencyTO.class || arguments[0] == CountryWithCurrencyCTO.class);
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Read a {@link CurrencyTO} or {@link CountryWithCurrencyCTO}.
+     *
+     * @param type the class of the object to be read, see {@link #isReadable(Class)}.
+     * @param in the binary representation.
+     * @return the validated object.
+     * @exception BusinessException with {@link ErrorCode#INVALID_ARGUMENT_ERROR} if the data is corrupt or the object
+     * is not valid.
+     */
+    public static Object read(final Class<?> type, final InputStream in) {
+        final DataInputStream data = new DataInputStream(in);
+        try {
+            final Object value = type == CountryWithCurrencyCTO.class
+                                 ? CountryWithCurrencyCTO.withValidatedCurrency(readCode(data), readCurrency(data))
+                                 : readCurrency(data);
+            if(data.read() != -1) {
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Request body must contain a single object");
+            } // else: the whole body is read.
+            return value;
+        } catch(final EOFException | UTFDataFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, "Malformed binary request body");
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Reading the request body failed", e);
+        }
+    }
+
+    /**
+     * Write a {@link CurrencyTO}, a {@link CountryWithCurrencyCTO}, a collection of them or the result of a lookup.
+     *
+     * @param value the object to be written, see {@link #isWriteable(Class, Type)}.
+     * @param out the {@link OutputStream} to write to, flushed but not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    public static void write(final Object value, final OutputStream out) throws IOException {
+        final BinaryByteWriter writer = new BinaryByteWriter(out);
+        writeValue(writer, value);
+        writer.flush();
+    }
+
+    /**
+     * Write a collection of {@link CurrencyTO}s or {@link CountryWithCurrencyCTO}s.
+     *
+     * @param values the objects to be written.
+     * @return the binary representation.
+     */
+    public static byte[] toBinary(final Collection<?> values) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(values.size() * 24 + 4);
+        try {
+            write(values, out);
+        } catch(final IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Writing to memory failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeValue(final BinaryByteWriter out, final Object value) throws IOException {
+        if(value instanceof CurrencyTO) {
+            writeCurrency(out, (CurrencyTO) value);
+        } else if(value instanceof CountryWithCurrencyCTO) {
+            writeCode(out, ((CountryWithCurrencyCTO) value).getCountryShortName());
+            writeCurrency(out, ((CountryWithCurrencyCTO) value).getCurrency());
+        } else if(value instanceof CurrencyLookupCTO) {
+            writeValue(out, ((CurrencyLookupCTO) value).getCurrencies());
+            writeCodes(out, ((CurrencyLookupCTO) value).getMissing());
+        } else if(value instanceof CountryWithCurrencyLookupCTO) {
+            writeValue(out, ((CountryWithCurrencyLookupCTO) value).getCountriesWithCurrency());
+            writeCodes(out, ((CountryWithCurrencyLookupCTO) value).getMissing());
+        } else if(value instanceof Collection) {
+            out.writeInt(((Collection<?>) value).size());
+            for(final Object element : (Collection<?>) value) {
+                writeValue(out, element);
+            }
+        } else {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Cannot write " + (value == null ? "null" : value.getClass().getName()) + " as currency binary");
+        }
+    }
+
+    private static void writeCurrency(final BinaryByteWriter out, final CurrencyTO currency) throws IOException {
+        writeCode(out, currency.getShortName());
+        out.writeByte(currency.getMinorUnits());
+        out.writeUTF(currency.getName());
+    }
+
+    private static CurrencyTO readCurrency(final DataInput in) throws IOException {
+        final String shortName = readCode(in);
+        final int minorUnits = in.readUnsignedByte();
+        return new CurrencyTO(shortName, in.readUTF(), minorUnits);
+    }
+
+    private static void writeCode(final BinaryByteWriter out, final String code) throws IOException {
+        if(code.length() == 3 && code.charAt(0) < 0x80 && code.charAt(1) < 0x80 && code.charAt(2) < 0x80) {
+            out.writeByte(code.charAt(0));
+            out.writeByte(code.charAt(1));
+            out.writeByte(code.charAt(2));
+        } else {
+            out.writeByte(LONG_CODE);
+            out.writeUTF(code);
+        }
+    }
+
+    private static void writeCodes(final BinaryByteWriter out, final Collection<String> codes) throws IOException {
+        out.writeInt(codes.size());
+        for(final String code : codes) {
+            writeCode(out, code);
+        }
+    }
+
+    private static String readCode(final DataInput in) throws IOException {
+        final int first = in.readUnsignedByte();
+        if(first == LONG_CODE) {
+            return in.readUTF();
+        } else if(first >= 0x80) {
+            throw new UTFDataFormatException("Invalid first byte of a code " + first);
+        } // else: 3 ASCII characters.
+        final int second = in.readUnsignedByte();
+        final int third = in.readUnsignedByte();
+        if(second >= 0x80 || third >= 0x80) {
+            throw new UTFDataFormatException("Invalid code");
+        } // else: a valid ASCII code.
+        return new String(new char[] {(char) first, (char) second, (char) third});
+    }
+}
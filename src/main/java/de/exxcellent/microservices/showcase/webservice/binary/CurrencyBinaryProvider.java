@@ -0,0 +1,49 @@
+package de.exxcellent.microservices.showcase.webservice.binary;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes currencies and countries with their currency in the binary representation of the
+ * {@link CurrencyBinaryCodec}, requested by internal consumers with the media type {@link CurrencyBinaryCodec#MEDIA_TYPE}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Provider
+@Consumes(CurrencyBinaryCodec.MEDIA_TYPE)
+@Produces(CurrencyBinaryCodec.MEDIA_TYPE)
+public class CurrencyBinaryProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return CurrencyBinaryCodec.isReadable(type);
+    }
+
+    @Override
+    public Object readFrom(final Class<Object> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                           final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) {
+        return CurrencyBinaryCodec.read(type, entityStream);
+    }
+
+    @Override
+    public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return CurrencyBinaryCodec.isWriteable(type, genericType);
+    }
+
+    @Override
+    public void writeTo(final Object value, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                        final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream) throws IOException {
+        CurrencyBinaryCodec.write(value, entityStream);
+    }
+}
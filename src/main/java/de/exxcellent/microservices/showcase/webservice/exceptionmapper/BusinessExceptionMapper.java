@@ -26,6 +26,10 @@ public class BusinessExceptionMapper implements ExceptionMapper<BusinessExceptio
             responseStatus = Response.Status.NO_CONTENT;
         } else if (errorDescription.equals(ErrorCode.NOT_FOUND_ERROR.getDescription())) {
             responseStatus = Response.Status.NOT_FOUND;
+        } else if (errorDescription.equals(ErrorCode.READ_ONLY_ERROR.getDescription())) {
+            responseStatus = Response.Status.FORBIDDEN;
+        } else if (errorDescription.equals(ErrorCode.CAPACITY_EXCEEDED_ERROR.getDescription())) {
+            responseStatus = Response.Status.SERVICE_UNAVAILABLE;
         } else {
             responseStatus = Response.Status.BAD_REQUEST;
         }
@@ -0,0 +1,53 @@
+package de.exxcellent.microservices.showcase.webservice.json;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes currencies and countries with their currency as JSON with the {@link CurrencyJsonCodec} instead of
+ * JSON-B. All other types are still mapped by JSON-B. The priority is higher than the one of the JSON-B provider
+ * ({@code Priorities.USER - 100}), so this provider is asked first.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Provider
+@Priority(Priorities.USER - 200)
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class CurrencyJsonProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    @Override
+    public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return CurrencyJsonCodec.isReadable(type);
+    }
+
+    @Override
+    public Object readFrom(final Class<Object> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                           final MultivaluedMap<String, String> httpHeaders, final InputStream entityStream) {
+        return CurrencyJsonCodec.read(type, entityStream);
+    }
+
+    @Override
+    public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType) {
+        return CurrencyJsonCodec.isWriteable(type, genericType);
+    }
+
+    @Override
+    public void writeTo(final Object value, final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType,
+                        final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream) throws IOException {
+        CurrencyJsonCodec.write(value, entityStream);
+    }
+}
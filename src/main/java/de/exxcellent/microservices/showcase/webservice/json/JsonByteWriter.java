@@ -0,0 +1,180 @@
+package de.exxcellent.microservices.showcase.webservice.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes JSON tokens as UTF-8 directly into a buffer flushed to an {@link OutputStream}, without an intermediate
+ * {@link java.io.Writer} or {@link String}. Strings are escaped like JSON-B does: quotation mark, reverse solidus and
+ * control characters, all other characters are written as UTF-8.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+final class JsonByteWriter {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param out the {@link OutputStream} to write to, neither flushed nor closed by this writer.
+     */
+    JsonByteWriter(final OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Write a structural character, e.g. <code>{</code> or {@code ,}.
+     *
+     * @param c the ASCII character.
+     * @return this writer.
+     * @throws IOException if writing to the stream fails.
+     */
+    JsonByteWriter write(final char c) throws IOException {
+        ensure(1);
+        this.buffer[this.position++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * Write pre-encoded bytes, e.g. a quoted key with its colon.
+     *
+     * @param bytes the UTF-8 bytes.
+     * @return this writer.
+     * @throws IOException if writing to the stream fails.
+     */
+    JsonByteWriter write(final byte[] bytes) throws IOException {
+        if(bytes.length > BUFFER_SIZE) {
+            flushBuffer();
+            this.out.write(bytes);
+            return this;
+        } // else: fits into the buffer.
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+        return this;
+    }
+
+    /**
+     * Write a number.
+     *
+     * @param value the number.
+     * @return this writer.
+     * @throws IOException if writing to the stream fails.
+     */
+    JsonByteWriter write(final int value) throws IOException {
+        if(value >= 0 && value < 10) {
+            return write((char) ('0' + value));
+        } // else: more than one digit.
+        final String digits = Integer.toString(value);
+        ensure(digits.length());
+        for(int i = 0; i < digits.length(); i++) {
+            this.buffer[this.position++] = (byte) digits.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * Write a quoted and escaped string.
+     *
+     * @param value the string (not {@code null}).
+     * @return this writer.
+     * @throws IOException if writing to the stream fails.
+     */
+    JsonByteWriter writeString(final String value) throws IOException {
+        write('"');
+        final int length = value.length();
+        for(int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if(c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensure(1);
+                this.buffer[this.position++] = (byte) c;
+            } else if(c < 0x80) {
+                writeEscaped(c);
+            } else if(c < 0x800) {
+                ensure(2);
+                this.buffer[this.position++] = (byte) (0xC0 | c >> 6);
+                this.buffer[this.position++] = (byte) (0x80 | c & 0x3F);
+            } else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                this.buffer[this.position++] = (byte) (0xF0 | codePoint >> 18);
+                this.buffer[this.position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                this.buffer[this.position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                this.buffer[this.position++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if(Character.isSurrogate(c)) {
+                // an unpaired surrogate cannot be encoded, replaced like String#getBytes does.
+                write('?');
+            } else {
+                ensure(3);
+                this.buffer[this.position++] = (byte) (0xE0 | c >> 12);
+                this.buffer[this.position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                this.buffer[this.position++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return write('"');
+    }
+
+    /**
+     * Write the buffered bytes to the stream.
+     *
+     * @throws IOException if writing to the stream fails.
+     */
+    void flush() throws IOException {
+        flushBuffer();
+    }
+
+    private void writeEscaped(final char c) throws IOException {
+        switch(c) {
+            case '"':
+                write('\\').write('"');
+                break;
+            case '\\':
+                write('\\').write('\\');
+                break;
+            case '\b':
+                write('\\').write('b');
+                break;
+            case '\f':
+                write('\\').write('f');
+                break;
+            case '\n':
+                write('\\').write('n');
+                break;
+            case '\r':
+                write('\\').write('r');
+                break;
+            case '\t':
+                write('\\').write('t');
+                break;
+            default:
+                ensure(6);
+                this.buffer[this.position++] = '\\';
+                this.buffer[this.position++] = 'u';
+                this.buffer[this.position++] = '0';
+                this.buffer[this.position++] = '0';
+                this.buffer[this.position++] = HEX[c >> 4];
+                this.buffer[this.position++] = HEX[c & 0xF];
+                break;
+        }
+    }
+
+    private void ensure(final int bytes) throws IOException {
+        if(this.position + bytes > BUFFER_SIZE) {
+            flushBuffer();
+        } // else: enough space left.
+    }
+
+    private void flushBuffer() throws IOException {
+        if(this.position > 0) {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+        } // else: nothing buffered.
+    }
+}
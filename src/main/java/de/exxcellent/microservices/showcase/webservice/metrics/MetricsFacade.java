@@ -0,0 +1,41 @@
+package de.exxcellent.microservices.showcase.webservice.metrics;
+
+import de.exxcellent.microservices.showcase.common.metrics.Metrics;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+/**
+ * Provides the metrics of this instance to be scraped by Prometheus.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Path("/metrics")
+public class MetricsFacade {
+    /**
+     * The media type of the Prometheus text format.
+     */
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Metrics metrics;
+
+    @Inject
+    MetricsFacade(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get the calls, errors and latency histograms of the methods of the components and the size of the storage.
+     *
+     * @return the metrics in the Prometheus text format.
+     */
+    @GET
+    @Produces(PROMETHEUS_TEXT)
+    public String getMetrics() {
+        // scraped periodically, so not logged.
+        return this.metrics.scrape();
+    }
+}
@@ -0,0 +1,65 @@
+package de.exxcellent.microservices.showcase.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fixed-point conversion of {@link Money} with a {@link BigDecimal} baseline converting the same amounts from
+ * EUR (2 minor units) to KWD (3 minor units). {@code typical} amounts fit the {@code long} arithmetic, {@code huge} amounts
+ * take the {@link BigDecimal} fallback of {@link Money} as well. Run with {@code -prof gc} to see the allocation rates:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark="MoneyConversionBenchmark -prof gc"}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyConversionBenchmark {
+    private static final int SIZE = 1024;
+
+    @Param({"typical", "huge"})
+    public String amounts;
+
+    private final long[] units = new long[SIZE];
+    private final double[] rates = new double[SIZE];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(16);
+        for(int i = 0; i < SIZE; i++) {
+            this.units[i] = "typical".equals(this.amounts) ? random.nextInt(10_000_000) : Long.MAX_VALUE / 4 - random.nextInt(1000);
+            this.rates[i] = 0.3 + random.nextDouble() / 100;
+        }
+    }
+
+    @Benchmark
+    public long fixedPoint() {
+        final int i = this.next++ & (SIZE - 1);
+        return Money.convert(this.units[i], 2, this.rates[i], 3, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        final int i = this.next++ & (SIZE - 1);
+        return BigDecimal.valueOf(this.units[i], 2).multiply(BigDecimal.valueOf(this.rates[i])).setScale(3, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,142 @@
+package de.exxcellent.microservices.showcase.common.money;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@link Money} arithmetic against {@link BigDecimal} for all {@link RoundingMode}s.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class MoneyTest {
+    /**
+     * Rates from this value on are applied without scaling, see {@link Money#convert(long, int, double, int, RoundingMode)}.
+     */
+    private static final double MAX_SCALED_RATE = 9007199254740992.0 / 1e10;
+
+    @Test
+    void minorUnitsAreTakenFromIso4217() {
+        assertEquals(0, Money.minorUnitsOf("JPY"));
+        assertEquals(2, Money.minorUnitsOf("EUR"));
+        assertEquals(3, Money.minorUnitsOf("kwd"));
+        // no minor units defined or not a valid code.
+        assertEquals(Money.DEFAULT_MINOR_UNITS, Money.minorUnitsOf("XAU"));
+        assertEquals(Money.DEFAULT_MINOR_UNITS, Money.minorUnitsOf("EURO"));
+    }
+
+    @Test
+    void amountsAreRoundedToTheNearestMinorUnit() {
+        assertEquals(1999, Money.toMinorUnits(19.99, 2));
+        assertEquals(-1999, Money.toMinorUnits(-19.99, 2));
+        assertEquals(20, Money.toMinorUnits(19.5, 0));
+        assertEquals(1235, Money.toMinorUnits(1.2346, 3));
+        // the nearest double of 1.2345 is below it, ties of the double value are rounded to even.
+        assertEquals(1234, Money.toMinorUnits(1.2345, 3));
+        assertEquals(12, Money.toMinorUnits(0.125, 2));
+        assertEquals(19.99, Money.toAmount(1999, 2));
+        assertEquals(-0.005, Money.toAmount(-5, 3));
+        assertThrows(BusinessException.class, () -> Money.toMinorUnits(1e15, 2));
+        assertThrows(BusinessException.class, () -> Money.toMinorUnits(Double.NaN, 2));
+    }
+
+    @Test
+    void divideRoundsLikeBigDecimalForAllRoundingModes() {
+        final long[] divisors = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 16, 25, 100, 1000, 1L << 40, 1L << 62};
+        for(final RoundingMode rounding : RoundingMode.values()) {
+            for(final long divisor : divisors) {
+                for(long dividend = -1000; dividend <= 1000; dividend++) {
+                    assertDivide(dividend, divisor, rounding);
+                }
+                for(final long dividend : new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE, Long.MIN_VALUE + 1,
+                                                      (1L << 62) + (1L << 61), -(1L << 62) - (1L << 61)}) {
+                    assertDivide(dividend, divisor, rounding);
+                }
+            }
+        }
+    }
+
+    @Test
+    void convertRoundsLikeBigDecimalForAllRoundingModes() {
+        final double[] rates = {1.0, 0.5, 1.09, 0.86, 1.0956, 0.0062, 0.00000000004, 123.456789, 1.23456789012345, 7.5, 4.0};
+        for(final RoundingMode rounding : RoundingMode.values()) {
+            for(final double rate : rates) {
+                for(int fromMinorUnits = 0; fromMinorUnits <= 3; fromMinorUnits++) {
+                    for(int toMinorUnits = 0; toMinorUnits <= 3; toMinorUnits++) {
+                        for(long units = -300; units <= 300; units++) {
+                            assertConvert(units, fromMinorUnits, rate, toMinorUnits, rounding);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void convertRoundsLikeBigDecimalForRandomAmountsAndRates() {
+        final Random random = new Random(16);
+        for(int i = 0; i < 20_000; i++) {
+            // amounts and rates over the whole range, so all paths including the BigDecimal fallback are taken.
+            final long units = (random.nextBoolean() ? 1 : -1) * (random.nextLong() >>> random.nextInt(64));
+            final double rate = Math.pow(10, random.nextInt(16) - 8) * (1 + random.nextDouble());
+            final int fromMinorUnits = random.nextInt(4);
+            final int toMinorUnits = random.nextInt(4);
+            for(final RoundingMode rounding : RoundingMode.values()) {
+                assertConvert(units, fromMinorUnits, rate, toMinorUnits, rounding);
+            }
+        }
+    }
+
+    @Test
+    void convertFallsBackToBigDecimalIfTheProductExceedsALong() {
+        // the product of the amount and the scaled rate exceeds a long.
+        assertEquals(1_500_000_000_000_000_000L, Money.convert(1_000_000_000_000_000_000L, 2, 1.5, 2, RoundingMode.UNNECESSARY));
+        assertConvert(1_000_000_000_000_000_000L, 2, 1.2345678901, 2, RoundingMode.HALF_EVEN);
+        assertConvert(Long.MIN_VALUE, 2, 0.5, 2, RoundingMode.HALF_EVEN);
+        // the target currency has more minor units than the rate has decimal places.
+        assertConvert(4_000_000_000_000_000L, 0, 2.0, 3, RoundingMode.UNNECESSARY);
+        // a rate too large to be scaled.
+        assertConvert(123_456_789L, 2, 1_234_567.891, 0, RoundingMode.HALF_UP);
+        assertConvert(-123_456_789L, 0, MAX_SCALED_RATE, 3, RoundingMode.FLOOR);
+        // the result exceeds a long.
+        assertThrows(BusinessException.class, () -> Money.convert(Long.MAX_VALUE, 2, 2.0, 2, RoundingMode.HALF_EVEN));
+        assertThrows(BusinessException.class, () -> Money.convert(Long.MAX_VALUE / 2, 0, 1.5, 3, RoundingMode.HALF_EVEN));
+    }
+
+    private static void assertDivide(final long dividend, final long divisor, final RoundingMode rounding) {
+        final BigDecimal exact = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.DOWN);
+        final boolean inexact = BigDecimal.valueOf(dividend).compareTo(exact.multiply(BigDecimal.valueOf(divisor))) != 0;
+        if(rounding == RoundingMode.UNNECESSARY && inexact) {
+            assertThrows(BusinessException.class, () -> Money.divide(dividend, divisor, rounding), dividend + " / " + divisor);
+        } else {
+            final long expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, rounding).longValueExact();
+            assertEquals(expected, Money.divide(dividend, divisor, rounding), dividend + " / " + divisor + " " + rounding);
+        }
+    }
+
+    private static void assertConvert(final long units, final int fromMinorUnits, final double rate, final int toMinorUnits,
+                                      final RoundingMode rounding) {
+        final BigDecimal appliedRate = rate >= MAX_SCALED_RATE ? BigDecimal.valueOf(rate) : BigDecimal.valueOf(Math.round(rate * 1e10), 10);
+        final String message = units + " * " + rate + " from " + fromMinorUnits + " to " + toMinorUnits + " minor units " + rounding;
+        final long expected;
+        try {
+            expected = BigDecimal.valueOf(units)
+                                 .multiply(appliedRate)
+                                 .scaleByPowerOfTen(toMinorUnits - fromMinorUnits)
+                                 .setScale(0, rounding)
+                                 .longValueExact();
+        } catch(final ArithmeticException e) {
+            // rounding necessary for UNNECESSARY or the result exceeds a long.
+            assertThrows(BusinessException.class, () -> Money.convert(units, fromMinorUnits, rate, toMinorUnits, rounding), message);
+            return;
+        }
+        assertEquals(expected, Money.convert(units, fromMinorUnits, rate, toMinorUnits, rounding), message);
+    }
+}
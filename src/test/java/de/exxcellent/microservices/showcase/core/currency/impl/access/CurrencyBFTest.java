@@ -0,0 +1,88 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.access;
+
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.currency.impl.business.CurrencyICI;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.CurrencyRuntimeStorage;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the cached list projections of the {@link CurrencyBF}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyBFTest {
+
+    @Test
+    void cachedProjectionsAreSharedUntilTheNextWrite() {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage();
+        final CurrencyBF facade = new CurrencyBF(manager(storage));
+        final Set<CurrencyTO> currencies = facade.getCurrencies();
+        final Set<CountryWithCurrencyCTO> countries = facade.getCountriesWithCurrency();
+        assertSame(currencies, facade.getCurrencies());
+        assertSame(countries, facade.getCountriesWithCurrency());
+
+        storage.addCountryWithCurrency("USA", new CurrencyET("USD", "Dollar"));
+        assertNotSame(currencies, facade.getCurrencies());
+        assertEquals(currencies.size() + 1, facade.getCurrencies().size());
+        assertEquals(countries.size() + 1, facade.getCountriesWithCurrency().size());
+    }
+
+    @Test
+    void cachedProjectionsCannotBeModified() {
+        final CurrencyBF facade = new CurrencyBF(manager(new CurrencyRuntimeStorage()));
+        final CurrencyTO currency = facade.getCurrencies().iterator().next();
+        final CountryWithCurrencyCTO country = facade.getCountriesWithCurrency().iterator().next();
+        final String name = currency.getName();
+
+        assertThrows(UnsupportedOperationException.class, () -> currency.setName("Changed"));
+        assertThrows(UnsupportedOperationException.class, () -> currency.setShortName("XXX"));
+        assertThrows(UnsupportedOperationException.class, () -> currency.setMinorUnits(4));
+        assertThrows(UnsupportedOperationException.class, () -> country.setCountryShortName("XXX"));
+        assertThrows(UnsupportedOperationException.class, () -> country.setCurrency(new CurrencyTO("XXX", "Changed")));
+        assertThrows(UnsupportedOperationException.class, () -> country.getCurrency().setName("Changed"));
+        assertThrows(UnsupportedOperationException.class, () -> facade.getCurrencies().clear());
+        assertEquals(name, facade.getCurrencies().iterator().next().getName());
+    }
+
+    @Test
+    void unmodifiableCopiesKeepTheValues() {
+        final CurrencyTO currency = new CurrencyTO("KWD", "Dinar", 3);
+        final CurrencyTO copy = CurrencyTO.unmodifiable(currency);
+        assertEquals("KWD", copy.getShortName());
+        assertEquals("Dinar", copy.getName());
+        assertEquals(3, copy.getMinorUnits());
+        assertSame(copy, CurrencyTO.unmodifiable(copy));
+        // the original stays modifiable.
+        currency.setName("Kuwaiti Dinar");
+        assertEquals("Dinar", copy.getName());
+    }
+
+    /**
+     * Create a {@link CurrencyICI} reading the given storage, all other calls are not supported.
+     */
+    private static CurrencyICI manager(final CurrencyRuntimeStorage storage) {
+        return (CurrencyICI) Proxy.newProxyInstance(CurrencyICI.class.getClassLoader(), new Class<?>[] {CurrencyICI.class}, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "getVersion":
+                    return storage.getVersion();
+                case "getCurrencies":
+                    return storage.findAll();
+                case "getCountriesWithCurrency":
+                    return storage.findAllCountriesWithCurrency();
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,203 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link CurrencyJdbcStorage} with an embedded H2 in-memory database.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyJdbcStorageTest {
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final long LONG_TIME_TO_LIVE = 60_000;
+    private static final CurrencyET DOLLAR = new CurrencyET("USD", "Dollar");
+    private static final CurrencyET YEN = new CurrencyET("JPY", "Yen");
+    private static final CurrencyET FRANC = new CurrencyET("CHF", "Franken");
+
+    @Test
+    void fillsAnEmptyDatabaseWithDummyDataOnce() {
+        final DataSource database = database();
+        final CurrencyJdbcStorage first = new CurrencyJdbcStorage(database, true, 100, 100, 0);
+        final CurrencyJdbcStorage second = new CurrencyJdbcStorage(database, true, 100, 100, 0);
+        final CurrencySnapshot dummyData = CurrencyRuntimeStorage.initData();
+
+        assertTrue(first.getVersion() > 0);
+        assertEquals(first.getVersion(), second.getVersion());
+        assertEquals(dummyData.getCurrencies(), second.findAll());
+        assertEquals(dummyData.getCountriesWithCurrency(), second.findAllCountriesWithCurrency());
+    }
+
+    @Test
+    void putIfAbsentKeepsTheFirstCurrencyOfAShortName() {
+        final CurrencyJdbcStorage storage = new CurrencyJdbcStorage(database(), false, 100, 100, LONG_TIME_TO_LIVE);
+
+        assertFalse(storage.putIfAbsent(DOLLAR).isPresent());
+        assertEquals(Optional.of(DOLLAR), storage.putIfAbsent(new CurrencyET("usd", "US-Dollar")));
+        assertEquals(Optional.of(DOLLAR), storage.findByShortName("usd"));
+        assertEquals(1, storage.getVersion());
+    }
+
+    @Test
+    void writesAreLoggedAndReportedInTheOrderOfTheirVersions() {
+        final CurrencyJdbcStorage storage = new CurrencyJdbcStorage(database(), false, 2, 100, LONG_TIME_TO_LIVE);
+        final List<CurrencyChangeET> notified = new ArrayList<>();
+        storage.addChangeListener(notified::add);
+        storage.addCurrency(DOLLAR);
+        storage.addCountryWithCurrency("JPN", YEN);
+        storage.addCurrency(DOLLAR);
+        storage.addCurrency(FRANC);
+
+        assertEquals(3, storage.getVersion());
+        assertEquals(3, notified.size());
+        for(int i = 0; i < notified.size(); i++) {
+            assertEquals(i + 1, notified.get(i).getVersion());
+        }
+        // only the latest two changes are kept.
+        assertEquals(Optional.of(notified.subList(1, 3)), storage.findChangesSince(1));
+        assertEquals(Optional.of(Collections.<CurrencyChangeET>emptyList()), storage.findChangesSince(3));
+        assertFalse(storage.findChangesSince(0).isPresent());
+        assertFalse(storage.findChangesSince(4).isPresent());
+    }
+
+    @Test
+    void versionIsReadFromTheDatabaseOncePerTimeToLive() {
+        final AtomicInteger connections = new AtomicInteger();
+        final CurrencyJdbcStorage storage = new CurrencyJdbcStorage(counting(database(), connections), false, 100, 100, LONG_TIME_TO_LIVE);
+        assertEquals(0, storage.getVersion());
+        final int afterFirstRead = connections.get();
+        for(int i = 0; i < 100; i++) {
+            assertEquals(0, storage.getVersion());
+        }
+        assertEquals(afterFirstRead, connections.get());
+        // the writes of this instance update the cached version.
+        storage.addCurrency(DOLLAR);
+        final int afterWrite = connections.get();
+        assertEquals(1, storage.getVersion());
+        assertEquals(afterWrite, connections.get());
+    }
+
+    @Test
+    void writesOfOtherInstancesAreSeenAfterTheTimeToLive() {
+        final DataSource database = database();
+        final CurrencyJdbcStorage cached = new CurrencyJdbcStorage(database, false, 100, 100, LONG_TIME_TO_LIVE);
+        final CurrencyJdbcStorage uncached = new CurrencyJdbcStorage(database, false, 100, 100, 0);
+        final CurrencyJdbcStorage writer = new CurrencyJdbcStorage(database, false, 100, 100, LONG_TIME_TO_LIVE);
+        assertEquals(0, cached.getVersion());
+        assertFalse(cached.findByShortName("USD").isPresent());
+        writer.addCurrency(DOLLAR);
+
+        assertEquals(1, writer.getVersion());
+        assertEquals(1, uncached.getVersion());
+        assertEquals(Optional.of(DOLLAR), uncached.findByShortName("USD"));
+        assertEquals(0, cached.getVersion());
+        assertFalse(cached.findByShortName("USD").isPresent());
+        // uncached reads are always up to date.
+        assertEquals(Collections.singleton(DOLLAR), cached.findAll());
+    }
+
+    @Test
+    void batchLookupsReadAllKeysWithOneStatementAndCloseIt() {
+        final Set<Object> openStatements = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+        final AtomicInteger statements = new AtomicInteger();
+        final CurrencyJdbcStorage storage = new CurrencyJdbcStorage(tracking(database(), openStatements, statements), false, 100, 100, LONG_TIME_TO_LIVE);
+        storage.addCurrency(DOLLAR);
+        storage.addCountryWithCurrency("JPN", YEN);
+        storage.addCountryWithCurrency("SUI", FRANC);
+        statements.set(0);
+
+        final Map<String, CurrencyET> currencies = storage.findByShortNames(Arrays.asList("chf", "EUR", "USD"));
+        assertEquals(Arrays.asList("chf", "USD"), new ArrayList<>(currencies.keySet()));
+        assertEquals(FRANC, currencies.get("chf"));
+        assertEquals(DOLLAR, currencies.get("USD"));
+        final Map<String, CurrencyET> countries = storage.findCurrenciesByCountries(Arrays.asList("SUI", "GER", "JPN"));
+        assertEquals(Arrays.asList("SUI", "JPN"), new ArrayList<>(countries.keySet()));
+        assertEquals(YEN, countries.get("JPN"));
+        assertTrue(storage.findByShortNames(Collections.emptyList()).isEmpty());
+
+        assertEquals(3, statements.get());
+        assertEquals(Collections.emptySet(), openStatements);
+    }
+
+    /**
+     * Create a new, empty in-memory database.
+     */
+    static DataSource database() {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:currency-test-" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private static DataSource counting(final DataSource dataSource, final AtomicInteger connections) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+            if("getConnection".equals(method.getName())) {
+                connections.incrementAndGet();
+            } // else: no database access.
+            try {
+                return method.invoke(dataSource, args);
+            } catch(final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * Wrap the connections of a database to count the statements prepared and record the ones not closed yet, by
+     * identity as the proxies delegate {@code equals}.
+     */
+    private static DataSource tracking(final DataSource dataSource, final Set<Object> openStatements, final AtomicInteger statements) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+            final Object result = invoke(dataSource, method, args);
+            if(!(result instanceof Connection)) {
+                return result;
+            } // else: track the statements of the connection.
+            return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (connection, connectionMethod, connectionArgs) -> {
+                final Object connectionResult = invoke(result, connectionMethod, connectionArgs);
+                if(!(connectionResult instanceof PreparedStatement)) {
+                    return connectionResult;
+                } // else: track the statement.
+                statements.incrementAndGet();
+                final Object statement = Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class},
+                                                                (self, statementMethod, statementArgs) -> {
+                    if("close".equals(statementMethod.getName())) {
+                        openStatements.remove(self);
+                    } // else: not closed.
+                    return invoke(connectionResult, statementMethod, statementArgs);
+                });
+                openStatements.add(statement);
+                return statement;
+            });
+        });
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch(final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
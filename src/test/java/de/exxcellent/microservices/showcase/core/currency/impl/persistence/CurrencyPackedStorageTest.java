@@ -0,0 +1,161 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link CurrencyPackedStorage}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyPackedStorageTest {
+    private static final CurrencyET EURO = new CurrencyET("EUR", "Euro");
+    private static final CurrencyET DOLLAR = new CurrencyET("USD", "Dollar");
+    private static final CurrencyET YEN = new CurrencyET("JPY", "Yen");
+
+    @Test
+    void findsCurrenciesAndCountriesIgnoringTheCase() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+        storage.addCurrency(EURO);
+        storage.addCountryWithCurrency("GER", EURO);
+
+        assertSame(EURO, storage.findByShortName("EUR").orElse(null));
+        assertSame(EURO, storage.findByShortName("eur").orElse(null));
+        assertSame(EURO, storage.findCurrencyByCountry("ger").orElse(null));
+        assertFalse(storage.findByShortName("USD").isPresent());
+        assertFalse(storage.findByShortName("U1D").isPresent());
+        assertFalse(storage.findByShortName("EURO").isPresent());
+        assertEquals(Collections.singletonMap("GER", EURO), storage.findAllCountriesWithCurrency());
+    }
+
+    @Test
+    void addingACountryAddsItsCurrency() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+        storage.addCountryWithCurrency("USA", DOLLAR);
+
+        assertSame(DOLLAR, storage.findByShortName("USD").orElse(null));
+        assertEquals(1, storage.getVersion());
+        // an existing country keeps its currency.
+        storage.addCountryWithCurrency("USA", EURO);
+        assertSame(DOLLAR, storage.findCurrencyByCountry("USA").orElse(null));
+        assertSame(EURO, storage.findByShortName("EUR").orElse(null));
+        assertEquals(2, storage.getVersion());
+    }
+
+    @Test
+    void findsCountriesByCurrency() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+        storage.addCountryWithCurrency("GER", EURO);
+        storage.addCountryWithCurrency("USA", DOLLAR);
+        storage.addCountryWithCurrency("FRA", EURO);
+        storage.addCountryWithCurrency("ITA", EURO);
+
+        final Map<String, CurrencyET> expected = new HashMap<>();
+        expected.put("GER", EURO);
+        expected.put("FRA", EURO);
+        expected.put("ITA", EURO);
+        assertEquals(expected, storage.findCountriesByCurrency("eur"));
+        assertEquals(Collections.singletonMap("USA", DOLLAR), storage.findCountriesByCurrency("USD"));
+        assertTrue(storage.findCountriesByCurrency("JPY").isEmpty());
+    }
+
+    @Test
+    void publishedViewsAreNotChangedByLaterWrites() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+        storage.addCountryWithCurrency("GER", EURO);
+        final Set<CurrencyET> currencies = storage.findAll();
+        final Map<String, CurrencyET> countries = storage.findAllCountriesWithCurrency();
+
+        storage.addCountryWithCurrency("USA", DOLLAR);
+
+        assertEquals(Collections.singleton(EURO), currencies);
+        assertFalse(currencies.contains(DOLLAR));
+        assertEquals(Collections.singletonMap("GER", EURO), countries);
+        assertFalse(countries.containsKey("USA"));
+        assertEquals(2, storage.findAll().size());
+        assertThrows(UnsupportedOperationException.class, () -> currencies.add(YEN));
+    }
+
+    @Test
+    void rejectsCodesWithOtherCharactersThanLetters() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+
+        assertThrows(BusinessException.class, () -> storage.addCurrency(new CurrencyET("U1D", "Dollar")));
+        assertThrows(BusinessException.class, () -> storage.addCountryWithCurrency("G-R", EURO));
+        assertEquals(0, storage.getVersion());
+        assertTrue(storage.findAll().isEmpty());
+    }
+
+    @Test
+    void putIfAbsentReturnsTheExistingCurrency() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+
+        assertFalse(storage.putIfAbsent(EURO).isPresent());
+        assertEquals(Optional.of(EURO), storage.putIfAbsent(new CurrencyET("EUR", "Other Euro")));
+        assertEquals("Euro", storage.findByShortName("EUR").get().getName());
+        assertEquals(1, storage.getVersion());
+    }
+
+    @Test
+    void failingBatchLeavesTheStorageUnchanged() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, 10);
+        final Map<String, CurrencyET> countries = new LinkedHashMap<>();
+        countries.put("GER", EURO);
+        countries.put("U1A", DOLLAR);
+
+        assertThrows(BusinessException.class, () -> storage.addAll(Arrays.asList(EURO, YEN), countries));
+        assertEquals(0, storage.getVersion());
+        assertTrue(storage.findAll().isEmpty());
+        assertTrue(storage.findChangesSince(0).get().isEmpty());
+
+        // the slots of the failed batch must not point to the entries written next.
+        storage.addCurrency(DOLLAR);
+        assertFalse(storage.findByShortName("EUR").isPresent());
+        assertFalse(storage.findByShortName("JPY").isPresent());
+        assertSame(DOLLAR, storage.findByShortName("USD").orElse(null));
+        final List<CurrencyChangeET> changes = storage.findChangesSince(0).get();
+        assertEquals(1, changes.size());
+        assertEquals(1, changes.get(0).getVersion());
+        assertSame(DOLLAR, changes.get(0).getCurrency());
+    }
+
+    @Test
+    void batchIsLoggedWithConsecutiveVersions() {
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(true, 100);
+        final long version = storage.getVersion();
+        final Map<String, CurrencyET> countries = new LinkedHashMap<>();
+        countries.put("USA", DOLLAR);
+        countries.put("JPN", YEN);
+        countries.put("GER", DOLLAR);
+
+        storage.addAll(Arrays.asList(EURO, DOLLAR), countries);
+
+        final List<CurrencyChangeET> changes = storage.findChangesSince(version).get();
+        // EUR and GER exist already, USD is added once, JPN adds JPY with it.
+        assertEquals(3, changes.size());
+        for(int i = 0; i < changes.size(); i++) {
+            assertEquals(version + i + 1, changes.get(i).getVersion());
+        }
+        assertEquals(version + 3, storage.getVersion());
+        assertSame(YEN, storage.findCurrencyByCountry("JPN").orElse(null));
+        assertEquals(EURO, storage.findCurrencyByCountry("GER").orElse(null));
+    }
+}
@@ -0,0 +1,89 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link CurrencyRuntimeStorage#putIfAbsent(CurrencyET)} under contention: 8 threads add new short names, every
+ * short name is requested by {@code duplicates} consecutive calls, as with repeated POSTs of the same currency. Every
+ * iteration starts with an empty storage, in memory or with a write-ahead log, and makes 4000 calls, the score is the
+ * time of all calls of a thread. New short names are copied into the next snapshot in parallel per stripe and committed
+ * under the write lock of the storage, duplicates wait for the first caller of their short name and are answered from
+ * the published snapshot.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencyPutIfAbsentBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = CurrencyPutIfAbsentBenchmark.CALLS_PER_THREAD)
+@Measurement(iterations = 10, batchSize = CurrencyPutIfAbsentBenchmark.CALLS_PER_THREAD)
+@Threads(CurrencyPutIfAbsentBenchmark.THREADS)
+@Fork(1)
+public class CurrencyPutIfAbsentBenchmark {
+    static final int THREADS = 8;
+    static final int CALLS_PER_THREAD = 500;
+
+    @Param({"memory", "wal"})
+    public String storageType;
+
+    @Param({"1", "8"})
+    public int duplicates;
+
+    private CurrencyRuntimeStorage storage;
+    private Path logDirectory;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        if("wal".equals(this.storageType)) {
+            this.logDirectory = Files.createTempDirectory("currency-wal");
+            this.storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty(), this.logDirectory, 100_000, 1000);
+        } else {
+            this.storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        }
+        this.calls.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        this.storage.close();
+        if(this.logDirectory != null) {
+            try(final Stream<Path> files = Files.list(this.logDirectory)) {
+                for(final Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(this.logDirectory);
+        } // else: nothing written to disk.
+    }
+
+    @Benchmark
+    public Optional<CurrencyET> putIfAbsent() {
+        final String code = CurrencyRuntimeStorageTest.code(this.calls.getAndIncrement() / this.duplicates);
+        return this.storage.putIfAbsent(new CurrencyET(code, "Currency " + code));
+    }
+}
@@ -0,0 +1,77 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the {@link CurrencyReferenceDataLoader} with the runtime and the packed storage.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyReferenceDataLoaderTest {
+    private static final CurrencyET EURO = new CurrencyET("EUR", "Euro");
+    private static final CurrencyET DOLLAR = new CurrencyET("USD", "US Dollar");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void skipsRowsWithCodesOtherThanLettersForEveryStorage() throws IOException {
+        final Path file = this.directory.resolve("reference.csv");
+        Files.write(file, Arrays.asList("country,shortName,name",
+                                        "GER,EUR,Euro",
+                                        "USA,USD,\"US Dollar\"",
+                                        ",U1D,Invalid Dollar",
+                                        "G3R,EUR,Euro",
+                                        "FRA,EUR,Euro",
+                                        "ITA,EU,Euro",
+                                        "GER,USD,US Dollar"), StandardCharsets.UTF_8);
+        final Map<String, CurrencyET> expectedCountries = new HashMap<>();
+        expectedCountries.put("GER", EURO);
+        expectedCountries.put("USA", DOLLAR);
+        expectedCountries.put("FRA", EURO);
+
+        final CurrencyRuntimeStorage runtimeStorage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        loader(runtimeStorage).load(file);
+        final CurrencyPackedStorage packedStorage = new CurrencyPackedStorage(false, CurrencyChangeLog.DEFAULT_CAPACITY);
+        loader(packedStorage).load(file);
+
+        for(final CurrencyRepository storage : Arrays.asList(runtimeStorage, packedStorage)) {
+            assertEquals(new HashSet<>(Arrays.asList(EURO, DOLLAR)), new HashSet<>(storage.findAll()));
+            assertEquals(expectedCountries, new HashMap<>(storage.findAllCountriesWithCurrency()));
+        }
+    }
+
+    @Test
+    void loadsJson() throws IOException {
+        final Path file = this.directory.resolve("reference.json");
+        Files.write(file, ("[{\"country\": \"GER\", \"shortName\": \"EUR\", \"name\": \"Euro\"},"
+                           + "{\"shortName\": \"USD\", \"name\": \"US Dollar\", \"unknown\": [1, 2]},"
+                           + "{\"country\": \"g-r\", \"shortName\": \"EUR\", \"name\": \"Euro\"}]").getBytes(StandardCharsets.UTF_8));
+        final CurrencyPackedStorage storage = new CurrencyPackedStorage(false, CurrencyChangeLog.DEFAULT_CAPACITY);
+
+        loader(storage).load(file);
+
+        assertEquals(new HashSet<>(Arrays.asList(EURO, DOLLAR)), new HashSet<>(storage.findAll()));
+        assertEquals(1, storage.findAllCountriesWithCurrency().size());
+        assertEquals(EURO, storage.findCurrencyByCountry("GER").orElse(null));
+    }
+
+    private static CurrencyReferenceDataLoader loader(final CurrencyRepository storage) {
+        return new CurrencyReferenceDataLoader(storage, Optional.empty(), new CurrencyReplication("none", 9081, Optional.empty(), 1000L, 10000));
+    }
+}
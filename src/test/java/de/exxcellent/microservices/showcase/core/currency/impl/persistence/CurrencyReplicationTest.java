@@ -0,0 +1,133 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests the replication between a {@link CurrencyReplicationLeader} and a {@link CurrencyReplicationFollower} on the loopback
+ * interface.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyReplicationTest {
+    private static final long HEARTBEAT_MILLIS = 100;
+    private static final long TIMEOUT_MILLIS = 20_000;
+    private static final CurrencyET DOLLAR = new CurrencyET("USD", "Dollar");
+    private static final CurrencyET YEN = new CurrencyET("JPY", "Yen");
+    private static final CurrencyET FRANC = new CurrencyET("CHF", "Franken");
+
+    @Test
+    void followerStartsWithASnapshotAndReceivesTheLaterChanges() {
+        final CurrencyRuntimeStorage leaderStorage = new CurrencyRuntimeStorage(CurrencyRuntimeStorage.initData(), 100);
+        final CurrencyRuntimeStorage followerStorage = new CurrencyRuntimeStorage(CurrencySnapshot.empty(), 100);
+        try(final CurrencyReplicationLeader leader = new CurrencyReplicationLeader(leaderStorage, 0, 100, HEARTBEAT_MILLIS);
+            final CurrencyReplicationFollower follower = new CurrencyReplicationFollower(followerStorage, "localhost", leader.getPort(),
+                                                                                         HEARTBEAT_MILLIS)) {
+            await(() -> followerStorage.getVersion() == leaderStorage.getVersion());
+            assertEquals(leaderStorage.findAll(), followerStorage.findAll());
+            assertEquals(leaderStorage.findAllCountriesWithCurrency(), followerStorage.findAllCountriesWithCurrency());
+            await(() -> leader.getFollowerCount() == 1);
+
+            leaderStorage.addCurrency(DOLLAR);
+            leaderStorage.addCountryWithCurrency("JPN", YEN);
+            await(() -> followerStorage.getVersion() == leaderStorage.getVersion());
+            assertEquals(leaderStorage.findAll(), followerStorage.findAll());
+            assertEquals(leaderStorage.findAllCountriesWithCurrency(), followerStorage.findAllCountriesWithCurrency());
+            assertEquals(leaderStorage.getVersion(), follower.getLeaderVersion());
+            assertTrue(follower.isConnected());
+        }
+    }
+
+    @Test
+    void followerCatchesUpFromTheChangeLogAfterReconnecting() {
+        final CurrencyRuntimeStorage leaderStorage = new CurrencyRuntimeStorage(CurrencyRuntimeStorage.initData(), 100);
+        final CurrencyRuntimeStorage followerStorage = new CurrencyRuntimeStorage(CurrencySnapshot.empty(), 100);
+        final List<CurrencyChangeET> replicated = new CopyOnWriteArrayList<>();
+        followerStorage.addChangeListener(replicated::add);
+        final CurrencyReplicationLeader firstLeader = new CurrencyReplicationLeader(leaderStorage, 0, 100, HEARTBEAT_MILLIS);
+        final int port = firstLeader.getPort();
+        try(final CurrencyReplicationFollower follower = new CurrencyReplicationFollower(followerStorage, "localhost", port, HEARTBEAT_MILLIS)) {
+            await(() -> followerStorage.getVersion() == leaderStorage.getVersion());
+            // the snapshot is not reported as changes.
+            assertTrue(replicated.isEmpty());
+            firstLeader.close();
+            await(() -> !follower.isConnected());
+            final long disconnectedVersion = leaderStorage.getVersion();
+            leaderStorage.addCurrency(DOLLAR);
+            leaderStorage.addCountryWithCurrency("JPN", YEN);
+            leaderStorage.addCurrency(FRANC);
+
+            try(final CurrencyReplicationLeader secondLeader = new CurrencyReplicationLeader(leaderStorage, port, 100, HEARTBEAT_MILLIS)) {
+                await(() -> followerStorage.getVersion() == leaderStorage.getVersion());
+                assertEquals(leaderStorage.findChangesSince(disconnectedVersion).orElse(null), replicated);
+                assertEquals(leaderStorage.findAll(), followerStorage.findAll());
+                assertEquals(leaderStorage.findAllCountriesWithCurrency(), followerStorage.findAllCountriesWithCurrency());
+                await(() -> secondLeader.getFollowerCount() == 1);
+            }
+        }
+    }
+
+    @Test
+    void replicaStorageRejectsWrites() {
+        final CurrencyRuntimeStorage followerStorage = new CurrencyRuntimeStorage(CurrencySnapshot.empty(), 100);
+        final CurrencyReplicaStorage replica = new CurrencyReplicaStorage(followerStorage, "localhost:9081");
+
+        assertThrows(BusinessException.class, () -> replica.addCurrency(DOLLAR));
+        assertThrows(BusinessException.class, () -> replica.putIfAbsent(DOLLAR));
+        assertThrows(BusinessException.class, () -> replica.addCountryWithCurrency("USA", DOLLAR));
+        assertEquals(0, followerStorage.getVersion());
+    }
+
+    @Test
+    void gaugesReportTheConnectionOfAFollower() {
+        final CurrencyRuntimeStorage leaderStorage = new CurrencyRuntimeStorage(CurrencyRuntimeStorage.initData(), 100);
+        final CurrencyReplicationLeader leader = new CurrencyReplicationLeader(leaderStorage, 0, 100, HEARTBEAT_MILLIS);
+        final CurrencyReplication replication = new CurrencyReplication("follower", 0, Optional.of("localhost:" + leader.getPort()),
+                                                                        HEARTBEAT_MILLIS, 100);
+        try {
+            final CurrencyRepository replica = replication.replicate(new CurrencyRuntimeStorage(CurrencySnapshot.empty(), 100));
+            await(() -> replica.getVersion() == leaderStorage.getVersion() && replication.isConnected());
+            assertTrue(replication.getLagMillis() >= 0);
+
+            leader.close();
+            await(() -> !replication.isConnected());
+        } finally {
+            leader.close();
+            replication.close();
+        }
+
+        // an instance without replication has the latest data.
+        final CurrencyReplication none = new CurrencyReplication("none", 0, Optional.empty(), HEARTBEAT_MILLIS, 100);
+        assertTrue(none.isConnected());
+        assertEquals(0, none.getLagMillis());
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while(!condition.getAsBoolean()) {
+            if(System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT_MILLIS + " ms");
+            } // else: wait for the replication.
+            try {
+                Thread.sleep(10);
+            } catch(final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+}
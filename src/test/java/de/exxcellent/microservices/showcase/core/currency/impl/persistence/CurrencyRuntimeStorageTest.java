@@ -0,0 +1,232 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link CurrencyRuntimeStorage} with concurrent readers and writers.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyRuntimeStorageTest {
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int WRITES_PER_WRITER = 500;
+
+    @Test
+    void readersSeeConsistentSnapshotsWhileWritersAdd() throws Exception {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            for(int w = 0; w < WRITERS; w++) {
+                final int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < WRITES_PER_WRITER; i++) {
+                        final CurrencyET currency = new CurrencyET(code(writer * WRITES_PER_WRITER + i), "Currency " + writer + "/" + i);
+                        storage.addCountryWithCurrency(code(WRITERS * WRITES_PER_WRITER + writer * WRITES_PER_WRITER + i), currency);
+                    }
+                    return null;
+                }));
+            }
+            final List<Future<Integer>> readers = new ArrayList<>();
+            for(int r = 0; r < READERS; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    int reads = 0;
+                    long lastVersion = -1;
+                    int lastSize = -1;
+                    do {
+                        final long version = storage.getVersion();
+                        // the countries are read first, the currencies read later contain at least their currencies.
+                        final Map<String, CurrencyET> countries = storage.findAllCountriesWithCurrency();
+                        final Set<CurrencyET> currencies = storage.findAll();
+                        assertTrue(version >= lastVersion, "Version must never decrease");
+                        assertTrue(currencies.size() >= lastSize, "Currencies must never disappear");
+                        int iterated = 0;
+                        for(final CurrencyET ignored : currencies) {
+                            iterated++;
+                        }
+                        assertEquals(currencies.size(), iterated);
+                        for(final Map.Entry<String, CurrencyET> country : countries.entrySet()) {
+                            assertTrue(currencies.contains(country.getValue()), "Currency of " + country.getKey() + " must be published with it");
+                            assertSame(country.getValue(), storage.findCurrencyByCountry(country.getKey()).orElse(null));
+                        }
+                        lastVersion = version;
+                        lastSize = currencies.size();
+                        reads++;
+                    } while(writing.get());
+                    return reads;
+                }));
+            }
+            start.countDown();
+            for(final Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+            writing.set(false);
+            for(final Future<Integer> reader : readers) {
+                assertTrue(reader.get(1, TimeUnit.MINUTES) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final int total = WRITERS * WRITES_PER_WRITER;
+        assertEquals(total, storage.findAll().size());
+        assertEquals(total, storage.findAllCountriesWithCurrency().size());
+        assertEquals(total, storage.getVersion());
+        for(int i = 0; i < total; i++) {
+            assertNotNull(storage.findByShortName(code(i)).orElse(null), code(i));
+        }
+    }
+
+    @Test
+    void concurrentPutIfAbsentAddsEveryShortNameOnce() throws Exception {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Map<String, Optional<CurrencyET>>>> writers = new ArrayList<>();
+        try {
+            for(int w = 0; w < WRITERS; w++) {
+                final int writer = w;
+                // all writers add the same short names, each with its own name.
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    final Map<String, Optional<CurrencyET>> results = new HashMap<>();
+                    for(int i = 0; i < WRITES_PER_WRITER; i++) {
+                        results.put(code(i), storage.putIfAbsent(new CurrencyET(code(i), "Currency " + writer)));
+                    }
+                    return results;
+                }));
+            }
+            start.countDown();
+            final List<Map<String, Optional<CurrencyET>>> results = new ArrayList<>();
+            for(final Future<Map<String, Optional<CurrencyET>>> writer : writers) {
+                results.add(writer.get(1, TimeUnit.MINUTES));
+            }
+
+            assertEquals(WRITES_PER_WRITER, storage.findAll().size());
+            assertEquals(WRITES_PER_WRITER, storage.getVersion());
+            for(int i = 0; i < WRITES_PER_WRITER; i++) {
+                final CurrencyET stored = storage.findByShortName(code(i)).orElse(null);
+                assertNotNull(stored, code(i));
+                int added = 0;
+                for(final Map<String, Optional<CurrencyET>> writerResults : results) {
+                    final Optional<CurrencyET> result = writerResults.get(code(i));
+                    if(result.isPresent()) {
+                        assertEquals(stored.getName(), result.get().getName(), code(i));
+                    } else {
+                        added++;
+                    }
+                }
+                assertEquals(1, added, code(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putIfAbsentOfNewShortNamesLosesNoConcurrentWrite() throws Exception {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty(), 10_000);
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            // the snapshots copied by putIfAbsent outside of the write lock are outdated by the other writes.
+            for(int w = 0; w < WRITERS; w++) {
+                final int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < WRITES_PER_WRITER; i++) {
+                        assertFalse(storage.putIfAbsent(new CurrencyET(code(writer * WRITES_PER_WRITER + i), "Currency")).isPresent());
+                    }
+                    return null;
+                }));
+            }
+            final CurrencyET euro = new CurrencyET("EUR", "Euro");
+            writers.add(executor.submit(() -> {
+                start.await();
+                for(int i = 0; i < WRITES_PER_WRITER; i++) {
+                    storage.addCountryWithCurrency(code(i), euro);
+                }
+                return null;
+            }));
+            start.countDown();
+            for(final Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+
+            final int currencies = WRITERS * WRITES_PER_WRITER;
+            assertEquals(currencies + 1, storage.findAll().size());
+            assertEquals(WRITES_PER_WRITER, storage.findAllCountriesWithCurrency().size());
+            // the first country adds the euro with the same change.
+            assertEquals(currencies + WRITES_PER_WRITER, storage.getVersion());
+            final List<CurrencyChangeET> changes = storage.findChangesSince(0).orElseThrow(AssertionError::new);
+            for(int i = 0; i < changes.size(); i++) {
+                assertEquals(i + 1, changes.get(i).getVersion());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void changesAreLoggedWithConsecutiveVersions() {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        final CurrencyET euro = new CurrencyET("EUR", "Euro");
+        storage.addCurrency(euro);
+        storage.addCurrency(euro);
+        storage.addCountryWithCurrency("GER", euro);
+        storage.addCountryWithCurrency("FRA", new CurrencyET("FRF", "Franc"));
+
+        final Optional<List<CurrencyChangeET>> changes = storage.findChangesSince(0);
+        assertTrue(changes.isPresent());
+        assertEquals(3, changes.get().size());
+        for(int i = 0; i < changes.get().size(); i++) {
+            assertEquals(i + 1, changes.get().get(i).getVersion());
+        }
+        assertEquals(3, storage.getVersion());
+        assertTrue(storage.findAll().contains(new CurrencyET("FRF", "Franc")));
+    }
+
+    @Test
+    void publishedCollectionsAreUnmodifiable() {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage();
+        final Set<CurrencyET> currencies = storage.findAll();
+        assertFalse(currencies.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> currencies.add(new CurrencyET("USD", "Dollar")));
+    }
+
+    /**
+     * A distinct code of 3 letters for each index up to 26^3.
+     */
+    static String code(final int index) {
+        return new String(new char[] {(char) ('A' + index / 676 % 26), (char) ('A' + index / 26 % 26), (char) ('A' + index % 26)});
+    }
+}
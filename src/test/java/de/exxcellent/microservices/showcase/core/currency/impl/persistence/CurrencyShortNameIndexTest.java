@@ -0,0 +1,134 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests the {@link CurrencyShortNameIndex}: case-insensitive lookups, collisions, growth and lookups without allocation.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyShortNameIndexTest {
+    private static final CurrencyET EURO = new CurrencyET("EUR", "Euro");
+    private static final CurrencyET SCHILLING = new CurrencyET("ÖSX", "Schilling");
+
+    @Test
+    void lookupIgnoresTheCase() {
+        final CurrencyShortNameIndex index = CurrencyShortNameIndex.of(Arrays.asList(EURO, SCHILLING));
+
+        for(final String shortName : Arrays.asList("EUR", "eur", "EuR", "eUr")) {
+            assertSame(EURO, index.get(shortName), shortName);
+        }
+        assertSame(SCHILLING, index.get("öSx"));
+        // the first of two currencies differing in the case only is indexed.
+        assertSame(EURO, CurrencyShortNameIndex.of(Arrays.asList(EURO, new CurrencyET("eur", "Other Euro"))).get("EUR"));
+        assertSame(index, index.with(new CurrencyET("Eur", "Other Euro")));
+    }
+
+    @Test
+    void collidingShortNamesAreProbed() {
+        // the same hash for every table size: 'a' * 31 + '@' == 'b' * 31 + '!'.
+        assertEquals("a@z".hashCode(), "b!z".hashCode());
+        final CurrencyET first = new CurrencyET("a@Z", "First");
+        final CurrencyET second = new CurrencyET("b!Z", "Second");
+        final CurrencyET third = new CurrencyET("c\u0002Z", "Third");
+        assertEquals("a@z".hashCode(), "c\u0002z".hashCode());
+
+        final CurrencyShortNameIndex index = CurrencyShortNameIndex.of(Arrays.asList(first, second));
+        final CurrencyShortNameIndex derived = index.with(third);
+
+        assertSame(first, derived.get("A@z"));
+        assertSame(second, derived.get("B!z"));
+        assertSame(third, derived.get("C\u0002z"));
+        assertNull(index.get("c\u0002Z"));
+        // a miss probing the colliding slots.
+        assertNull(derived.get("`_Z"));
+    }
+
+    @Test
+    void growsPastItsLoadFactor() {
+        final List<CurrencyET> currencies = currencies(2000);
+        CurrencyShortNameIndex derived = CurrencyShortNameIndex.empty();
+        for(final CurrencyET currency : currencies) {
+            final CurrencyShortNameIndex previous = derived;
+            derived = derived.with(currency);
+            // indexes are immutable.
+            assertNull(previous.get(currency.getShortName()));
+        }
+        final CurrencyShortNameIndex built = CurrencyShortNameIndex.of(currencies);
+
+        for(final CurrencyET currency : currencies) {
+            assertSame(currency, derived.get(currency.getShortName().toLowerCase()));
+            assertSame(currency, built.get(currency.getShortName()));
+        }
+    }
+
+    @Test
+    void missOnAFilledIndexTerminates() {
+        // every index is at most half full, so a probe sequence always ends at an empty slot.
+        final List<CurrencyET> currencies = currencies(16 * 26);
+        final CurrencyShortNameIndex index = CurrencyShortNameIndex.of(currencies);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertNull(index.get("ZZZ"));
+            assertNull(index.get("AAAA"));
+            assertNull(index.get(""));
+            assertNull(CurrencyShortNameIndex.empty().get("EUR"));
+        });
+    }
+
+    @Test
+    void lookupDoesNotAllocate() {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                   && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported(), "Allocated memory is not measurable");
+        final com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+        allocation.setThreadAllocatedMemoryEnabled(true);
+        final CurrencyShortNameIndex index = CurrencyShortNameIndex.of(currencies(1000));
+        final String[] shortNames = {"AAA", "blx", "ZZZ", "AbC"};
+        final long threadId = Thread.currentThread().getId();
+        int found = lookUp(index, shortNames);
+
+        final long before = allocation.getThreadAllocatedBytes(threadId);
+        found += lookUp(index, shortNames);
+        final long allocated = allocation.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(6, found);
+        // far less than a single byte per lookup, the measurement itself may allocate.
+        assertEquals(0, allocated, 1024, "Allocated bytes of " + 100_000 * shortNames.length + " lookups");
+    }
+
+    private static int lookUp(final CurrencyShortNameIndex index, final String[] shortNames) {
+        int found = 0;
+        for(int i = 0; i < 100_000; i++) {
+            for(final String shortName : shortNames) {
+                if(index.get(shortName) != null && i == 0) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static List<CurrencyET> currencies(final int count) {
+        final List<CurrencyET> currencies = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            currencies.add(new CurrencyET(new String(new char[] {(char) ('A' + i / 676), (char) ('A' + i / 26 % 26), (char) ('A' + i % 26)}),
+                                          "Currency " + i));
+        }
+        return currencies;
+    }
+}
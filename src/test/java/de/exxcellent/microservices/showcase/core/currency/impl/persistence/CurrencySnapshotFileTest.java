@@ -0,0 +1,95 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the {@link CurrencySnapshotFile}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencySnapshotFileTest {
+    private static final CurrencyET EURO = new CurrencyET("EUR", "Euro");
+    private static final CurrencyET ZLOTY = new CurrencyET("PLN", "Złoty");
+    private static final CurrencyET YEN = new CurrencyET("JPY", "日本円");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsWhatWasWritten() throws IOException {
+        final CurrencySnapshot snapshot = CurrencySnapshot.empty()
+                                                          .withCurrency(EURO)
+                                                          .withCountryWithCurrency("POL", ZLOTY)
+                                                          .withCountryWithCurrency("GER", EURO)
+                                                          .withCountryWithCurrency("FRA", EURO)
+                                                          .withCurrency(YEN)
+                                                          .withVersion(42);
+        final Path file = this.directory.resolve("currency.snapshot");
+
+        CurrencySnapshotFile.write(snapshot, file);
+        final CurrencySnapshot read = CurrencySnapshotFile.read(file);
+
+        assertEquals(42, read.getVersion());
+        assertEquals(snapshot.getCurrencies(), read.getCurrencies());
+        assertEquals(snapshot.getCountriesWithCurrency(), read.getCountriesWithCurrency());
+        assertEquals(snapshot.findCountriesByCurrency("EUR"), read.findCountriesByCurrency("EUR"));
+        assertEquals("日本円", read.findByShortName("JPY").getName());
+    }
+
+    @Test
+    void readsAnEmptySnapshot() throws IOException {
+        final Path file = this.directory.resolve("currency.snapshot");
+
+        CurrencySnapshotFile.write(CurrencySnapshot.empty(), file);
+        final CurrencySnapshot read = CurrencySnapshotFile.read(file);
+
+        assertEquals(0, read.getVersion());
+        assertEquals(0, read.getCurrencies().size());
+    }
+
+    @Test
+    void rejectsACorruptSnapshot() throws IOException {
+        final Path file = this.directory.resolve("currency.snapshot");
+        CurrencySnapshotFile.write(CurrencySnapshot.empty().withCountryWithCurrency("GER", EURO), file);
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> CurrencySnapshotFile.read(file));
+    }
+
+    @Test
+    void rejectsATruncatedSnapshot() throws IOException {
+        final Path file = this.directory.resolve("currency.snapshot");
+        CurrencySnapshotFile.write(CurrencySnapshot.empty().withCountryWithCurrency("GER", EURO), file);
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertThrows(IOException.class, () -> CurrencySnapshotFile.read(file));
+        Files.write(file, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> CurrencySnapshotFile.read(file));
+    }
+
+    @Test
+    void keepsThePreviousSnapshotIfWritingWasInterrupted() throws IOException {
+        final Path file = this.directory.resolve("currency.snapshot");
+        CurrencySnapshotFile.write(CurrencySnapshot.empty().withCurrency(EURO), file);
+        // a crash while writing the next snapshot leaves a partial temporary file behind.
+        Files.write(this.directory.resolve("currency.snapshot.tmp"), new byte[] {1, 2, 3});
+
+        assertEquals(1, CurrencySnapshotFile.read(file).getVersion());
+        CurrencySnapshotFile.write(CurrencySnapshot.empty().withCurrency(EURO).withCurrency(YEN), file);
+        assertEquals(2, CurrencySnapshotFile.read(file).getCurrencies().size());
+    }
+}
@@ -0,0 +1,105 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Compares the startup of a {@link CurrencyRuntimeStorage} from a {@link CurrencySnapshotFile} with loading the same
+ * dataset from a JSON reference data file with the {@link CurrencyReferenceDataLoader}. The dataset has {@code countries}
+ * countries with three-letter codes, every currency is used by two of them.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencySnapshotLoadBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CurrencySnapshotLoadBenchmark {
+    /**
+     * The logger of the {@link CurrencyReferenceDataLoader}, kept to keep its level. Its messages of every load are not measured.
+     */
+    private static final Logger LOADER_LOG = Logger.getLogger(CurrencyReferenceDataLoader.class.getName());
+
+    @Param({"250", "17576"})
+    public int countries;
+
+    private Path directory;
+    private Path snapshotFile;
+    private Path jsonFile;
+    private CurrencyReplication replication;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("currency-snapshot");
+        this.snapshotFile = this.directory.resolve("currency.snapshot");
+        this.jsonFile = this.directory.resolve("currency.json");
+        final CurrencySnapshot.Builder snapshot = CurrencySnapshot.builder();
+        try(final Writer writer = Files.newBufferedWriter(this.jsonFile, StandardCharsets.UTF_8);
+            final JsonGenerator json = Json.createGenerator(writer)) {
+            json.writeStartArray();
+            for(int i = 0; i < this.countries; i++) {
+                final CurrencyET currency = new CurrencyET(code(i / 2), "Currency " + i / 2);
+                snapshot.addCountryWithCurrency(code(i), currency);
+                json.writeStartObject()
+                    .write("country", code(i))
+                    .write("shortName", currency.getShortName())
+                    .write("name", currency.getName())
+                    .writeEnd();
+            }
+            json.writeEnd();
+        }
+        CurrencySnapshotFile.write(snapshot.build(1), this.snapshotFile);
+        LOADER_LOG.setLevel(Level.WARNING);
+        this.replication = new CurrencyReplication("none", 9081, Optional.empty(), 1000L, 10000);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(this.snapshotFile);
+        Files.delete(this.jsonFile);
+        Files.delete(this.directory);
+    }
+
+    @Benchmark
+    public CurrencyRuntimeStorage snapshotFile() throws IOException {
+        return new CurrencyRuntimeStorage(CurrencySnapshotFile.read(this.snapshotFile));
+    }
+
+    @Benchmark
+    public CurrencyRuntimeStorage json() {
+        final CurrencyRuntimeStorage storage = new CurrencyRuntimeStorage(CurrencySnapshot.empty());
+        new CurrencyReferenceDataLoader(storage, Optional.empty(), this.replication).load(this.jsonFile);
+        return storage;
+    }
+
+    private static String code(final int i) {
+        return new String(new char[] {(char) ('A' + i / 676 % 26), (char) ('A' + i / 26 % 26), (char) ('A' + i % 26)});
+    }
+}
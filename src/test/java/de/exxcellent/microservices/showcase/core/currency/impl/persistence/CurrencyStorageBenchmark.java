@@ -0,0 +1,76 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the read latency of the in-memory storages with the {@link CurrencyJdbcStorage} on an embedded H2 database,
+ * with ({@code jdbc}) and without ({@code jdbc-uncached}) its near cache.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencyStorageBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyStorageBenchmark {
+    @Param({"runtime", "packed", "jdbc", "jdbc-uncached"})
+    public String storageType;
+
+    private CurrencyRepository storage;
+
+    @Setup
+    public void setUp() {
+        switch(this.storageType) {
+            case "runtime":
+                this.storage = new CurrencyRuntimeStorage(CurrencyRuntimeStorage.initData(), 1000);
+                break;
+            case "packed":
+                this.storage = new CurrencyPackedStorage(true, 1000);
+                break;
+            case "jdbc":
+                this.storage = new CurrencyJdbcStorage(CurrencyJdbcStorageTest.database(), true, 1000, 10000, 1000);
+                break;
+            default:
+                this.storage = new CurrencyJdbcStorage(CurrencyJdbcStorageTest.database(), true, 1000, 10000, 0);
+        }
+    }
+
+    @Benchmark
+    public Optional<CurrencyET> findByShortName() {
+        return this.storage.findByShortName("EUR");
+    }
+
+    @Benchmark
+    public Optional<CurrencyET> findCurrencyByCountry() {
+        return this.storage.findCurrencyByCountry("GER");
+    }
+
+    @Benchmark
+    public long getVersion() {
+        return this.storage.getVersion();
+    }
+
+    @Benchmark
+    public Map<String, CurrencyET> findAllCountriesWithCurrency() {
+        return this.storage.findAllCountriesWithCurrency();
+    }
+}
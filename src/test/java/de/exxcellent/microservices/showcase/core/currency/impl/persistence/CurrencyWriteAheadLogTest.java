@@ -0,0 +1,217 @@
+package de.exxcellent.microservices.showcase.core.currency.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.TechnicalException;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyChangeET;
+import de.exxcellent.microservices.showcase.core.currency.impl.persistence.model.CurrencyET;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the recovery of the {@link CurrencyRuntimeStorage} from its {@link CurrencyWriteAheadLog} after a crash.
+ * A crash is simulated by recovering a second storage from the files of one which was never closed.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyWriteAheadLogTest {
+    private static final int NO_COMPACTION = Integer.MAX_VALUE;
+    private static final CurrencyET EURO = new CurrencyET("EUR", "Euro");
+    private static final CurrencyET DOLLAR = new CurrencyET("USD", "Dollar");
+    private static final CurrencyET YEN = new CurrencyET("JPY", "Yen");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversAcknowledgedChangesAfterACrash() {
+        final CurrencyRuntimeStorage crashed = open(NO_COMPACTION);
+        crashed.addCurrency(EURO);
+        crashed.addCountryWithCurrency("USA", DOLLAR);
+        crashed.addCountryWithCurrency("GER", EURO);
+
+        final CurrencyRuntimeStorage recovered = open(NO_COMPACTION);
+
+        assertEquals(3, recovered.getVersion());
+        assertEquals(crashed.findAll(), recovered.findAll());
+        assertEquals(crashed.findAllCountriesWithCurrency(), recovered.findAllCountriesWithCurrency());
+    }
+
+    @Test
+    void discardsATornRecordAtTheEnd() throws IOException {
+        final CurrencyRuntimeStorage crashed = open(NO_COMPACTION);
+        crashed.addCurrency(EURO);
+        crashed.addCurrency(DOLLAR);
+        // the last record was only partially written when the process died.
+        final Path logFile = this.directory.resolve("currency.wal");
+        final long tornLength = Files.size(logFile) - 3;
+        truncate(logFile, tornLength);
+
+        final CurrencyRuntimeStorage recovered = open(NO_COMPACTION);
+
+        assertEquals(1, recovered.getVersion());
+        assertTrue(recovered.findByShortName("EUR").isPresent());
+        assertFalse(recovered.findByShortName("USD").isPresent());
+        assertTrue(Files.size(logFile) < tornLength, "The torn record must be cut off");
+
+        // changes after the recovery follow the valid records and are recovered again.
+        recovered.addCurrency(YEN);
+        final CurrencyRuntimeStorage recoveredAgain = open(NO_COMPACTION);
+        assertEquals(2, recoveredAgain.getVersion());
+        assertTrue(recoveredAgain.findByShortName("JPY").isPresent());
+    }
+
+    @Test
+    void discardsACorruptRecordAndEverythingBehindIt() throws IOException {
+        final CurrencyRuntimeStorage crashed = open(NO_COMPACTION);
+        crashed.addCurrency(EURO);
+        final Path logFile = this.directory.resolve("currency.wal");
+        final long firstRecordEnd = Files.size(logFile);
+        crashed.addCurrency(DOLLAR);
+        crashed.addCurrency(YEN);
+        // flip a byte in the payload of the second record, its checksum does not match anymore.
+        try(final FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, firstRecordEnd + 10);
+            b.put(0, (byte) (b.get(0) ^ 0xFF));
+            b.rewind();
+            channel.write(b, firstRecordEnd + 10);
+        }
+
+        final CurrencyRuntimeStorage recovered = open(NO_COMPACTION);
+
+        assertEquals(1, recovered.getVersion());
+        assertEquals(firstRecordEnd, Files.size(logFile));
+    }
+
+    @Test
+    void ignoresGarbageBehindTheLastRecord() throws IOException {
+        final CurrencyRuntimeStorage crashed = open(NO_COMPACTION);
+        crashed.addCurrency(EURO);
+        final Path logFile = this.directory.resolve("currency.wal");
+        final long validLength = Files.size(logFile);
+        Files.write(logFile, new byte[] {0, 0, 0, 42, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        final CurrencyRuntimeStorage recovered = open(NO_COMPACTION);
+
+        assertEquals(1, recovered.getVersion());
+        assertEquals(validLength, Files.size(logFile));
+    }
+
+    @Test
+    void recoversFromSnapshotAndLogTailAfterCompaction() throws IOException {
+        final CurrencyRuntimeStorage crashed = open(2);
+        crashed.addCurrency(EURO);
+        crashed.addCurrency(DOLLAR);
+        crashed.addCountryWithCurrency("JPN", YEN);
+
+        final CurrencyRuntimeStorage recovered = open(2);
+
+        assertTrue(Files.exists(this.directory.resolve("currency.snapshot")));
+        assertEquals(3, recovered.getVersion());
+        assertEquals(crashed.findAll(), recovered.findAll());
+        assertEquals(crashed.findAllCountriesWithCurrency(), recovered.findAllCountriesWithCurrency());
+    }
+
+    @Test
+    void addAllOfMoreChangesThanOneBatchIsRecoveredAfterCompaction() {
+        final CurrencyRuntimeStorage crashed = open(10);
+        crashed.addCurrency(new CurrencyET("XTS", "Test"));
+        final List<CurrencyET> currencies = new ArrayList<>();
+        final Map<String, CurrencyET> countriesWithCurrency = new LinkedHashMap<>();
+        for(int i = 0; i < 3000; i++) {
+            final CurrencyET currency = new CurrencyET(new String(new char[] {(char) ('A' + i / 676), (char) ('A' + i / 26 % 26), (char) ('A' + i % 26)}),
+                                                       "Currency " + i);
+            currencies.add(currency);
+            countriesWithCurrency.put("C" + i, currency);
+        }
+        // the changes are written in several batches, the log must not be compacted in the middle of them.
+        crashed.addAll(currencies, countriesWithCurrency);
+        crashed.addCurrency(new CurrencyET("XXX", "None"));
+
+        final CurrencyRuntimeStorage recovered = open(10);
+
+        assertEquals(6002, recovered.getVersion());
+        assertEquals(crashed.findAll(), recovered.findAll());
+        assertEquals(crashed.findAllCountriesWithCurrency(), recovered.findAllCountriesWithCurrency());
+    }
+
+    @Test
+    void rejectsALogWithAMissingChange() throws IOException {
+        final CurrencyRuntimeStorage crashed = open(NO_COMPACTION);
+        crashed.addCurrency(EURO);
+        final Path logFile = this.directory.resolve("currency.wal");
+        final byte[] first = Files.readAllBytes(logFile);
+        crashed.addCurrency(DOLLAR);
+        final int secondEnd = Files.readAllBytes(logFile).length;
+        crashed.addCurrency(YEN);
+        // drop the record of version 2.
+        final byte[] all = Files.readAllBytes(logFile);
+        final byte[] withGap = Arrays.copyOf(first, first.length + all.length - secondEnd);
+        System.arraycopy(all, secondEnd, withGap, first.length, all.length - secondEnd);
+        Files.write(logFile, withGap);
+
+        assertThrows(TechnicalException.class, () -> open(NO_COMPACTION));
+    }
+
+    @Test
+    void closingCompactsTheLog() throws IOException {
+        final CurrencyRuntimeStorage storage = open(NO_COMPACTION);
+        storage.addCurrency(EURO);
+        storage.addCurrency(DOLLAR);
+        storage.close();
+
+        assertEquals(0, Files.size(this.directory.resolve("currency.wal")));
+        final CurrencyRuntimeStorage recovered = open(NO_COMPACTION);
+        assertEquals(2, recovered.getVersion());
+        assertEquals(storage.findAll(), recovered.findAll());
+        recovered.close();
+    }
+
+    @Test
+    void failingPublicationFailsTheWritersInsteadOfBlockingThem() throws IOException {
+        final CurrencyWriteAheadLog log = new CurrencyWriteAheadLog(this.directory, NO_COMPACTION, CurrencySnapshot.empty());
+        try {
+            final CurrencyChangeET change = CurrencyChangeET.currencyAdded(1, EURO);
+            final CompletableFuture<Void> failing = log.append(change, CurrencySnapshot.empty().apply(change), () -> {
+                throw new IllegalStateException("publication failed");
+            });
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertThrows(TechnicalException.class, () -> CurrencyWriteAheadLog.awaitDurable(failing));
+            });
+            assertThrows(TechnicalException.class, () -> log.append(CurrencyChangeET.currencyAdded(2, DOLLAR), null, () -> { }));
+        } finally {
+            log.close();
+        }
+    }
+
+    private CurrencyRuntimeStorage open(final int compactionThreshold) {
+        return new CurrencyRuntimeStorage(CurrencySnapshot.empty(), this.directory, compactionThreshold, CurrencyChangeLog.DEFAULT_CAPACITY);
+    }
+
+    private static void truncate(final Path file, final long length) throws IOException {
+        try(final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package de.exxcellent.microservices.showcase.core.rate.api.types;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.rate.api.ExchangeRateBCI;
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ConversionBatch}: the distinct currency pairs, the conversion of the items and the limit of the batch.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ConversionBatchTest {
+    private static final String[] CURRENCIES = {"EUR", "USD", "JPY", "KWD", "GBP", "CHF", "BHD", "ISK"};
+
+    @Test
+    void pairsAreDeduplicatedAcrossGrowth() {
+        final ConversionBatch batch = new ConversionBatch(RoundingMode.HALF_EVEN);
+        final int distinctPairs = 200;
+        // every pair is added again after the table of the pairs has grown several times.
+        for(int round = 0; round < 2; round++) {
+            for(int i = 0; i < distinctPairs; i++) {
+                batch.add(code(i), round == 0 ? "EUR" : "eur", i);
+            }
+        }
+
+        assertEquals(2 * distinctPairs, batch.getSize());
+        assertEquals(distinctPairs, batch.getPairCount());
+        final Set<Integer> pairs = new HashSet<>();
+        for(int i = 0; i < distinctPairs; i++) {
+            final int pair = batch.getPair(i);
+            assertTrue(pairs.add(pair));
+            assertEquals(pair, batch.getPair(distinctPairs + i));
+            assertEquals(code(i), batch.getPairFrom(pair));
+            assertEquals("EUR", batch.getPairTo(pair));
+        }
+    }
+
+    @Test
+    void itemsOfAPairWithoutRateAreReportedNextToConvertedOnes() {
+        final ConversionBatch batch = new ConversionBatch(RoundingMode.HALF_EVEN);
+        batch.add("EUR", "USD", 10);
+        batch.add("XTS", "EUR", 5);
+        batch.add("eur", "usd", 20.005);
+
+        batch.convert(new double[] {1.09, Double.NaN}, new String[] {null, "No exchange rate from XTS to EUR"});
+
+        assertEquals(2, batch.getPairCount());
+        assertEquals(10.9, batch.getResult(0));
+        assertNull(batch.getPairError(batch.getPair(0)));
+        assertTrue(Double.isNaN(batch.getResult(1)));
+        assertEquals("No exchange rate from XTS to EUR", batch.getPairError(batch.getPair(1)));
+        assertEquals(20.0, batch.getAmount(2));
+        assertEquals(21.8, batch.getResult(2));
+    }
+
+    @Test
+    void parallelConversionEqualsTheSequentialOne() {
+        final int size = 70_000;
+        final ConversionBatch parallel = new ConversionBatch(RoundingMode.HALF_UP);
+        // below the parallel threshold each.
+        final ConversionBatch firstHalf = new ConversionBatch(RoundingMode.HALF_UP);
+        final ConversionBatch secondHalf = new ConversionBatch(RoundingMode.HALF_UP);
+        final Random random = new Random(42);
+        for(int item = 0; item < size; item++) {
+            final String from = CURRENCIES[random.nextInt(CURRENCIES.length)];
+            final String to = CURRENCIES[(indexOf(from) + 1 + random.nextInt(CURRENCIES.length - 1)) % CURRENCIES.length];
+            final double amount = random.nextInt(10_000_000) / 1000.0;
+            parallel.add(from, to, amount);
+            (item < size / 2 ? firstHalf : secondHalf).add(from, to, amount);
+        }
+        convert(parallel);
+        convert(firstHalf);
+        convert(secondHalf);
+
+        for(int item = 0; item < size; item++) {
+            final double sequential = item < size / 2 ? firstHalf.getResult(item) : secondHalf.getResult(item - size / 2);
+            assertEquals(sequential, parallel.getResult(item), "item " + item);
+        }
+    }
+
+    @Test
+    void batchSizeIsLimited() {
+        final ConversionBatch batch = new ConversionBatch(RoundingMode.HALF_EVEN);
+        for(int item = 0; item < ExchangeRateBCI.MAX_CONVERSION_ITEMS; item++) {
+            batch.add("EUR", "USD", 1);
+        }
+        assertThrows(BusinessException.class, () -> batch.add("EUR", "USD", 1));
+        assertEquals(ExchangeRateBCI.MAX_CONVERSION_ITEMS, batch.getSize());
+    }
+
+    /**
+     * Convert a batch with a rate derived from the currencies of every pair, independent of the order of the pairs.
+     */
+    private static void convert(final ConversionBatch batch) {
+        final double[] rates = new double[batch.getPairCount()];
+        for(int pair = 0; pair < rates.length; pair++) {
+            rates[pair] = (1 + indexOf(batch.getPairFrom(pair))) / (1.0 + indexOf(batch.getPairTo(pair))) * 1.2345678;
+        }
+        batch.convert(rates, new String[rates.length]);
+    }
+
+    private static int indexOf(final String currency) {
+        for(int i = 0; i < CURRENCIES.length; i++) {
+            if(CURRENCIES[i].equals(currency)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(currency);
+    }
+
+    private static String code(final int index) {
+        return new String(new char[] {(char) ('A' + index / 676 % 26), (char) ('A' + index / 26 % 26), (char) ('A' + index % 26)});
+    }
+}
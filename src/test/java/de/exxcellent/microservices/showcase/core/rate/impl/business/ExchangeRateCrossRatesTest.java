@@ -0,0 +1,198 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.business;
+
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.ExchangeRateRuntimeStorage;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ExchangeRateCrossRates}, in particular the numerical consistency of the triangulation.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ExchangeRateCrossRatesTest {
+    private static final double TOLERANCE = 1e-12;
+
+    @Test
+    void crossRateIsTheRatioOfTheQuotesAgainstTheBaseCurrency() {
+        final ExchangeRateRuntimeStorage rates = new ExchangeRateRuntimeStorage();
+        rates.saveRate(new ExchangeRateET("EUR", "USD", 1.1, 1000));
+        rates.saveRate(new ExchangeRateET("EUR", "CHF", 1.08, 1000));
+        // an inverse quote against the base currency.
+        rates.saveRate(new ExchangeRateET("JPY", "EUR", 0.0062, 1000));
+        final Currencies currencies = new Currencies("EUR", "USD", "CHF", "JPY", "GBP");
+        final ExchangeRateCrossRates crossRates = new ExchangeRateCrossRates("eur", currencies.service(), rates);
+
+        assertEquals("EUR", crossRates.getBaseCurrency());
+        assertEquals(1.0, crossRates.getCrossRate("EUR", "EUR"));
+        assertEquals(1.1, crossRates.getCrossRate("EUR", "USD"));
+        assertEquals(1.08 / 1.1, crossRates.getCrossRate("USD", "CHF"));
+        assertEquals(1.1 / 1.08, crossRates.getCrossRate("chf", "usd"));
+        assertEquals(1.1 * 0.0062, crossRates.getCrossRate("JPY", "USD"), TOLERANCE);
+        // no quote, not a known currency or no valid code.
+        assertTrue(Double.isNaN(crossRates.getCrossRate("GBP", "USD")));
+        assertTrue(Double.isNaN(crossRates.getCrossRate("USD", "AUD")));
+        assertTrue(Double.isNaN(crossRates.getCrossRate("US1", "CHF")));
+    }
+
+    @Test
+    void triangulatedRatesAreConsistent() {
+        final String[] codes = codes(30);
+        final ExchangeRateRuntimeStorage rates = new ExchangeRateRuntimeStorage();
+        final Random random = new Random(7);
+        for(int i = 1; i < codes.length; i++) {
+            // quotes over several orders of magnitude, some of them inverse.
+            final double quote = Math.pow(10, random.nextInt(7) - 3) * (1 + random.nextDouble());
+            rates.saveRate(i % 3 == 0 ? new ExchangeRateET(codes[i], codes[0], 1.0 / quote, 1000)
+                                      : new ExchangeRateET(codes[0], codes[i], quote, 1000));
+        }
+        final ExchangeRateCrossRates crossRates = new ExchangeRateCrossRates(codes[0], new Currencies(codes).service(), rates);
+
+        for(final String a : codes) {
+            assertEquals(1.0, crossRates.getCrossRate(a, a));
+            for(final String b : codes) {
+                final double ab = crossRates.getCrossRate(a, b);
+                assertEquals(1.0, ab * crossRates.getCrossRate(b, a), TOLERANCE, a + "/" + b + " and its inverse");
+                for(final String c : codes) {
+                    final double ac = crossRates.getCrossRate(a, c);
+                    assertEquals(ac, ab * crossRates.getCrossRate(b, c), TOLERANCE * ac, a + "/" + b + "/" + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchACompleteRebuild() {
+        final String[] codes = codes(20);
+        final ExchangeRateRuntimeStorage rates = new ExchangeRateRuntimeStorage();
+        final Currencies currencies = new Currencies(codes);
+        final Random random = new Random(11);
+        for(int i = 1; i < codes.length; i++) {
+            rates.saveRate(new ExchangeRateET(codes[0], codes[i], 0.5 + random.nextDouble(), 1000));
+        }
+        final ExchangeRateCrossRates crossRates = new ExchangeRateCrossRates(codes[0], currencies.service(), rates);
+        for(int update = 0; update < 500; update++) {
+            final String code = codes[1 + random.nextInt(codes.length - 1)];
+            final double quote = 0.5 + random.nextDouble();
+            rates.saveRate(random.nextBoolean() ? new ExchangeRateET(codes[0], code, quote, 2000 + update)
+                                                : new ExchangeRateET(code, codes[0], 1.0 / quote, 2000 + update));
+            // a rate between two other currencies or a historical quote does not change the matrix.
+            rates.saveRate(new ExchangeRateET(codes[1], codes[2], quote, 2000 + update));
+            rates.saveRate(new ExchangeRateET(codes[0], code, quote, 0));
+        }
+        // a currency added later extends the matrix.
+        rates.saveRate(new ExchangeRateET(codes[0], "ZZZ", 3.0, 1000));
+        currencies.add("ZZZ");
+
+        final ExchangeRateCrossRates rebuilt = new ExchangeRateCrossRates(codes[0], currencies.service(), rates);
+        for(final String a : currencies.codes()) {
+            for(final String b : currencies.codes()) {
+                assertEquals(rebuilt.getCrossRate(a, b), crossRates.getCrossRate(a, b), a + "/" + b);
+            }
+        }
+        assertEquals(3.0 / rates.findRate(codes[0], codes[1]), crossRates.getCrossRate(codes[1], "ZZZ"));
+    }
+
+    @Test
+    void quoteSavedWhileTheMatrixIsBuiltIsApplied() throws InterruptedException {
+        final ExchangeRateRuntimeStorage rates = new ExchangeRateRuntimeStorage();
+        rates.saveRate(new ExchangeRateET("EUR", "CHF", 1.08, 1000));
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread writer = new Thread(() -> rates.saveRate(new ExchangeRateET("EUR", "CHF", 1.2, 2000)));
+        writer.setUncaughtExceptionHandler((thread, e) -> failure.set(e));
+        // the quote is saved after the listeners are registered and before the matrix exists.
+        final Currencies currencies = new Currencies("EUR", "CHF") {
+            @Override
+            Set<CurrencyTO> read() {
+                writer.start();
+                try {
+                    writer.join(200);
+                } catch(final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read();
+            }
+        };
+        final ExchangeRateCrossRates crossRates = new ExchangeRateCrossRates("EUR", currencies.service(), rates);
+        writer.join();
+
+        assertNull(failure.get());
+        assertEquals(1.2, crossRates.getCrossRate("EUR", "CHF"));
+    }
+
+    /**
+     * Create distinct 3-letter codes.
+     */
+    private static String[] codes(final int count) {
+        final String[] codes = new String[count];
+        for(int i = 0; i < count; i++) {
+            codes[i] = new String(new char[] {(char) ('A' + i / 26 % 26), (char) ('A' + i % 26), 'X'});
+        }
+        return codes;
+    }
+
+    /**
+     * The currencies read and observed by the {@link ExchangeRateCrossRates}.
+     */
+    private static class Currencies {
+        private final Set<CurrencyTO> currencies = new LinkedHashSet<>();
+        private final List<Consumer<CurrencyChangeTO>> listeners = new CopyOnWriteArrayList<>();
+
+        Currencies(final String... codes) {
+            for(final String code : codes) {
+                this.currencies.add(new CurrencyTO(code, code));
+            }
+        }
+
+        synchronized void add(final String code) {
+            final CurrencyTO currency = new CurrencyTO(code, code);
+            this.currencies.add(currency);
+            this.listeners.forEach(listener -> listener.accept(new CurrencyChangeTO(this.currencies.size(), "CURRENCY_ADDED", null, currency)));
+        }
+
+        synchronized List<String> codes() {
+            final List<String> codes = new ArrayList<>();
+            this.currencies.forEach(currency -> codes.add(currency.getShortName()));
+            return codes;
+        }
+
+        synchronized Set<CurrencyTO> read() {
+            return new LinkedHashSet<>(this.currencies);
+        }
+
+        /**
+         * Get a {@link CurrencyBCI} serving the currencies and their changes, all other calls are not supported.
+         */
+        @SuppressWarnings("unchecked")
+        CurrencyBCI service() {
+            return (CurrencyBCI) Proxy.newProxyInstance(CurrencyBCI.class.getClassLoader(), new Class<?>[] {CurrencyBCI.class}, (proxy, method, args) -> {
+                switch(method.getName()) {
+                    case "getCurrencies":
+                        return read();
+                    case "addChangeListener":
+                        this.listeners.add((Consumer<CurrencyChangeTO>) args[0]);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+}
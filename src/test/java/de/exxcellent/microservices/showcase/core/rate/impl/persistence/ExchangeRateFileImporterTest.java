@@ -0,0 +1,108 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import io.quarkus.runtime.StartupEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Tests the {@link ExchangeRateFileImporter} with the rate storage, ingestion and importer created like on a start of the
+ * application.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ExchangeRateFileImporterTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void filesAndAppendedDataAreImported() throws IOException {
+        write("rates.csv", "timestamp,from,to,rate\n1000,EUR,CHF,1.08\n2000,EUR,CHF,1.09\n");
+        write("ecb.xml", "<Cube><Cube time=\"2026-10-16\"><Cube currency=\"JPY\" rate=\"162.5\"/></Cube></Cube>");
+        final Application application = new Application(this.dir);
+        try {
+            application.awaitApplied(3);
+            assertEquals(1.09, application.storage.findRate("EUR", "CHF"));
+            assertEquals(162.5, application.storage.findRate("EUR", "JPY"));
+
+            Files.write(this.dir.resolve("rates.csv"), "3000,EUR,CHF,1.1\n".getBytes(StandardCharsets.ISO_8859_1),
+                        StandardOpenOption.APPEND);
+            application.awaitApplied(4);
+            assertEquals(1.1, application.storage.findRate("EUR", "CHF"));
+            assertEquals(1.08, application.storage.findRateAt("EUR", "CHF", 1500));
+        } finally {
+            application.close();
+        }
+    }
+
+    @Test
+    void ratesAreImportedAgainAfterARestart() throws IOException {
+        write("rates.csv", "1000,EUR,CHF,1.08\n2000,EUR,CHF,1.09\n");
+        final Application first = new Application(this.dir);
+        try {
+            first.awaitApplied(2);
+        } finally {
+            first.close();
+        }
+
+        // the rates are kept in memory only, a new instance has to import all files again.
+        final Application restarted = new Application(this.dir);
+        try {
+            restarted.awaitApplied(2);
+            assertEquals(1.09, restarted.storage.findRate("EUR", "CHF"));
+            assertEquals(1.08, restarted.storage.findRateAt("EUR", "CHF", 1500));
+        } finally {
+            restarted.close();
+        }
+    }
+
+    private void write(final String name, final String content) throws IOException {
+        Files.write(this.dir.resolve(name), content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * The rate beans of a running application importing the rate files of a directory.
+     */
+    private static final class Application {
+        private final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        private final ExchangeRateIngestion ingestion = new ExchangeRateIngestion(this.storage, 1024, 64);
+        private final ExchangeRateFileImporter importer;
+
+        Application(final Path dir) {
+            this.importer = new ExchangeRateFileImporter(this.ingestion, Optional.of(dir.toString()));
+            this.importer.onStart(new StartupEvent());
+        }
+
+        void awaitApplied(final long ticks) {
+            await(() -> this.ingestion.getStatus().getApplied() >= ticks);
+            assertEquals(ticks, this.ingestion.getStatus().getApplied());
+        }
+
+        void close() {
+            this.importer.close();
+            this.ingestion.close();
+        }
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            while(!condition.getAsBoolean()) {
+                Thread.sleep(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the point-in-time and range lookups of the {@link ExchangeRateRuntimeStorage} over a history of 10 million ticks
+ * of one currency pair, one tick every 100 milliseconds. The queried timestamps are random, so the binary search does not
+ * benefit from a warm cache.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ExchangeRateHistoryBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExchangeRateHistoryBenchmark {
+    private static final int TICKS = 10_000_000;
+    private static final int BATCH_SIZE = 100_000;
+    private static final long START = 1_500_000_000_000L;
+    private static final long INTERVAL_MILLIS = 100;
+    private static final int QUERIES = 1 << 16;
+    /**
+     * The length of a chart range, one hour or 36000 ticks.
+     */
+    private static final long RANGE_MILLIS = 3_600_000;
+
+    private ExchangeRateRuntimeStorage storage;
+    private final long[] queries = new long[QUERIES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.storage = new ExchangeRateRuntimeStorage();
+        final int pair = IsoCodes.encode("EUR") * IsoCodes.CODE_SPACE + IsoCodes.encode("USD");
+        final int[] pairs = new int[BATCH_SIZE];
+        final double[] rates = new double[BATCH_SIZE];
+        final long[] timestamps = new long[BATCH_SIZE];
+        final Random random = new Random(42);
+        for(int tick = 0; tick < TICKS; tick += BATCH_SIZE) {
+            for(int i = 0; i < BATCH_SIZE; i++) {
+                pairs[i] = pair;
+                rates[i] = 1.0 + random.nextDouble() / 10;
+                timestamps[i] = START + (tick + i) * INTERVAL_MILLIS;
+            }
+            this.storage.saveRates(pairs, rates, timestamps, BATCH_SIZE);
+        }
+        for(int i = 0; i < QUERIES; i++) {
+            this.queries[i] = START + (long) (random.nextDouble() * TICKS * INTERVAL_MILLIS);
+        }
+    }
+
+    private long nextQuery() {
+        this.next = (this.next + 1) & (QUERIES - 1);
+        return this.queries[this.next];
+    }
+
+    @Benchmark
+    public double findRateAt() {
+        return this.storage.findRateAt("EUR", "USD", nextQuery());
+    }
+
+    @Benchmark
+    public double findLatestRate() {
+        return this.storage.findRate("EUR", "USD");
+    }
+
+    @Benchmark
+    public Optional<ExchangeRateSeriesET> findRatesOfOneHour() {
+        final long start = nextQuery();
+        return this.storage.findRates("EUR", "USD", start, start + RANGE_MILLIS);
+    }
+}
@@ -0,0 +1,90 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ExchangeRateIngestion}: the sustained throughput of four producers publishing ticks of their own
+ * pair (a full buffer is retried), and the latency from publishing a single tick to an idle writer until the rate is
+ * readable, which includes waking up the parked writer.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ExchangeRateIngestionBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeRateIngestionBenchmark {
+    private static final int EUR = IsoCodes.encode("EUR");
+
+    @State(Scope.Benchmark)
+    public static class Ingestion {
+        ExchangeRateRuntimeStorage storage;
+        ExchangeRateIngestion ingestion;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.storage = new ExchangeRateRuntimeStorage();
+            this.ingestion = new ExchangeRateIngestion(this.storage, 65536, 1024);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.ingestion.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private static int producers;
+
+        int toCode;
+        long timestamp;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            synchronized(Producer.class) {
+                this.toCode = IsoCodes.encode("AA" + (char) ('A' + producers++ % 26));
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void publish(final Ingestion ingestion, final Producer producer) {
+        final long timestamp = ++producer.timestamp;
+        while(!ingestion.ingestion.publish(EUR, producer.toCode, 1.0, timestamp)) {
+            Thread.yield();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long publishUntilReadable(final Ingestion ingestion, final Producer producer) {
+        final long version = ingestion.storage.getVersion();
+        ingestion.ingestion.publish(EUR, producer.toCode, 1.0, ++producer.timestamp);
+        long current;
+        while((current = ingestion.storage.getVersion()) == version) {
+            Thread.yield();
+        }
+        return current;
+    }
+}
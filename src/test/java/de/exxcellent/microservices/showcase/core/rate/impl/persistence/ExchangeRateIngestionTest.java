@@ -0,0 +1,159 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.common.isocode.IsoCodes;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateIngestionStatusET;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ExchangeRateIngestion}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ExchangeRateIngestionTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+    private static final int EUR = IsoCodes.encode("EUR");
+    private static final int USD = IsoCodes.encode("USD");
+    private static final int CHF = IsoCodes.encode("CHF");
+
+    @Test
+    void ticksOfConcurrentProducersBecomeReadable() throws InterruptedException {
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        final ExchangeRateIngestion ingestion = new ExchangeRateIngestion(storage, 1024, 64);
+        final int ticksPerProducer = 20_000;
+        final List<Thread> producers = new ArrayList<>();
+        for(int p = 0; p < 4; p++) {
+            final int producer = p;
+            producers.add(new Thread(() -> {
+                for(int i = 1; i <= ticksPerProducer; i++) {
+                    // every producer quotes its own pair, the timestamps increase.
+                    while(!ingestion.publish(EUR, IsoCodes.encode("AA" + (char) ('A' + producer)), i, i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        try {
+            producers.forEach(Thread::start);
+            for(final Thread producer : producers) {
+                producer.join();
+            }
+            await(() -> ingestion.getStatus().getApplied() == 4L * ticksPerProducer);
+
+            final ExchangeRateIngestionStatusET status = ingestion.getStatus();
+            assertEquals(4L * ticksPerProducer, status.getPublished());
+            assertEquals(0, status.getFailed());
+            assertEquals(0, status.getBacklog());
+            assertTrue(status.getBatches() <= status.getVersion());
+            for(int producer = 0; producer < 4; producer++) {
+                assertEquals(ticksPerProducer, storage.findRate("EUR", "AA" + (char) ('A' + producer)));
+            }
+        } finally {
+            ingestion.close();
+        }
+    }
+
+    @Test
+    void idleWriterWakesUpForEveryTick() {
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        final ExchangeRateIngestion ingestion = new ExchangeRateIngestion(storage, 16, 16);
+        try {
+            // the writer has no timeout while it waits, a missed wake up leaves the tick in the buffer.
+            for(int i = 1; i <= 2000; i++) {
+                assertTrue(ingestion.publish(EUR, CHF, i, i));
+                final long applied = i;
+                await(() -> ingestion.getStatus().getApplied() == applied);
+            }
+            assertEquals(2000, storage.findRate("EUR", "CHF"));
+        } finally {
+            ingestion.close();
+        }
+    }
+
+    @Test
+    void ticksOfAFailedBatchAreNotApplied() {
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        final ExchangeRateIngestion ingestion = new ExchangeRateIngestion(failingFor(USD, storage, new CountDownLatch(0)), 16, 1);
+        try {
+            assertTrue(ingestion.publish(EUR, CHF, 1.08, 1000));
+            assertTrue(ingestion.publish(EUR, USD, 1.2, 2000));
+            assertTrue(ingestion.publish(EUR, CHF, 1.09, 2000));
+            await(() -> ingestion.getStatus().getApplied() + ingestion.getStatus().getFailed() == 3);
+
+            final ExchangeRateIngestionStatusET status = ingestion.getStatus();
+            assertEquals(2, status.getApplied());
+            assertEquals(1, status.getFailed());
+            assertEquals(2, status.getBatches());
+            assertEquals(1.09, storage.findRate("EUR", "CHF"));
+            // the dummy rate, the failed tick was not stored.
+            assertEquals(1.09, storage.findRate("EUR", "USD"));
+        } finally {
+            ingestion.close();
+        }
+    }
+
+    @Test
+    void fullBufferRejectsTicks() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        // the writer blocks on its first batch, so the buffer fills up.
+        final ExchangeRateIngestion ingestion = new ExchangeRateIngestion(failingFor(-1, storage, release), 4, 1);
+        try {
+            int published = 0;
+            while(ingestion.publish(EUR, CHF, 1.0 + published, published + 1)) {
+                published++;
+            }
+            assertFalse(ingestion.publish(EUR, CHF, 2.0, 1000));
+            assertEquals(2, ingestion.getStatus().getRejected());
+            release.countDown();
+            final int expected = published;
+            await(() -> ingestion.getStatus().getApplied() == expected);
+            assertTrue(ingestion.publish(EUR, CHF, 3.0, 1000));
+        } finally {
+            release.countDown();
+            ingestion.close();
+        }
+    }
+
+    /**
+     * Create an {@link ExchangeRateRepository} which waits for the given latch before storing a batch and fails for batches
+     * starting with a rate to the given currency.
+     */
+    private static ExchangeRateRepository failingFor(final int toCode, final ExchangeRateRepository repository, final CountDownLatch latch) {
+        return (ExchangeRateRepository) Proxy.newProxyInstance(ExchangeRateRepository.class.getClassLoader(),
+                                                               new Class<?>[] {ExchangeRateRepository.class}, (proxy, method, args) -> {
+            if("saveRates".equals(method.getName())) {
+                latch.await();
+                if(((int[]) args[0])[0] % IsoCodes.CODE_SPACE == toCode) {
+                    throw new IllegalStateException("Storage failed");
+                } // else: store the batch.
+            } // else: no batch.
+            try {
+                return method.invoke(repository, args);
+            } catch(final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            while(!condition.getAsBoolean()) {
+                Thread.sleep(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.rate.api.types.ExchangeRateTO;
+import de.exxcellent.microservices.showcase.core.rate.impl.access.ExchangeRateMapper;
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateET;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ExchangeRateRuntimeStorage}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ExchangeRateRuntimeStorageTest {
+
+    @Test
+    void rateStampedBeforeTheStorageWasCreatedReplacesTheDummyRate() throws InterruptedException {
+        // the storage is created lazily on the first request, after the rate of the request was stamped.
+        final ExchangeRateET rate = ExchangeRateMapper.fromTO(new ExchangeRateTO("eur", "usd", 1.2, 0));
+        Thread.sleep(5);
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        assertEquals(1.09, storage.findRate("EUR", "USD"));
+
+        storage.saveRate(rate);
+
+        assertEquals(1.2, storage.findRate("EUR", "USD"));
+        assertTrue(storage.findAll().contains(rate));
+        assertEquals(1.09, storage.findRateAt("EUR", "USD", rate.getTimestamp() - 1));
+    }
+
+    @Test
+    void historicalRateKeepsTheLatestRate() {
+        final ExchangeRateRuntimeStorage storage = new ExchangeRateRuntimeStorage();
+        storage.saveRate(new ExchangeRateET("EUR", "CHF", 1.08, 2000));
+        storage.saveRate(new ExchangeRateET("EUR", "CHF", 1.05, 1000));
+
+        assertEquals(1.08, storage.findRate("EUR", "CHF"));
+        assertEquals(1.05, storage.findRateAt("EUR", "CHF", 1500));
+        assertTrue(Double.isNaN(storage.findRateAt("EUR", "CHF", 999)));
+        assertEquals(2, storage.findRates("EUR", "CHF", 0, Long.MAX_VALUE).get().getSize());
+    }
+}
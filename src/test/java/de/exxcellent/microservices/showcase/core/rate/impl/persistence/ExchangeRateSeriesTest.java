@@ -0,0 +1,69 @@
+package de.exxcellent.microservices.showcase.core.rate.impl.persistence;
+
+import de.exxcellent.microservices.showcase.core.rate.impl.persistence.model.ExchangeRateSeriesET;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ExchangeRateSeries}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class ExchangeRateSeriesTest {
+
+    @Test
+    void rateAtReturnsTheLatestTickNotAfterTheTimestamp() {
+        final ExchangeRateSeries series = new ExchangeRateSeries();
+        assertTrue(Double.isNaN(series.rateAt(1000)));
+        assertEquals(Long.MIN_VALUE, series.latestTimestamp());
+        assertTrue(series.add(1000, 1.0));
+        assertTrue(series.add(3000, 3.0));
+        // ticks arriving late are inserted in order, the latest rate stays.
+        assertFalse(series.add(2000, 2.0));
+
+        assertTrue(Double.isNaN(series.rateAt(999)));
+        assertEquals(1.0, series.rateAt(1000));
+        assertEquals(1.0, series.rateAt(1999));
+        assertEquals(2.0, series.rateAt(2000));
+        assertEquals(3.0, series.rateAt(3000));
+        assertEquals(3.0, series.rateAt(Long.MAX_VALUE));
+        assertEquals(3000, series.latestTimestamp());
+    }
+
+    @Test
+    void tickWithAKnownTimestampReplacesItsRate() {
+        final ExchangeRateSeries series = new ExchangeRateSeries();
+        series.add(1000, 1.0);
+        series.add(2000, 2.0);
+
+        assertFalse(series.add(1000, 1.5));
+        assertTrue(series.add(2000, 2.5));
+        assertEquals(1.5, series.rateAt(1000));
+        assertEquals(2.5, series.rateAt(2000));
+        assertEquals(2, series.copyRange("EUR", "USD", Long.MIN_VALUE, Long.MAX_VALUE).getSize());
+    }
+
+    @Test
+    void copyRangeContainsTheTicksWithinTheInclusiveBounds() {
+        final ExchangeRateSeries series = new ExchangeRateSeries();
+        // more ticks than the initial capacity, in reverse order.
+        for(int i = 99; i >= 0; i--) {
+            series.add(i * 10L, i);
+        }
+
+        final ExchangeRateSeriesET range = series.copyRange("EUR", "USD", 200, 300);
+        assertEquals(11, range.getSize());
+        for(int i = 0; i < range.getSize(); i++) {
+            assertEquals(200 + i * 10L, range.getTimestamp(i));
+            assertEquals(20 + i, range.getRate(i));
+        }
+        assertEquals(1, series.copyRange("EUR", "USD", 195, 205).getSize());
+        assertEquals(0, series.copyRange("EUR", "USD", 201, 209).getSize());
+        assertEquals(0, series.copyRange("EUR", "USD", 300, 200).getSize());
+        assertEquals(100, series.copyRange("EUR", "USD", Long.MIN_VALUE, Long.MAX_VALUE).getSize());
+    }
+}
@@ -0,0 +1,57 @@
+package de.exxcellent.microservices.showcase.webservice;
+
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The currencies and countries the codec tests and benchmarks write and read. The names are taken from ISO 4217 in turn,
+ * including non-ASCII characters.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+public final class CurrencyPayloads {
+    private static final String[] NAMES = {"Euro", "US Dollar", "Pound Sterling", "Swiss Franc", "Yen", "Zloty", "Costa Rican Colón",
+                                           "Convertible Mark", "Kuwaiti Dinar", "Złoty"};
+    private static final int CODES = 26 * 26 * 26;
+
+    private CurrencyPayloads() {
+    }
+
+    /**
+     * Create currencies with distinct short names.
+     *
+     * @param count the number of currencies (at most 26^3).
+     * @return the currencies as {@link List} of {@link CurrencyTO}s.
+     */
+    public static List<CurrencyTO> currencies(final int count) {
+        final List<CurrencyTO> currencies = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            currencies.add(new CurrencyTO(code(i), NAMES[i % NAMES.length], i % 4));
+        }
+        return currencies;
+    }
+
+    /**
+     * Create countries with distinct short names, every one with a currency of its own.
+     *
+     * @param count the number of countries (at most 26^3).
+     * @return the countries as {@link List} of {@link CountryWithCurrencyCTO}s.
+     */
+    public static List<CountryWithCurrencyCTO> countries(final int count) {
+        final List<CurrencyTO> currencies = currencies(count);
+        final List<CountryWithCurrencyCTO> countries = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            // the country short names count down from ZZZ.
+            countries.add(new CountryWithCurrencyCTO(code(CODES - 1 - i), currencies.get(i)));
+        }
+        return countries;
+    }
+
+    private static String code(final int index) {
+        return new String(new char[] {(char) ('A' + index / 676 % 26), (char) ('A' + index / 26 % 26), (char) ('A' + index % 26)});
+    }
+}
@@ -0,0 +1,227 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.core.currency.api.CurrencyBCI;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangeTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyChangesCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import org.jboss.resteasy.plugins.providers.sse.SseImpl;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link CurrencyChangeFeed} with stub {@link SseEventSink}s: disconnecting slow subscribers, resuming with the
+ * {@code Last-Event-ID} and the {@link CurrencyChangeFeed#RESYNC_EVENT}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyChangeFeedTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private final Sse sse = new SseImpl();
+    private final List<Consumer<CurrencyChangeTO>> listeners = new ArrayList<>();
+
+    @Test
+    void slowSubscriberIsDisconnectedWithoutStallingTheOthers() {
+        final CurrencyChangeFeed feed = new CurrencyChangeFeed(service(version -> CurrencyChangesCTO.resync(version)), 4, 2);
+        final CountDownLatch stalled = new CountDownLatch(1);
+        // writes synchronously and blocks while the client does not read.
+        final RecordingSink slow = new RecordingSink() {
+            @Override
+            public CompletionStage<?> send(final OutboundSseEvent event) {
+                super.send(event);
+                await(stalled);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        final RecordingSink fast = new RecordingSink();
+        try {
+            feed.subscribe(slow, this.sse, null);
+            feed.subscribe(fast, this.sse, null);
+            assertTimeoutPreemptively(TIMEOUT, () -> {
+                // published as fast as the fast subscriber reads, the buffer of the slow one overflows.
+                for(int version = 1; version <= 20; version++) {
+                    publish(version, version);
+                    fast.awaitEvents(version);
+                }
+                slow.awaitClosed();
+            });
+            assertEquals(versions(1, 20), fast.ids());
+            assertTrue(slow.ids().size() <= 5, "The buffer of a slow subscriber is bounded");
+            assertFalse(fast.isClosed());
+        } finally {
+            stalled.countDown();
+            feed.close();
+        }
+    }
+
+    @Test
+    void pendingAsynchronousSendHoldsNoSenderThread() {
+        // a single sender thread, stalled subscribers must not keep it.
+        final CurrencyChangeFeed feed = new CurrencyChangeFeed(service(version -> CurrencyChangesCTO.resync(version)), 64, 1);
+        final CompletableFuture<Void> neverSent = new CompletableFuture<>();
+        final RecordingSink stalled = new RecordingSink() {
+            @Override
+            public CompletionStage<?> send(final OutboundSseEvent event) {
+                super.send(event);
+                return neverSent;
+            }
+        };
+        final RecordingSink fast = new RecordingSink();
+        try {
+            feed.subscribe(stalled, this.sse, null);
+            feed.subscribe(fast, this.sse, null);
+            publish(1, 10);
+
+            assertTimeoutPreemptively(TIMEOUT, () -> fast.awaitEvents(10));
+            assertEquals(versions(1, 10), fast.ids());
+            // the next event of the stalled subscriber follows once its send completed.
+            assertEquals(versions(1, 1), stalled.ids());
+            neverSent.complete(null);
+            assertTimeoutPreemptively(TIMEOUT, () -> stalled.awaitEvents(10));
+            assertEquals(versions(1, 10), stalled.ids());
+        } finally {
+            feed.close();
+        }
+    }
+
+    @Test
+    void resumesAfterTheLastEventIdWithoutGapsOrDuplicates() {
+        final List<Long> requestedVersions = new ArrayList<>();
+        final CurrencyChangeFeed feed = new CurrencyChangeFeed(service(version -> {
+            requestedVersions.add(version);
+            return new CurrencyChangesCTO(5, false, Arrays.asList(change(4), change(5)));
+        }), 64, 2);
+        final RecordingSink sink = new RecordingSink();
+        try {
+            feed.subscribe(sink, this.sse, 3L);
+            // version 5 is published by the storage concurrently to reading the missed changes.
+            publish(5, 7);
+
+            assertTimeoutPreemptively(TIMEOUT, () -> sink.awaitEvents(4));
+            assertEquals(Arrays.asList(3L), requestedVersions);
+            assertEquals(versions(4, 7), sink.ids());
+        } finally {
+            feed.close();
+        }
+    }
+
+    @Test
+    void subscriberTooFarBehindIsToldToResync() {
+        final CurrencyChangeFeed feed = new CurrencyChangeFeed(service(version -> CurrencyChangesCTO.resync(9)), 64, 2);
+        final RecordingSink sink = new RecordingSink();
+        try {
+            feed.subscribe(sink, this.sse, 1L);
+            publish(9, 10);
+
+            assertTimeoutPreemptively(TIMEOUT, () -> sink.awaitEvents(2));
+            assertEquals(versions(9, 10), sink.ids());
+            assertEquals(CurrencyChangeFeed.RESYNC_EVENT, sink.events.get(0).getName());
+            assertEquals("9", sink.events.get(0).getData());
+            assertEquals(CurrencyChangeTO.CURRENCY_ADDED, sink.events.get(1).getName());
+        } finally {
+            feed.close();
+        }
+    }
+
+    private void publish(final long from, final long to) {
+        for(long version = from; version <= to; version++) {
+            final CurrencyChangeTO change = change(version);
+            this.listeners.forEach(listener -> listener.accept(change));
+        }
+    }
+
+    /**
+     * Create a {@link CurrencyBCI} answering {@link CurrencyBCI#getChangesSince(long)} with the given function, all other
+     * calls but {@link CurrencyBCI#addChangeListener(Consumer)} are not supported.
+     */
+    @SuppressWarnings("unchecked")
+    private CurrencyBCI service(final LongFunction<CurrencyChangesCTO> changesSince) {
+        return (CurrencyBCI) Proxy.newProxyInstance(CurrencyBCI.class.getClassLoader(), new Class<?>[] {CurrencyBCI.class}, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "addChangeListener":
+                    this.listeners.add((Consumer<CurrencyChangeTO>) args[0]);
+                    return null;
+                case "getChangesSince":
+                    return changesSince.apply((Long) args[0]);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static CurrencyChangeTO change(final long version) {
+        return new CurrencyChangeTO(version, CurrencyChangeTO.CURRENCY_ADDED, null, new CurrencyTO("XTS", "Test " + version));
+    }
+
+    private static List<String> versions(final long from, final long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(Long::toString).collect(Collectors.toList());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A {@link SseEventSink} recording the sent events, every send completes immediately.
+     */
+    private static class RecordingSink implements SseEventSink {
+        private final List<OutboundSseEvent> events = new java.util.concurrent.CopyOnWriteArrayList<>();
+        private volatile boolean closed;
+
+        @Override
+        public boolean isClosed() {
+            return this.closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(final OutboundSseEvent event) {
+            this.events.add(event);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        private List<String> ids() {
+            return this.events.stream().map(OutboundSseEvent::getId).collect(Collectors.toList());
+        }
+
+        private void awaitEvents(final int count) throws InterruptedException {
+            while(this.events.size() < count) {
+                Thread.sleep(1);
+            }
+        }
+
+        private void awaitClosed() throws InterruptedException {
+            while(!this.closed) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
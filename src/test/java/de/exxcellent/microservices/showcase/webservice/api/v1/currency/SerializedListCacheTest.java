@@ -0,0 +1,183 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.currency;
+
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.webservice.binary.CurrencyBinaryCodec;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the cached list resources served by the {@link SerializedListCache}: {@code ETag}s, HTTP 304 and the JSON, binary
+ * and gzip compressed variants.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@QuarkusTest
+class SerializedListCacheTest {
+    private static final String CURRENCIES = "/api/v1/currencies";
+    private static final String COUNTRIES = "/api/v1/countries-with-currency";
+    private static final String GZIP = "gzip";
+
+    @Test
+    void unchangedListIsNotSentAgain() {
+        for(final String path : new String[] {CURRENCIES, COUNTRIES}) {
+            final Response response = request().get(path);
+            assertEquals(200, response.statusCode(), path);
+            assertTrue(response.contentType().startsWith(ContentType.JSON.toString()), path);
+            assertTrue(response.header("Vary").contains("Accept-Encoding"), path);
+            final String tag = response.header("ETag");
+            assertTrue(tag.matches("\"\\d+-[\\w-]{22}\""), tag);
+
+            final Response notModified = request().header("If-None-Match", tag).get(path);
+            assertEquals(304, notModified.statusCode(), path);
+            assertEquals(0, notModified.asByteArray().length, path);
+        }
+    }
+
+    @Test
+    void changedListIsSentWithANewTag() {
+        final String currenciesTag = request().get(CURRENCIES).header("ETag");
+        final String countriesTag = request().get(COUNTRIES).header("ETag");
+
+        request().contentType(ContentType.JSON)
+                 .body("{\"countryShortName\":\"QTL\",\"currency\":{\"shortName\":\"QTC\",\"name\":\"Test\"}}")
+                 .post(COUNTRIES)
+                 .then()
+                 .statusCode(200);
+
+        final Response currencies = request().header("If-None-Match", currenciesTag).get(CURRENCIES);
+        assertEquals(200, currencies.statusCode());
+        assertNotEquals(currenciesTag, currencies.header("ETag"));
+        assertTrue(currencies.asString().contains("\"QTC\""));
+        final Response countries = request().header("If-None-Match", countriesTag).get(COUNTRIES);
+        assertEquals(200, countries.statusCode());
+        assertNotEquals(countriesTag, countries.header("ETag"));
+        assertTrue(countries.asString().contains("\"QTL\""));
+    }
+
+    @Test
+    void everyVariantHasItsOwnTag() throws IOException {
+        final Response json = request().get(CURRENCIES);
+        final String version = json.header("ETag").replace("\"", "");
+        final Response jsonGzip = request().header("Accept-Encoding", GZIP).get(CURRENCIES);
+        final Response binary = request().accept(CurrencyBinaryCodec.MEDIA_TYPE).get(CURRENCIES);
+        final Response binaryGzip = request().accept(CurrencyBinaryCodec.MEDIA_TYPE).header("Accept-Encoding", GZIP).get(CURRENCIES);
+
+        assertNull(json.header("Content-Encoding"));
+        assertEquals("\"" + version + "-gzip\"", jsonGzip.header("ETag"));
+        assertEquals(GZIP, jsonGzip.header("Content-Encoding"));
+        assertArrayEquals(json.asByteArray(), decompress(jsonGzip.asByteArray()));
+        assertEquals("\"" + version + "-binary\"", binary.header("ETag"));
+        assertEquals(CurrencyBinaryCodec.MEDIA_TYPE, binary.contentType());
+        assertEquals("\"" + version + "-binary-gzip\"", binaryGzip.header("ETag"));
+        assertArrayEquals(binary.asByteArray(), decompress(binaryGzip.asByteArray()));
+        assertEquals(new HashSet<>(json.jsonPath().getList("shortName")), binaryShortNames(binary.asByteArray()));
+
+        // the tag of one variant does not match another one.
+        assertEquals(200, request().accept(CurrencyBinaryCodec.MEDIA_TYPE).header("If-None-Match", json.header("ETag")).get(CURRENCIES).statusCode());
+        assertEquals(200, request().header("If-None-Match", json.header("ETag")).header("Accept-Encoding", GZIP).get(CURRENCIES).statusCode());
+        assertEquals(304, request().accept(CurrencyBinaryCodec.MEDIA_TYPE).header("If-None-Match", binary.header("ETag")).get(CURRENCIES).statusCode());
+        // gzip excluded by a quality value of 0.
+        assertNull(request().header("Accept-Encoding", "gzip;q=0").get(CURRENCIES).header("Content-Encoding"));
+    }
+
+    @Test
+    void sameVersionWithOtherContentHasAnotherTag() {
+        // e.g. two instances behind a load balancer, or one instance restarted with other data.
+        final List<CurrencyTO> euro = Collections.singletonList(new CurrencyTO("EUR", "Euro"));
+        final List<CurrencyTO> dollar = Collections.singletonList(new CurrencyTO("USD", "US Dollar"));
+        final String euroTag = tag(new SerializedListCache(() -> 1, () -> euro, "empty"));
+
+        assertNotEquals(euroTag, tag(new SerializedListCache(() -> 1, () -> dollar, "empty")));
+        assertEquals(euroTag, tag(new SerializedListCache(() -> 1, () -> Arrays.asList(euro.toArray()), "empty")));
+    }
+
+    /**
+     * Get the {@code ETag} of the JSON of a cache, requested without any precondition.
+     */
+    private static String tag(final SerializedListCache cache) {
+        final Request request = (Request) Proxy.newProxyInstance(Request.class.getClassLoader(), new Class<?>[] {Request.class}, (proxy, method, args) -> {
+            switch(method.getName()) {
+                case "selectVariant":
+                    return ((List<?>) args[0]).get(0);
+                case "evaluatePreconditions":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        final HttpHeaders headers = (HttpHeaders) Proxy.newProxyInstance(HttpHeaders.class.getClassLoader(), new Class<?>[] {HttpHeaders.class}, (proxy, method, args) -> {
+            if("getHeaderString".equals(method.getName())) {
+                return null;
+            } // else: no other header is read.
+            throw new UnsupportedOperationException(method.getName());
+        });
+        return cache.get(request, headers).getEntityTag().getValue();
+    }
+
+    /**
+     * A request without content decoders, so no {@code Accept-Encoding} is sent unless set and bodies are not decompressed.
+     */
+    private static RequestSpecification request() {
+        return RestAssured.given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+
+    private static byte[] decompress(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Read the short names of a binary list of currencies: the number of currencies, then per currency the 3 bytes of its
+     * short name, its minor units and its name.
+     */
+    private static Set<Object> binaryShortNames(final byte[] bytes) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        final Set<Object> shortNames = new HashSet<>();
+        final int count = in.readInt();
+        for(int i = 0; i < count; i++) {
+            final byte[] code = new byte[3];
+            in.readFully(code);
+            shortNames.add(new String(code, StandardCharsets.US_ASCII));
+            in.readByte();
+            in.readUTF();
+        }
+        assertEquals(-1, in.read());
+        return shortNames;
+    }
+}
@@ -0,0 +1,98 @@
+package de.exxcellent.microservices.showcase.webservice.api.v1.rate;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the batch conversion {@code POST /api/v1/rates/convert} and the timestamps of single rates of the
+ * {@link ExchangeRateFacade}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@QuarkusTest
+class ExchangeRateFacadeTest {
+    private static final String CONVERT = "/api/v1/rates/convert";
+
+    @Test
+    void itemsWithoutRateCarryAnErrorNextToTheConvertedOnes() {
+        final float rate = RestAssured.get("/api/v1/rates/EUR/USD").then().statusCode(200).extract().path("rate");
+
+        final JsonPath converted = RestAssured.given()
+                                              .contentType(ContentType.JSON)
+                                              .body("[{\"from\":\"EUR\",\"to\":\"USD\",\"amount\":10},{\"from\":\"XTS\",\"to\":\"EUR\",\"amount\":5},"
+                                                    + "{\"from\":\"eur\",\"to\":\"usd\",\"amount\":20,\"note\":\"ignored\"}]")
+                                              .post(CONVERT)
+                                              .then()
+                                              .statusCode(200)
+                                              .extract()
+                                              .jsonPath();
+
+        assertEquals(Arrays.asList("EUR", "XTS", "EUR"), converted.getList("from"));
+        assertEquals(rate, converted.getFloat("[0].rate"));
+        assertEquals(Math.round(10 * rate * 100) / 100.0, converted.getDouble("[0].result"), 0.005);
+        assertNull(converted.get("[0].error"));
+        assertNotNull(converted.get("[1].error"));
+        assertNull(converted.get("[1].result"));
+        assertEquals(Math.round(20 * rate * 100) / 100.0, converted.getDouble("[2].result"), 0.005);
+    }
+
+    @Test
+    void ratesCarryTheTimestampOfTheirTick() {
+        saveRate("QTA", "QTB", 2.0, 1_000);
+        saveRate("QTA", "QTB", 4.0, 2_000);
+
+        assertRate(RestAssured.get("/api/v1/rates/qta/qtb"), "QTA", "QTB", 4.0, 2_000);
+        assertRate(RestAssured.get("/api/v1/rates/QTA/QTB/at?timestamp=1500"), "QTA", "QTB", 2.0, 1_000);
+        assertRate(RestAssured.get("/api/v1/rates/QTB/QTA/at?timestamp=1999"), "QTB", "QTA", 0.5, 1_000);
+        assertRate(RestAssured.get("/api/v1/rates/QTB/QTA"), "QTB", "QTA", 0.25, 2_000);
+        RestAssured.get("/api/v1/rates/QTA/QTB/at?timestamp=999").then().statusCode(404);
+    }
+
+    @Test
+    void crossRateCarriesTheTimestampOfTheOlderQuote() {
+        for(final String currency : Arrays.asList("QTC", "QTD")) {
+            RestAssured.given().contentType(ContentType.JSON).body("{\"shortName\":\"" + currency + "\",\"name\":\"Test\"}")
+                       .post("/api/v1/currencies").then().statusCode(200);
+        }
+        saveRate("EUR", "QTC", 2.0, 3_000);
+        saveRate("QTD", "EUR", 0.125, 5_000);
+
+        assertRate(RestAssured.get("/api/v1/rates/QTC/QTD"), "QTC", "QTD", 4.0, 3_000);
+    }
+
+    @Test
+    void malformedOrInvalidItemsAreRejected() {
+        for(final String body : Arrays.asList("[{\"from\":\"EUR\",\"to\":\"USD\",\"amount\":10}", "[{\"from\":\"EUR\",\"to\":\"USD\",\"amount\":}]",
+                                              "not json", "[{\"from\":\"EUR\",\"to\":\"USD\"}]", "[{\"from\":\"EURO\",\"to\":\"USD\",\"amount\":1}]")) {
+            RestAssured.given().contentType(ContentType.JSON).body(body).post(CONVERT).then().statusCode(400);
+        }
+    }
+
+    private static void saveRate(final String from, final String to, final double rate, final long timestamp) {
+        RestAssured.given()
+                   .contentType(ContentType.JSON)
+                   .body("{\"from\":\"" + from + "\",\"to\":\"" + to + "\",\"rate\":" + rate + ",\"timestamp\":" + timestamp + "}")
+                   .post("/api/v1/rates")
+                   .then()
+                   .statusCode(200);
+    }
+
+    private static void assertRate(final Response response, final String from, final String to, final double rate, final long timestamp) {
+        final JsonPath json = response.then().statusCode(200).extract().jsonPath();
+        assertEquals(from, json.getString("from"));
+        assertEquals(to, json.getString("to"));
+        assertEquals(rate, json.getDouble("rate"), 1e-12);
+        assertEquals(timestamp, json.getLong("timestamp"));
+    }
+}
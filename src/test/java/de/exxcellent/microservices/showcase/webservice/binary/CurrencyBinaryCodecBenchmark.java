@@ -0,0 +1,106 @@
+package de.exxcellent.microservices.showcase.webservice.binary;
+
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.webservice.CurrencyPayloads;
+import de.exxcellent.microservices.showcase.webservice.json.CurrencyJsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link CurrencyBinaryCodec} with the {@link CurrencyJsonCodec} on the payloads of the README: writing the
+ * lists of 250 currencies and 250 countries with their currency, and reading one currency and one country as from a
+ * request body. The payload sizes are checked by {@code CurrencyBinaryCodecTest}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencyBinaryCodecBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyBinaryCodecBenchmark {
+    private static final int SIZE = 250;
+
+    private List<CurrencyTO> currencies;
+    private List<CountryWithCurrencyCTO> countries;
+    private byte[] currencyJson;
+    private byte[] currencyBinary;
+    private byte[] countryJson;
+    private byte[] countryBinary;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.currencies = CurrencyPayloads.currencies(SIZE);
+        this.countries = CurrencyPayloads.countries(SIZE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CurrencyJsonCodec.write(this.currencies.get(6), out);
+        this.currencyJson = out.toByteArray();
+        out.reset();
+        CurrencyBinaryCodec.write(this.currencies.get(6), out);
+        this.currencyBinary = out.toByteArray();
+        out.reset();
+        CurrencyJsonCodec.write(this.countries.get(6), out);
+        this.countryJson = out.toByteArray();
+        out.reset();
+        CurrencyBinaryCodec.write(this.countries.get(6), out);
+        this.countryBinary = out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeCurrenciesJson() {
+        return CurrencyJsonCodec.toJson(this.currencies);
+    }
+
+    @Benchmark
+    public byte[] writeCurrenciesBinary() {
+        return CurrencyBinaryCodec.toBinary(this.currencies);
+    }
+
+    @Benchmark
+    public byte[] writeCountriesJson() {
+        return CurrencyJsonCodec.toJson(this.countries);
+    }
+
+    @Benchmark
+    public byte[] writeCountriesBinary() {
+        return CurrencyBinaryCodec.toBinary(this.countries);
+    }
+
+    @Benchmark
+    public Object readCurrencyJson() {
+        return CurrencyJsonCodec.read(CurrencyTO.class, new ByteArrayInputStream(this.currencyJson));
+    }
+
+    @Benchmark
+    public Object readCurrencyBinary() {
+        return CurrencyBinaryCodec.read(CurrencyTO.class, new ByteArrayInputStream(this.currencyBinary));
+    }
+
+    @Benchmark
+    public Object readCountryJson() {
+        return CurrencyJsonCodec.read(CountryWithCurrencyCTO.class, new ByteArrayInputStream(this.countryJson));
+    }
+
+    @Benchmark
+    public Object readCountryBinary() {
+        return CurrencyBinaryCodec.read(CountryWithCurrencyCTO.class, new ByteArrayInputStream(this.countryBinary));
+    }
+}
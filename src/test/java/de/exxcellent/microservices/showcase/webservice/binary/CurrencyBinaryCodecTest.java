@@ -0,0 +1,209 @@
+package de.exxcellent.microservices.showcase.webservice.binary;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyLookupCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.webservice.CurrencyPayloads;
+import de.exxcellent.microservices.showcase.webservice.json.CurrencyJsonCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the layout of the {@link CurrencyBinaryCodec} and the payload sizes documented in the README.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyBinaryCodecTest {
+
+    @Test
+    void currencyIsWrittenInTheDocumentedLayout() throws IOException {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(expected);
+        data.writeBytes("KWD");
+        data.writeByte(3);
+        data.writeUTF("Kuwaiti Dinar");
+        assertArrayEquals(expected.toByteArray(), write(new CurrencyTO("KWD", "Kuwaiti Dinar", 3)));
+        assertEquals(3 + 1 + 2 + 13, expected.size());
+
+        // a code with other than ASCII characters is escaped.
+        expected.reset();
+        data.writeByte(0xFF);
+        data.writeUTF("ÖSX");
+        data.writeByte(2);
+        data.writeUTF("Schilling");
+        assertArrayEquals(expected.toByteArray(), write(new CurrencyTO("ÖSX", "Schilling", 2)));
+    }
+
+    @Test
+    void listsAndLookupsStartWithTheirSize() throws IOException {
+        final List<CountryWithCurrencyCTO> countries = CurrencyPayloads.countries(3);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(expected);
+        data.writeInt(3);
+        for(final CountryWithCurrencyCTO country : countries) {
+            data.writeBytes(country.getCountryShortName());
+            data.writeBytes(country.getCurrency().getShortName());
+            data.writeByte(country.getCurrency().getMinorUnits());
+            data.writeUTF(country.getCurrency().getName());
+        }
+        assertArrayEquals(expected.toByteArray(), CurrencyBinaryCodec.toBinary(countries));
+        data.writeInt(2);
+        data.writeBytes("XXX");
+        data.writeByte(0xFF);
+        data.writeUTF("NOWHERE");
+        assertArrayEquals(expected.toByteArray(), write(new CountryWithCurrencyLookupCTO(countries, Arrays.asList("XXX", "NOWHERE"))));
+
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0, 0, 0, 0}, write(new CurrencyLookupCTO(Collections.emptyList(), Collections.emptyList())));
+    }
+
+    @Test
+    void stringsAreEncodedLikeDataOutput() throws IOException {
+        final StringBuilder longName = new StringBuilder();
+        while(longName.length() < 20_000) {
+            longName.append("Złoty € 💶 ");
+        }
+        for(final String name : Arrays.asList("", "Costa Rican Colón", "Nul \u0000 character", "Euro € 💶", longName.toString())) {
+            final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            new DataOutputStream(expected).writeUTF(name);
+            final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            final BinaryByteWriter writer = new BinaryByteWriter(actual);
+            writer.writeUTF(name);
+            writer.flush();
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray(), name);
+        }
+        final char[] tooLong = new char[0x10000];
+        Arrays.fill(tooLong, 'x');
+        assertThrows(UTFDataFormatException.class, () -> new BinaryByteWriter(new ByteArrayOutputStream()).writeUTF(new String(tooLong)));
+    }
+
+    @Test
+    void writtenObjectsAreReadAgain() throws IOException {
+        for(final CountryWithCurrencyCTO country : Arrays.asList(CurrencyPayloads.countries(8).get(6),
+                                                                  new CountryWithCurrencyCTO("ÅLA", new CurrencyTO("€UR", "Euro € 💶", 2)))) {
+            final CountryWithCurrencyCTO read = (CountryWithCurrencyCTO) read(CountryWithCurrencyCTO.class, write(country));
+            assertEquals(country.getCountryShortName(), read.getCountryShortName());
+            assertCurrencyEquals(country.getCurrency(), read.getCurrency());
+            assertCurrencyEquals(country.getCurrency(), (CurrencyTO) read(CurrencyTO.class, write(country.getCurrency())));
+        }
+    }
+
+    @Test
+    void corruptDataIsRejected() throws IOException {
+        final byte[] country = write(CurrencyPayloads.countries(8).get(6));
+        // every truncation of the body.
+        for(int length = 0; length < country.length; length++) {
+            final byte[] truncated = Arrays.copyOf(country, length);
+            assertThrows(BusinessException.class, () -> read(CountryWithCurrencyCTO.class, truncated), "length " + length);
+        }
+        // trailing data.
+        assertThrows(BusinessException.class, () -> read(CountryWithCurrencyCTO.class, Arrays.copyOf(country, country.length + 1)));
+        // no ASCII code and no escaped one.
+        final byte[] invalidCode = country.clone();
+        invalidCode[1] = (byte) 0x80;
+        assertThrows(BusinessException.class, () -> read(CountryWithCurrencyCTO.class, invalidCode));
+        invalidCode[0] = (byte) 0xFE;
+        assertThrows(BusinessException.class, () -> read(CountryWithCurrencyCTO.class, invalidCode));
+        // a valid encoding of an invalid currency.
+        final ByteArrayOutputStream longCode = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(longCode);
+        data.writeByte(0xFF);
+        data.writeUTF("EURO");
+        data.writeByte(2);
+        data.writeUTF("Euro");
+        assertThrows(BusinessException.class, () -> read(CurrencyTO.class, longCode.toByteArray()));
+        // a malformed name.
+        assertThrows(BusinessException.class, () -> read(CurrencyTO.class, new byte[] {'E', 'U', 'R', 2, 0, 1, (byte) 0xC0}));
+    }
+
+    @Test
+    void onlyCurrencyTypesAreHandled() throws NoSuchMethodException {
+        assertTrue(CurrencyBinaryCodec.isReadable(CurrencyTO.class));
+        assertTrue(CurrencyBinaryCodec.isReadable(CountryWithCurrencyCTO.class));
+        assertFalse(CurrencyBinaryCodec.isReadable(CurrencyLookupCTO.class));
+        assertTrue(CurrencyBinaryCodec.isWriteable(CurrencyTO.class, CurrencyTO.class));
+        assertTrue(CurrencyBinaryCodec.isWriteable(CountryWithCurrencyLookupCTO.class, CountryWithCurrencyLookupCTO.class));
+        assertTrue(CurrencyBinaryCodec.isWriteable(List.class, CurrencyBinaryCodecTest.class.getDeclaredMethod("currencyList").getGenericReturnType()));
+        assertFalse(CurrencyBinaryCodec.isWriteable(List.class, CurrencyBinaryCodecTest.class.getDeclaredMethod("stringList").getGenericReturnType()));
+        assertFalse(CurrencyBinaryCodec.isWriteable(List.class, List.class));
+    }
+
+    /**
+     * The payload sizes of the table in the README. The compressed sizes depend on the zlib of the JDK, so they are only
+     * checked to be within 2 percent.
+     */
+    @Test
+    void payloadSizesOfTheReadme() throws IOException {
+        assertSizes(CurrencyPayloads.currencies(1).get(0), 48, 10);
+        assertSizes(CurrencyPayloads.currencies(250), 13726, 1281, 3979, 910);
+        assertSizes(CurrencyPayloads.countries(250), 23226, 2102, 4729, 1369);
+    }
+
+    private static void assertSizes(final CurrencyTO currency, final int json, final int binary) throws IOException {
+        final ByteArrayOutputStream jsonBytes = new ByteArrayOutputStream();
+        CurrencyJsonCodec.write(currency, jsonBytes);
+        assertEquals(json, jsonBytes.size(), "json");
+        assertEquals(binary, write(currency).length, "binary");
+    }
+
+    private static void assertSizes(final Collection<?> values, final int json, final int jsonGzip, final int binary, final int binaryGzip) throws IOException {
+        final byte[] jsonBytes = CurrencyJsonCodec.toJson(values);
+        final byte[] binaryBytes = CurrencyBinaryCodec.toBinary(values);
+        assertEquals(json, jsonBytes.length, "json");
+        assertEquals(binary, binaryBytes.length, "binary");
+        assertEquals(jsonGzip, gzip(jsonBytes), jsonGzip / 50.0, "json gzip");
+        assertEquals(binaryGzip, gzip(binaryBytes), binaryGzip / 50.0, "binary gzip");
+    }
+
+    private static void assertCurrencyEquals(final CurrencyTO expected, final CurrencyTO actual) {
+        assertEquals(expected.getShortName(), actual.getShortName());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getMinorUnits(), actual.getMinorUnits());
+    }
+
+    @SuppressWarnings("unused")
+    private static List<CurrencyTO> currencyList() {
+        return Collections.emptyList();
+    }
+
+    @SuppressWarnings("unused")
+    private static List<String> stringList() {
+        return Collections.emptyList();
+    }
+
+    private static int gzip(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static byte[] write(final Object value) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CurrencyBinaryCodec.write(value, out);
+        return out.toByteArray();
+    }
+
+    private static Object read(final Class<?> type, final byte[] binary) {
+        return CurrencyBinaryCodec.read(type, new ByteArrayInputStream(binary));
+    }
+}
@@ -0,0 +1,101 @@
+package de.exxcellent.microservices.showcase.webservice.json;
+
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.webservice.CurrencyPayloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link CurrencyJsonCodec} with the JSON-B serialization it replaces: writing the lists of 250 currencies
+ * and 250 countries with their currency, and reading one currency and one country as from a request body.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CurrencyJsonCodecBenchmark}.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyJsonCodecBenchmark {
+    private static final int SIZE = 250;
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+    private List<CurrencyTO> currencies;
+    private List<CountryWithCurrencyCTO> countries;
+    private byte[] currency;
+    private byte[] country;
+
+    @Setup
+    public void setUp() {
+        this.currencies = CurrencyPayloads.currencies(SIZE);
+        this.countries = CurrencyPayloads.countries(SIZE);
+        this.currency = this.jsonb.toJson(this.currencies.get(6)).getBytes(StandardCharsets.UTF_8);
+        this.country = this.jsonb.toJson(this.countries.get(6)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeCurrenciesJsonb() {
+        return toJsonb(this.currencies);
+    }
+
+    @Benchmark
+    public byte[] writeCurrenciesCodec() {
+        return CurrencyJsonCodec.toJson(this.currencies);
+    }
+
+    @Benchmark
+    public byte[] writeCountriesJsonb() {
+        return toJsonb(this.countries);
+    }
+
+    @Benchmark
+    public byte[] writeCountriesCodec() {
+        return CurrencyJsonCodec.toJson(this.countries);
+    }
+
+    @Benchmark
+    public Object readCurrencyJsonb() {
+        return this.jsonb.fromJson(new ByteArrayInputStream(this.currency), CurrencyTO.class);
+    }
+
+    @Benchmark
+    public Object readCurrencyCodec() {
+        return CurrencyJsonCodec.read(CurrencyTO.class, new ByteArrayInputStream(this.currency));
+    }
+
+    @Benchmark
+    public Object readCountryJsonb() {
+        return this.jsonb.fromJson(new ByteArrayInputStream(this.country), CountryWithCurrencyCTO.class);
+    }
+
+    @Benchmark
+    public Object readCountryCodec() {
+        return CurrencyJsonCodec.read(CountryWithCurrencyCTO.class, new ByteArrayInputStream(this.country));
+    }
+
+    private byte[] toJsonb(final List<?> values) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(values.size() * 64 + 2);
+        this.jsonb.toJson(values, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package de.exxcellent.microservices.showcase.webservice.json;
+
+import de.exxcellent.microservices.showcase.common.errorhandling.exception.BusinessException;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CountryWithCurrencyCTO;
+import de.exxcellent.microservices.showcase.core.currency.api.types.CurrencyTO;
+import de.exxcellent.microservices.showcase.webservice.CurrencyPayloads;
+import org.junit.jupiter.api.Test;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link CurrencyJsonCodec} against the JSON-B serialization it replaces.
+ *
+ * @author agent
+ * @since 18.10.2026
+ */
+class CurrencyJsonCodecTest {
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    @Test
+    void listsAreWrittenLikeJsonb() {
+        final List<CurrencyTO> currencies = CurrencyPayloads.currencies(250);
+        assertEquals(JSONB.toJson(currencies), json(CurrencyJsonCodec.toJson(currencies)));
+        final List<CountryWithCurrencyCTO> countries = CurrencyPayloads.countries(250);
+        assertEquals(JSONB.toJson(countries), json(CurrencyJsonCodec.toJson(countries)));
+        assertEquals("[]", json(CurrencyJsonCodec.toJson(Collections.emptyList())));
+    }
+
+    @Test
+    void stringsAreEscapedLikeJsonb() throws IOException {
+        final StringBuilder longName = new StringBuilder();
+        while(longName.length() < 20_000) {
+            longName.append("Złoty € 💶 ");
+        }
+        for(final String name : Arrays.asList("Quote \" and \\ reverse solidus", "Tab\t, new line\n and \u0001\u001f", "Colón € 💶  ",
+                                              "</script>", longName.toString())) {
+            final CurrencyTO currency = new CurrencyTO("XTS", name, 2);
+            assertEquals(JSONB.toJson(currency), json(write(currency)), name);
+            assertEquals(name, ((CurrencyTO) read(CurrencyTO.class, write(currency))).getName());
+        }
+    }
+
+    @Test
+    void writtenObjectsAreReadAgain() throws IOException {
+        final CountryWithCurrencyCTO country = CurrencyPayloads.countries(8).get(6);
+        final CountryWithCurrencyCTO read = (CountryWithCurrencyCTO) read(CountryWithCurrencyCTO.class, write(country));
+        assertEquals(country.getCountryShortName(), read.getCountryShortName());
+        assertEquals(country.getCurrency().getShortName(), read.getCurrency().getShortName());
+        assertEquals(country.getCurrency().getName(), read.getCurrency().getName());
+        assertEquals(country.getCurrency().getMinorUnits(), read.getCurrency().getMinorUnits());
+    }
+
+    @Test
+    void unknownFieldsAndNullsAreIgnored() {
+        final CurrencyTO currency = (CurrencyTO) read(CurrencyTO.class,
+                "{\"id\":{\"a\":[1,2]},\"shortName\":\"EUR\",\"tags\":[\"x\",{}],\"name\":\"Euro\",\"minorUnits\":null,\"other\":1.5}");
+        assertEquals("EUR", currency.getShortName());
+        assertEquals("Euro", currency.getName());
+        assertEquals(0, currency.getMinorUnits());
+        final CountryWithCurrencyCTO country = (CountryWithCurrencyCTO) read(CountryWithCurrencyCTO.class,
+                " {\"currency\":{\"name\":\"Euro\",\"shortName\":\"EUR\"},\"countryShortName\":\"GER\"} ");
+        assertEquals("GER", country.getCountryShortName());
+        assertEquals("EUR", country.getCurrency().getShortName());
+    }
+
+    @Test
+    void invalidJsonIsRejected() {
+        for(final String body : Arrays.asList("", "null", "[]", "\"EUR\"", "{", "{\"shortName\":\"EUR\",\"name\":\"Euro\"", "{\"shortName\":\"EUR\",}",
+                                              "{\"shortName\":\"EUR\",\"name\":\"Euro\"}{}", "{\"shortName\":1,\"name\":\"Euro\"}",
+                                              "{\"shortName\":\"EUR\",\"name\":\"Euro\",\"minorUnits\":1.5}",
+                                              "{\"shortName\":\"EUR\",\"name\":\"Euro\",\"minorUnits\":\"2\"}",
+                                              "{\"shortName\":\"EURO\",\"name\":\"Euro\"}", "{\"shortName\":\"EUR\"}")) {
+            assertThrows(BusinessException.class, () -> read(CurrencyTO.class, body), body);
+        }
+        for(final String body : Arrays.asList("{\"countryShortName\":\"GER\"}", "{\"countryShortName\":\"GER\",\"currency\":\"EUR\"}",
+                                              "{\"countryShortName\":\"GERMANY\",\"currency\":{\"shortName\":\"EUR\",\"name\":\"Euro\"}}")) {
+            assertThrows(BusinessException.class, () -> read(CountryWithCurrencyCTO.class, body), body);
+        }
+    }
+
+    @Test
+    void onlyCurrencyTypesAreHandled() throws NoSuchMethodException {
+        assertTrue(CurrencyJsonCodec.isReadable(CurrencyTO.class));
+        assertTrue(CurrencyJsonCodec.isReadable(CountryWithCurrencyCTO.class));
+        assertFalse(CurrencyJsonCodec.isReadable(String.class));
+        assertTrue(CurrencyJsonCodec.isWriteable(CurrencyTO.class, CurrencyTO.class));
+        assertTrue(CurrencyJsonCodec.isWriteable(List.class, CurrencyJsonCodecTest.class.getDeclaredMethod("currencyList").getGenericReturnType()));
+        assertFalse(CurrencyJsonCodec.isWriteable(List.class, CurrencyJsonCodecTest.class.getDeclaredMethod("stringList").getGenericReturnType()));
+    }
+
+    @SuppressWarnings("unused")
+    private static List<CurrencyTO> currencyList() {
+        return Collections.emptyList();
+    }
+
+    @SuppressWarnings("unused")
+    private static List<String> stringList() {
+        return Collections.emptyList();
+    }
+
+    private static String json(final byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] write(final Object value) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CurrencyJsonCodec.write(value, out);
+        return out.toByteArray();
+    }
+
+    private static Object read(final Class<?> type, final byte[] json) {
+        return CurrencyJsonCodec.read(type, new ByteArrayInputStream(json));
+    }
+
+    private static Object read(final Class<?> type, final String json) {
+        return read(type, json.getBytes(StandardCharsets.UTF_8));
+    }
+}